@@ -30,6 +30,7 @@
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -158,6 +159,36 @@ private ResultSetAdaptor(RowSet<Row> rows, Row row, List<String> columnNames, Li
 		}
 	}
 
+	private ResultSetAdaptor(List<Row> rows, List<String> columnNames, List<ColumnDescriptor> columnDescriptors) {
+		this.iterator = rows.iterator();
+		this.columnNames = columnNames;
+		this.columnDescriptors = columnDescriptors;
+	}
+
+	/**
+	 * Read the remaining rows, and split them by the value of a column.
+	 * The rows of each group keep their order, and can be read again
+	 * with {@link #withRows(List)}.
+	 *
+	 * @param columnLabel the label of the column
+	 *
+	 * @return the rows, by value of the column
+	 */
+	public Map<String, List<Row>> remainingRowsBy(String columnLabel) {
+		final Map<String, List<Row>> rowsByValue = new HashMap<>();
+		while ( next() ) {
+			rowsByValue.computeIfAbsent( getString( columnLabel ), value -> new ArrayList<>() ).add( row );
+		}
+		return rowsByValue;
+	}
+
+	/**
+	 * @return a new {@link ResultSetAdaptor} over the given rows, with the same columns as this one
+	 */
+	public ResultSetAdaptor withRows(List<Row> rows) {
+		return new ResultSetAdaptor( rows, columnNames, columnDescriptors );
+	}
+
 	private static ColumnDescriptor toColumnDescriptor(Class<?> idClass, String idColumnName) {
 		return new ColumnDescriptor() {
 			@Override
@@ -198,6 +229,14 @@ public boolean next() {
 		return false;
 	}
 
+	/**
+	 * @return the Vert.x {@link Row} at the current position, or {@code null}
+	 * if {@link #next()} hasn't been called yet
+	 */
+	public Row getCurrentRow() {
+		return row;
+	}
+
 	@Override
 	public void close() {
 	}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.service.Service;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.supplyStage;
+
+/**
+ * A Hibernate {@link Service} providing non-blocking access to the
+ * regions of the second-level cache: entity, collection and natural id
+ * regions, via their {@link CachedDomainDataAccess}, and query result
+ * regions, via their {@link QueryResultsCache}.
+ * <p>
+ * The default implementation calls the synchronous Hibernate ORM
+ * access objects, which is appropriate for in-process caches. An
+ * implementation backed by an out-of-process cache may be selected by
+ * setting the configuration property
+ * {@link org.hibernate.reactive.provider.Settings#CACHE_ACCESS}.
+ * <p>
+ * Entities, collections and natural id resolutions are still assembled
+ * from the cache entries by Hibernate ORM, which reads them synchronously
+ * from the region. An implementation backed by a remote store should
+ * therefore use the region as a near cache: {@link #prefetch} is called
+ * before each of these reads, and should put the entry found in the
+ * remote store in the region, so that the following synchronous read
+ * doesn't block.
+ * <p>
+ * The operations of this service are called when Hibernate Reactive
+ * accesses the cache:
+ * <ul>
+ *     <li>when loading an entity, a collection, or the id of an entity
+ *     by natural id, {@link #prefetch} is called before the read,
+ *     <li>when locking or refreshing an entity, the entry is soft-locked
+ *     with {@link #lockItem} and {@link #unlockItem},
+ *     <li>when a stateless session updates, upserts or deletes an entity,
+ *     the entry is soft-locked with {@link #lockItem} and then removed
+ *     with {@link #remove}, and when it refreshes an entity, the entry is
+ *     removed with {@link #evict},
+ *     <li>the results of cacheable queries are read with
+ *     {@link #getQueryResults} and written with {@link #putQueryResults}.
+ * </ul>
+ * <p>
+ * The entries written by a stateful session are not covered: after a
+ * load, Hibernate ORM puts the entries of the entities and collections
+ * in the region, and after a flush, the entity and collection actions
+ * lock, update and release the entries in the region, and keep the soft
+ * locks until the transaction completes. These calls are synchronous,
+ * and an implementation backed by a remote store should write these
+ * entries to the store asynchronously.
+ *
+ * @see org.hibernate.reactive.cache.impl.SynchronousCacheAccess the default implementation
+ */
+@Incubating
+public interface ReactiveCacheAccess extends Service {
+
+	/**
+	 * Called before Hibernate ORM reads an entry synchronously from the
+	 * region, so that an implementation backed by a remote store can fetch
+	 * it without blocking and make it available in the region.
+	 */
+	CompletionStage<Void> prefetch(SharedSessionContractImplementor session, CachedDomainDataAccess access, Object key);
+
+	/**
+	 * @see CachedDomainDataAccess#lockItem(SharedSessionContractImplementor, Object, Object)
+	 */
+	CompletionStage<SoftLock> lockItem(
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess access,
+			Object key,
+			Object version);
+
+	/**
+	 * @see CachedDomainDataAccess#unlockItem(SharedSessionContractImplementor, Object, SoftLock)
+	 */
+	CompletionStage<Void> unlockItem(
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess access,
+			Object key,
+			SoftLock lock);
+
+	/**
+	 * @see CachedDomainDataAccess#evict(Object)
+	 */
+	CompletionStage<Void> evict(CachedDomainDataAccess access, Object key);
+
+	/**
+	 * @see CachedDomainDataAccess#remove(SharedSessionContractImplementor, Object)
+	 */
+	CompletionStage<Void> remove(SharedSessionContractImplementor session, CachedDomainDataAccess access, Object key);
+
+	/**
+	 * @see QueryResultsCache#get(QueryKey, Set, SharedSessionContractImplementor)
+	 */
+	CompletionStage<List<?>> getQueryResults(
+			SharedSessionContractImplementor session,
+			QueryResultsCache cache,
+			QueryKey key,
+			Set<String> querySpaces);
+
+	/**
+	 * Called when all the results of a cacheable query have been read.
+	 * The query doesn't wait for the returned stage to complete.
+	 *
+	 * @return a stage completing with {@code true} if the results have been put in the cache
+	 *
+	 * @see QueryResultsCache#put(QueryKey, List, SharedSessionContractImplementor)
+	 */
+	CompletionStage<Boolean> putQueryResults(
+			SharedSessionContractImplementor session,
+			QueryResultsCache cache,
+			QueryKey key,
+			List<?> results);
+
+	/**
+	 * Soft-lock the given item, execute the work, and release the lock
+	 * whether the work succeeds or fails.
+	 */
+	default <T> CompletionStage<T> withSoftLock(
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess access,
+			Object key,
+			Object version,
+			Supplier<CompletionStage<T>> work) {
+		return lockItem( session, access, key, version )
+				.thenCompose( lock -> supplyStage( work )
+						.handle( CompletionStages::handle )
+						.thenCompose( handler -> unlockItem( session, access, key, lock )
+								.thenCompose( v -> handler.getResultAsCompletionStage() ) )
+				);
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@linkplain StandardServiceInitiator service initiator} that
+ * allows the user to define their own {@link ReactiveCacheAccess}.
+ */
+public class ReactiveCacheAccessInitiator implements StandardServiceInitiator<ReactiveCacheAccess> {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final ReactiveCacheAccessInitiator INSTANCE = new ReactiveCacheAccessInitiator();
+
+	@Override
+	public ReactiveCacheAccess initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		final Object cacheAccess = configurationValues.get( Settings.CACHE_ACCESS );
+		if ( cacheAccess == null ) {
+			return new SynchronousCacheAccess();
+		}
+		if ( cacheAccess instanceof ReactiveCacheAccess reactiveCacheAccess ) {
+			return reactiveCacheAccess;
+		}
+		final String cacheAccessClassName = cacheAccess.toString();
+		final ClassLoaderService classLoaderService = registry.requireService( ClassLoaderService.class );
+		try {
+			return (ReactiveCacheAccess) classLoaderService.classForName( cacheAccessClassName )
+					.getDeclaredConstructor().newInstance();
+		}
+		catch (Exception e) {
+			throw LOG.couldNotInstantiateCacheAccess( cacheAccessClassName, e );
+		}
+	}
+
+	@Override
+	public Class<ReactiveCacheAccess> getServiceInitiated() {
+		return ReactiveCacheAccess.class;
+	}
+}
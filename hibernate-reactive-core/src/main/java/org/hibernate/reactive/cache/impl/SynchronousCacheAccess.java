@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * The default {@link ReactiveCacheAccess}, delegating to the synchronous
+ * Hibernate ORM access objects. Appropriate for in-process caches.
+ */
+public class SynchronousCacheAccess implements ReactiveCacheAccess {
+
+	@Override
+	public CompletionStage<Void> prefetch(SharedSessionContractImplementor session, CachedDomainDataAccess access, Object key) {
+		// The region is in-process, Hibernate ORM can read it directly
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<SoftLock> lockItem(
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess access,
+			Object key,
+			Object version) {
+		return completedFuture( access.lockItem( session, key, version ) );
+	}
+
+	@Override
+	public CompletionStage<Void> unlockItem(
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess access,
+			Object key,
+			SoftLock lock) {
+		access.unlockItem( session, key, lock );
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> evict(CachedDomainDataAccess access, Object key) {
+		access.evict( key );
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> remove(SharedSessionContractImplementor session, CachedDomainDataAccess access, Object key) {
+		access.remove( session, key );
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<List<?>> getQueryResults(
+			SharedSessionContractImplementor session,
+			QueryResultsCache cache,
+			QueryKey key,
+			Set<String> querySpaces) {
+		return completedFuture( cache.get( key, querySpaces, session ) );
+	}
+
+	@Override
+	public CompletionStage<Boolean> putQueryResults(
+			SharedSessionContractImplementor session,
+			QueryResultsCache cache,
+			QueryKey key,
+			List<?> results) {
+		return completedFuture( cache.put( key, results, session ) );
+	}
+}
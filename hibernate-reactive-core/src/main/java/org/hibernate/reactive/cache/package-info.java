@@ -0,0 +1,9 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+/**
+ * Non-blocking access to the second-level cache regions via
+ * {@link org.hibernate.reactive.cache.ReactiveCacheAccess}.
+ */
+package org.hibernate.reactive.cache;
@@ -4,6 +4,9 @@
  */
 package org.hibernate.reactive.context.impl;
 
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import org.hibernate.reactive.context.Context;
@@ -12,14 +15,33 @@
  * Implementation of {@link Context.Key} suitable for storing
  * instances of {@code Session} or {@code StatelessSession},
  * or really anything at all, in the Vert.x context.
+ * <p>
+ * Every key is assigned a slot, the index of its value in the
+ * {@link ContextualData} of a Vert.x context. Equal keys share
+ * the same slot. The slots of the keys with a given id, the
+ * UUID of a session factory, are freed by {@link #releaseSlots}
+ * when the factory is closed, and then reused by other keys.
+ * A key also has a stamp, unique to the assignment of its slot,
+ * so that a key reusing a slot never sees the values of the keys
+ * which had it before.
  *
  * @param <T> the type of object being stored in the Context.
  */
 public final class BaseKey<T> implements Context.Key<T> {
 
+	// The slots assigned to the keys, by id and then by name of the type:
+	// the keys themselves aren't kept, since they reference their type.
+	// Guarded by SLOTS.
+	private static final Map<String, Map<String, int[]>> SLOTS = new HashMap<>();
+	private static final BitSet USED_SLOTS = new BitSet();
+	// Never 0, the stamp of the slots which were never used
+	private static int nextStamp = 1;
+
 	private final Class<T> type;
 	private final String id;
 	private final int hash;
+	final int slot;
+	final int stamp;
 
 	public BaseKey(Class<T> type, String id) {
 		Objects.requireNonNull( type );
@@ -27,6 +49,37 @@ public BaseKey(Class<T> type, String id) {
 		this.type = type;
 		this.id = id;
 		this.hash = id.hashCode() * 31 + type.hashCode();
+		final int[] slotAndStamp = assignSlot( id, type.getName() );
+		this.slot = slotAndStamp[0];
+		this.stamp = slotAndStamp[1];
+	}
+
+	private static int[] assignSlot(String id, String typeName) {
+		synchronized ( SLOTS ) {
+			return SLOTS.computeIfAbsent( id, i -> new HashMap<>() )
+					.computeIfAbsent( typeName, name -> {
+						final int slot = USED_SLOTS.nextClearBit( 0 );
+						USED_SLOTS.set( slot );
+						return new int[] { slot, nextStamp++ };
+					} );
+		}
+	}
+
+	/**
+	 * Free the slots of the keys with the given id, so that they can
+	 * be reused. The keys with this id must not be used anymore.
+	 *
+	 * @param id the id of the keys, the UUID of a session factory
+	 */
+	public static void releaseSlots(String id) {
+		synchronized ( SLOTS ) {
+			final Map<String, int[]> slots = SLOTS.remove( id );
+			if ( slots != null ) {
+				for ( int[] slotAndStamp : slots.values() ) {
+					USED_SLOTS.clear( slotAndStamp[0] );
+				}
+			}
+		}
 	}
 
 	@Override
@@ -0,0 +1,208 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.context.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.reactive.context.Context;
+
+/**
+ * The values stored in a Vert.x context by {@link ContextualDataStorage}.
+ * <p>
+ * The value of a {@link BaseKey} is stored in an array, at the slot of the
+ * key, along with the stamp of the key, since the slot might have been used
+ * by another key before. The values of a {@link MultitenantKey} are stored
+ * in a small open-addressing table, by stamp of the base key and tenant id.
+ * Other implementations of {@link Context.Key} are stored in a {@link HashMap}.
+ * <p>
+ * A Vert.x context runs one task at a time, so there's no need for
+ * synchronization.
+ */
+public final class ContextualData {
+
+	private static final Object[] NO_VALUES = new Object[0];
+	private static final int[] NO_STAMPS = new int[0];
+	private static final int INITIAL_TENANT_CAPACITY = 8;
+
+	// The values of the base keys, and the stamps of their keys, by slot
+	private Object[] values = NO_VALUES;
+	private int[] stamps = NO_STAMPS;
+
+	// The values of the multitenant keys, with linear probing
+	private int[] tenantStamps;
+	private String[] tenantIds;
+	private Object[] tenantValues;
+	private int tenantCount;
+
+	private Map<Context.Key<?>, Object> otherValues;
+
+	public ContextualData() {
+	}
+
+	/**
+	 * A copy, for a duplicated Vert.x context.
+	 */
+	public ContextualData(ContextualData data) {
+		values = data.values.clone();
+		stamps = data.stamps.clone();
+		if ( data.tenantIds != null ) {
+			tenantStamps = data.tenantStamps.clone();
+			tenantIds = data.tenantIds.clone();
+			tenantValues = data.tenantValues.clone();
+			tenantCount = data.tenantCount;
+		}
+		if ( data.otherValues != null ) {
+			otherValues = new HashMap<>( data.otherValues );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T get(Context.Key<T> key) {
+		if ( key instanceof BaseKey<T> baseKey ) {
+			final int slot = baseKey.slot;
+			return slot < values.length && stamps[slot] == baseKey.stamp ? (T) values[slot] : null;
+		}
+		if ( key instanceof MultitenantKey<T> multitenantKey ) {
+			final int index = tenantIndex( multitenantKey.base.stamp, multitenantKey.tenantId );
+			return index < 0 ? null : (T) tenantValues[index];
+		}
+		return otherValues == null ? null : (T) otherValues.get( key );
+	}
+
+	public <T> void put(Context.Key<T> key, T value) {
+		if ( key instanceof BaseKey<T> baseKey ) {
+			final int slot = baseKey.slot;
+			if ( slot >= values.length ) {
+				values = Arrays.copyOf( values, slot + 1 );
+				stamps = Arrays.copyOf( stamps, slot + 1 );
+			}
+			values[slot] = value;
+			stamps[slot] = baseKey.stamp;
+		}
+		else if ( key instanceof MultitenantKey<T> multitenantKey ) {
+			putTenantValue( multitenantKey.base.stamp, multitenantKey.tenantId, value );
+		}
+		else {
+			if ( otherValues == null ) {
+				otherValues = new HashMap<>();
+			}
+			otherValues.put( key, value );
+		}
+	}
+
+	/**
+	 * @return {@code true} if there was a value for the key
+	 */
+	public boolean remove(Context.Key<?> key) {
+		if ( key instanceof BaseKey<?> baseKey ) {
+			final int slot = baseKey.slot;
+			if ( slot < values.length && stamps[slot] == baseKey.stamp && values[slot] != null ) {
+				values[slot] = null;
+				return true;
+			}
+			return false;
+		}
+		if ( key instanceof MultitenantKey<?> multitenantKey ) {
+			final int index = tenantIndex( multitenantKey.base.stamp, multitenantKey.tenantId );
+			if ( index < 0 ) {
+				return false;
+			}
+			final boolean removed = tenantValues[index] != null;
+			removeTenantEntry( index );
+			return removed;
+		}
+		return otherValues != null && otherValues.remove( key ) != null;
+	}
+
+	private static int home(int stamp, String tenantId, int mask) {
+		final int hash = tenantId.hashCode() * 31 + stamp;
+		return ( hash ^ ( hash >>> 16 ) ) & mask;
+	}
+
+	/**
+	 * @return the index of the entry, or -1 if there is none
+	 */
+	private int tenantIndex(int stamp, String tenantId) {
+		final String[] ids = tenantIds;
+		if ( ids == null ) {
+			return -1;
+		}
+		final int mask = ids.length - 1;
+		// The table is never more than half full, so there's always an empty bucket
+		for ( int i = home( stamp, tenantId, mask ); ids[i] != null; i = ( i + 1 ) & mask ) {
+			if ( tenantStamps[i] == stamp && ids[i].equals( tenantId ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void putTenantValue(int stamp, String tenantId, Object value) {
+		final int index = tenantIndex( stamp, tenantId );
+		if ( index >= 0 ) {
+			tenantValues[index] = value;
+			return;
+		}
+		if ( tenantIds == null ) {
+			tenantStamps = new int[INITIAL_TENANT_CAPACITY];
+			tenantIds = new String[INITIAL_TENANT_CAPACITY];
+			tenantValues = new Object[INITIAL_TENANT_CAPACITY];
+		}
+		else if ( ( tenantCount + 1 ) * 2 > tenantIds.length ) {
+			resizeTenantTable( tenantIds.length * 2 );
+		}
+		insertTenantEntry( stamp, tenantId, value );
+		tenantCount++;
+	}
+
+	private void insertTenantEntry(int stamp, String tenantId, Object value) {
+		final int mask = tenantIds.length - 1;
+		int i = home( stamp, tenantId, mask );
+		while ( tenantIds[i] != null ) {
+			i = ( i + 1 ) & mask;
+		}
+		tenantStamps[i] = stamp;
+		tenantIds[i] = tenantId;
+		tenantValues[i] = value;
+	}
+
+	private void resizeTenantTable(int capacity) {
+		final int[] oldStamps = tenantStamps;
+		final String[] oldIds = tenantIds;
+		final Object[] oldValues = tenantValues;
+		tenantStamps = new int[capacity];
+		tenantIds = new String[capacity];
+		tenantValues = new Object[capacity];
+		for ( int i = 0; i < oldIds.length; i++ ) {
+			if ( oldIds[i] != null ) {
+				insertTenantEntry( oldStamps[i], oldIds[i], oldValues[i] );
+			}
+		}
+	}
+
+	/**
+	 * Remove an entry, and move back the entries after it that
+	 * wouldn't be reachable anymore from their home bucket.
+	 */
+	private void removeTenantEntry(int index) {
+		final String[] ids = tenantIds;
+		final int mask = ids.length - 1;
+		int gap = index;
+		for ( int i = ( gap + 1 ) & mask; ids[i] != null; i = ( i + 1 ) & mask ) {
+			final int home = home( tenantStamps[i], ids[i], mask );
+			if ( ( ( i - home ) & mask ) >= ( ( i - gap ) & mask ) ) {
+				tenantStamps[gap] = tenantStamps[i];
+				ids[gap] = ids[i];
+				tenantValues[gap] = tenantValues[i];
+				gap = i;
+			}
+		}
+		ids[gap] = null;
+		tenantValues[gap] = null;
+		tenantCount--;
+	}
+}
@@ -4,9 +4,6 @@
  */
 package org.hibernate.reactive.context.impl;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.hibernate.reactive.context.Context;
 
 import io.vertx.core.internal.VertxBootstrap;
@@ -17,31 +14,30 @@
 
 /**
  * SPI Implementation for {@link ContextLocal} storage.
+ *
+ * @see ContextualData
  */
 public class ContextualDataStorage implements VertxServiceProvider {
 
-	private static final ContextLocal<ConcurrentHashMap> CONTEXTUAL_DATA_KEY =
-			registerLocal( ConcurrentHashMap.class, ConcurrentHashMap::new );
+	private static final ContextLocal<ContextualData> CONTEXTUAL_DATA_KEY =
+			registerLocal( ContextualData.class, ContextualData::new );
 
 	@Override
 	public void init(VertxBootstrap builder) {
 	}
 
-	@SuppressWarnings("unchecked")
 	public static <T> void put(io.vertx.core.Context vertxContext, Context.Key<T> key, T value) {
-		( (Map<Context.Key<T>, T>) vertxContext
-				.getLocal( CONTEXTUAL_DATA_KEY, ConcurrentHashMap::new ) )
+		vertxContext.getLocal( CONTEXTUAL_DATA_KEY, ContextualData::new )
 				.put( key, value );
 	}
 
-	@SuppressWarnings("unchecked")
 	public static <T> T get(io.vertx.core.Context vertxContext, Context.Key<T> key) {
-		Map<Context.Key<T>, T> map = vertxContext.getLocal( CONTEXTUAL_DATA_KEY );
-		return map == null ? null : map.get( key );
+		final ContextualData data = vertxContext.getLocal( CONTEXTUAL_DATA_KEY );
+		return data == null ? null : data.get( key );
 	}
 
 	public static boolean remove(io.vertx.core.Context vertxContext, Context.Key<?> key) {
-		var map = vertxContext.getLocal( CONTEXTUAL_DATA_KEY );
-		return map != null && map.remove( key ) != null;
+		final ContextualData data = vertxContext.getLocal( CONTEXTUAL_DATA_KEY );
+		return data != null && data.remove( key );
 	}
 }
@@ -613,6 +613,12 @@ public boolean areTablesToBeUpdated(@SuppressWarnings("rawtypes") Set tables) {
 
 	/**
 	 * Perform {@link org.hibernate.action.spi.Executable#execute()} on each element of the list
+	 * <p>
+	 * With write-behind batching, the actions don't wait for the execution of their statements:
+	 * the statements of every action, on every table, are queued by the
+	 * {@link org.hibernate.reactive.pool.BatchingConnection}, and sent to the database together
+	 * by {@link org.hibernate.reactive.pool.ReactiveConnection#executeBatch()}. The row counts,
+	 * and so the optimistic locks, are verified once all the statements have completed.
 	 *
 	 * @param list The list of Executable elements to be performed
 	 */
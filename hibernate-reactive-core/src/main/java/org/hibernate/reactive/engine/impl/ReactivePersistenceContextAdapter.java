@@ -6,7 +6,9 @@
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
@@ -40,6 +42,7 @@
 import org.hibernate.reactive.engine.spi.ReactiveSharedSessionContractImplementor;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.sql.results.internal.PipelinedLoads;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.results.graph.entity.EntityInitializer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
@@ -47,6 +50,8 @@
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.hibernate.reactive.logging.impl.LoggerFactory.make;
+import static org.hibernate.reactive.sql.results.internal.PipelinedLoads.isLoadedWithoutFurtherAccess;
+import static org.hibernate.reactive.sql.results.internal.PipelinedLoads.startAll;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -61,6 +66,9 @@ public class ReactivePersistenceContextAdapter implements PersistenceContext {
 
 	private final PersistenceContext delegate;
 
+	private boolean batchFetchPrefetchEnabled;
+	private boolean eagerCollectionPipeliningEnabled;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 */
@@ -68,22 +76,94 @@ public ReactivePersistenceContextAdapter(PersistenceContext persistenceContext)
 		this.delegate = persistenceContext;
 	}
 
+	/**
+	 * Whether the proxies created by a query for lazy to-one associations
+	 * are batch loaded as soon as the results of the query have been read.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#BATCH_FETCH_PREFETCH
+	 */
+	public boolean isBatchFetchPrefetchEnabled() {
+		return batchFetchPrefetchEnabled;
+	}
+
+	public void setBatchFetchPrefetchEnabled(boolean batchFetchPrefetchEnabled) {
+		this.batchFetchPrefetchEnabled = batchFetchPrefetchEnabled;
+	}
+
+	/**
+	 * Whether the eager collections with different roles are loaded together.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#EAGER_COLLECTION_PIPELINING
+	 */
+	public boolean isEagerCollectionPipeliningEnabled() {
+		return eagerCollectionPipeliningEnabled;
+	}
+
+	public void setEagerCollectionPipeliningEnabled(boolean eagerCollectionPipeliningEnabled) {
+		this.eagerCollectionPipeliningEnabled = eagerCollectionPipeliningEnabled;
+	}
+
 	public CompletionStage<Void> reactiveInitializeNonLazyCollections() throws HibernateException {
 		final NonLazyCollectionInitializer initializer = new NonLazyCollectionInitializer();
 		delegate.initializeNonLazyCollections( initializer );
-		return initializer.stage;
+		return initializer.initialize();
 	}
 
+	/**
+	 * Collections with different roles are initialized by independent loads,
+	 * pipelined on the same connection when the results of the loads can be
+	 * processed without further database access, if this is enabled by
+	 * {@link org.hibernate.reactive.provider.Settings#EAGER_COLLECTION_PIPELINING}.
+	 * Collections with the same role are initialized one after the other,
+	 * because a batch or subselect load of one of them often initializes
+	 * the others too.
+	 *
+	 * @see PipelinedLoads
+	 */
 	private class NonLazyCollectionInitializer implements Consumer<PersistentCollection<?>> {
-		CompletionStage<Void> stage = voidFuture();
+		private final Map<String, List<PersistentCollection<?>>> collectionsByRole = new LinkedHashMap<>();
 
 		@Override
 		public void accept(PersistentCollection<?> nonLazyCollection) {
 			if ( !nonLazyCollection.wasInitialized() ) {
-				stage = stage
-						.thenCompose( v -> ( (ReactiveSharedSessionContractImplementor) getSession() )
-						.reactiveInitializeCollection( nonLazyCollection, false ) );
+				collectionsByRole.computeIfAbsent( nonLazyCollection.getRole(), role -> new ArrayList<>() )
+						.add( nonLazyCollection );
+			}
+		}
+
+		CompletionStage<Void> initialize() {
+			if ( collectionsByRole.isEmpty() ) {
+				return voidFuture();
 			}
+			final List<String> pipelined = new ArrayList<>();
+			final List<String> sequential = new ArrayList<>();
+			for ( String role : collectionsByRole.keySet() ) {
+				final CollectionPersister persister = getSession().getFactory().getMappingMetamodel()
+						.getCollectionDescriptor( role );
+				if ( eagerCollectionPipeliningEnabled
+						&& collectionsByRole.size() > 1
+						&& isLoadedWithoutFurtherAccess( persister ) ) {
+					pipelined.add( role );
+				}
+				else {
+					sequential.add( role );
+				}
+			}
+			if ( pipelined.isEmpty() ) {
+				return loop( sequential, this::initializeAll );
+			}
+			// Nested loads won't initialize the non-lazy collections on their own
+			beforeLoad();
+			return startAll( pipelined, this::initializeAll )
+					.whenComplete( (v, e) -> afterLoad() )
+					.thenCompose( v -> loop( sequential, this::initializeAll ) );
+		}
+
+		private CompletionStage<Void> initializeAll(String role) {
+			return loop( collectionsByRole.get( role ), collection -> collection.wasInitialized()
+					? voidFuture()
+					: ( (ReactiveSharedSessionContractImplementor) getSession() )
+							.reactiveInitializeCollection( collection, false ) );
 		}
 	}
 
@@ -5,6 +5,8 @@
 package org.hibernate.reactive.engine.jdbc.env.internal;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.dialect.DB2Dialect;
@@ -26,11 +28,13 @@
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.util.impl.IntBiPredicate;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
 
 import static org.hibernate.reactive.engine.jdbc.ResultsCheckerUtil.checkResults;
 import static org.hibernate.reactive.logging.impl.LoggerFactory.make;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
@@ -150,6 +154,48 @@ private static String createInsert(String insertSql, String identifierColumnName
 		return sql;
 	}
 
+	/**
+	 * Execute the single statement of this mutation once for each row, binding the
+	 * values of a row with the given function before its statement is prepared.
+	 * <p>
+	 * The statements of the rows don't depend on each other: a non-batched executor
+	 * binds all the rows first, and then sends all the statements to the database
+	 * without waiting for the result of the previous one. The row counts are checked
+	 * once all the statements have completed.
+	 *
+	 * @param rows the rows to mutate
+	 * @param bindRow binds the values of the row at the given position, and returns
+	 * {@code false} if the row must be skipped
+	 *
+	 * @see ReactiveConnection#updatePipelined(List, List, boolean, List)
+	 */
+	default CompletionStage<Void> executeReactiveRows(
+			Iterator<?> rows,
+			IntBiPredicate<Object> bindRow,
+			SharedSessionContractImplementor session) {
+		return loop( rows, (row, position) -> bindRow.test( row, position )
+				? executeReactive( row, null, null, null, session )
+				: voidFuture()
+		);
+	}
+
+	/**
+	 * The check of the row count of a statement, which might run after the following
+	 * statements have been sent to the database
+	 */
+	static ReactiveConnection.Expectation expectation(
+			PreparedStatementDetails statementDetails,
+			OperationResultChecker resultChecker,
+			SharedSessionContractImplementor session) {
+		return (affectedRowCount, batchPosition, sql) -> {
+			if ( affectedRowCount == 0 && statementDetails.getMutatingTableDetails().isOptional() ) {
+				// the optional table did not have a row
+				return;
+			}
+			checkResults( session, statementDetails, resultChecker, affectedRowCount, batchPosition );
+		};
+	}
+
 	/**
 	 * Perform a non-batched mutation
 	 */
@@ -200,15 +246,12 @@ default CompletionStage<Void> performReactiveNonBatchedMutation(
 			sqlString = createInsert( statementDetails.getSqlString(), identifierColumnsNames[0], dialect );
 		}
 		return reactiveConnection
-				.update( sqlString, params )
-				.thenCompose( affectedRowCount -> {
-					if ( affectedRowCount == 0 && tableDetails.isOptional() ) {
-						// the optional table did not have a row
-						return voidFuture();
-					}
-					checkResults( session, statementDetails, resultChecker, affectedRowCount, -1 );
-					return voidFuture();
-				} )
+				.updatePipelined(
+						List.of( sqlString ),
+						List.<Object[]>of( params ),
+						identifierColumnsNames == null && statementDetails.getExpectation().canBeBatched(),
+						List.of( expectation( statementDetails, resultChecker, session ) )
+				)
 				.whenComplete( (o, throwable) -> {
 					if ( statementDetails.getStatement() != null ) {
 						statementDetails.releaseStatement( session );
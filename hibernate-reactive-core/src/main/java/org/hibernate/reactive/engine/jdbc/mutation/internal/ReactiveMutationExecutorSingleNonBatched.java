@@ -4,8 +4,12 @@
  */
 package org.hibernate.reactive.engine.jdbc.mutation.internal;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.OperationResultChecker;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
@@ -13,12 +17,20 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.generator.values.GeneratedValuesMutationDelegate;
+import org.hibernate.reactive.adaptor.impl.PrepareStatementDetailsAdaptor;
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
 import org.hibernate.reactive.engine.jdbc.env.internal.ReactiveMutationExecutor;
 import org.hibernate.reactive.generator.values.ReactiveGeneratedValuesMutationDelegate;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.reactive.util.impl.IntBiPredicate;
 import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
 /**
  * @see org.hibernate.engine.jdbc.mutation.internal.MutationExecutorSingleNonBatched
  */
@@ -64,6 +76,45 @@ public CompletionStage<GeneratedValues> performReactiveNonBatchedOperations(
 		).thenCompose( CompletionStages::nullFuture );
 	}
 
+	@Override
+	public CompletionStage<Void> executeReactiveRows(
+			Iterator<?> rows,
+			IntBiPredicate<Object> bindRow,
+			SharedSessionContractImplementor session) {
+		final PreparedStatementDetails statementDetails = getStatementGroup().getSingleStatementDetails();
+		if ( generatedValuesDelegate != null || statementDetails == null ) {
+			return ReactiveMutationExecutor.super.executeReactiveRows( rows, bindRow, session );
+		}
+
+		final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+		final JdbcValueBindings valueBindings = getJdbcValueBindings();
+		final List<String> sql = new ArrayList<>();
+		final List<Object[]> params = new ArrayList<>();
+		final List<ReactiveConnection.Expectation> expectations = new ArrayList<>();
+		int position = 0;
+		while ( rows.hasNext() ) {
+			if ( bindRow.test( rows.next(), position++ ) ) {
+				sql.add( statementDetails.getSqlString() );
+				params.add( PreparedStatementAdaptor.bind( statement -> valueBindings.beforeStatement(
+						new PrepareStatementDetailsAdaptor( statementDetails, statement, session.getJdbcServices() )
+				) ) );
+				expectations.add( ReactiveMutationExecutor.expectation( statementDetails, null, session ) );
+				valueBindings.afterStatement( tableDetails );
+			}
+		}
+		if ( sql.isEmpty() ) {
+			return voidFuture();
+		}
+
+		return ( (ReactiveConnectionSupplier) session ).getReactiveConnection()
+				.updatePipelined( sql, params, statementDetails.getExpectation().canBeBatched(), expectations )
+				.whenComplete( (unused, throwable) -> {
+					if ( statementDetails.getStatement() != null ) {
+						statementDetails.releaseStatement( session );
+					}
+				} );
+	}
+
 	@Override
 	public void release() {
 	}
@@ -34,14 +34,11 @@
 import org.hibernate.sql.model.ValuesAnalysis;
 
 import java.lang.invoke.MethodHandles;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
-import static org.hibernate.engine.jdbc.mutation.internal.ModelMutationHelper.checkResults;
 import static org.hibernate.reactive.logging.impl.LoggerFactory.make;
-import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -233,6 +230,14 @@ public CompletionStage<Void> performReactiveSelfExecutingOperations(
 		});
 	}
 
+	/**
+	 * Collects the non-batched statements of a mutation. The statements don't depend on each other
+	 * (the generated identifier, if any, is already known), so they are sent to the database without
+	 * waiting for the result of the previous one. With write-behind batching, they are queued with
+	 * the statements of the other mutations of the flush.
+	 *
+	 * @see ReactiveConnection#updatePipelined(List, List, boolean, List)
+	 */
 	private class OperationsForEach {
 
 		private final Object id;
@@ -242,7 +247,7 @@ private class OperationsForEach {
 		private final boolean requiresCheck;
 		private final JdbcValueBindings jdbcValueBindings;
 
-		private CompletionStage<Void> loop = voidFuture();
+		private final List<PreparedStatementDetails> statements = new ArrayList<>();
 
 		public OperationsForEach(
 				Object id,
@@ -260,28 +265,15 @@ public OperationsForEach(
 		}
 
 		public void add(String tableName, PreparedStatementDetails statementDetails) {
-			if ( requiresCheck ) {
-				loop = loop.thenCompose( v -> !statementDetails
-						.getMutatingTableDetails().isIdentifierTable()
-						? performReactiveNonBatchedMutation( statementDetails, id, jdbcValueBindings, inclusionChecker, resultChecker, session, null )
-						: voidFuture()
-				);
-			}
-			else {
-				loop = loop.thenCompose( v -> performReactiveNonBatchedMutation(
-						statementDetails,
-						null,
-						jdbcValueBindings,
-						inclusionChecker,
-						resultChecker,
-						session,
-						null
-				) );
+			if ( statementDetails != null
+					&& !( requiresCheck && statementDetails.getMutatingTableDetails().isIdentifierTable() )
+					&& isIncluded( statementDetails.getMutatingTableDetails(), inclusionChecker ) ) {
+				statements.add( statementDetails );
 			}
 		}
 
 		public CompletionStage<Void> buildLoop() {
-			return loop;
+			return executePipelined( statements, requiresCheck ? id : null, jdbcValueBindings, resultChecker, session );
 		}
 	}
 
@@ -294,18 +286,57 @@ public CompletionStage<Void> performReactiveNonBatchedMutation(
 			OperationResultChecker resultChecker,
 			SharedSessionContractImplementor session,
 			String[] identifierColumnsNames) {
-		if ( statementDetails == null ) {
+		if ( statementDetails == null || !isIncluded( statementDetails.getMutatingTableDetails(), inclusionChecker ) ) {
 			return voidFuture();
 		}
+		return executePipelined( List.of( statementDetails ), id, valueBindings, resultChecker, session );
+	}
 
-		final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+	private CompletionStage<Void> executePipelined(
+			List<PreparedStatementDetails> statements,
+			Object id,
+			JdbcValueBindings valueBindings,
+			OperationResultChecker resultChecker,
+			SharedSessionContractImplementor session) {
+		if ( statements.isEmpty() ) {
+			return voidFuture();
+		}
+
+		final List<String> sql = new ArrayList<>( statements.size() );
+		final List<Object[]> params = new ArrayList<>( statements.size() );
+		final List<ReactiveConnection.Expectation> expectations = new ArrayList<>( statements.size() );
+		boolean allowBatching = true;
+		for ( PreparedStatementDetails statementDetails : statements ) {
+			sql.add( statementDetails.getSqlString() );
+			params.add( bindParameters( statementDetails, id, valueBindings, session ) );
+			expectations.add( ReactiveMutationExecutor.expectation( statementDetails, resultChecker, session ) );
+			allowBatching = allowBatching && statementDetails.getExpectation().canBeBatched();
+		}
+		return connection( session )
+				.updatePipelined( sql, params, allowBatching, expectations )
+				.whenComplete( (unused, throwable) -> {
+					for ( PreparedStatementDetails statementDetails : statements ) {
+						afterStatement( statementDetails, valueBindings, session );
+					}
+				} );
+	}
+
+	private static boolean isIncluded(TableMapping tableDetails, TableInclusionChecker inclusionChecker) {
 		if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
 			if ( MODEL_MUTATION_LOGGER.isTraceEnabled() ) {
 				MODEL_MUTATION_LOGGER.tracef( "Skipping execution of secondary insert : %s", tableDetails.getTableName() );
 			}
-			return voidFuture();
+			return false;
 		}
+		return true;
+	}
 
+	private static Object[] bindParameters(
+			PreparedStatementDetails statementDetails,
+			Object id,
+			JdbcValueBindings valueBindings,
+			SharedSessionContractImplementor session) {
+		final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
 		if ( id != null ) {
 			assert !tableDetails.isIdentifierTable() : "Unsupported identifier table with generated id";
 			( (EntityTableMapping) tableDetails ).getKeyMapping().breakDownKeyJdbcValues(
@@ -320,47 +351,20 @@ public CompletionStage<Void> performReactiveNonBatchedMutation(
 			);
 		}
 
-		Object[] params = PreparedStatementAdaptor.bind( statement -> {
+		return PreparedStatementAdaptor.bind( statement -> {
 			PreparedStatementDetails details = new PrepareStatementDetailsAdaptor( statementDetails, statement, session.getJdbcServices() );
 			valueBindings.beforeStatement( details );
 		} );
-
-		return connection( session )
-				.update( statementDetails.getSqlString(), params )
-				.thenCompose( affectedRowCount -> checkResult( session, statementDetails, resultChecker, tableDetails, affectedRowCount ) )
-				.whenComplete( (unused, throwable) -> {
-					if ( statementDetails.getStatement() != null ) {
-						statementDetails.releaseStatement( session );
-					}
-					valueBindings.afterStatement( tableDetails );
-				} );
 	}
 
-	private static CompletionStage<Void> checkResult(
-			SharedSessionContractImplementor session,
+	private static void afterStatement(
 			PreparedStatementDetails statementDetails,
-			OperationResultChecker resultChecker,
-			TableMapping tableDetails,
-			Integer affectedRowCount) {
-		if ( affectedRowCount == 0 && tableDetails.isOptional() ) {
-			// the optional table did not have a row
-			return voidFuture();
-		}
-		try {
-			checkResults( resultChecker, statementDetails, affectedRowCount, -1 );
-			return voidFuture();
-		}
-		catch (SQLException e) {
-			Throwable exception = session.getJdbcServices().getSqlExceptionHelper().convert(
-					e,
-					String.format(
-							"Unable to execute mutation PreparedStatement against table `%s`",
-							tableDetails.getTableName()
-					),
-					statementDetails.getSqlString()
-			);
-			return failedFuture( exception );
+			JdbcValueBindings valueBindings,
+			SharedSessionContractImplementor session) {
+		if ( statementDetails.getStatement() != null ) {
+			statementDetails.releaseStatement( session );
 		}
+		valueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
 	}
 
 	@Override
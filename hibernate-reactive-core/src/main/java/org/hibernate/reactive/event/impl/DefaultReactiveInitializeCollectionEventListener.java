@@ -22,6 +22,7 @@
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
+import org.hibernate.reactive.session.impl.ReactiveSessionSettings;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.event.internal.DefaultInitializeCollectionEventListener.handlePotentiallyEmptyCollection;
@@ -63,6 +64,16 @@ public CompletionStage<Void> onReactiveInitializeCollection(InitializeCollection
 			LOG.trace( "Checking second-level cache" );
 		}
 
+		return prefetchFromCache( loadedKey, loadedPersister, source )
+				.thenCompose( v -> initializeCollection( collection, source, ce, loadedPersister, loadedKey ) );
+	}
+
+	private CompletionStage<Void> initializeCollection(
+			PersistentCollection<?> collection,
+			SessionImplementor source,
+			CollectionEntry ce,
+			CollectionPersister loadedPersister,
+			Object loadedKey) {
 		final boolean foundInCache = initializeCollectionFromCache( loadedKey, loadedPersister, collection, source );
 		if ( foundInCache ) {
 			if ( LOG.isTraceEnabled() ) {
@@ -90,6 +101,22 @@ public CompletionStage<Void> onReactiveInitializeCollection(InitializeCollection
 		}
 	}
 
+	/**
+	 * Give the {@link org.hibernate.reactive.cache.ReactiveCacheAccess} a chance
+	 * to fetch the cache entry without blocking, before we read it from the region.
+	 */
+	private static CompletionStage<Void> prefetchFromCache(
+			Object id,
+			CollectionPersister persister,
+			SessionImplementor source) {
+		if ( persister.hasCache() && source.getCacheMode().isGetEnabled() ) {
+			final CollectionDataAccess cacheAccessStrategy = persister.getCacheAccessStrategy();
+			final Object ck = cacheAccessStrategy.generateCacheKey( id, persister, source.getFactory(), source.getTenantIdentifier() );
+			return ReactiveSessionSettings.cacheAccess( source.getFactory() ).prefetch( source, cacheAccessStrategy, ck );
+		}
+		return voidFuture();
+	}
+
 	/**
 	 * Try to initialize a collection from the cache
 	 *
@@ -16,7 +16,6 @@
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.cache.spi.access.EntityDataAccess;
-import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
@@ -36,11 +35,13 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
 import org.hibernate.reactive.event.ReactiveLoadEventListener;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.impl.ReactiveQueryExecutorLookup;
+import org.hibernate.reactive.session.impl.ReactiveSessionSettings;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
@@ -585,40 +586,22 @@ private CompletionStage<Object> lockAndLoad(
 			LoadType options,
 			SessionImplementor source) {
 
-		final SoftLock lock;
-		final Object cacheKey;
-		final boolean canWriteToCache = persister.canWriteToCache();
-		if ( canWriteToCache ) {
+		final CompletionStage<Object> loaded;
+		if ( persister.canWriteToCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			cacheKey = cache.generateCacheKey(
+			final Object cacheKey = cache.generateCacheKey(
 					event.getEntityId(),
 					persister,
 					source.getFactory(),
 					source.getTenantIdentifier()
 			);
-			lock = cache.lockItem( source, cacheKey, null );
+			loaded = cacheAccess( source )
+					.withSoftLock( source, cache, cacheKey, null, () -> load( event, persister, keyToLoad, options ) );
 		}
 		else {
-			cacheKey = null;
-			lock = null;
-		}
-
-		try {
-			return load( event, persister, keyToLoad, options )
-					.whenComplete( (v, x) -> {
-						if ( canWriteToCache ) {
-							persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-						}
-					} )
-					.thenApply( entity -> source.getPersistenceContextInternal().proxyFor( persister, keyToLoad, entity ) );
-		}
-		catch (HibernateException he) {
-			//in case load() throws an exception
-			if ( canWriteToCache ) {
-				persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-			}
-			throw he;
+			loaded = load( event, persister, keyToLoad, options );
 		}
+		return loaded.thenApply( entity -> source.getPersistenceContextInternal().proxyFor( persister, keyToLoad, entity ) );
 	}
 
 
@@ -689,6 +672,34 @@ private CompletionStage<Object> loadFromCacheOrDatasource(
 			LoadEvent event,
 			EntityPersister persister,
 			EntityKey keyToLoad) {
+		return prefetchFromSecondLevelCache( event.getSession(), persister, event.getEntityId() )
+				.thenCompose( v -> loadFromPrefetchedCacheOrDatasource( event, persister, keyToLoad ) );
+	}
+
+	/**
+	 * Give the {@link ReactiveCacheAccess} a chance to fetch the cache entry
+	 * without blocking, before Hibernate ORM reads it from the region.
+	 */
+	private static CompletionStage<Void> prefetchFromSecondLevelCache(
+			EventSource session,
+			EntityPersister persister,
+			Object id) {
+		if ( persister.canReadFromCache() && session.getCacheMode().isGetEnabled() ) {
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final Object cacheKey = cache.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
+			return cacheAccess( session ).prefetch( session, cache, cacheKey );
+		}
+		return voidFuture();
+	}
+
+	private static ReactiveCacheAccess cacheAccess(SessionImplementor session) {
+		return ReactiveSessionSettings.cacheAccess( session.getFactory() );
+	}
+
+	private CompletionStage<Object> loadFromPrefetchedCacheOrDatasource(
+			LoadEvent event,
+			EntityPersister persister,
+			EntityKey keyToLoad) {
 		final EventSource session = event.getSession();
 		final Object entity = session
 				.loadFromSecondLevelCache( persister, keyToLoad, event.getInstanceToLoad(), event.getLockMode() );
@@ -12,7 +12,6 @@
 import org.hibernate.LockOptions;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
-import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -30,6 +29,7 @@
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveQueryProducer;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.session.impl.ReactiveSessionSettings;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.hibernate.pretty.MessageHelper.infoString;
@@ -150,49 +150,37 @@ private CompletionStage<Void> doUpgradeLock(
 			EventSource source) {
 
 		final EntityPersister persister = entry.getPersister();
-
-		final boolean canWriteToCache = persister.canWriteToCache();
-		final SoftLock lock;
-		final Object cacheKey;
-		if ( canWriteToCache ) {
-			EntityDataAccess cache = persister.getCacheAccessStrategy();
-			cacheKey = cache.generateCacheKey(
+		if ( persister.canWriteToCache() ) {
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final Object cacheKey = cache.generateCacheKey(
 					entry.getId(),
 					persister,
 					source.getFactory(),
 					source.getTenantIdentifier()
 			);
-			lock = cache.lockItem( source, cacheKey, entry.getVersion() );
+			// the database now holds a lock + the object is flushed from the cache,
+			// so release the soft lock after locking
+			return ReactiveSessionSettings.cacheAccess( source.getFactory() )
+					.withSoftLock( source, cache, cacheKey, entry.getVersion(), () -> lock( object, entry, lockOptions, source ) );
 		}
 		else {
-			cacheKey = null;
-			lock = null;
+			return lock( object, entry, lockOptions, source );
 		}
+	}
 
-		try {
-			return ( (ReactiveEntityPersister) persister )
-					.reactiveLock(
-							entry.getId(),
-							entry.getVersion(),
-							object,
-							lockOptions,
-							source
-					)
-					.thenAccept( v -> entry.setLockMode( lockOptions.getLockMode() ) )
-					.whenComplete( (r, e) -> {
-						// the database now holds a lock + the object is flushed from the cache,
-						// so release the soft lock
-						if ( canWriteToCache ) {
-							persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-						}
-					} );
-		}
-		catch (HibernateException he) {
-			//in case lockReactive() throws an exception
-			if ( canWriteToCache ) {
-				persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-			}
-			throw he;
-		}
+	private static CompletionStage<Void> lock(
+			Object object,
+			EntityEntry entry,
+			LockOptions lockOptions,
+			EventSource source) {
+		return ( (ReactiveEntityPersister) entry.getPersister() )
+				.reactiveLock(
+						entry.getId(),
+						entry.getVersion(),
+						object,
+						lockOptions,
+						source
+				)
+				.thenAccept( v -> entry.setLockMode( lockOptions.getLockMode() ) );
 	}
 }
@@ -41,6 +41,7 @@
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
+import org.hibernate.reactive.id.impl.BlockingIdentifierGenerator;
 import org.hibernate.reactive.id.impl.EmulatedSequenceReactiveIdentifierGenerator;
 import org.hibernate.reactive.id.impl.ReactiveCompositeNestedGeneratedValueGenerator;
 import org.hibernate.reactive.id.impl.ReactiveSequenceIdentifierGenerator;
@@ -238,15 +239,15 @@ public static Generator augmentWithReactiveGenerator(
 		if ( generator instanceof SequenceStyleGenerator sequenceStyleGenerator) {
 			final DatabaseStructure structure = sequenceStyleGenerator.getDatabaseStructure();
 			if ( structure instanceof TableStructure ) {
-				return initialize( new EmulatedSequenceReactiveIdentifierGenerator( sequenceStyleGenerator, runtimeModelCreationContext ), creationContext );
+				return initialize( new EmulatedSequenceReactiveIdentifierGenerator( sequenceStyleGenerator, runtimeModelCreationContext ), creationContext, runtimeModelCreationContext );
 			}
 			if ( structure instanceof SequenceStructure ) {
-				return initialize( new ReactiveSequenceIdentifierGenerator( structure, runtimeModelCreationContext ), creationContext );
+				return initialize( new ReactiveSequenceIdentifierGenerator( structure, runtimeModelCreationContext ), creationContext, runtimeModelCreationContext );
 			}
 			throw LOG.unknownStructureType();
 		}
 		if ( generator instanceof TableGenerator tableGenerator ) {
-			return initialize( new TableReactiveIdentifierGenerator( tableGenerator, runtimeModelCreationContext ), creationContext );
+			return initialize( new TableReactiveIdentifierGenerator( tableGenerator, runtimeModelCreationContext ), creationContext, runtimeModelCreationContext );
 		}
 		if ( generator instanceof SelectGenerator ) {
 			throw LOG.selectGeneratorIsNotSupportedInHibernateReactive();
@@ -263,6 +264,14 @@ public static Generator augmentWithReactiveGenerator(
 		return generator;
 	}
 
+	private static Generator initialize(
+			BlockingIdentifierGenerator reactiveIdGenerator,
+			GeneratorCreationContext creationContext,
+			RuntimeModelCreationContext runtimeModelCreationContext) {
+		reactiveIdGenerator.configureBlockAllocation( runtimeModelCreationContext.getServiceRegistry() );
+		return initialize( reactiveIdGenerator, creationContext );
+	}
+
 	private static Generator initialize(
 			ReactiveIdentifierGenerator<?> reactiveIdGenerator,
 			GeneratorCreationContext creationContext) {
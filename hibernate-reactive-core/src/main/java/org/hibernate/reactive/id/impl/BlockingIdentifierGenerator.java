@@ -4,15 +4,24 @@
  */
 package org.hibernate.reactive.id.impl;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.EventType;
 import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
 import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.service.ServiceRegistry;
 
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
@@ -24,13 +33,28 @@
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.hibernate.reactive.logging.impl.LoggerFactory.make;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.supplyStage;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * A {@link ReactiveIdentifierGenerator} which uses the database to allocate
  * blocks of ids. A block is identified by its "hi" value (the first id in
  * the block). While a new block is being allocated, concurrent streams will
  * defer the operation without blocking.
+ * <p>
+ * If {@link Settings#ID_BLOCK_PREFETCH} is enabled, the next block is
+ * allocated asynchronously, with a separate connection, when the current
+ * block is about to be exhausted. How early the prefetch starts depends
+ * on the observed allocation rate and on the time it takes to obtain a
+ * block from the database, so that, under a steady load, the next block
+ * is available before it's needed.
+ * <p>
+ * If {@link Settings#ID_BLOCK_PER_EVENT_LOOP} is enabled, each event loop
+ * allocates and owns its own block. Identifiers requested on an event loop
+ * are then generated without any synchronization with the other event loops,
+ * and a new block is allocated using the connection of the session, on the
+ * same event loop. Requests from other threads still use the shared block.
  *
  * @author Gavin King
  * @author Davide D'Alto
@@ -54,11 +78,112 @@ public abstract class BlockingIdentifierGenerator implements ReactiveIdentifierG
 	//service in Hibernate ORM, but using a non-blocking cooperative design.
 	private final CombinerExecutor<GeneratorState> executor = new CombinerExecutor<>( state );
 
+	// Not null when the prefetch of the next block is enabled
+	private ServiceRegistry serviceRegistry;
+
+	// Completes when the last prefetch started is done
+	private volatile CompletionStage<Void> prefetch = voidFuture();
+
+	// Not null when each event loop owns a block, indexed by the thread of the event loop.
+	// Not a ThreadLocal: the event loops might outlive the factory, and keep the blocks.
+	private Map<Thread, LoopState> loopStates;
+
+	/**
+	 * Read the settings controlling the allocation of blocks.
+	 *
+	 * @see Settings#ID_BLOCK_PREFETCH
+	 * @see Settings#ID_BLOCK_PER_EVENT_LOOP
+	 */
+	public void configureBlockAllocation(ServiceRegistry serviceRegistry) {
+		final ConfigurationService configuration = serviceRegistry.requireService( ConfigurationService.class );
+		final boolean prefetch = configuration
+				.getSetting( Settings.ID_BLOCK_PREFETCH, StandardConverters.BOOLEAN, false );
+		final boolean perEventLoop = configuration
+				.getSetting( Settings.ID_BLOCK_PER_EVENT_LOOP, StandardConverters.BOOLEAN, false );
+		this.serviceRegistry = prefetch ? serviceRegistry : null;
+		this.loopStates = perEventLoop ? new ConcurrentHashMap<>() : null;
+	}
+
+	/**
+	 * The number of times a new block was already available, because it had
+	 * been prefetched, when the current block ran out.
+	 */
+	public synchronized long getPrefetchHitCount() {
+		return state.prefetchHits;
+	}
+
+	/**
+	 * The number of times the database had to be hit for a new block while
+	 * a request for an identifier was waiting.
+	 */
+	public synchronized long getPrefetchMissCount() {
+		return state.prefetchMisses;
+	}
+
+	/**
+	 * @return a stage completing, successfully even if the prefetch fails,
+	 * when the prefetch of the next block in progress, if any, is done
+	 */
+	public CompletionStage<Void> prefetchCompletion() {
+		return prefetch;
+	}
+
 	/**
 	 * Allocate a new block, by obtaining the next "hi" value from the database
 	 */
 	protected abstract CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session);
 
+	/**
+	 * Whether {@link #nextHiValues(ReactiveConnectionSupplier, int)} can
+	 * allocate multiple blocks with a single round trip
+	 */
+	protected boolean supportsMultipleHiValues() {
+		return false;
+	}
+
+	/**
+	 * Allocate the given number of blocks, by obtaining multiple "hi"
+	 * values from the database with a single round trip when
+	 * {@link #supportsMultipleHiValues()}. By default, the values are
+	 * obtained one at a time, with {@link #nextHiValue}.
+	 *
+	 * @see #supportsMultipleHiValues()
+	 */
+	protected CompletionStage<long[]> nextHiValues(ReactiveConnectionSupplier session, int count) {
+		final long[] hiValues = new long[count];
+		return loop( 0, count, i -> nextHiValue( session ).thenAccept( hi -> hiValues[i] = hi ) )
+				.thenApply( v -> hiValues );
+	}
+
+	/**
+	 * Whether {@link #generateAll(ReactiveConnectionSupplier, int)} can
+	 * obtain the given number of identifiers with fewer round trips to
+	 * the database than repeated calls to {@link #generate}.
+	 */
+	public boolean supportsBulkAllocation(int count) {
+		return count > getBlockSize() && supportsMultipleHiValues();
+	}
+
+	/**
+	 * Obtain the given number of identifiers with a single round trip
+	 * to the database, allocating new blocks for them. The ids left in
+	 * the current block are not used.
+	 *
+	 * @see #supportsBulkAllocation(int)
+	 */
+	public CompletionStage<long[]> generateAll(ReactiveConnectionSupplier session, int count) {
+		final int blockSize = getBlockSize();
+		final int blocks = ( count + blockSize - 1 ) / blockSize;
+		return nextHiValues( session, blocks )
+				.thenApply( hiValues -> {
+					final long[] ids = new long[count];
+					for ( int i = 0; i < count; i++ ) {
+						ids[i] = hiValues[i / blockSize] + i % blockSize;
+					}
+					return ids;
+				} );
+	}
+
 	@Override
 	public Object generate(SharedSessionContractImplementor session, Object object) {
 		throw LOG.nonReactiveMethodCall( "generate(ReactiveConnectionSupplier, Object)" );
@@ -75,31 +200,139 @@ public Long generate(SharedSessionContractImplementor session, Object owner, Obj
 	private static class GeneratorState {
 		private int loValue;
 		private long hiValue;
+
+		//The rest is only used when the prefetch is enabled
+		private long prefetchedHiValue = -1;
+		private boolean prefetching;
+		//Start a prefetch when the number of ids left in the block reaches this value
+		private int prefetchThreshold;
+		private long blockStartTime;
+		//Moving average of the time it takes to allocate a block, in nanoseconds
+		private long allocationTime;
+		private long prefetchHits;
+		private long prefetchMisses;
+	}
+
+	//The block owned by an event loop: it's only ever accessed by the
+	//thread of the event loop, so it doesn't need any synchronization.
+	//It's discarded with the generator, when the factory is closed.
+	private static class LoopState {
+		private long hiValue;
+		//-1 when there's no block yet
+		private int loValue = -1;
+		//Not null while a new block is being allocated
+		private CompletableFuture<Long> nextBlock;
 	}
 
 	//Critical section: needs to be accessed exclusively via the CombinerExecutor
 	//when there's contention; direct invocation is allowed in the fast path.
 	private synchronized long next() {
-		return state.loValue > 0 && state.loValue < getBlockSize()
-				? state.hiValue + state.loValue++
-				: -1; //flag value indicating that we need to hit db
+		if ( state.loValue > 0 && state.loValue < getBlockSize() ) {
+			return state.hiValue + state.loValue++;
+		}
+		if ( state.prefetchedHiValue >= 0 ) {
+			final long hi = state.prefetchedHiValue;
+			state.prefetchedHiValue = -1;
+			state.prefetchHits++;
+			return next( hi );
+		}
+		return -1; //flag value indicating that we need to hit db
 	}
 
 	//Critical section: needs to be accessed exclusively via the CombinerExecutor
 	private synchronized long next(long hi) {
 		state.hiValue = hi;
 		state.loValue = 1;
+		if ( serviceRegistry != null ) {
+			blockStarted();
+		}
 		return hi;
 	}
 
+	private void blockStarted() {
+		final long now = System.nanoTime();
+		final int blockSize = getBlockSize();
+		if ( state.blockStartTime == 0 ) {
+			state.prefetchThreshold = Math.max( 1, blockSize / 2 );
+		}
+		else {
+			// Prefetch early enough that, at the current rate, the block doesn't
+			// run out before the next one arrives, with a margin of 2x
+			final long blockTime = Math.max( 1, now - state.blockStartTime );
+			final long threshold = 2 * state.allocationTime * blockSize / blockTime + 1;
+			state.prefetchThreshold = (int) Math.min( blockSize, threshold );
+		}
+		state.blockStartTime = now;
+	}
+
+	private synchronized void blockAllocated(long allocationTime) {
+		state.allocationTime = state.allocationTime == 0
+				? allocationTime
+				: ( 3 * state.allocationTime + allocationTime ) / 4;
+	}
+
+	private synchronized boolean startPrefetch() {
+		if ( state.prefetching || state.prefetchedHiValue >= 0 || state.loValue == 0 ) {
+			return false;
+		}
+		if ( getBlockSize() - state.loValue > state.prefetchThreshold ) {
+			return false;
+		}
+		state.prefetching = true;
+		return true;
+	}
+
+	private synchronized void prefetched(Long hi) {
+		state.prefetching = false;
+		if ( hi != null ) {
+			state.prefetchedHiValue = hi;
+		}
+	}
+
+	private void prefetchIfNecessary(ReactiveConnectionSupplier connectionSupplier) {
+		if ( serviceRegistry != null && startPrefetch() ) {
+			final String tenantId = connectionSupplier instanceof SharedSessionContractImplementor session
+					? session.getTenantIdentifier()
+					: null;
+			final long startTime = System.nanoTime();
+			// We can't use the connection of the session, the session might be closed
+			// before the block arrives and the allocation must not be rolled back
+			final ReactiveConnectionPool pool = serviceRegistry.requireService( ReactiveConnectionPool.class );
+			prefetch = ( tenantId == null ? pool.getConnection() : pool.getConnection( tenantId ) )
+					.thenCompose( this::prefetchHiValue )
+					.handle( (hi, throwable) -> {
+						if ( throwable != null ) {
+							LOG.debugf( throwable, "Failed to prefetch the next block of identifiers" );
+						}
+						else {
+							blockAllocated( System.nanoTime() - startTime );
+						}
+						prefetched( hi );
+						return null;
+					} );
+		}
+	}
+
+	private CompletionStage<Long> prefetchHiValue(ReactiveConnection connection) {
+		return supplyStage( () -> nextHiValue( () -> connection ) )
+				.handle( CompletionStages::handle )
+				.thenCompose( handler -> connection.close()
+						.thenCompose( v -> handler.getResultAsCompletionStage() ) );
+	}
+
 	@Override
 	public CompletionStage<Long> generate(ReactiveConnectionSupplier connectionSupplier, Object ignored) {
 		Objects.requireNonNull( connectionSupplier );
 
+		if ( loopStates != null && getBlockSize() > 1 && Context.isOnEventLoopThread() ) {
+			return generateOnEventLoop( loopState(), connectionSupplier );
+		}
+
 		//Before submitting a task to the executor, let's try our luck via the fast-path
 		//(this does actually hit a synchronization, but it's extremely short)
 		final long next = next();
 		if ( next != -1 ) {
+			prefetchIfNecessary( connectionSupplier );
 			return completedFuture( next );
 		}
 
@@ -107,7 +340,12 @@ public CompletionStage<Long> generate(ReactiveConnectionSupplier connectionSuppl
 		//if it were to happen we should be better off with direct execution rather than using
 		//the co-operative executor:
 		if ( getBlockSize() <= 1 ) {
-			return nextHiValue( connectionSupplier ).thenApply( this::next );
+			return allocateBlock( connectionSupplier )
+					.thenApply( hi -> {
+						final long id = next( hi );
+						prefetchIfNecessary( connectionSupplier );
+						return id;
+					} );
 		}
 
 		final CompletableFuture<Long> resultForThisEventLoop = new CompletableFuture<>();
@@ -117,6 +355,9 @@ public CompletionStage<Long> generate(ReactiveConnectionSupplier connectionSuppl
 			final Context context = Vertx.currentContext();
 			executor.submit( new GenerateIdAction( connectionSupplier, result ) );
 			result.whenComplete( (id, t) -> {
+				if ( t == null ) {
+					prefetchIfNecessary( connectionSupplier );
+				}
 				final Context newContext = Vertx.currentContext();
 				//Need to be careful in resuming processing on the same context as the original
 				//request, potentially having to switch back if we're no longer executing on the same:
@@ -131,6 +372,46 @@ public CompletionStage<Long> generate(ReactiveConnectionSupplier connectionSuppl
 		} );
 	}
 
+	private LoopState loopState() {
+		return loopStates.computeIfAbsent( Thread.currentThread(), thread -> new LoopState() );
+	}
+
+	private CompletionStage<Long> generateOnEventLoop(LoopState loop, ReactiveConnectionSupplier connectionSupplier) {
+		if ( loop.loValue >= 0 && loop.loValue < getBlockSize() ) {
+			return completedFuture( loop.hiValue + loop.loValue++ );
+		}
+		if ( loop.nextBlock != null ) {
+			return loop.nextBlock.thenCompose( v -> generateOnEventLoop( loop, connectionSupplier ) );
+		}
+		else {
+			//Only the first request allocates the block, the others wait for it
+			final CompletableFuture<Long> nextBlock = new CompletableFuture<>();
+			loop.nextBlock = nextBlock;
+			final Context context = Vertx.currentContext();
+			supplyStage( () -> nextHiValue( connectionSupplier ) )
+					.whenComplete( (hi, t) -> {
+						//The state of the loop must only be updated by its own thread
+						if ( Vertx.currentContext() != context ) {
+							context.runOnContext( v -> loopBlockAllocated( loop, nextBlock, hi, t ) );
+						}
+						else {
+							loopBlockAllocated( loop, nextBlock, hi, t );
+						}
+					} );
+			//The block might have been allocated already, and loop.nextBlock reset
+			return nextBlock.thenCompose( v -> generateOnEventLoop( loop, connectionSupplier ) );
+		}
+	}
+
+	private static void loopBlockAllocated(LoopState loop, CompletableFuture<Long> nextBlock, Long hi, Throwable throwable) {
+		loop.nextBlock = null;
+		if ( throwable == null ) {
+			loop.hiValue = hi;
+			loop.loValue = 0;
+		}
+		complete( nextBlock, hi, throwable );
+	}
+
 	private final class GenerateIdAction implements Executor.Action<GeneratorState> {
 
 		private final ReactiveConnectionSupplier connectionSupplier;
@@ -160,7 +441,7 @@ public Task execute(GeneratorState state) {
 
 		private void generateNewHiValue(Void v) {
 			try {
-				nextHiValue( connectionSupplier )
+				allocateBlock( connectionSupplier )
 						.whenComplete( (newlyGeneratedHi, throwable) -> {
 							if ( throwable != null ) {
 								result.completeExceptionally( throwable );
@@ -182,6 +463,24 @@ private void generateNewHiValue(Void v) {
 		}
 	}
 
+	/**
+	 * Obtain a new block while a request for an identifier is waiting
+	 */
+	private CompletionStage<Long> allocateBlock(ReactiveConnectionSupplier connectionSupplier) {
+		if ( serviceRegistry == null ) {
+			return nextHiValue( connectionSupplier );
+		}
+		synchronized ( this ) {
+			state.prefetchMisses++;
+		}
+		final long startTime = System.nanoTime();
+		return nextHiValue( connectionSupplier )
+				.thenApply( hi -> {
+					blockAllocated( System.nanoTime() - startTime );
+					return hi;
+				} );
+	}
+
 	private static <T> void complete(CompletableFuture<T> future, final T result, final Throwable throwable) {
 		if ( throwable != null ) {
 			future.completeExceptionally( throwable );
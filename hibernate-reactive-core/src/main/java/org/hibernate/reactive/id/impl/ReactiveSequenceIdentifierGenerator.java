@@ -8,11 +8,16 @@
 
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.dialect.CockroachDialect;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
 import org.hibernate.id.BulkInsertionCapableIdentifierGenerator;
+import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.id.enhanced.DatabaseStructure;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 
 /**
@@ -22,6 +27,9 @@
  * <p>
  * This implementation supports block allocation, but does not
  * guarantee that generated identifiers are sequential.
+ * <p>
+ * On PostgreSQL, CockroachDB, and Oracle, multiple blocks can be
+ * allocated with a single query.
  */
 public class ReactiveSequenceIdentifierGenerator extends BlockingIdentifierGenerator
 		implements IdentifierGenerator, BulkInsertionCapableIdentifierGenerator {
@@ -34,6 +42,8 @@ public class ReactiveSequenceIdentifierGenerator extends BlockingIdentifierGener
 	private final boolean supportsBulkInsertion;
 
 	private String sql;
+	// Select multiple values from the sequence, null if not supported
+	private String multipleValuesSql;
 
 	public ReactiveSequenceIdentifierGenerator(DatabaseStructure structure, RuntimeModelCreationContext creationContext) {
 		qualifiedName = structure.getPhysicalName();
@@ -52,10 +62,46 @@ protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session)
 		return session.getReactiveConnection().selectIdentifier( sql, NO_PARAMS, Long.class );
 	}
 
+	@Override
+	protected boolean supportsMultipleHiValues() {
+		return multipleValuesSql != null;
+	}
+
+	@Override
+	protected CompletionStage<long[]> nextHiValues(ReactiveConnectionSupplier session, int count) {
+		return session.getReactiveConnection()
+				.select( multipleValuesSql, new Object[] { count } )
+				.thenApply( result -> hiValues( result, count ) );
+	}
+
+	private static long[] hiValues(ReactiveConnection.Result result, int count) {
+		if ( result.size() != count ) {
+			throw new IdentifierGenerationException( "Expected " + count + " sequence values but got " + result.size() );
+		}
+		final long[] hiValues = new long[count];
+		for ( int i = 0; i < count; i++ ) {
+			hiValues[i] = ( (Number) result.next()[0] ).longValue();
+		}
+		return hiValues;
+	}
+
 	// Called after configure
 	@Override
 	public void initialize(SqlStringGenerationContext context) {
 		sql = dialect.getSequenceSupport().getSequenceNextValString( context.format( qualifiedName ) );
+		multipleValuesSql = supportsBulkInsertion
+				? multipleValuesSql( dialect, determineBulkInsertionIdentifierGenerationSelectFragment( context ) )
+				: null;
+	}
+
+	private static String multipleValuesSql(Dialect dialect, String nextValue) {
+		if ( dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect ) {
+			return "select " + nextValue + " from generate_series(1, $1)";
+		}
+		if ( dialect instanceof OracleDialect ) {
+			return "select " + nextValue + " from dual connect by level <= :1";
+		}
+		return null;
 	}
 
 	@Override
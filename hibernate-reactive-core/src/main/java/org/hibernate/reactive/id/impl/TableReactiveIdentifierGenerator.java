@@ -141,6 +141,54 @@ protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session)
 				} );
 	}
 
+	@Override
+	protected boolean supportsMultipleHiValues() {
+		return true;
+	}
+
+	@Override
+	protected CompletionStage<long[]> nextHiValues(ReactiveConnectionSupplier session, int count) {
+		// Same as nextHiValue(), but the hi value is updated
+		// by the increment multiplied by the number of blocks
+		final ReactiveConnection connection = session.getReactiveConnection();
+		return connection
+				.selectIdentifier( selectQuery, selectParameters(), Long.class )
+				.thenCompose( result -> {
+					if ( result == null ) {
+						// let nextHiValue() insert the row, then allocate the other blocks
+						return nextHiValue( session )
+								.thenCompose( hi -> count == 1
+										? completedFuture( new long[] { hi } )
+										: nextHiValues( session, count - 1 )
+												.thenApply( hiValues -> prepend( hi, hiValues ) ) );
+					}
+					final long currentValue = result;
+					final long updatedValue = currentValue + (long) increment * count;
+					final long firstHi = storeLastUsedValue ? currentValue + increment : currentValue;
+					return connection.update( updateQuery, updateParameters( currentValue, updatedValue ) )
+							.thenCompose( rowCount -> switch ( rowCount ) {
+								case 1 -> completedFuture( hiValues( firstHi, count ) );
+								case 0 -> nextHiValues( session, count );
+								default -> failedFuture( new TooManyRowsAffectedException( "multiple rows in id table", 1, rowCount ) );
+							} );
+				} );
+	}
+
+	private long[] hiValues(long firstHi, int count) {
+		final long[] hiValues = new long[count];
+		for ( int i = 0; i < count; i++ ) {
+			hiValues[i] = firstHi + (long) increment * i;
+		}
+		return hiValues;
+	}
+
+	private static long[] prepend(long hi, long[] hiValues) {
+		final long[] result = new long[hiValues.length + 1];
+		result[0] = hi;
+		System.arraycopy( hiValues, 0, result, 1, hiValues.length );
+		return result;
+	}
+
 	private CompletionStage<Long> checkValue(ReactiveConnectionSupplier session, Integer rowCount, long id) {
 		return switch ( rowCount ) {
 			// we successfully obtained the next hi value
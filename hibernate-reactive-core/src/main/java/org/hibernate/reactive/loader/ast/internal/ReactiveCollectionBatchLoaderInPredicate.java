@@ -20,6 +20,7 @@
 import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.sql.ast.spi.SqlAliasBaseManager;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.spi.JdbcSelect;
@@ -128,6 +129,16 @@ public CompletionStage<PersistentCollection<?>> reactiveLoad(Object key, SharedS
 				} );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveLoadKeys(Object[] keys, SharedSessionContractImplementor session) {
+		if ( keys.length == 1 ) {
+			prepareSingleKeyLoaderIfNeeded();
+			return singleKeyLoader.reactiveLoad( keys[0], session )
+					.thenCompose( CompletionStages::voidFuture );
+		}
+		return initializeKeys( keys[0], keys, keys.length, session );
+	}
+
 	private void prepareSingleKeyLoaderIfNeeded() {
 		if ( singleKeyLoader == null ) {
 			singleKeyLoader = new ReactiveCollectionLoaderSingleKey( getLoadable(), getInfluencers(), getSessionFactory() );
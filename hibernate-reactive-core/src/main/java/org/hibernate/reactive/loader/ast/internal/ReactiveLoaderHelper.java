@@ -13,7 +13,6 @@
 import org.hibernate.LockOptions;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
-import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
@@ -25,6 +24,7 @@
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.session.impl.ReactiveSessionSettings;
 import org.hibernate.reactive.sql.exec.internal.StandardReactiveSelectExecutor;
 import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
@@ -137,56 +137,59 @@ public static CompletionStage<Void> upgradeLock(
 				);
 			}
 
-			final boolean cachingEnabled = persister.canWriteToCache();
-			SoftLock lock = null;
-			Object ck = null;
-			try {
-				if ( cachingEnabled ) {
-					final EntityDataAccess cache = persister.getCacheAccessStrategy();
-					ck = cache.generateCacheKey( entry.getId(), persister, session.getFactory(), session.getTenantIdentifier() );
-					lock = cache.lockItem( session, ck, entry.getVersion() );
-				}
-
-				if ( persister.isVersioned() && entry.getVersion() == null ) {
-					// This should be an empty entry created for an uninitialized bytecode proxy
-					if ( !Hibernate.isPropertyInitialized( object, persister.getVersionMapping().getPartName() ) ) {
-						Hibernate.initialize( object );
-						entry = session.getPersistenceContextInternal().getEntry( object );
-						assert entry.getVersion() != null;
-					}
-					else {
-						throw new IllegalStateException( String.format(
-								"Trying to lock versioned entity %s but found null version",
-								MessageHelper.infoString( persister.getEntityName(), entry.getId() )
-						) );
-					}
-				}
-
-				if ( persister.isVersioned() && requestedLockMode == LockMode.PESSIMISTIC_FORCE_INCREMENT  ) {
-					// todo : should we check the current isolation mode explicitly?
-					OptimisticLockHelper.forceVersionIncrement( object, entry, session );
-				}
-				else if ( entry.isExistsInDatabase() ) {
-					final EventMonitor eventMonitor = session.getEventMonitor();
-					final DiagnosticEvent entityLockEvent = eventMonitor.beginEntityLockEvent();
-					return reactiveLock( object, entry, lockOptions, session, persister, eventMonitor, entityLockEvent, cachingEnabled, ck, lock );
-				}
-				else {
-					// should only be possible for a stateful session
-					if ( session instanceof EventSource eventSource ) {
-						eventSource.forceFlush( entry );
-					}
-				}
-				entry.setLockMode(requestedLockMode);
-			}
-			finally {
+			if ( persister.canWriteToCache() ) {
+				final EntityDataAccess cache = persister.getCacheAccessStrategy();
+				final Object ck = cache.generateCacheKey( entry.getId(), persister, session.getFactory(), session.getTenantIdentifier() );
 				// the database now holds a lock + the object is flushed from the cache,
-				// so release the soft lock
-				if ( cachingEnabled ) {
-					persister.getCacheAccessStrategy().unlockItem( session, ck, lock );
-				}
+				// so release the soft lock after locking
+				return ReactiveSessionSettings.cacheAccess( session.getFactory() )
+						.withSoftLock( session, cache, ck, entry.getVersion(), () -> lock( object, entry, lockOptions, session, persister ) );
+			}
+			else {
+				return lock( object, entry, lockOptions, session, persister );
+			}
+		}
+		return voidFuture();
+	}
+
+	private static CompletionStage<Void> lock(
+			Object object,
+			EntityEntry entry,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session,
+			ReactiveEntityPersister persister) {
+		final LockMode requestedLockMode = lockOptions.getLockMode();
+		if ( persister.isVersioned() && entry.getVersion() == null ) {
+			// This should be an empty entry created for an uninitialized bytecode proxy
+			if ( !Hibernate.isPropertyInitialized( object, persister.getVersionMapping().getPartName() ) ) {
+				Hibernate.initialize( object );
+				entry = session.getPersistenceContextInternal().getEntry( object );
+				assert entry.getVersion() != null;
+			}
+			else {
+				throw new IllegalStateException( String.format(
+						"Trying to lock versioned entity %s but found null version",
+						MessageHelper.infoString( persister.getEntityName(), entry.getId() )
+				) );
+			}
+		}
+
+		if ( persister.isVersioned() && requestedLockMode == LockMode.PESSIMISTIC_FORCE_INCREMENT  ) {
+			// todo : should we check the current isolation mode explicitly?
+			OptimisticLockHelper.forceVersionIncrement( object, entry, session );
+		}
+		else if ( entry.isExistsInDatabase() ) {
+			final EventMonitor eventMonitor = session.getEventMonitor();
+			final DiagnosticEvent entityLockEvent = eventMonitor.beginEntityLockEvent();
+			return reactiveLock( object, entry, lockOptions, session, persister, eventMonitor, entityLockEvent );
+		}
+		else {
+			// should only be possible for a stateful session
+			if ( session instanceof EventSource eventSource ) {
+				eventSource.forceFlush( entry );
 			}
 		}
+		entry.setLockMode( requestedLockMode );
 		return voidFuture();
 	}
 
@@ -197,17 +200,9 @@ private static CompletionStage<Void> reactiveLock(
 			SharedSessionContractImplementor session,
 			ReactiveEntityPersister persister,
 			EventMonitor eventMonitor,
-			DiagnosticEvent entityLockEvent,
-			boolean cachingEnabled,
-			Object ck,
-			SoftLock lock) {
-		return supplyStage( () -> supplyStage( () ->  persister.reactiveLock( entry.getId(), entry.getVersion(), object, lockOptions, session ) )
-				.whenComplete( (v, e) -> completeLockEvent( entry, lockOptions, session, persister, eventMonitor, entityLockEvent, cachingEnabled, ck, lock, e == null ) ) )
-				.whenComplete( (v, e) -> {
-					if ( cachingEnabled ) {
-						persister.getCacheAccessStrategy().unlockItem( session, ck, lock );
-					}
-				} );
+			DiagnosticEvent entityLockEvent) {
+		return supplyStage( () -> persister.reactiveLock( entry.getId(), entry.getVersion(), object, lockOptions, session ) )
+				.whenComplete( (v, e) -> completeLockEvent( entry, lockOptions, session, persister, eventMonitor, entityLockEvent, e == null ) );
 	}
 
 	private static void completeLockEvent(
@@ -217,9 +212,6 @@ private static void completeLockEvent(
 			ReactiveEntityPersister persister,
 			EventMonitor eventMonitor,
 			DiagnosticEvent entityLockEvent,
-			boolean cachingEnabled,
-			Object ck,
-			SoftLock lock,
 			boolean succes) {
 		eventMonitor.completeEntityLockEvent(
 				entityLockEvent,
@@ -229,9 +221,6 @@ private static void completeLockEvent(
 				succes,
 				session
 		);
-		if ( cachingEnabled ) {
-			persister.getCacheAccessStrategy().unlockItem( session, ck, lock );
-		}
 	}
 
 }
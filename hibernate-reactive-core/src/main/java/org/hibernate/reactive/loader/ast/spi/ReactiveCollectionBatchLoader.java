@@ -4,6 +4,9 @@
  */
 package org.hibernate.reactive.loader.ast.spi;
 
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.BatchLoader;
 import org.hibernate.loader.ast.spi.CollectionBatchLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoader;
@@ -12,4 +15,14 @@
  * @see org.hibernate.loader.ast.spi.CollectionBatchLoader
  */
 public interface ReactiveCollectionBatchLoader extends CollectionBatchLoader, BatchLoader, ReactiveCollectionLoader {
+
+	/**
+	 * Initialize the collections with the given keys, which must already be
+	 * registered as uninitialized collections in the persistence context.
+	 * Unlike {@link #reactiveLoad(Object, SharedSessionContractImplementor)},
+	 * the keys are not collected from the {@link org.hibernate.engine.spi.BatchFetchQueue}.
+	 *
+	 * @param keys the keys of the collections, at most {@link #getDomainBatchSize()}
+	 */
+	CompletionStage<Void> reactiveLoadKeys(Object[] keys, SharedSessionContractImplementor session);
 }
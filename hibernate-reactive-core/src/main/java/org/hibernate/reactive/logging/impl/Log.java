@@ -291,11 +291,51 @@ public interface Log extends BasicLogger {
 	@Message(id = 91, value = "Can't begin a new transaction as an active transaction is already associated to this connection")
 	IllegalStateException liveTransactionDetectedOnBeginTransaction();
 
+	@LogMessage(level = WARN)
+	@Message(id = 93, value = "Error closing database cursor")
+	void errorClosingCursor(@Cause Throwable throwable);
+
+	@Message(id = 94, value = "Streaming the results of a query with collection fetches is not supported: %1$s")
+	HibernateException streamWithCollectionFetch(String query);
+
+	@Message(id = 95, value = "Number of results (%1$d) does not match the number of batched parameters (%2$d)")
+	IllegalStateException numberOfResultsDoesNotMatchBatchedParameters(int results, int parameters);
+
+	@Message(id = 96, value = "Could not instantiate pool metrics [%1$s]")
+	HibernateException couldNotInstantiatePoolMetrics(String metricsClassName, @Cause Throwable error);
+
+	@LogMessage(level = INFO)
+	@Message(id = 97, value = "Slow statement took %1$d milliseconds (rows: %2$d, batch size: %3$d) [%4$s]")
+	void slowStatement(long milliseconds, int rowCount, int batchSize, String sql);
+
+	@Message(id = 98, value = "Could not instantiate reactive cache access [%1$s]")
+	HibernateException couldNotInstantiateCacheAccess(String cacheAccessClassName, @Cause Throwable error);
+
+	@Message(id = 99, value = "Could not instantiate tenant URI resolver [%1$s]")
+	HibernateException couldNotInstantiateTenantUriResolver(String resolverClassName, @Cause Throwable error);
+
+	@Message(id = 100, value = "Unable to open a connection pool for tenant '%1$s': the limit of %2$d tenant pools or %3$d connections has been reached, and all the pools have connections in use")
+	HibernateException tenantPoolLimitReached(String tenantId, int maxPools, int maxTotalSize);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 101, value = "Closing the connection pool of tenant '%1$s'")
+	void closingTenantPool(String tenantId);
+
+	@Message(id = 102, value = "Switching the schema of a connection is not supported for %1$s")
+	HibernateException schemaSwitchNotSupported(String dialect);
+
+	@Message(id = 103, value = "Invalid schema name '%1$s' for tenant '%2$s'")
+	HibernateException invalidTenantSchema(String schema, String tenantId);
+
 	// Same method that exists in CoreMessageLogger
 	@LogMessage(level = WARN)
 	@Message(id = 104, value = "firstResult/maxResults specified with collection fetch; applying in memory!" )
 	void firstOrMaxResultsSpecifiedWithCollectionFetch();
 
+	@LogMessage(level = WARN)
+	@Message(id = 105, value = "Unable to put the results of query '%1$s' in the cache")
+	void unableToPutQueryResults(String queryIdentifier, @Cause Throwable cause);
+
 	// Same method that exists in CoreMessageLogger
 	@LogMessage(level = INFO)
 	@Message(id = 114, value = "Handling transient entity in delete processing" )
@@ -5,6 +5,7 @@
 package org.hibernate.reactive.mutiny;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -30,9 +31,11 @@
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.PoolStatistics;
 import org.hibernate.reactive.session.impl.ReactiveQueryExecutorLookup;
 import org.hibernate.stat.Statistics;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -218,6 +221,34 @@ interface AbstractQuery {
 		 */
 		Uni<List<R>> getResultList();
 
+		/**
+		 * Asynchronously execute this query, returning the query results
+		 * as a {@link Multi}. The results are read from the database
+		 * through a cursor, {@linkplain #setFetchSize(int) fetch size}
+		 * rows at a time, so that they don't have to fit in memory all at
+		 * once.
+		 * <p>
+		 * Unlike {@link #getResultList()}, the results are never
+		 * de-duplicated, and queries with collection fetches are not
+		 * supported. Some databases, for example PostgreSQL, only support
+		 * cursors inside a transaction.
+		 *
+		 * @return the resulting rows as a {@link Multi}
+		 *
+		 * @see jakarta.persistence.Query#getResultStream()
+		 */
+		@Incubating
+		Multi<R> getResultStream();
+
+		/**
+		 * Set the number of rows read from the database at a time by
+		 * {@link #getResultStream()}.
+		 *
+		 * @see org.hibernate.query.SelectionQuery#setFetchSize(int)
+		 */
+		@Incubating
+		SelectionQuery<R> setFetchSize(int fetchSize);
+
 		/**
 		 * Set the read-only/modifiable mode for entities and proxies
 		 * loaded by this Query. This setting overrides the default setting
@@ -437,6 +468,9 @@ interface MutationQuery extends AbstractQuery {
 		@Override
 		Query<R> setReadOnly(boolean readOnly);
 
+		@Override
+		Query<R> setFetchSize(int fetchSize);
+
 		@Override
 		Query<R> setCacheable(boolean cacheable);
 
@@ -1270,6 +1304,25 @@ default Uni<Void> lock(Object entity, LockModeType lockModeType) {
 		 */
 		<E, T> Uni<T> fetch(E entity, Attribute<E, T> field);
 
+		/**
+		 * Asynchronously fetch the given lazy association of every entity in
+		 * the given collection. The uninitialized proxies and collections are
+		 * loaded with a query for each batch of identifiers, instead of with
+		 * a query for each entity.
+		 *
+		 * <pre>
+		 * {@code session.fetchAll(authors, Author_.books).invoke(() -> authors.forEach(a -> print(a.getBooks().size())))}
+		 * </pre>
+		 *
+		 * @param entities the entities owning the association
+		 * @param attribute the association, identified by a JPA {@link Attribute attribute metamodel}
+		 *
+		 * @see #fetch(Object)
+		 * @since 4.5.5
+		 */
+		@Incubating
+		<E> Uni<Void> fetchAll(Collection<E> entities, Attribute<E, ?> attribute);
+
 		/**
 		 * Asynchronously fetch an association that's configured for lazy loading,
 		 * and unwrap the underlying entity implementation from any proxy.
@@ -1929,6 +1982,28 @@ default Uni<Void> refresh(Object entity, LockModeType lockModeType) {
 		 */
 		<T> Uni<T> fetch(T association);
 
+		/**
+		 * Asynchronously fetch the given lazy association of every entity in
+		 * the given collection. The uninitialized proxies and collections are
+		 * loaded with a query for each batch of identifiers, instead of with
+		 * a query for each entity.
+		 *
+		 * <pre>
+		 * {@code session.fetchAll(authors, Author_.books).invoke(() -> authors.forEach(a -> print(a.getBooks().size())))}
+		 * </pre>
+		 * <p>
+		 * Warning: this operation in a stateless session is quite sensitive to
+		 * data aliasing effects and should be used with great care.
+		 *
+		 * @param entities the entities owning the association
+		 * @param attribute the association, identified by a JPA {@link Attribute attribute metamodel}
+		 *
+		 * @see #fetch(Object)
+		 * @since 4.5.5
+		 */
+		@Incubating
+		<E> Uni<Void> fetchAll(Collection<E> entities, Attribute<E, ?> attribute);
+
 		/**
 		 * Return the identifier value of the given entity, which may be detached.
 		 *
@@ -2390,6 +2465,14 @@ default <T> Uni<T> withStatelessTransaction(Function<StatelessSession, Uni<T>> w
 		 */
 		Statistics getStatistics();
 
+		/**
+		 * Obtain the {@link PoolStatistics} object exposing metrics about
+		 * the connections obtained from the reactive connection pool.
+		 *
+		 * @since 4.5.5
+		 */
+		PoolStatistics getPoolStatistics();
+
 		/**
 		 * Return the current instance of {@link Session}, if any.
 		 * A current session exists only when this method is called
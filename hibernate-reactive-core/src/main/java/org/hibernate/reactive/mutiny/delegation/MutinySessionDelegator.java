@@ -4,6 +4,7 @@
  */
 package org.hibernate.reactive.mutiny.delegation;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 
@@ -288,6 +289,11 @@ public <E, T> Uni<T> fetch(E entity, Attribute<E, T> field) {
 		return delegate().fetch( entity, field );
 	}
 
+	@Incubating
+	public <E> Uni<Void> fetchAll(Collection<E> entities, Attribute<E, ?> attribute) {
+		return delegate().fetchAll( entities, attribute );
+	}
+
 	public <R> Mutiny.SelectionQuery<R> createQuery(CriteriaQuery<R> criteriaQuery) {
 		return delegate().createQuery( criteriaQuery );
 	}
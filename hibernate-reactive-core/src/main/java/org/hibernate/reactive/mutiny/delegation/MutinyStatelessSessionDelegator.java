@@ -4,6 +4,7 @@
  */
 package org.hibernate.reactive.mutiny.delegation;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 
@@ -22,6 +23,7 @@
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.metamodel.Attribute;
 
 /**
  * Wraps a {@linkplain #delegate} stateless session.
@@ -215,6 +217,11 @@ public <T> Uni<T> fetch(T association) {
 		return delegate().fetch( association );
 	}
 
+	@Incubating
+	public <E> Uni<Void> fetchAll(Collection<E> entities, Attribute<E, ?> attribute) {
+		return delegate().fetchAll( entities, attribute );
+	}
+
 	@Incubating
 	public Uni<Void> upsertAll(Object... entities) {
 		return delegate().upsertAll( entities );
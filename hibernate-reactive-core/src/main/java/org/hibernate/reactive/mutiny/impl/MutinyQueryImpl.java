@@ -14,6 +14,7 @@
 import org.hibernate.reactive.mutiny.Mutiny.Query;
 import org.hibernate.reactive.query.ReactiveQuery;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -54,6 +55,17 @@ public Uni<List<R>> getResultList() {
 		return uni( delegate::getReactiveResultList );
 	}
 
+	@Override
+	public Multi<R> getResultStream() {
+		return factory.multi( delegate::reactiveStream );
+	}
+
+	@Override
+	public Query<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return delegate.getHibernateFlushMode();
@@ -13,6 +13,7 @@
 import org.hibernate.reactive.mutiny.Mutiny.SelectionQuery;
 import org.hibernate.reactive.query.ReactiveSelectionQuery;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -52,6 +53,17 @@ public Uni<List<R>> getResultList() {
 		return uni( delegate::getReactiveResultList );
 	}
 
+	@Override
+	public Multi<R> getResultStream() {
+		return factory.multi( delegate::reactiveStream );
+	}
+
+	@Override
+	public SelectionQuery<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return delegate.getHibernateFlushMode();
@@ -5,6 +5,7 @@
 package org.hibernate.reactive.mutiny.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
@@ -25,15 +26,19 @@
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.pool.PoolMetrics;
+import org.hibernate.reactive.pool.PoolStatistics;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.stat.Statistics;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.metamodel.Metamodel;
 
@@ -74,6 +79,20 @@ <T> Uni<T> uni(Supplier<CompletionStage<T>> stageSupplier) {
 		return Uni.createFrom().completionStage( stageSupplier ).runSubscriptionOn( context );
 	}
 
+	/**
+	 * Emit the results of a {@link ReactiveResultsStream}, reading the next
+	 * chunk only when the previous one has been requested by the subscriber.
+	 */
+	<T> Multi<T> multi(Supplier<CompletionStage<ReactiveResultsStream<T>>> streamSupplier) {
+		return uni( streamSupplier )
+				.onItem().transformToMulti( stream -> Multi.createBy().repeating()
+						.uni( () -> uni( stream::nextChunk ) )
+						.until( List::isEmpty )
+						.onTermination().call( () -> uni( stream::close ) )
+				)
+				.onItem().transformToIterable( chunk -> chunk );
+	}
+
 	@Override
 	public String getUuid() {
 		return delegate.getUuid();
@@ -319,6 +338,11 @@ public Statistics getStatistics() {
 		return delegate.getStatistics();
 	}
 
+	@Override
+	public PoolStatistics getPoolStatistics() {
+		return delegate.getServiceRegistry().requireService( PoolMetrics.class ).getStatistics();
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
@@ -40,6 +40,7 @@
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.metamodel.Attribute;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -82,6 +83,11 @@ public <E, T> Uni<T> fetch(E entity, Attribute<E, T> field) {
 		return uni( () -> delegate.reactiveFetch( entity, field ) );
 	}
 
+	@Override
+	public <E> Uni<Void> fetchAll(Collection<E> entities, Attribute<E, ?> attribute) {
+		return uni( () -> delegate.reactiveFetchAll( entities, attribute ) );
+	}
+
 	@Override
 	public <T> Uni<T> unproxy(T association) {
 		return uni( () -> delegate.reactiveFetch( association, true ) );
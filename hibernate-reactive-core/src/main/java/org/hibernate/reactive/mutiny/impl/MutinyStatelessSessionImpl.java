@@ -25,6 +25,8 @@
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.metamodel.Attribute;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -286,6 +288,11 @@ public <T> Uni<T> fetch(T association) {
 		return uni( () -> delegate.reactiveFetch( association, false ) );
 	}
 
+	@Override
+	public <E> Uni<Void> fetchAll(Collection<E> entities, Attribute<E, ?> attribute) {
+		return uni( () -> delegate.reactiveFetchAll( entities, attribute ) );
+	}
+
 	@Override
 	public Object getIdentifier(Object entity) {
 		return delegate.getIdentifier(entity);
@@ -4,25 +4,35 @@
  */
 package org.hibernate.reactive.persister.collection.impl;
 
+import java.util.Arrays;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.BatchLoaderFactory;
 import org.hibernate.loader.ast.spi.CollectionLoader;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderNamedQuery;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSingleKey;
+import org.hibernate.reactive.loader.ast.spi.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
 
 /**
  * Reactive version of {@link org.hibernate.persister.collection.AbstractCollectionPersister}
  */
 public interface ReactiveAbstractCollectionPersister extends ReactiveCollectionPersister {
 
+    /**
+     * The number of collections initialized by each query of {@link #reactiveInitializeAll}
+     */
+    int FETCH_ALL_BATCH_SIZE = 256;
+
     default ReactiveConnection getReactiveConnection(SharedSessionContractImplementor session) {
         return ( (ReactiveConnectionSupplier) session ).getReactiveConnection();
     }
@@ -41,6 +51,28 @@ default CollectionLoader createSingleKeyCollectionLoader(LoadQueryInfluencers lo
         return new ReactiveCollectionLoaderSingleKey( getAttributeMapping(), loadQueryInfluencers, getFactory() );
     }
 
+    @Override
+    default CompletionStage<Void> reactiveInitializeAll(Object[] keys, SharedSessionContractImplementor session) {
+        final ReactiveCollectionBatchLoader loader = getFetchAllLoader( session.getLoadQueryInfluencers() );
+        final int batchSize = loader.getDomainBatchSize();
+        return loop( 0, ( keys.length + batchSize - 1 ) / batchSize, i -> loader.reactiveLoadKeys(
+                Arrays.copyOfRange( keys, i * batchSize, Math.min( keys.length, ( i + 1 ) * batchSize ) ),
+                session
+        ) );
+    }
+
+    /**
+     * The loader used by {@link #reactiveInitializeAll}, implementations
+     * should cache the loader when the influencers don't enable filters.
+     */
+    ReactiveCollectionBatchLoader getFetchAllLoader(LoadQueryInfluencers loadQueryInfluencers);
+
+    default ReactiveCollectionBatchLoader createFetchAllLoader(LoadQueryInfluencers loadQueryInfluencers) {
+        return (ReactiveCollectionBatchLoader) getFactory().getServiceRegistry()
+                .requireService( BatchLoaderFactory.class )
+                .createCollectionBatchLoader( FETCH_ALL_BATCH_SIZE, loadQueryInfluencers, getAttributeMapping(), getFactory() );
+    }
+
     /**
      * @see org.hibernate.persister.collection.AbstractCollectionPersister#recreate(PersistentCollection, Object, SharedSessionContractImplementor)
      */
@@ -22,6 +22,7 @@
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSubSelectFetch;
+import org.hibernate.reactive.loader.ast.spi.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinator;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorNoOp;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorStandard;
@@ -48,6 +49,8 @@ public class ReactiveBasicCollectionPersister extends BasicCollectionPersister i
 	private final ReactiveDeleteRowsCoordinator deleteRowsCoordinator;
 	private final ReactiveRemoveCoordinator removeCoordinator;
 
+	private ReactiveCollectionBatchLoader fetchAllLoader;
+
 	public ReactiveBasicCollectionPersister(
 			Collection collectionBinding,
 			CollectionDataAccess cacheAccessStrategy,
@@ -139,6 +142,18 @@ public CompletionStage<Void> reactiveInitialize(Object key, SharedSessionContrac
 				.thenCompose( CompletionStages::voidFuture );
 	}
 
+	@Override
+	public ReactiveCollectionBatchLoader getFetchAllLoader(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( loadQueryInfluencers.hasEnabledFilters() ) {
+			// The filters are applied to the SQL of the loader
+			return createFetchAllLoader( loadQueryInfluencers );
+		}
+		if ( fetchAllLoader == null ) {
+			fetchAllLoader = createFetchAllLoader( new LoadQueryInfluencers( getFactory() ) );
+		}
+		return fetchAllLoader;
+	}
+
 	/**
 	 * @see org.hibernate.persister.collection.BasicCollectionPersister#remove(Object, SharedSessionContractImplementor)
 	 */
@@ -74,4 +74,10 @@ default void initialize(Object key, SharedSessionContractImplementor session) th
 	 * Reactive version of {@link CollectionPersister#initialize(Object, SharedSessionContractImplementor)}
 	 */
 	CompletionStage<Void> reactiveInitialize(Object key, SharedSessionContractImplementor session);
+
+	/**
+	 * Initialize the uninitialized collections with the given keys, with one
+	 * round trip to the database for each batch of keys.
+	 */
+	CompletionStage<Void> reactiveInitializeAll(Object[] keys, SharedSessionContractImplementor session);
 }
@@ -30,6 +30,7 @@
 import org.hibernate.reactive.engine.jdbc.env.internal.ReactiveMutationExecutor;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSubSelectFetch;
+import org.hibernate.reactive.loader.ast.spi.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinator;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorNoOp;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorStandard;
@@ -45,7 +46,6 @@
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
 
-import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
 import static org.hibernate.sql.model.MutationType.UPDATE;
@@ -62,6 +62,8 @@ public class ReactiveOneToManyPersister extends OneToManyPersister
 	private final ReactiveDeleteRowsCoordinator deleteRowsCoordinator;
 	private final ReactiveRemoveCoordinator removeCoordinator;
 
+	private ReactiveCollectionBatchLoader fetchAllLoader;
+
 	public ReactiveOneToManyPersister(
 			Collection collectionBinding,
 			CollectionDataAccess cacheAccessStrategy,
@@ -167,6 +169,18 @@ public CompletionStage<Void> reactiveInitialize(Object key, SharedSessionContrac
 				.thenCompose( CompletionStages::voidFuture );
 	}
 
+	@Override
+	public ReactiveCollectionBatchLoader getFetchAllLoader(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( loadQueryInfluencers.hasEnabledFilters() ) {
+			// The filters are applied to the SQL of the loader
+			return createFetchAllLoader( loadQueryInfluencers );
+		}
+		if ( fetchAllLoader == null ) {
+			fetchAllLoader = createFetchAllLoader( new LoadQueryInfluencers( getFactory() ) );
+		}
+		return fetchAllLoader;
+	}
+
 	@Override
 	public boolean isRowDeleteEnabled() {
 		return super.isRowDeleteEnabled();
@@ -204,17 +218,15 @@ private CompletionStage<Void> writeIndex(
 		return voidFuture()
 				.thenCompose( unused -> {
 					final int[] nextIndex = { resetIndex ? 0 : getSize( key, session ) };
-					return loop( entries, (entry, integer) -> {
+					return mutationExecutor.executeReactiveRows( entries, (entry, integer) -> {
 						if ( entry != null && collection.entryExists( entry, nextIndex[0] ) ) {
 							updateRowValues.applyValues( collection, key, entry, nextIndex[0], session, jdbcValueBindings );
 							updateRowRestrictions.applyRestrictions( collection, key, entry, nextIndex[0], session, jdbcValueBindings );
-
-							return mutationExecutor
-									.executeReactive( collection, null, null, null, session )
-									.thenAccept( o -> nextIndex[0]++ );
+							nextIndex[0]++;
+							return true;
 						}
-						return voidFuture();
-					} );
+						return false;
+					}, session );
 				} )
 				.whenComplete( (o, throwable) -> mutationExecutor.release() );
 	}
@@ -24,7 +24,6 @@
 import org.hibernate.sql.model.internal.MutationOperationGroupFactory;
 import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
 
-import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
 
@@ -73,19 +72,18 @@ public CompletionStage<Void> reactiveDeleteRows(PersistentCollection<?> collecti
 
 					final RowMutationOperations.Restrictions restrictions = rowMutationOperations.getDeleteRowRestrictions();
 
-					return loop( deletes, (removal, integer) -> {
+					return mutationExecutor.executeReactiveRows( deletes, (removal, position) -> {
 						restrictions.applyRestrictions(
 								collection,
 								key,
 								removal,
-								deletionCount[0],
+								position,
 								session,
 								jdbcValueBindings
 						);
-
-						return mutationExecutor.executeReactive( removal, null, null, null, session )
-								.thenAccept( o -> deletionCount[0]++ );
-					} ).thenAccept( ignore -> MODEL_MUTATION_LOGGER.debugf( "Done deleting `%s` collection rows : %s", deletionCount, getMutationTarget().getRolePath() ) );
+						deletionCount[0]++;
+						return true;
+					}, session ).thenAccept( ignore -> MODEL_MUTATION_LOGGER.debugf( "Done deleting `%s` collection rows : %s", deletionCount, getMutationTarget().getRolePath() ) );
 				} )
 				.whenComplete( (o, throwable) -> mutationExecutor.release() );
 	}
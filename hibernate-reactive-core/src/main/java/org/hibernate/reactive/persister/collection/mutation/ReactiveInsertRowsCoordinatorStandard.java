@@ -26,7 +26,6 @@
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.hibernate.reactive.logging.impl.LoggerFactory.make;
-import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
 
@@ -92,18 +91,16 @@ public CompletionStage<Void> reactiveInsertRows(PersistentCollection<?> collecti
 		// It's just a counter, this way I don't have to use an Object, and I can pass it to a lambda
 		final int[] counter = { 0 };
 		final RowMutationOperations.Values insertRowValues = rowMutationOperations.getInsertRowValues();
-		return loop( entries, (entry, integer) -> {
-					final int entryCount = counter[0];
+		return mutationExecutor
+				.executeReactiveRows( entries, (entry, entryCount) -> {
 					if ( entryChecker == null || entryChecker.include( entry, entryCount, collection, pluralAttribute ) ) {
 						// if the entry is included, perform the "insert"
 						insertRowValues.applyValues( collection, id, entry, entryCount, session, jdbcValueBindings );
-						return mutationExecutor
-								.executeReactive( entry, null, null, null, session )
-								.thenAccept( o -> counter[0]++ );
+						counter[0]++;
+						return true;
 					}
-					counter[0]++;
-					return voidFuture();
-				} )
+					return false;
+				}, session )
 				.thenAccept( unused -> MODEL_MUTATION_LOGGER.debugf( "Done inserting `%s` collection rows : %s", counter[0], mutationTarget.getRolePath() ) )
 				.whenComplete( (unused, throwable) -> mutationExecutor.release() );
 	}
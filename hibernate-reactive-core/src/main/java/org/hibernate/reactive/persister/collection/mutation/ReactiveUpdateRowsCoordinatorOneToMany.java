@@ -28,7 +28,6 @@
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.hibernate.reactive.logging.impl.LoggerFactory.make;
-import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.zeroFuture;
 import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
@@ -92,21 +91,20 @@ private CompletionStage<Integer> insertRows(Object key, PersistentCollection<?>
 
 		final int[] entryPosition = { -1 };
 		return voidFuture()
-				.thenApply( unused -> {
+				.thenCompose( unused -> {
 					final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
 					final Iterator<?> entries = collection.entries( collectionDescriptor );
 
-					return loop( entries, (entry, integer) -> {
-						entryPosition[0]++;
-						if ( !collection.needsUpdating( entry, entryPosition[0], attributeMapping ) ) {
-							return voidFuture();
+					return mutationExecutor.executeReactiveRows( entries, (entry, position) -> {
+						entryPosition[0] = position;
+						if ( !collection.needsUpdating( entry, position, attributeMapping ) ) {
+							return false;
 						}
 
 						rowMutationOperations.getInsertRowValues()
-								.applyValues( collection, key, entry, entryPosition[0], session, jdbcValueBindings );
-
-						return mutationExecutor.executeReactive( entry, null, null, null, session );
-					} );
+								.applyValues( collection, key, entry, position, session, jdbcValueBindings );
+						return true;
+					}, session );
 				} )
 				.whenComplete( (o, throwable) -> mutationExecutor.release() )
 				.thenApply( unused -> entryPosition[0] );
@@ -129,23 +127,20 @@ private CompletionStage<Void> deleteRows(
 		final CollectionPersister collectionDescriptor = attributeMapping.getCollectionDescriptor();
 		final ReactiveMutationExecutor mutationExecutor = reactiveMutationExecutor( session, operationGroup, this::getDeleteBatchKey );
 
-		final int[] entryPosition = { -1 };
 		return voidFuture()
-				.thenApply( unused -> {
+				.thenCompose( unused -> {
 					final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
 					final Iterator<?> entries = collection.entries( collectionDescriptor );
 
-					return loop( entries, (entry, integer) -> {
-						entryPosition[0]++;
-						if ( !collection.needsUpdating( entry, entryPosition[0], attributeMapping ) ) {
-							return voidFuture();
+					return mutationExecutor.executeReactiveRows( entries, (entry, position) -> {
+						if ( !collection.needsUpdating( entry, position, attributeMapping ) ) {
+							return false;
 						}
 
 						rowMutationOperations.getDeleteRowRestrictions()
-								.applyRestrictions( collection, key, entry, entryPosition[0], session, jdbcValueBindings );
-
-						return mutationExecutor.executeReactive( entry, null, null, null, session );
-					} );
+								.applyRestrictions( collection, key, entry, position, session, jdbcValueBindings );
+						return true;
+					}, session );
 				} )
 				.whenComplete( (o, throwable) -> mutationExecutor.release() )
 				.thenCompose( CompletionStages::voidFuture );
@@ -6,6 +6,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
@@ -23,12 +24,9 @@
 import org.hibernate.reactive.engine.jdbc.env.internal.ReactiveMutationExecutor;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
-import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.sql.model.MutationOperationGroup;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
-import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
-import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
 
 /**
@@ -76,37 +74,34 @@ private CompletionStage<Integer> doReactiveUpdate(Object key, PersistentCollecti
 							elements.add( entries.next() );
 						}
 
-						return loop( 0, elements.size(), index -> {
-							final int i = elements.size() - index - 1;
-							final Object entry = elements.get( i );
-							return processRow( key, collection, entry, i, mutationExecutor, session )
-									.thenAccept( updated -> {
-										if ( updated ) {
-											counter[0]++;
-										}
-									} );
-						} ).thenApply( unused -> counter[0] );
+						Collections.reverse( elements );
+						final int last = elements.size() - 1;
+						return mutationExecutor
+								.executeReactiveRows( elements.iterator(), (entry, index) -> {
+									final boolean updated = bindRow( key, collection, entry, last - index, mutationExecutor, session );
+									if ( updated ) {
+										counter[0]++;
+									}
+									return updated;
+								}, session )
+								.thenApply( unused -> counter[0] );
 					}
 					else {
-						final int[] position = { 0 };
-						return loop( entries, (entry, integer) -> processRow(
-								key,
-								collection,
-								entry,
-								position[0]++,
-								mutationExecutor,
-								session
-						).thenAccept( updated -> {
-							if ( updated ) {
-								counter[0]++;
-							}
-						} ) ).thenApply( unused -> counter[0] );
+						return mutationExecutor
+								.executeReactiveRows( entries, (entry, position) -> {
+									final boolean updated = bindRow( key, collection, entry, position, mutationExecutor, session );
+									if ( updated ) {
+										counter[0]++;
+									}
+									return updated;
+								}, session )
+								.thenApply( unused -> counter[0] );
 					}
 				} )
 				.whenComplete( (o, throwable) -> mutationExecutor.release() );
 	}
 
-	private CompletionStage<Boolean> processRow(
+	private boolean bindRow(
 			Object key,
 			PersistentCollection<?> collection,
 			Object entry,
@@ -115,7 +110,7 @@ private CompletionStage<Boolean> processRow(
 			SharedSessionContractImplementor session) {
 		final PluralAttributeMapping attribute = getMutationTarget().getTargetPart();
 		if ( !collection.needsUpdating( entry, entryPosition, attribute ) ) {
-			return falseFuture();
+			return false;
 		}
 
 		rowMutationOperations.getUpdateRowValues()
@@ -129,13 +124,7 @@ private CompletionStage<Boolean> processRow(
 				session,
 				mutationExecutor.getJdbcValueBindings()
 		);
-
-		return mutationExecutor.executeReactive( collection, null, null, null, session )
-				.thenCompose( ReactiveUpdateRowsCoordinatorStandard::alwaysTrue );
-	}
-
-	private static CompletionStage<Boolean> alwaysTrue(Object ignore) {
-		return CompletionStages.trueFuture();
+		return true;
 	}
 
 	private ReactiveMutationExecutor reactiveMutationExecutor(
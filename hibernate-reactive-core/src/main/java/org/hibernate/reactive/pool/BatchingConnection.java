@@ -6,15 +6,20 @@
 
 
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.pool.impl.MultiRowInsertRewriter;
 
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.IntFunction;
 
 
 import io.vertx.sqlclient.spi.DatabaseMetadata;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.supplyStage;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -29,21 +34,56 @@
  * and the {@link org.hibernate.engine.jdbc.batch.spi.Batch} interface.
  * However, the model used there is not easily adaptable to the reactive
  * paradigm.
+ * <p>
+ * A change of SQL doesn't trigger the execution of the pending batch:
+ * instead, a new batch is queued after it. The queued batches are only
+ * executed when a statement that can't be batched is issued, or when
+ * {@link #executeBatch()} is called. They are then sent to the database
+ * together, in the order they were queued, using
+ * {@link ReactiveConnection#updateBatchPipelined(List, List)}.
+ * <p>
+ * The statements passed to {@link #updatePipelined(List, List, boolean, List)}
+ * with batching allowed are queued in the same way, even when they can't
+ * be grouped with the others. This way, all the statements of a flush are
+ * sent to the database together, and the expectations on their row counts
+ * are only verified once all of them have completed: a stale update fails
+ * the flush, but doesn't prevent the execution of the following statements.
+ * <p>
+ * A statement is never moved ahead of a statement that was issued
+ * before it with a different SQL string: this connection doesn't know
+ * the dependencies between the rows (foreign keys, for example), so
+ * the order of execution must be the order chosen by the caller.
+ * <p>
+ * If a {@link MultiRowInsertRewriter} is given, batches of inserts are
+ * executed as statements inserting several rows at once.
+ * <p>
+ * Inserts returning generated values, for example identity columns,
+ * are usually executed immediately, because the caller needs the
+ * generated values. They can be batched explicitly using
+ * {@link #insertWithGeneratedValuesBatch(int, IntFunction)}.
  *
  * @author Gavin King
  */
 public class BatchingConnection implements ReactiveConnection {
 
 	private final ReactiveConnection delegate;
+	private final MultiRowInsertRewriter insertRewriter;
 	private int batchSize;
 
-	private String batchedSql;
-	private Expectation batchedExpectation;
-	private List<Object[]> batchParamValues;
+	private final List<PendingBatch> pendingBatches = new ArrayList<>();
+
+	// The batch collecting the inserts returning generated values, if any
+	private GeneratedValuesBatch generatedValuesBatch;
+	private CompletionStage<Void> lastGeneratedValuesBatch = voidFuture();
 
 	public BatchingConnection(ReactiveConnection delegate, int batchSize) {
+		this( delegate, batchSize, null );
+	}
+
+	public BatchingConnection(ReactiveConnection delegate, int batchSize, MultiRowInsertRewriter insertRewriter) {
 		this.delegate = delegate;
 		this.batchSize = batchSize;
+		this.insertRewriter = insertRewriter;
 	}
 
 	@Override
@@ -72,28 +112,98 @@ public ReactiveConnection withBatchSize(int batchSize) {
 		}
 	}
 
+	/**
+	 * Insert the given number of rows, executing the inserts returning generated
+	 * values as a single batch.
+	 * <p>
+	 * The given function starts the insert of the row at the given index, and is
+	 * called for each row, in order. The statements it issues with
+	 * {@link #executeAndSelectGeneratedValues(String, Object[], List, List)} are
+	 * collected, and executed together once the insert of every row has either
+	 * issued its statement or completed without one. An insert may issue its
+	 * statement asynchronously, for example after generating a value, but it must
+	 * not depend on the generated values of the other rows. A statement with a
+	 * different SQL string than the first one collected is executed on its own.
+	 * <p>
+	 * The pending batches are executed before the inserts start. Only one batch
+	 * of inserts is collected at a time: a call made while another batch is
+	 * being collected waits for it to complete.
+	 *
+	 * @param rowCount the number of rows to insert
+	 * @param insert a function starting the insert of the row at the given index
+	 *
+	 * @return a stage completing when all the rows have been inserted
+	 */
+	public CompletionStage<Void> insertWithGeneratedValuesBatch(int rowCount, IntFunction<CompletionStage<?>> insert) {
+		final CompletionStage<Void> stage = lastGeneratedValuesBatch
+				// Don't fail because the previous batch failed
+				.handle( (v, throwable) -> null )
+				// The pending statements might be needed by the inserts
+				.thenCompose( v -> executeBatch() )
+				.thenCompose( v -> collectGeneratedValuesBatch( rowCount, insert ) );
+		lastGeneratedValuesBatch = stage;
+		return stage;
+	}
+
+	private CompletionStage<Void> collectGeneratedValuesBatch(int rowCount, IntFunction<CompletionStage<?>> insert) {
+		final GeneratedValuesBatch batch = new GeneratedValuesBatch( rowCount );
+		generatedValuesBatch = batch;
+		final List<CompletionStage<?>> inserts = new ArrayList<>( rowCount );
+		for ( int i = 0; i < rowCount; i++ ) {
+			final int row = i;
+			final CompletionStage<?> stage = supplyStage( () -> insert.apply( row ) );
+			// An insert that completes before the batch is executed didn't add its statement to it
+			stage.whenComplete( (result, throwable) -> arrived( batch ) );
+			inserts.add( stage );
+		}
+		// In case every insert has completed without adding a statement
+		executeIfComplete( batch );
+		return loop( inserts, stage -> stage );
+	}
+
+	private void arrived(GeneratedValuesBatch batch) {
+		if ( !batch.executed ) {
+			batch.arrived++;
+			executeIfComplete( batch );
+		}
+	}
+
+	private void executeIfComplete(GeneratedValuesBatch batch) {
+		if ( !batch.executed && batch.arrived == batch.rowCount ) {
+			batch.executed = true;
+			if ( generatedValuesBatch == batch ) {
+				generatedValuesBatch = null;
+			}
+			batch.execute( delegate );
+		}
+	}
+
 	@Override
 	public CompletionStage<Void> executeBatch() {
 		if ( !hasBatch() ) {
 			return voidFuture();
 		}
 		else {
-			String sql = batchedSql;
-			Expectation expectation = batchedExpectation;
-			List<Object[]> paramValues = batchParamValues;
-			batchedSql = null;
-			batchParamValues = null;
-			batchedExpectation = null;
+			final List<PendingBatch> batches = new ArrayList<>( pendingBatches );
+			pendingBatches.clear();
 
-			if ( paramValues.size() == 1 ) {
-				return update( sql, paramValues.get( 0 ) )
-						.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+			if ( batches.size() == 1 && batches.get( 0 ).paramValues.size() == 1 ) {
+				final PendingBatch batch = batches.get( 0 );
+				return delegate.update( batch.sql, batch.paramValues.get( 0 ) )
+						.thenAccept( rowCount -> batch.expectation.verifyOutcome( rowCount, -1, batch.sql ) );
 			}
 			else {
-				return update( sql, paramValues )
+				final List<String> sql = new ArrayList<>( batches.size() );
+				final List<List<Object[]>> paramValues = new ArrayList<>( batches.size() );
+				for ( PendingBatch batch : batches ) {
+					batch.rewrite( insertRewriter );
+					batch.addStatements( sql, paramValues );
+				}
+				return delegate.updateBatchPipelined( sql, paramValues )
 						.thenAccept( rowCounts -> {
-							for ( int i = 0; i < rowCounts.length; i++ ) {
-								expectation.verifyOutcome( rowCounts[i], i, sql );
+							int statement = 0;
+							for ( PendingBatch batch : batches ) {
+								statement = batch.verifyOutcome( rowCounts, statement );
 							}
 						} );
 			}
@@ -105,35 +215,163 @@ public CompletionStage<Void> update(
 			String sql, Object[] paramValues,
 			boolean allowBatching, Expectation expectation) {
 		if ( allowBatching && batchSize > 0 ) {
-			if ( !hasBatch() ) {
-				newBatch( sql, paramValues, expectation );
-				return voidFuture();
-			}
-			else {
-				if ( batchedSql.equals( sql ) && batchParamValues.size() < batchSize ) {
-					batchParamValues.add( paramValues );
+			if ( hasBatch() ) {
+				final PendingBatch lastBatch = pendingBatches.get( pendingBatches.size() - 1 );
+				if ( lastBatch.sql.equals( sql ) && lastBatch.paramValues.size() < batchSize ) {
+					lastBatch.paramValues.add( paramValues );
 					return voidFuture();
 				}
-				else {
+				else if ( pendingBatches.size() >= batchSize ) {
+					// Don't keep an unbounded number of statements in memory
 					return executeBatch()
 							.thenAccept( v -> newBatch( sql, paramValues, expectation ) );
 				}
 			}
+			newBatch( sql, paramValues, expectation );
+			return voidFuture();
 		}
 		else {
-			return delegate.update( sql, paramValues, false, expectation );
+			return hasBatch()
+					? executeBatch().thenCompose( v -> delegate.update( sql, paramValues, false, expectation ) )
+					: delegate.update( sql, paramValues, false, expectation );
 		}
 	}
 
 	private void newBatch(String sql, Object[] paramValues, Expectation expectation) {
-		batchedSql = sql;
-		batchedExpectation = expectation;
-		batchParamValues = new ArrayList<>();
-		batchParamValues.add( paramValues );
+		pendingBatches.add( new PendingBatch( sql, paramValues, expectation ) );
 	}
 
 	private boolean hasBatch() {
-		return batchedSql != null;
+		return !pendingBatches.isEmpty();
+	}
+
+	/**
+	 * The inserts returning generated values of the rows passed to
+	 * {@link #insertWithGeneratedValuesBatch(int, IntFunction)}
+	 */
+	private static class GeneratedValuesBatch {
+		private final int rowCount;
+		private final List<Object[]> paramValues = new ArrayList<>();
+		private final List<CompletableFuture<ResultSet>> results = new ArrayList<>();
+		private String sql;
+		private List<Class<?>> generatedValueClasses;
+		private List<String> generatedColumnNames;
+		// The number of rows whose insert has added its statement, or has completed without one
+		private int arrived;
+		private boolean executed;
+
+		GeneratedValuesBatch(int rowCount) {
+			this.rowCount = rowCount;
+		}
+
+		boolean accepts(String sql) {
+			return this.sql == null || this.sql.equals( sql );
+		}
+
+		CompletionStage<ResultSet> add(
+				String sql,
+				Object[] rowParamValues,
+				List<Class<?>> generatedValueClasses,
+				List<String> generatedColumnNames) {
+			if ( this.sql == null ) {
+				this.sql = sql;
+				this.generatedValueClasses = generatedValueClasses;
+				this.generatedColumnNames = generatedColumnNames;
+			}
+			final CompletableFuture<ResultSet> result = new CompletableFuture<>();
+			paramValues.add( rowParamValues );
+			results.add( result );
+			arrived++;
+			return result;
+		}
+
+		/**
+		 * Execute the statements, the failure is reported to each insert
+		 */
+		void execute(ReactiveConnection connection) {
+			if ( paramValues.isEmpty() ) {
+				return;
+			}
+			final CompletionStage<List<ResultSet>> stage = paramValues.size() == 1
+					? connection.executeAndSelectGeneratedValues( sql, paramValues.get( 0 ), generatedValueClasses, generatedColumnNames )
+							.thenApply( List::of )
+					: connection.executeBatchAndSelectGeneratedValues( sql, paramValues, generatedValueClasses, generatedColumnNames );
+			stage.whenComplete( (resultSets, throwable) -> {
+				for ( int i = 0; i < results.size(); i++ ) {
+					if ( throwable == null ) {
+						results.get( i ).complete( resultSets.get( i ) );
+					}
+					else {
+						results.get( i ).completeExceptionally( throwable );
+					}
+				}
+			} );
+		}
+	}
+
+	private static class PendingBatch {
+		private final String sql;
+		private final Expectation expectation;
+		private final List<Object[]> paramValues = new ArrayList<>();
+		private List<MultiRowInsertRewriter.Chunk> chunks;
+
+		PendingBatch(String sql, Object[] paramValues, Expectation expectation) {
+			this.sql = sql;
+			this.expectation = expectation;
+			this.paramValues.add( paramValues );
+		}
+
+		void rewrite(MultiRowInsertRewriter insertRewriter) {
+			if ( insertRewriter != null ) {
+				chunks = insertRewriter.rewrite( sql, paramValues );
+			}
+		}
+
+		/**
+		 * Add the statements to execute for this batch
+		 */
+		void addStatements(List<String> sqls, List<List<Object[]>> batchParamValues) {
+			if ( chunks == null ) {
+				sqls.add( sql );
+				batchParamValues.add( paramValues );
+			}
+			else {
+				for ( MultiRowInsertRewriter.Chunk chunk : chunks ) {
+					sqls.add( chunk.sql() );
+					batchParamValues.add( List.<Object[]>of( chunk.paramValues() ) );
+				}
+			}
+		}
+
+		/**
+		 * Verify the row counts of the statements of this batch, starting at the given position
+		 *
+		 * @return the position of the first statement of the next batch
+		 */
+		int verifyOutcome(List<int[]> statementsRowCounts, int position) {
+			final int[] rowCounts;
+			if ( chunks == null ) {
+				rowCounts = statementsRowCounts.get( position++ );
+			}
+			else {
+				rowCounts = new int[paramValues.size()];
+				int offset = 0;
+				for ( MultiRowInsertRewriter.Chunk chunk : chunks ) {
+					chunk.splitRowCount( statementsRowCounts.get( position++ )[0], rowCounts, offset );
+					offset += chunk.rowCount();
+				}
+			}
+
+			if ( paramValues.size() == 1 ) {
+				expectation.verifyOutcome( rowCounts[0], -1, sql );
+			}
+			else {
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					expectation.verifyOutcome( rowCounts[i], i, sql );
+				}
+			}
+			return position;
+		}
 	}
 
 	@Override
@@ -194,11 +432,28 @@ public CompletionStage<ResultSet> executeAndSelectGeneratedValues(
 			Object[] paramValues,
 			List<Class<?>> idClasses,
 			List<String> generatedColumnNames) {
+		final GeneratedValuesBatch batch = generatedValuesBatch;
+		if ( batch != null && batch.accepts( sql ) ) {
+			final CompletionStage<ResultSet> result = batch.add( sql, paramValues, idClasses, generatedColumnNames );
+			executeIfComplete( batch );
+			return result;
+		}
 		return hasBatch()
 				? executeBatch().thenCompose( v -> delegate.executeAndSelectGeneratedValues( sql, paramValues, idClasses, generatedColumnNames ) )
 				: delegate.executeAndSelectGeneratedValues( sql, paramValues, idClasses, generatedColumnNames );
 	}
 
+	@Override
+	public CompletionStage<List<ResultSet>> executeBatchAndSelectGeneratedValues(
+			String sql,
+			List<Object[]> paramValues,
+			List<Class<?>> idClasses,
+			List<String> generatedColumnNames) {
+		return hasBatch()
+				? executeBatch().thenCompose( v -> delegate.executeBatchAndSelectGeneratedValues( sql, paramValues, idClasses, generatedColumnNames ) )
+				: delegate.executeBatchAndSelectGeneratedValues( sql, paramValues, idClasses, generatedColumnNames );
+	}
+
 	@Override
 	public CompletionStage<ReactiveConnection.Result> select(String sql) {
 		return hasBatch()
@@ -227,6 +482,41 @@ public CompletionStage<ResultSet> selectJdbc(String sql) {
 				: delegate.selectJdbc( sql );
 	}
 
+	@Override
+	public CompletionStage<int[]> updatePipelined(List<String> sql, List<Object[]> paramValues) {
+		return hasBatch()
+				? executeBatch().thenCompose( v -> delegate.updatePipelined( sql, paramValues ) )
+				: delegate.updatePipelined( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Void> updatePipelined(
+			List<String> sql,
+			List<Object[]> paramValues,
+			boolean allowBatching,
+			List<Expectation> expectations) {
+		if ( allowBatching && batchSize > 0 ) {
+			return loop( 0, sql.size(), i -> update( sql.get( i ), paramValues.get( i ), true, expectations.get( i ) ) );
+		}
+		return hasBatch()
+				? executeBatch().thenCompose( v -> delegate.updatePipelined( sql, paramValues, false, expectations ) )
+				: delegate.updatePipelined( sql, paramValues, false, expectations );
+	}
+
+	@Override
+	public CompletionStage<List<int[]>> updateBatchPipelined(List<String> sql, List<List<Object[]>> batchParamValues) {
+		return hasBatch()
+				? executeBatch().thenCompose( v -> delegate.updateBatchPipelined( sql, batchParamValues ) )
+				: delegate.updateBatchPipelined( sql, batchParamValues );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		return hasBatch()
+				? executeBatch().thenCompose( v -> delegate.selectJdbcCursor( sql, paramValues ) )
+				: delegate.selectJdbcCursor( sql, paramValues );
+	}
+
 	@Override
 	public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
 		// Do not want to execute the batch here
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import java.util.function.IntSupplier;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+/**
+ * A Hibernate {@link Service} notified of the events of the lifecycle
+ * of the connections obtained from the {@link ReactiveConnectionPool}.
+ * <p>
+ * A custom implementation, for example one reporting to an external
+ * metrics library, may be selected by setting the configuration property
+ * {@link org.hibernate.reactive.provider.Settings#POOL_METRICS}.
+ * <p>
+ * All durations are expressed in nanoseconds. Implementations must be
+ * thread-safe.
+ *
+ * @see org.hibernate.reactive.pool.impl.DefaultPoolMetrics the default implementation
+ */
+@Incubating
+public interface PoolMetrics extends Service {
+
+	/**
+	 * A request for a connection has been sent to the pool
+	 */
+	void connectionAcquireStarted();
+
+	/**
+	 * A connection has been obtained from the pool
+	 *
+	 * @param acquireTime the time spent waiting for the connection
+	 */
+	void connectionAcquired(long acquireTime);
+
+	/**
+	 * The pool failed to provide a connection
+	 *
+	 * @param acquireTime the time spent waiting before the failure
+	 */
+	void connectionAcquireFailed(long acquireTime);
+
+	/**
+	 * The first statement is about to be executed on a connection
+	 *
+	 * @param timeSinceAcquired the time since the connection was obtained
+	 */
+	void firstStatementExecuted(long timeSinceAcquired);
+
+	/**
+	 * A connection has been closed and returned to the pool
+	 *
+	 * @param timeSinceAcquired the time since the connection was obtained
+	 */
+	void connectionReleased(long timeSinceAcquired);
+
+	/**
+	 * @return true if {@link #statementExecuted} must be called after the
+	 * execution of each statement. When false, statements are not timed.
+	 */
+	default boolean isStatementMetricsEnabled() {
+		return false;
+	}
+
+	/**
+	 * A statement has been executed successfully
+	 *
+	 * @param sql the SQL statement
+	 * @param executionTime the time from sending the statement to receiving the result
+	 * @param rowCount the number of rows affected or returned
+	 * @param batchSize the number of sets of parameters the statement was executed with
+	 */
+	default void statementExecuted(String sql, long executionTime, int rowCount, int batchSize) {
+	}
+
+	/**
+	 * Called by pools able to report the number of open connections,
+	 * both idle and in use.
+	 *
+	 * @param openConnectionCount supplies the current number of open connections
+	 */
+	default void registerOpenConnectionCount(IntSupplier openConnectionCount) {
+	}
+
+	/**
+	 * @return the metrics collected so far
+	 */
+	PoolStatistics getStatistics();
+}
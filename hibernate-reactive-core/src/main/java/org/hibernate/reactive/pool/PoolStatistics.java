@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import java.util.Map;
+
+import org.hibernate.Incubating;
+
+/**
+ * Metrics about the reactive connection pool, useful to tell whether
+ * time is spent waiting for a connection or executing statements.
+ * <p>
+ * All durations are expressed in microseconds.
+ *
+ * @see PoolMetrics
+ * @see org.hibernate.reactive.mutiny.Mutiny.SessionFactory#getPoolStatistics()
+ * @see org.hibernate.reactive.stage.Stage.SessionFactory#getPoolStatistics()
+ */
+@Incubating
+public interface PoolStatistics {
+
+	/**
+	 * The upper bounds, in microseconds, of the buckets of the
+	 * {@linkplain #getConnectionAcquireTimeHistogram() acquire time histogram}.
+	 * The last bucket of the histogram has no upper bound.
+	 */
+	long[] HISTOGRAM_BOUNDS = { 100, 500, 1_000, 5_000, 10_000, 50_000, 100_000, 500_000, 1_000_000 };
+
+	/**
+	 * The number of connections obtained from the pool
+	 */
+	long getConnectionAcquireCount();
+
+	/**
+	 * The number of failed attempts to obtain a connection from the pool
+	 */
+	long getConnectionAcquireFailureCount();
+
+	/**
+	 * The total time spent waiting for a connection
+	 */
+	long getConnectionAcquireTimeTotal();
+
+	/**
+	 * The longest time spent waiting for a connection
+	 */
+	long getConnectionAcquireTimeMax();
+
+	/**
+	 * The number of connections acquired within each of the
+	 * {@link #HISTOGRAM_BOUNDS}, plus one final bucket for the
+	 * connections that took longer than the last bound.
+	 */
+	long[] getConnectionAcquireTimeHistogram();
+
+	/**
+	 * The number of requests currently waiting for a connection
+	 */
+	int getPendingAcquireCount();
+
+	/**
+	 * The highest number of requests waiting for a connection
+	 * at the same time
+	 */
+	int getPendingAcquireCountMax();
+
+	/**
+	 * The number of connections currently in use
+	 */
+	int getActiveConnectionCount();
+
+	/**
+	 * The number of open connections not currently in use,
+	 * or {@code -1} if the pool doesn't report its size
+	 */
+	int getIdleConnectionCount();
+
+	/**
+	 * The number of connections returned to the pool
+	 */
+	long getConnectionReleaseCount();
+
+	/**
+	 * The total time connections were in use, from the moment
+	 * they were obtained from the pool to when they were returned
+	 */
+	long getConnectionUsageTimeTotal();
+
+	/**
+	 * The longest time a connection was in use
+	 */
+	long getConnectionUsageTimeMax();
+
+	/**
+	 * The number of connections that executed at least one statement
+	 */
+	long getFirstStatementCount();
+
+	/**
+	 * The total time between obtaining a connection and executing
+	 * its first statement
+	 */
+	long getTimeToFirstStatementTotal();
+
+	/**
+	 * The longest time between obtaining a connection and executing
+	 * its first statement
+	 */
+	long getTimeToFirstStatementMax();
+
+	/**
+	 * The metrics of each statement executed, by SQL, if enabled with
+	 * {@link org.hibernate.reactive.provider.Settings#STATEMENT_STATISTICS_MAX_SIZE}.
+	 * Only the most executed statements are kept.
+	 */
+	Map<String, StatementStatistics> getStatementStatistics();
+
+	/**
+	 * Reset the collected metrics, except for the gauges
+	 */
+	void clear();
+}
@@ -70,6 +70,55 @@ interface Expectation {
 
 	CompletionStage<int[]> update(String sql, List<Object[]> paramValues);
 
+	/**
+	 * Execute several independent update statements, in the given order,
+	 * without waiting for the outcome of a statement before sending the
+	 * next one to the database.
+	 * <p>
+	 * The statements are still executed by the database in the order they
+	 * are given, but none of them can depend on a value generated by a
+	 * previous one. If one of the statements fails, the returned stage
+	 * completes with the first failure, after all statements have completed.
+	 *
+	 * @param sql the SQL of each statement
+	 * @param paramValues the parameters of each statement
+	 *
+	 * @return the row counts, in the same order as the statements
+	 */
+	CompletionStage<int[]> updatePipelined(List<String> sql, List<Object[]> paramValues);
+
+	/**
+	 * Execute several independent update statements, like
+	 * {@link #updatePipelined(List, List)}, and verify the row count of
+	 * each statement with the given expectation once all of them have
+	 * completed. A failed expectation doesn't prevent the execution of
+	 * the following statements: it's up to the caller to roll back the
+	 * transaction.
+	 * <p>
+	 * If batching is allowed, a connection performing write-behind may
+	 * queue the statements with the other pending statements, and send
+	 * all of them to the database when {@link #executeBatch()} is called.
+	 *
+	 * @param sql the SQL of each statement
+	 * @param paramValues the parameters of each statement
+	 * @param allowBatching if the statements can be executed later
+	 * @param expectations the expectation on the row count of each statement
+	 */
+	CompletionStage<Void> updatePipelined(List<String> sql, List<Object[]> paramValues, boolean allowBatching, List<Expectation> expectations);
+
+	/**
+	 * Execute several batches, in the given order, without waiting for the
+	 * outcome of a batch before sending the next one to the database.
+	 *
+	 * @param sql the SQL of each batch
+	 * @param batchParamValues the parameters of each row of each batch
+	 *
+	 * @return the row counts of each batch, in the same order as the batches
+	 *
+	 * @see #updatePipelined(List, List)
+	 */
+	CompletionStage<List<int[]>> updateBatchPipelined(List<String> sql, List<List<Object[]>> batchParamValues);
+
 	CompletionStage<Result> select(String sql);
 
 	CompletionStage<Result> select(String sql, Object[] paramValues);
@@ -91,14 +140,53 @@ interface Expectation {
 
 	CompletionStage<ResultSet> selectJdbc(String sql);
 
+	/**
+	 * Open a database cursor for the given query. Rows are then read
+	 * from the cursor a chunk at a time via {@link Cursor#read(int)}.
+	 * <p>
+	 * Some databases (for example, PostgreSQL) only support cursors
+	 * inside a transaction.
+	 */
+	CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues);
+
 	CompletionStage<ResultSet> executeAndSelectGeneratedValues(String sql, Object[] paramValues, List<Class<?>> idClass, List<String> generatedColumnName);
 
+	/**
+	 * Execute the statement as a batch, and return the generated values of each row
+	 *
+	 * @return the generated values, in the same order as the parameters
+	 *
+	 * @see #executeAndSelectGeneratedValues(String, Object[], List, List)
+	 */
+	CompletionStage<List<ResultSet>> executeBatchAndSelectGeneratedValues(String sql, List<Object[]> paramValues, List<Class<?>> idClass, List<String> generatedColumnName);
+
 	<T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass);
 
 	interface Result extends Iterator<Object[]> {
 		int size();
 	}
 
+	/**
+	 * A cursor over the results of a query opened with
+	 * {@link #selectJdbcCursor(String, Object[])}.
+	 */
+	interface Cursor {
+		/**
+		 * Read at most {@code count} rows from the cursor.
+		 */
+		CompletionStage<ResultSet> read(int count);
+
+		/**
+		 * @return {@code true} if there are still rows to read
+		 */
+		boolean hasMore();
+
+		/**
+		 * Release the cursor and the underlying prepared statement.
+		 */
+		CompletionStage<Void> close();
+	}
+
 	CompletionStage<Void> beginTransaction();
 
 	CompletionStage<Void> commitTransaction();
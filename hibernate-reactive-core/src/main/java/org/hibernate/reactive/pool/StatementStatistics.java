@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import org.hibernate.Incubating;
+
+/**
+ * Aggregated metrics about the executions of a SQL statement.
+ * <p>
+ * All durations are expressed in microseconds.
+ *
+ * @see PoolStatistics#getStatementStatistics()
+ */
+@Incubating
+public interface StatementStatistics {
+
+	/**
+	 * The SQL statement
+	 */
+	String getSql();
+
+	/**
+	 * The number of successful executions of the statement
+	 */
+	long getExecutionCount();
+
+	/**
+	 * The total number of rows affected or returned by the statement
+	 */
+	long getRowCount();
+
+	/**
+	 * The total time spent executing the statement
+	 */
+	long getExecutionTimeTotal();
+
+	/**
+	 * The longest execution of the statement
+	 */
+	long getExecutionTimeMax();
+
+	/**
+	 * An approximation, by excess, of the 95th percentile of
+	 * the execution time of the statement
+	 */
+	long getExecutionTimeP95();
+}
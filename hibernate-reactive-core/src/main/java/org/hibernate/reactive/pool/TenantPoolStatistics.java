@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import org.hibernate.Incubating;
+
+/**
+ * Metrics about the connections obtained from the pool of a tenant.
+ * The metrics are discarded when the pool of the tenant is closed.
+ * <p>
+ * All durations are expressed in microseconds.
+ *
+ * @see org.hibernate.reactive.pool.impl.TenantSqlClientPool#getTenantPoolStatistics()
+ */
+@Incubating
+public interface TenantPoolStatistics {
+
+	/**
+	 * The id of the tenant
+	 */
+	String getTenantId();
+
+	/**
+	 * The maximum number of connections of the pool of the tenant
+	 */
+	int getMaxSize();
+
+	/**
+	 * The number of connections obtained from the pool
+	 */
+	long getConnectionAcquireCount();
+
+	/**
+	 * The number of failed attempts to obtain a connection from the pool
+	 */
+	long getConnectionAcquireFailureCount();
+
+	/**
+	 * The total time spent waiting for a connection
+	 */
+	long getConnectionAcquireTimeTotal();
+
+	/**
+	 * The longest time spent waiting for a connection
+	 */
+	long getConnectionAcquireTimeMax();
+
+	/**
+	 * The number of connections currently in use
+	 */
+	int getActiveConnectionCount();
+
+	/**
+	 * The number of open connections, both idle and in use
+	 */
+	int getOpenConnectionCount();
+}
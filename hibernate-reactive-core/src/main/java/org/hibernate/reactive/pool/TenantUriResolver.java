@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import java.net.URI;
+
+import org.hibernate.Incubating;
+
+/**
+ * Determines the database URI of a tenant, for the pools created by
+ * the {@link org.hibernate.reactive.pool.impl.TenantSqlClientPool}.
+ * <p>
+ * A custom implementation may be selected by setting the configuration
+ * property {@link org.hibernate.reactive.provider.Settings#TENANT_URI_RESOLVER}.
+ * Implementations must be thread-safe.
+ */
+@Incubating
+@FunctionalInterface
+public interface TenantUriResolver {
+
+	/**
+	 * @param tenantId the id of the tenant
+	 * @param uri the database URI specified by {@code jakarta.persistence.jdbc.url}
+	 *
+	 * @return the database URI for the tenant
+	 */
+	URI resolve(String tenantId, URI uri);
+}
@@ -0,0 +1,352 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.PoolMetrics;
+import org.hibernate.reactive.pool.PoolStatistics;
+import org.hibernate.reactive.pool.StatementStatistics;
+import org.hibernate.reactive.provider.Settings;
+
+/**
+ * The default {@link PoolMetrics}, keeping the metrics in memory
+ * and exposing them as {@link PoolStatistics}.
+ * <p>
+ * Statements are only timed if {@link Settings#STATEMENT_STATISTICS_MAX_SIZE}
+ * or {@link Settings#LOG_SLOW_STATEMENT} are set.
+ */
+public class DefaultPoolMetrics implements PoolMetrics, PoolStatistics {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final int statementStatisticsMaxSize;
+	private final long slowStatementThreshold;
+	private final Map<String, StatementMetrics> statementMetrics;
+
+	private final LongAdder acquireCount = new LongAdder();
+	private final LongAdder acquireFailureCount = new LongAdder();
+	private final LongAdder acquireTimeTotal = new LongAdder();
+	private final AtomicLong acquireTimeMax = new AtomicLong();
+	private final AtomicLongArray acquireTimeHistogram = new AtomicLongArray( HISTOGRAM_BOUNDS.length + 1 );
+
+	private final AtomicInteger pendingAcquireCount = new AtomicInteger();
+	private final AtomicInteger pendingAcquireCountMax = new AtomicInteger();
+	private final AtomicInteger activeConnectionCount = new AtomicInteger();
+
+	private final LongAdder releaseCount = new LongAdder();
+	private final LongAdder usageTimeTotal = new LongAdder();
+	private final AtomicLong usageTimeMax = new AtomicLong();
+
+	private final LongAdder firstStatementCount = new LongAdder();
+	private final LongAdder timeToFirstStatementTotal = new LongAdder();
+	private final AtomicLong timeToFirstStatementMax = new AtomicLong();
+
+	private volatile IntSupplier openConnectionCount;
+
+	public DefaultPoolMetrics() {
+		this( 0, 0 );
+	}
+
+	/**
+	 * @param statementStatisticsMaxSize the maximum number of statements to keep metrics for
+	 * @param slowStatementThreshold the execution time, in milliseconds, above which a statement is logged
+	 */
+	public DefaultPoolMetrics(int statementStatisticsMaxSize, long slowStatementThreshold) {
+		this.statementStatisticsMaxSize = statementStatisticsMaxSize;
+		this.slowStatementThreshold = slowStatementThreshold;
+		this.statementMetrics = statementStatisticsMaxSize > 0 ? new ConcurrentHashMap<>() : Map.of();
+	}
+
+	@Override
+	public void connectionAcquireStarted() {
+		final int pending = pendingAcquireCount.incrementAndGet();
+		pendingAcquireCountMax.accumulateAndGet( pending, Math::max );
+	}
+
+	@Override
+	public void connectionAcquired(long acquireTime) {
+		pendingAcquireCount.decrementAndGet();
+		activeConnectionCount.incrementAndGet();
+		acquireCount.increment();
+		final long micros = TimeUnit.NANOSECONDS.toMicros( acquireTime );
+		acquireTimeTotal.add( micros );
+		acquireTimeMax.accumulateAndGet( micros, Math::max );
+		acquireTimeHistogram.incrementAndGet( bucket( micros ) );
+	}
+
+	@Override
+	public void connectionAcquireFailed(long acquireTime) {
+		pendingAcquireCount.decrementAndGet();
+		acquireFailureCount.increment();
+	}
+
+	@Override
+	public void firstStatementExecuted(long timeSinceAcquired) {
+		firstStatementCount.increment();
+		final long micros = TimeUnit.NANOSECONDS.toMicros( timeSinceAcquired );
+		timeToFirstStatementTotal.add( micros );
+		timeToFirstStatementMax.accumulateAndGet( micros, Math::max );
+	}
+
+	@Override
+	public void connectionReleased(long timeSinceAcquired) {
+		activeConnectionCount.decrementAndGet();
+		releaseCount.increment();
+		final long micros = TimeUnit.NANOSECONDS.toMicros( timeSinceAcquired );
+		usageTimeTotal.add( micros );
+		usageTimeMax.accumulateAndGet( micros, Math::max );
+	}
+
+	@Override
+	public boolean isStatementMetricsEnabled() {
+		return statementStatisticsMaxSize > 0 || slowStatementThreshold > 0;
+	}
+
+	@Override
+	public void statementExecuted(String sql, long executionTime, int rowCount, int batchSize) {
+		if ( slowStatementThreshold > 0 ) {
+			final long millis = TimeUnit.NANOSECONDS.toMillis( executionTime );
+			if ( millis > slowStatementThreshold ) {
+				slowStatementExecuted( millis, rowCount, batchSize, sql );
+			}
+		}
+		if ( statementStatisticsMaxSize > 0 ) {
+			StatementMetrics metrics = statementMetrics.get( sql );
+			if ( metrics == null ) {
+				if ( statementMetrics.size() >= statementStatisticsMaxSize ) {
+					evictLeastExecutedStatement();
+				}
+				metrics = statementMetrics.computeIfAbsent( sql, StatementMetrics::new );
+			}
+			metrics.executed( TimeUnit.NANOSECONDS.toMicros( executionTime ), rowCount );
+		}
+	}
+
+	/**
+	 * A statement took longer than {@link Settings#LOG_SLOW_STATEMENT}
+	 */
+	void slowStatementExecuted(long milliseconds, int rowCount, int batchSize, String sql) {
+		LOG.slowStatement( milliseconds, rowCount, batchSize, sql );
+	}
+
+	/**
+	 * Make room for a new statement. This only happens when a statement is
+	 * executed for the first time and the map is full, so we don't need
+	 * anything smarter than a scan.
+	 */
+	private void evictLeastExecutedStatement() {
+		StatementMetrics leastExecuted = null;
+		for ( StatementMetrics metrics : statementMetrics.values() ) {
+			if ( leastExecuted == null || metrics.getExecutionCount() < leastExecuted.getExecutionCount() ) {
+				leastExecuted = metrics;
+			}
+		}
+		if ( leastExecuted != null ) {
+			statementMetrics.remove( leastExecuted.sql, leastExecuted );
+		}
+	}
+
+	@Override
+	public void registerOpenConnectionCount(IntSupplier openConnectionCount) {
+		this.openConnectionCount = openConnectionCount;
+	}
+
+	@Override
+	public PoolStatistics getStatistics() {
+		return this;
+	}
+
+	private static int bucket(long micros) {
+		for ( int i = 0; i < HISTOGRAM_BOUNDS.length; i++ ) {
+			if ( micros <= HISTOGRAM_BOUNDS[i] ) {
+				return i;
+			}
+		}
+		return HISTOGRAM_BOUNDS.length;
+	}
+
+	@Override
+	public long getConnectionAcquireCount() {
+		return acquireCount.sum();
+	}
+
+	@Override
+	public long getConnectionAcquireFailureCount() {
+		return acquireFailureCount.sum();
+	}
+
+	@Override
+	public long getConnectionAcquireTimeTotal() {
+		return acquireTimeTotal.sum();
+	}
+
+	@Override
+	public long getConnectionAcquireTimeMax() {
+		return acquireTimeMax.get();
+	}
+
+	@Override
+	public long[] getConnectionAcquireTimeHistogram() {
+		final long[] histogram = new long[acquireTimeHistogram.length()];
+		for ( int i = 0; i < histogram.length; i++ ) {
+			histogram[i] = acquireTimeHistogram.get( i );
+		}
+		return histogram;
+	}
+
+	@Override
+	public int getPendingAcquireCount() {
+		return pendingAcquireCount.get();
+	}
+
+	@Override
+	public int getPendingAcquireCountMax() {
+		return pendingAcquireCountMax.get();
+	}
+
+	@Override
+	public int getActiveConnectionCount() {
+		return activeConnectionCount.get();
+	}
+
+	@Override
+	public int getIdleConnectionCount() {
+		final IntSupplier open = openConnectionCount;
+		return open == null ? -1 : Math.max( 0, open.getAsInt() - activeConnectionCount.get() );
+	}
+
+	@Override
+	public long getConnectionReleaseCount() {
+		return releaseCount.sum();
+	}
+
+	@Override
+	public long getConnectionUsageTimeTotal() {
+		return usageTimeTotal.sum();
+	}
+
+	@Override
+	public long getConnectionUsageTimeMax() {
+		return usageTimeMax.get();
+	}
+
+	@Override
+	public long getFirstStatementCount() {
+		return firstStatementCount.sum();
+	}
+
+	@Override
+	public long getTimeToFirstStatementTotal() {
+		return timeToFirstStatementTotal.sum();
+	}
+
+	@Override
+	public long getTimeToFirstStatementMax() {
+		return timeToFirstStatementMax.get();
+	}
+
+	@Override
+	public Map<String, StatementStatistics> getStatementStatistics() {
+		return Map.copyOf( statementMetrics );
+	}
+
+	@Override
+	public void clear() {
+		acquireCount.reset();
+		acquireFailureCount.reset();
+		acquireTimeTotal.reset();
+		acquireTimeMax.set( 0 );
+		for ( int i = 0; i < acquireTimeHistogram.length(); i++ ) {
+			acquireTimeHistogram.set( i, 0 );
+		}
+		pendingAcquireCountMax.set( pendingAcquireCount.get() );
+		releaseCount.reset();
+		usageTimeTotal.reset();
+		usageTimeMax.set( 0 );
+		firstStatementCount.reset();
+		timeToFirstStatementTotal.reset();
+		timeToFirstStatementMax.set( 0 );
+		statementMetrics.clear();
+	}
+
+	private static final class StatementMetrics implements StatementStatistics {
+		// Bucket i counts the executions that took less than 2^i microseconds,
+		// the last one all the executions that took longer
+		private static final int BUCKETS = 32;
+
+		private final String sql;
+		private final LongAdder executionCount = new LongAdder();
+		private final LongAdder rowCount = new LongAdder();
+		private final LongAdder executionTimeTotal = new LongAdder();
+		private final AtomicLong executionTimeMax = new AtomicLong();
+		private final AtomicLongArray histogram = new AtomicLongArray( BUCKETS );
+
+		private StatementMetrics(String sql) {
+			this.sql = sql;
+		}
+
+		void executed(long micros, int rows) {
+			executionCount.increment();
+			rowCount.add( rows );
+			executionTimeTotal.add( micros );
+			executionTimeMax.accumulateAndGet( micros, Math::max );
+			histogram.incrementAndGet( Math.min( BUCKETS - 1, 64 - Long.numberOfLeadingZeros( micros ) ) );
+		}
+
+		@Override
+		public String getSql() {
+			return sql;
+		}
+
+		@Override
+		public long getExecutionCount() {
+			return executionCount.sum();
+		}
+
+		@Override
+		public long getRowCount() {
+			return rowCount.sum();
+		}
+
+		@Override
+		public long getExecutionTimeTotal() {
+			return executionTimeTotal.sum();
+		}
+
+		@Override
+		public long getExecutionTimeMax() {
+			return executionTimeMax.get();
+		}
+
+		@Override
+		public long getExecutionTimeP95() {
+			long total = 0;
+			for ( int i = 0; i < BUCKETS; i++ ) {
+				total += histogram.get( i );
+			}
+			final long threshold = (long) Math.ceil( total * 0.95 );
+			long count = 0;
+			for ( int i = 0; i < BUCKETS - 1; i++ ) {
+				count += histogram.get( i );
+				if ( count >= threshold && count > 0 ) {
+					// The upper bound of the bucket, but never more than the max
+					return Math.min( ( 1L << i ) - 1, getExecutionTimeMax() );
+				}
+			}
+			return getExecutionTimeMax();
+		}
+	}
+}
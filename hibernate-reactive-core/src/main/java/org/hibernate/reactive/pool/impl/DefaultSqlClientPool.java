@@ -12,6 +12,8 @@
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -21,6 +23,7 @@
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.PoolMetrics;
 import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.service.spi.Configurable;
@@ -31,6 +34,7 @@
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
@@ -38,6 +42,8 @@
 import io.vertx.sqlclient.impl.Utils;
 import io.vertx.sqlclient.spi.Driver;
 
+import static java.lang.Math.floorMod;
+
 /**
  * A pool of reactive connections backed by a Vert.x {@link Pool}.
  * The {@code Pool} itself is backed by an instance of {@link Vertx}
@@ -54,6 +60,12 @@
  * destroyed. For cases where the underlying {@code Pool} lifecycle
  * is managed externally to Hibernate, use
  * {@link org.hibernate.reactive.pool.impl.ExternalSqlClientPool}.
+ * <p>
+ * If {@link Settings#POOL_SHARDS} is set, the connections are split
+ * between several {@code Pool}s, and each event loop is assigned one
+ * of them. A connection is obtained from the pool of another event
+ * loop only when all the connections of the assigned pool are in use
+ * and another pool has an idle connection.
  *
  * @see SqlClientPoolConfiguration
  */
@@ -109,8 +121,14 @@ public static VertxDriver findByClassName(String className) {
 	}
 
 	private Pool pools;
+	private int shardCount;
+	// Only used when sharding is enabled
+	private Shard[] shards;
+	private final Map<Object, Shard> shardsByEventLoop = new ConcurrentHashMap<>();
+	private final AtomicInteger nextShard = new AtomicInteger();
 	private SqlStatementLogger sqlStatementLogger;
 	private SqlExceptionHelper sqlExceptionHelper;
+	private PoolMetrics poolMetrics;
 	private URI uri;
 	private ServiceRegistryImplementor serviceRegistry;
 
@@ -124,18 +142,58 @@ public DefaultSqlClientPool() {}
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
 		this.sqlStatementLogger = serviceRegistry.getService( SqlStatementLogger.class );
+		this.poolMetrics = serviceRegistry.getService( PoolMetrics.class );
 	}
 
 	@Override
 	public void configure(Map<String, Object> configuration) {
 		uri = jdbcUrl( configuration );
+		shardCount = ConfigurationHelper.getInt( Settings.POOL_SHARDS, configuration, 0 );
 	}
 
 	@Override
 	public void start() {
 		if ( pools == null ) {
-			pools = createPool( uri );
+			if ( shardCount > 1 ) {
+				shards = createShards( uri, shardCount );
+				pools = shards[0].pool;
+			}
+			else {
+				pools = createPool( uri );
+			}
+			if ( poolMetrics != null ) {
+				poolMetrics.registerOpenConnectionCount( this::openConnectionCount );
+			}
+		}
+	}
+
+	private int openConnectionCount() {
+		if ( shards == null ) {
+			return pools.size();
 		}
+		int size = 0;
+		for ( Shard shard : shards ) {
+			size += shard.pool.size();
+		}
+		return size;
+	}
+
+	/**
+	 * The number of connections in use for each shard, when
+	 * {@link Settings#POOL_SHARDS} is set.
+	 *
+	 * @return the number of connections in use, by shard, or an
+	 * empty array if the pool is not sharded
+	 */
+	public int[] getShardConnectionsInUse() {
+		if ( shards == null ) {
+			return new int[0];
+		}
+		final int[] inUse = new int[shards.length];
+		for ( int i = 0; i < shards.length; i++ ) {
+			inUse[i] = shards[i].inUse.get();
+		}
+		return inUse;
 	}
 
 	@Override
@@ -145,7 +203,74 @@ public CompletionStage<Void> getCloseFuture() {
 
 	@Override
 	protected Pool getPool() {
-		return pools;
+		return shards == null ? pools : selectShard().pool;
+	}
+
+	@Override
+	protected void onConnectionAcquired(Pool pool, long acquireTime) {
+		final Shard shard = findShard( pool );
+		if ( shard != null ) {
+			shard.inUse.incrementAndGet();
+		}
+	}
+
+	@Override
+	protected void onConnectionReleased(Pool pool) {
+		final Shard shard = findShard( pool );
+		if ( shard != null ) {
+			shard.inUse.decrementAndGet();
+		}
+	}
+
+	/**
+	 * The shard assigned to the current event loop, unless all its connections
+	 * are in use and another shard has an idle connection, or can open one.
+	 */
+	private Shard selectShard() {
+		final Shard local = localShard();
+		if ( local.hasAvailableConnection() ) {
+			return local;
+		}
+		Shard candidate = null;
+		for ( Shard shard : shards ) {
+			if ( shard != local ) {
+				if ( shard.hasIdleConnection() ) {
+					return shard;
+				}
+				if ( candidate == null && shard.hasAvailableConnection() ) {
+					// It will have to open a new connection
+					candidate = shard;
+				}
+			}
+		}
+		// Otherwise, wait for a connection of the local shard
+		return candidate == null ? local : candidate;
+	}
+
+	private Shard localShard() {
+		final ContextInternal context = ContextInternal.current();
+		return context == null
+				? shards[floorMod( nextShard.getAndIncrement(), shards.length )]
+				: shardsByEventLoop.computeIfAbsent(
+						context.nettyEventLoop(),
+						eventLoop -> shards[floorMod( nextShard.getAndIncrement(), shards.length )]
+				);
+	}
+
+	private Shard findShard(Pool pool) {
+		if ( shards != null ) {
+			for ( Shard shard : shards ) {
+				if ( shard.pool == pool ) {
+					return shard;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	protected PoolMetrics getPoolMetrics() {
+		return poolMetrics;
 	}
 
 	@Override
@@ -178,6 +303,31 @@ protected Pool createPool(URI uri) {
 		return createPool( uri, configuration.connectOptions( uri ), configuration.poolOptions(), vertx.getVertx() );
 	}
 
+	/**
+	 * Create the shards of the pool, splitting the maximum number of
+	 * connections evenly between them.
+	 *
+	 * @param uri JDBC URL or database URI
+	 * @param shardCount the number of shards
+	 */
+	private Shard[] createShards(URI uri, int shardCount) {
+		SqlClientPoolConfiguration configuration = serviceRegistry.getService( SqlClientPoolConfiguration.class );
+		VertxInstance vertx = serviceRegistry.getService( VertxInstance.class );
+		final SqlConnectOptions connectOptions = configuration.connectOptions( uri );
+		final PoolOptions poolOptions = configuration.poolOptions();
+		final int shardSize = Math.max( 1, poolOptions.getMaxSize() / shardCount );
+		final Shard[] shards = new Shard[shardCount];
+		for ( int i = 0; i < shardCount; i++ ) {
+			final PoolOptions shardOptions = new PoolOptions( poolOptions ).setMaxSize( shardSize );
+			if ( poolOptions.isShared() ) {
+				// Otherwise, all the shards would be the same pool
+				shardOptions.setName( poolOptions.getName() + "-" + i );
+			}
+			shards[i] = new Shard( createPool( uri, connectOptions, shardOptions, vertx.getVertx() ), shardSize );
+		}
+		return shards;
+	}
+
 	/**
 	 * Create a new {@link Pool} for the given JDBC URL or database URI,
 	 * connection pool options, and the given instance of {@link Vertx}.
@@ -266,11 +416,47 @@ private boolean matchesScheme(String driverName, String scheme) {
 
 	@Override
 	public void stop() {
-		if ( pools != null ) {
+		if ( shards != null ) {
+			final List<Future<Void>> closeFutures = new ArrayList<>( shards.length );
+			for ( Shard shard : shards ) {
+				closeFutures.add( shard.pool.close() );
+			}
+			this.closeFuture = Future.all( closeFutures ).mapEmpty();
+		}
+		else if ( pools != null ) {
 			this.closeFuture = pools.close();
 		}
 	}
 
+	/**
+	 * A {@link Pool} holding a fraction of the connections, and the
+	 * number of its connections currently in use.
+	 */
+	private static final class Shard {
+		private final Pool pool;
+		private final int maxSize;
+		private final AtomicInteger inUse = new AtomicInteger();
+
+		private Shard(Pool pool, int maxSize) {
+			this.pool = pool;
+			this.maxSize = maxSize;
+		}
+
+		/**
+		 * @return true if the shard has an idle connection or can open a new one
+		 */
+		boolean hasAvailableConnection() {
+			return inUse.get() < maxSize;
+		}
+
+		/**
+		 * @return true if the shard has an open connection that is not in use
+		 */
+		boolean hasIdleConnection() {
+			return inUse.get() < pool.size();
+		}
+	}
+
 	public static URI parse(String url) {
 		if ( url == null || url.isBlank() ) {
 			throw LOG.blankConnectionString( Settings.URL );
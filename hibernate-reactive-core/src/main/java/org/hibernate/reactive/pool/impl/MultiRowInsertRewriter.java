@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.sql.ast.spi.ParameterMarkerStrategy;
+
+/**
+ * Rewrites a batch of identical {@code insert into T (...) values (...)}
+ * statements into statements inserting several rows at once, using a
+ * multi-row {@code values (...),(...)} list.
+ * <p>
+ * This is useful for databases where the Vert.x client executes each row
+ * of a batch separately on the server side, for example MySQL, MariaDB
+ * and SQL Server.
+ * <p>
+ * The number of rows inserted by each statement is limited by the maximum
+ * number of parameters supported by the dialect, and by the maximum number
+ * of rows in a list of values, for the databases with such a limit.
+ *
+ * @see Settings#REWRITE_BATCHED_INSERTS
+ */
+public class MultiRowInsertRewriter {
+
+	// Used when the dialect doesn't define a limit, the Vert.x clients use an unsigned short for the parameters count
+	private static final int DEFAULT_PARAMETER_COUNT_LIMIT = Short.MAX_VALUE;
+
+	// SQL Server doesn't accept more than 1000 rows in a table value constructor
+	private static final int SQL_SERVER_ROW_COUNT_LIMIT = 1000;
+
+	private static final String INSERT = "insert into ";
+	private static final String VALUES = " values ";
+
+	private final ParameterMarkerStrategy parameterMarkerStrategy;
+	private final int parameterCountLimit;
+	private final int rowCountLimit;
+
+	public MultiRowInsertRewriter(ParameterMarkerStrategy parameterMarkerStrategy, int parameterCountLimit) {
+		this( parameterMarkerStrategy, parameterCountLimit, 0 );
+	}
+
+	/**
+	 * @param parameterCountLimit the maximum number of parameters of a statement, or 0 for the default
+	 * @param rowCountLimit the maximum number of rows of a statement, or 0 if there's none
+	 */
+	public MultiRowInsertRewriter(ParameterMarkerStrategy parameterMarkerStrategy, int parameterCountLimit, int rowCountLimit) {
+		this.parameterMarkerStrategy = parameterMarkerStrategy;
+		this.parameterCountLimit = parameterCountLimit > 0 ? parameterCountLimit : DEFAULT_PARAMETER_COUNT_LIMIT;
+		this.rowCountLimit = rowCountLimit > 0 ? rowCountLimit : Integer.MAX_VALUE;
+	}
+
+	/**
+	 * @return a rewriter, if {@link Settings#REWRITE_BATCHED_INSERTS} is enabled and
+	 * the dialect supports multi-row inserts; otherwise {@code null}
+	 */
+	public static MultiRowInsertRewriter create(ServiceRegistry serviceRegistry) {
+		final Boolean enabled = serviceRegistry.requireService( ConfigurationService.class )
+				.getSetting( Settings.REWRITE_BATCHED_INSERTS, StandardConverters.BOOLEAN, false );
+		if ( enabled ) {
+			final Dialect dialect = serviceRegistry.requireService( JdbcServices.class ).getDialect();
+			if ( dialect.supportsValuesListForInsert() ) {
+				return new MultiRowInsertRewriter(
+						serviceRegistry.requireService( ParameterMarkerStrategy.class ),
+						dialect.getParameterCountLimit(),
+						dialect instanceof SQLServerDialect ? SQL_SERVER_ROW_COUNT_LIMIT : 0
+				);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * A statement inserting {@code rowCount} rows of the original batch
+	 */
+	public record Chunk(String sql, Object[] paramValues, int rowCount) {
+
+		/**
+		 * Split the number of inserted rows, as returned by the database,
+		 * into a row count for each row of the original batch.
+		 */
+		public void splitRowCount(int insertedRows, int[] rowCounts, int offset) {
+			for ( int i = 0; i < rowCount; i++ ) {
+				// If some rows have not been inserted, we cannot know which ones
+				// and the expectation of the last rows of the chunk will fail
+				rowCounts[offset + i] = i < insertedRows ? 1 : 0;
+			}
+		}
+	}
+
+	/**
+	 * Rewrite the batch of statements.
+	 *
+	 * @param sql the insert statement of the batch
+	 * @param batchParamValues the parameters of each row
+	 *
+	 * @return the statements to execute in place of the batch, or {@code null}
+	 * if the statement cannot be rewritten
+	 */
+	public List<Chunk> rewrite(String sql, List<Object[]> batchParamValues) {
+		if ( batchParamValues.size() < 2 ) {
+			return null;
+		}
+		final int parametersPerRow = batchParamValues.get( 0 ).length;
+		final int maxRowsPerChunk = parametersPerRow == 0
+				? 1
+				: Math.min( parameterCountLimit / parametersPerRow, rowCountLimit );
+		if ( maxRowsPerChunk < 2 ) {
+			return null;
+		}
+		final InsertTemplate template = InsertTemplate.parse( sql, parametersPerRow, parameterMarkerStrategy );
+		if ( template == null ) {
+			return null;
+		}
+
+		final List<Chunk> chunks = new ArrayList<>();
+		for ( int start = 0; start < batchParamValues.size(); start += maxRowsPerChunk ) {
+			final int end = Math.min( start + maxRowsPerChunk, batchParamValues.size() );
+			final Object[] paramValues = new Object[( end - start ) * parametersPerRow];
+			for ( int row = start; row < end; row++ ) {
+				System.arraycopy( batchParamValues.get( row ), 0, paramValues, ( row - start ) * parametersPerRow, parametersPerRow );
+			}
+			chunks.add( new Chunk( template.render( end - start, parameterMarkerStrategy ), paramValues, end - start ) );
+		}
+		return chunks;
+	}
+
+	/**
+	 * An insert statement with a single list of values, where each
+	 * value is either a parameter (a {@code null} element of {@code values})
+	 * or a literal that gets repeated for each row.
+	 */
+	private record InsertTemplate(String prefix, String[] values) {
+
+		static InsertTemplate parse(String sql, int parameterCount, ParameterMarkerStrategy markers) {
+			final String lowerCaseSql = sql.toLowerCase( Locale.ROOT );
+			if ( !lowerCaseSql.startsWith( INSERT ) ) {
+				return null;
+			}
+			final int valuesIndex = lowerCaseSql.indexOf( VALUES );
+			if ( valuesIndex < 0 ) {
+				return null;
+			}
+			final int start = valuesIndex + VALUES.length();
+			final String valuesList = sql.substring( start ).trim();
+			if ( valuesList.length() < 2 || valuesList.charAt( 0 ) != '(' ) {
+				return null;
+			}
+
+			final List<String> values = new ArrayList<>();
+			int depth = 0;
+			boolean quoted = false;
+			int valueStart = 1;
+			for ( int i = 1; i < valuesList.length(); i++ ) {
+				final char c = valuesList.charAt( i );
+				if ( c == '\'' ) {
+					quoted = !quoted;
+				}
+				else if ( !quoted ) {
+					if ( c == '(' ) {
+						depth++;
+					}
+					else if ( c == ')' && depth > 0 ) {
+						depth--;
+					}
+					else if ( depth == 0 && ( c == ',' || c == ')' ) ) {
+						values.add( valuesList.substring( valueStart, i ).trim() );
+						valueStart = i + 1;
+						if ( c == ')' && i != valuesList.length() - 1 ) {
+							// Something after the values list (returning, on conflict, ...)
+							return null;
+						}
+					}
+				}
+			}
+
+			final String[] template = new String[values.size()];
+			int parameters = 0;
+			for ( int i = 0; i < template.length; i++ ) {
+				final String value = values.get( i );
+				if ( value.equals( markers.createMarker( parameters + 1, null ) ) ) {
+					parameters++;
+				}
+				else {
+					template[i] = value;
+				}
+			}
+			return parameters == parameterCount
+					? new InsertTemplate( sql.substring( 0, start ), template )
+					: null;
+		}
+
+		String render(int rowCount, ParameterMarkerStrategy markers) {
+			final StringBuilder sql = new StringBuilder( prefix );
+			int position = 1;
+			for ( int row = 0; row < rowCount; row++ ) {
+				if ( row > 0 ) {
+					sql.append( ',' );
+				}
+				sql.append( '(' );
+				for ( int i = 0; i < values.length; i++ ) {
+					if ( i > 0 ) {
+						sql.append( ',' );
+					}
+					sql.append( values[i] == null ? markers.createMarker( position++, null ) : values[i] );
+				}
+				sql.append( ')' );
+			}
+			return sql.toString();
+		}
+	}
+}
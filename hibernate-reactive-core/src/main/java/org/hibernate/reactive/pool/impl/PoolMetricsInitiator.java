@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.PoolMetrics;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@linkplain StandardServiceInitiator service initiator} that
+ * allows the user to define their own {@link PoolMetrics}.
+ */
+public class PoolMetricsInitiator implements StandardServiceInitiator<PoolMetrics> {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final PoolMetricsInitiator INSTANCE = new PoolMetricsInitiator();
+
+	@Override
+	public PoolMetrics initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		final Object metrics = configurationValues.get( Settings.POOL_METRICS );
+		if ( metrics == null ) {
+			return new DefaultPoolMetrics(
+					ConfigurationHelper.getInt( Settings.STATEMENT_STATISTICS_MAX_SIZE, configurationValues, 0 ),
+					ConfigurationHelper.getInt( Settings.LOG_SLOW_STATEMENT, configurationValues, 0 )
+			);
+		}
+		if ( metrics instanceof PoolMetrics poolMetrics ) {
+			return poolMetrics;
+		}
+		final String metricsClassName = metrics.toString();
+		final ClassLoaderService classLoaderService = registry.requireService( ClassLoaderService.class );
+		try {
+			return (PoolMetrics) classLoaderService.classForName( metricsClassName )
+					.getDeclaredConstructor().newInstance();
+		}
+		catch (Exception e) {
+			throw LOG.couldNotInstantiatePoolMetrics( metricsClassName, e );
+		}
+	}
+
+	@Override
+	public Class<PoolMetrics> getServiceInitiated() {
+		return PoolMetrics.class;
+	}
+}
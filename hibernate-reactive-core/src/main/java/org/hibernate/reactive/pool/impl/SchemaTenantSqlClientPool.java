@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletionStage;
+import java.util.regex.Pattern;
+
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.DB2Dialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.internal.SqlConnectionInternal;
+
+/**
+ * A {@link DefaultSqlClientPool} for schema-based multitenancy, where
+ * the connections of all the tenants come from one shared Vert.x
+ * {@link Pool}. Before a connection is used for a tenant, its schema is
+ * switched with {@code set search_path} on PostgreSQL and CockroachDB,
+ * or the equivalent statement on MySQL, MariaDB, Oracle and Db2.
+ * <p>
+ * The current schema of each connection is remembered, so that the
+ * switch is skipped when the connection already points at the schema
+ * of the tenant. This way, many tenants with little traffic can share
+ * a small pool.
+ * <p>
+ * By default, the tenant identifier is the name of the schema of the
+ * tenant. The connections obtained without a tenant come from the default
+ * pool, so they are never left pointing at the schema of a tenant.
+ * <p>
+ * This pool is selected by setting {@link Settings#SQL_CLIENT_POOL}.
+ */
+public class SchemaTenantSqlClientPool extends DefaultSqlClientPool {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final Pattern SCHEMA_NAME = Pattern.compile( "[A-Za-z_][A-Za-z0-9_$]*" );
+
+	// The current schema of each connection of the tenant pool, by physical connection
+	private final Map<Object, String> schemaByConnection = Collections.synchronizedMap( new WeakHashMap<>() );
+
+	private ServiceRegistryImplementor serviceRegistry;
+	private URI uri;
+	private Pool tenantPool;
+	private String switchSchemaStatement;
+
+	private volatile Future<Void> tenantCloseFuture = Future.succeededFuture();
+
+	public SchemaTenantSqlClientPool() {
+	}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		super.injectServices( serviceRegistry );
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public void configure(Map<String, Object> configuration) {
+		super.configure( configuration );
+		uri = parse( ConfigurationHelper.getString( Settings.URL, configuration ) );
+	}
+
+	@Override
+	public void start() {
+		super.start();
+		if ( tenantPool == null ) {
+			final SqlClientPoolConfiguration configuration = serviceRegistry.getService( SqlClientPoolConfiguration.class );
+			final PoolOptions poolOptions = new PoolOptions( configuration.poolOptions() );
+			if ( poolOptions.isShared() ) {
+				// Otherwise, it would be the same as the default pool
+				poolOptions.setName( poolOptions.getName() + "-tenants" );
+			}
+			tenantPool = createPool(
+					uri,
+					configuration.connectOptions( uri ),
+					poolOptions,
+					serviceRegistry.getService( VertxInstance.class ).getVertx()
+			);
+		}
+	}
+
+	@Override
+	public void stop() {
+		super.stop();
+		if ( tenantPool != null ) {
+			tenantCloseFuture = tenantPool.close();
+			tenantPool = null;
+		}
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		return super.getCloseFuture()
+				.thenCompose( v -> tenantCloseFuture.toCompletionStage() );
+	}
+
+	@Override
+	protected Pool getTenantPool(String tenantId) {
+		return tenantPool;
+	}
+
+	/**
+	 * Switch the connection to the schema of the tenant, unless it's
+	 * already the current schema of the connection.
+	 */
+	@Override
+	protected Future<SqlConnection> prepareTenantConnection(SqlConnection connection, String tenantId) {
+		final String schema = schemaName( tenantId );
+		final Object key = physicalConnection( connection );
+		if ( schema.equals( schemaByConnection.get( key ) ) ) {
+			return Future.succeededFuture( connection );
+		}
+		if ( !SCHEMA_NAME.matcher( schema ).matches() ) {
+			return Future.failedFuture( LOG.invalidTenantSchema( schema, tenantId ) );
+		}
+		final String sql;
+		try {
+			sql = switchSchemaStatement() + schema;
+		}
+		catch (RuntimeException e) {
+			return Future.failedFuture( e );
+		}
+		getSqlStatementLogger().logStatement( sql, FormatStyle.NONE.getFormatter() );
+		// Until the switch succeeds, the schema of the connection is unknown
+		schemaByConnection.remove( key );
+		return connection.query( sql ).execute()
+				.map( result -> {
+					schemaByConnection.put( key, schema );
+					return connection;
+				} );
+	}
+
+	/**
+	 * The name of the schema of the given tenant. By default, the tenant
+	 * identifier is the name of the schema.
+	 *
+	 * @param tenantId the id of the tenant
+	 *
+	 * @return the name of the schema, which must be a valid unquoted identifier
+	 */
+	protected String schemaName(String tenantId) {
+		return tenantId;
+	}
+
+	/**
+	 * The pool may return a different {@link SqlConnection} every time
+	 * for the same physical connection.
+	 */
+	private static Object physicalConnection(SqlConnection connection) {
+		return connection instanceof SqlConnectionInternal internal
+				? internal.unwrap()
+				: connection;
+	}
+
+	private String switchSchemaStatement() {
+		if ( switchSchemaStatement == null ) {
+			switchSchemaStatement = switchSchemaStatement( serviceRegistry.getService( JdbcServices.class ).getDialect() );
+		}
+		return switchSchemaStatement;
+	}
+
+	private static String switchSchemaStatement(Dialect dialect) {
+		if ( dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect ) {
+			return "set search_path to ";
+		}
+		if ( dialect instanceof MySQLDialect ) {
+			return "use ";
+		}
+		if ( dialect instanceof OracleDialect ) {
+			return "alter session set current_schema = ";
+		}
+		if ( dialect instanceof DB2Dialect ) {
+			return "set schema ";
+		}
+		throw LOG.schemaSwitchNotSupported( dialect.getClass().getSimpleName() );
+	}
+}
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.function.IntFunction;
 
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
@@ -30,6 +31,7 @@
 import io.vertx.sqlclient.DatabaseException;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PrepareOptions;
+import io.vertx.sqlclient.PreparedStatement;
 import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
@@ -39,7 +41,9 @@
 import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.spi.DatabaseMetadata;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.supplyStage;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
@@ -62,11 +66,16 @@ public class SqlClientConnection implements ReactiveConnection {
 	private final SqlConnection connection;
 	// The context associated to the connection. We expect the connection to be executed in this context.
 	private final ContextInternal connectionContext;
+	private final Listener listener;
+	// Checked before each statement, so that nothing is allocated when timing is disabled
+	private final boolean timeStatements;
 
 	// The close operation could be called multiple times if an error occurs,
 	// if we execute it every time, we will have several useless messages in the log
 	private boolean closed = false;
 
+	private boolean statementExecuted = false;
+
 	private Throwable connectionError;
 
 	SqlClientConnection(
@@ -74,8 +83,11 @@ public class SqlClientConnection implements ReactiveConnection {
 			Pool pool,
 			SqlStatementLogger sqlStatementLogger,
 			SqlExceptionHelper sqlExceptionHelper,
-			ContextInternal connectionContext) {
+			ContextInternal connectionContext,
+			Listener listener) {
 		this.connectionContext = connectionContext;
+		this.listener = listener;
+		this.timeStatements = listener.isTimingStatements();
 		this.connection = connection;
 		this.connection.exceptionHandler( this::onConnectionError );
 		this.pool = pool;
@@ -130,6 +142,75 @@ public CompletionStage<int[]> update(String sql, List<Object[]> batchParamValues
 		return updateBatch( sql, tuples );
 	}
 
+	@Override
+	public CompletionStage<int[]> updatePipelined(List<String> sql, List<Object[]> paramValues) {
+		return pipeline( sql.size(), i -> update( sql.get( i ), paramValues.get( i ) ) )
+				.thenApply( rowCounts -> {
+					final int[] result = new int[rowCounts.size()];
+					for ( int i = 0; i < result.length; i++ ) {
+						result[i] = rowCounts.get( i );
+					}
+					return result;
+				} );
+	}
+
+	@Override
+	public CompletionStage<Void> updatePipelined(
+			List<String> sql,
+			List<Object[]> paramValues,
+			boolean allowBatching,
+			List<Expectation> expectations) {
+		return updatePipelined( sql, paramValues )
+				.thenAccept( rowCounts -> {
+					for ( int i = 0; i < rowCounts.length; i++ ) {
+						expectations.get( i ).verifyOutcome( rowCounts[i], -1, sql.get( i ) );
+					}
+				} );
+	}
+
+	@Override
+	public CompletionStage<List<int[]>> updateBatchPipelined(List<String> sql, List<List<Object[]>> batchParamValues) {
+		return pipeline( sql.size(), i -> batchParamValues.get( i ).size() == 1
+				? update( sql.get( i ), batchParamValues.get( i ).get( 0 ) ).thenApply( rowCount -> new int[] { rowCount } )
+				: update( sql.get( i ), batchParamValues.get( i ) ) );
+	}
+
+	/**
+	 * Execute the given statements without waiting for the result of one before
+	 * sending the next one: the Vert.x client queues them on the connection, and
+	 * the driver sends them to the database back to back.
+	 *
+	 * @see ReactiveConnection#updatePipelined(List, List)
+	 */
+	private <T> CompletionStage<List<T>> pipeline(int count, IntFunction<CompletionStage<T>> statement) {
+		final List<T> results = new ArrayList<>( count );
+		if ( !isTransactionInProgress() ) {
+			// Without a transaction, the failure of a statement wouldn't
+			// prevent the following ones from being executed
+			return loop( 0, count, i -> statement.apply( i ).thenAccept( results::add ) )
+					.thenApply( v -> results );
+		}
+
+		final List<CompletionStage<T>> pending = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			pending.add( statement.apply( i ) );
+		}
+		final Throwable[] failure = new Throwable[1];
+		return loop( pending, stage -> stage
+				.handle( (result, throwable) -> {
+					if ( throwable == null ) {
+						results.add( result );
+					}
+					else if ( failure[0] == null ) {
+						failure[0] = throwable;
+					}
+					return null;
+				} ) )
+				.thenCompose( v -> failure[0] == null
+						? completedFuture( results )
+						: failedFuture( failure[0] ) );
+	}
+
 	@Override
 	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
 		return update( sql, paramValues )
@@ -176,6 +257,17 @@ public CompletionStage<ResultSet> selectJdbc(String sql) {
 				.thenApply( ResultSetAdaptor::new );
 	}
 
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+		translateNulls( paramValues );
+		feedback( sql );
+		final long startTime = statementStartTime();
+		return client().prepare( sql ).toCompletionStage()
+				.handle( CompletionStages::handle )
+				.thenCompose( handler -> convertException( sql, handler ) )
+				.thenApply( statement -> new SqlClientCursor( sql, statement, Tuple.wrap( paramValues ), startTime ) );
+	}
+
 	@Override
 	public CompletionStage<Void> execute(String sql) {
 		return preparedQuery( sql )
@@ -185,7 +277,8 @@ public CompletionStage<Void> execute(String sql) {
 	@Override
 	public CompletionStage<Void> executeUnprepared(String sql) {
 		feedback( sql );
-		return client().query( sql ).execute().toCompletionStage()
+		final long startTime = statementStartTime();
+		return timed( sql, 1, startTime, client().query( sql ).execute().toCompletionStage() )
 				.handle( CompletionStages::handle )
 				.thenCompose( handler -> convertException( sql, handler ) )
 				.thenCompose( CompletionStages::voidFuture );
@@ -327,6 +420,43 @@ public CompletionStage<ResultSet> executeAndSelectGeneratedValues(
 				} );
 	}
 
+	@Override
+	public CompletionStage<List<ResultSet>> executeBatchAndSelectGeneratedValues(
+			String sql,
+			List<Object[]> batchParamValues,
+			List<Class<?>> generatedValueClasses,
+			List<String> generatedColumnName) {
+		// Oracle needs to know the name of the column id in advance, this shouldn't affect the other dbs
+		JsonArray autoGeneratedKeysIndexes = new JsonArray();
+		generatedColumnName.forEach( autoGeneratedKeysIndexes::add );
+		JsonObject options = new JsonObject()
+				.put( "autoGeneratedKeysIndexes", autoGeneratedKeysIndexes );
+
+		final List<Tuple> tuples = new ArrayList<>( batchParamValues.size() );
+		for ( Object[] paramValues : batchParamValues ) {
+			translateNulls( paramValues );
+			tuples.add( Tuple.wrap( paramValues ) );
+		}
+		feedback( sql );
+		final long startTime = statementStartTime();
+		return timed( sql, tuples.size(), startTime, client().preparedQuery( sql, new PrepareOptions( options ) ).executeBatch( tuples ).toCompletionStage() )
+				.handle( CompletionStages::handle )
+				.thenCompose( handler -> convertException( sql, handler ) )
+				.thenApply( rows -> {
+					// The driver returns one RowSet for each set of parameters
+					final List<ResultSet> results = new ArrayList<>( tuples.size() );
+					for ( RowSet<Row> next = rows; next != null; next = next.next() ) {
+						results.add( next.iterator().hasNext()
+								? new ResultSetAdaptor( next )
+								: getLastInsertedGeneratedValuesAsResultSet( next, generatedColumnName, generatedValueClasses ) );
+					}
+					if ( results.size() != tuples.size() ) {
+						throw LOG.numberOfResultsDoesNotMatchBatchedParameters( results.size(), tuples.size() );
+					}
+					return results;
+				} );
+	}
+
 	private ResultSet getLastInsertedGeneratedValuesAsResultSet(
 			RowSet<Row> rows,
 			List<String> generatedColumnNames,
@@ -353,14 +483,16 @@ private ResultSet getLastInsertedGeneratedValuesAsResultSet(
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters) {
 		feedback( sql );
-		return client().preparedQuery( sql ).execute( parameters ).toCompletionStage()
+		final long startTime = statementStartTime();
+		return timed( sql, 1, startTime, client().preparedQuery( sql ).execute( parameters ).toCompletionStage() )
 				.handle( CompletionStages::handle )
 				.thenCompose( handler -> convertException( sql, handler ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters, PrepareOptions options) {
 		feedback( sql );
-		return client().preparedQuery( sql, options ).execute( parameters ).toCompletionStage()
+		final long startTime = statementStartTime();
+		return timed( sql, 1, startTime, client().preparedQuery( sql, options ).execute( parameters ).toCompletionStage() )
 				.handle( CompletionStages::handle )
 				.thenCompose( handler -> convertException( sql, handler ) );
 
@@ -368,7 +500,8 @@ public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters,
 
 	public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> parameters) {
 		feedback( sql );
-		return client().preparedQuery( sql ).executeBatch( parameters ).toCompletionStage()
+		final long startTime = statementStartTime();
+		return timed( sql, parameters.size(), startTime, client().preparedQuery( sql ).executeBatch( parameters ).toCompletionStage() )
 				.handle( CompletionStages::handle )
 				.thenCompose( handler -> convertException( sql, handler ) );
 
@@ -376,7 +509,8 @@ public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> p
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql) {
 		feedback( sql );
-		return client().preparedQuery( sql ).execute().toCompletionStage()
+		final long startTime = statementStartTime();
+		return timed( sql, 1, startTime, client().preparedQuery( sql ).execute().toCompletionStage() )
 				.handle( CompletionStages::handle )
 				.thenCompose( handler -> convertException( sql, handler ) );
 
@@ -393,6 +527,10 @@ private void feedback(String sql) {
 		// Disable assertions for now. See https://github.com/hibernate/hibernate-reactive/issues/2932
 		// InternalStateAssertions.assertCurrentContextMatches( this, connectionContext );
 		Objects.requireNonNull( sql, "SQL query cannot be null" );
+		if ( !statementExecuted ) {
+			statementExecuted = true;
+			listener.firstStatement();
+		}
 		// DDL already gets formatted by the client, so don't reformat it
 		FormatStyle formatStyle = sqlStatementLogger.isFormat() && !sql.contains( System.lineSeparator() )
 				? FormatStyle.BASIC
@@ -400,6 +538,67 @@ private void feedback(String sql) {
 		sqlStatementLogger.logStatement( sql, formatStyle.getFormatter() );
 	}
 
+	/**
+	 * Notified of the events in the lifecycle of the connection
+	 */
+	interface Listener {
+		/**
+		 * The first statement is about to be executed
+		 */
+		void firstStatement();
+
+		/**
+		 * The connection has been closed, or it couldn't be closed:
+		 * either way, it won't be used again
+		 */
+		void closed();
+
+		/**
+		 * @return true if {@link #statementExecuted} must be called after each statement
+		 */
+		boolean isTimingStatements();
+
+		/**
+		 * A statement has been executed successfully
+		 *
+		 * @param sql the SQL statement
+		 * @param executionTime the time, in nanoseconds, from sending the statement to receiving the result
+		 * @param rowCount the number of rows affected or returned
+		 * @param batchSize the number of sets of parameters
+		 */
+		void statementExecuted(String sql, long executionTime, int rowCount, int batchSize);
+	}
+
+	private long statementStartTime() {
+		return timeStatements ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Notify the {@link Listener} of the successful execution of
+	 * a statement, if statements are being timed.
+	 *
+	 * @param batchSize the number of sets of parameters
+	 * @param startTime the value of {@link System#nanoTime()} before sending the statement
+	 */
+	private CompletionStage<RowSet<Row>> timed(String sql, int batchSize, long startTime, CompletionStage<RowSet<Row>> execution) {
+		if ( !timeStatements ) {
+			return execution;
+		}
+		return execution.thenApply( rows -> {
+			listener.statementExecuted( sql, System.nanoTime() - startTime, rowCount( rows ), batchSize );
+			return rows;
+		} );
+	}
+
+	private static int rowCount(RowSet<Row> rows) {
+		int rowCount = 0;
+		// Batches return one RowSet for each set of parameters
+		for ( RowSet<Row> next = rows; next != null; next = next.next() ) {
+			rowCount += next.rowCount();
+		}
+		return rowCount;
+	}
+
 	private SqlConnection client() {
 		return connection;
 	}
@@ -448,6 +647,16 @@ public CompletionStage<Void> close() {
 						: connection.close().toCompletionStage() )
 						.handle( CompletionStages::handle )
 						.thenCompose( closeConnectionHandler -> {
+							if ( !closed ) {
+								// The connection can't be used anymore, even if the close failed,
+								// so the listener must always release it
+								closed = true;
+								LOG.tracef( "Connection closed: %s", connection );
+								listener.closed();
+							}
+							else {
+								LOG.tracef( "Connection was already closed: %s", connection );
+							}
 							if ( closeConnectionHandler.hasFailed() ) {
 								if ( validationHandler.hasFailed() ) {
 									// Error closing the connection, include the validation error
@@ -457,13 +666,6 @@ public CompletionStage<Void> close() {
 								// Return a failed CompletionStage
 								return closeConnectionHandler.getResultAsCompletionStage();
 							}
-							if ( !closed ) {
-								closed = true;
-								LOG.tracef( "Connection closed: %s", connection );
-							}
-							else {
-								LOG.tracef( "Connection was already closed: %s", connection );
-							}
 							// Connection closed, return the result of the validation
 							return validationHandler.getResultAsCompletionStage();
 						} )
@@ -490,6 +692,71 @@ private CompletionStage<Void> validateNoTransactionInProgressOnClose() {
 		return voidFuture();
 	}
 
+	/**
+	 * A cursor reporting a single execution of its statement to the {@link Listener},
+	 * if statements are being timed, when all the rows have been read or when it is
+	 * closed. The execution time is the time spent preparing the statement and
+	 * waiting for the rows, not the time spent by the application between reads.
+	 */
+	private class SqlClientCursor implements Cursor {
+		private final String sql;
+		private final PreparedStatement statement;
+		private final io.vertx.sqlclient.Cursor cursor;
+		private long executionTime;
+		private int rowCount;
+		private boolean reported;
+
+		SqlClientCursor(String sql, PreparedStatement statement, Tuple parameters, long startTime) {
+			this.sql = sql;
+			this.statement = statement;
+			this.cursor = statement.cursor( parameters );
+			if ( timeStatements ) {
+				executionTime = System.nanoTime() - startTime;
+			}
+		}
+
+		@Override
+		public CompletionStage<ResultSet> read(int count) {
+			final long startTime = statementStartTime();
+			return cursor.read( count ).toCompletionStage()
+					.handle( CompletionStages::handle )
+					.thenCompose( handler -> convertException( sql, handler ) )
+					.thenApply( rows -> {
+						if ( timeStatements ) {
+							executionTime += System.nanoTime() - startTime;
+							rowCount += rows.size();
+							if ( !cursor.hasMore() ) {
+								statementExecuted();
+							}
+						}
+						return new ResultSetAdaptor( rows );
+					} );
+		}
+
+		private void statementExecuted() {
+			if ( !reported ) {
+				reported = true;
+				listener.statementExecuted( sql, executionTime, rowCount, 1 );
+			}
+		}
+
+		@Override
+		public boolean hasMore() {
+			return cursor.hasMore();
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			if ( timeStatements ) {
+				// The application might not read all the rows
+				statementExecuted();
+			}
+			return cursor.close()
+					.transform( ar -> statement.close() )
+					.toCompletionStage();
+		}
+	}
+
 	private static class RowSetResult implements Result {
 		private final RowSet<Row> rowset;
 		private final RowIterator<Row> it;
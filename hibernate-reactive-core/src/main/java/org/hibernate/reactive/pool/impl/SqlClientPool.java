@@ -22,6 +22,7 @@
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.PoolMetrics;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 
@@ -112,35 +113,47 @@ public ReactiveConnection getProxyConnection(SqlExceptionHelper sqlExceptionHelp
 
 	@Override
 	public CompletionStage<ReactiveConnection> getConnection() {
-		return getConnectionFromPool( getPool() );
+		return getConnectionFromPool( getPool(), null, getSqlExceptionHelper() );
 	}
 
 	@Override
 	public CompletionStage<ReactiveConnection> getConnection(SqlExceptionHelper sqlExceptionHelper) {
-		return getConnectionFromPool( getPool(), sqlExceptionHelper );
+		return getConnectionFromPool( getPool(), null, sqlExceptionHelper );
 	}
 
 	@Override
 	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
-		return getConnectionFromPool( getTenantPool( tenantId ) );
+		return getConnectionFromPool( getTenantPool( tenantId ), tenantId, getSqlExceptionHelper() );
 	}
 
 	@Override
 	public CompletionStage<ReactiveConnection> getConnection(String tenantId, SqlExceptionHelper sqlExceptionHelper) {
-		return getConnectionFromPool( getTenantPool( tenantId ), sqlExceptionHelper );
+		return getConnectionFromPool( getTenantPool( tenantId ), tenantId, sqlExceptionHelper );
 	}
 
-	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
-		return completeFuture(
-				pool.getConnection().map( this::newConnection ),
-				ReactiveConnection::close
-		).handle( SqlClientPool::convertConnectionException );
-	}
-
-	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool, SqlExceptionHelper sqlExceptionHelper) {
+	private CompletionStage<ReactiveConnection> getConnectionFromPool(
+			Pool pool,
+			String tenantId,
+			SqlExceptionHelper sqlExceptionHelper) {
+		final PoolMetrics metrics = getPoolMetrics();
+		if ( metrics != null ) {
+			metrics.connectionAcquireStarted();
+		}
+		final long acquireStart = System.nanoTime();
 		return completeFuture(
 				pool.getConnection()
-						.map( sqlConnection -> newConnection( sqlConnection, sqlExceptionHelper ) ),
+						.compose( sqlConnection -> tenantId == null
+								? Future.succeededFuture( sqlConnection )
+								: prepareTenantConnection( sqlConnection, tenantId )
+										.onFailure( throwable -> sqlConnection.close() ) )
+						.onFailure( throwable -> {
+							final long acquireTime = System.nanoTime() - acquireStart;
+							if ( metrics != null ) {
+								metrics.connectionAcquireFailed( acquireTime );
+							}
+							onConnectionAcquireFailed( pool, acquireTime );
+						} )
+						.map( sqlConnection -> newConnection( sqlConnection, pool, sqlExceptionHelper, metrics, acquireStart ) ),
 				ReactiveConnection::close
 		).handle( SqlClientPool::convertConnectionException );
 	}
@@ -227,20 +240,119 @@ private <T> CompletionStage<T> completeFuture(Future<T> future, Consumer<T> onCa
 		return completableFuture;
 	}
 
-	private SqlClientConnection newConnection(SqlConnection connection) {
-		return newConnection( connection, getSqlExceptionHelper() );
-	}
-
-	private SqlClientConnection newConnection(SqlConnection connection, SqlExceptionHelper sqlExceptionHelper) {
+	private SqlClientConnection newConnection(
+			SqlConnection connection,
+			Pool pool,
+			SqlExceptionHelper sqlExceptionHelper,
+			PoolMetrics metrics,
+			long acquireStart) {
+		final long acquired = System.nanoTime();
+		if ( metrics != null ) {
+			metrics.connectionAcquired( acquired - acquireStart );
+		}
+		onConnectionAcquired( pool, acquired - acquireStart );
 		return new SqlClientConnection(
 				connection,
-				getPool(),
+				pool,
 				getSqlStatementLogger(),
 				sqlExceptionHelper,
-				ContextInternal.current()
+				ContextInternal.current(),
+				new PooledConnectionListener( pool, metrics, acquired )
 		);
 	}
 
+	/**
+	 * @return the {@link PoolMetrics} to notify of the connections obtained
+	 * from this pool, or {@code null} if the pool is not instrumented
+	 */
+	protected PoolMetrics getPoolMetrics() {
+		return null;
+	}
+
+	/**
+	 * Prepare a connection obtained from the {@linkplain #getTenantPool(String)
+	 * pool of a tenant} before it's used, for example, to select the schema
+	 * of the tenant. By default, the connection is used as it is.
+	 *
+	 * @param connection the connection obtained from the pool
+	 * @param tenantId the id of the tenant
+	 *
+	 * @return the connection, once it's ready for the tenant
+	 */
+	protected Future<SqlConnection> prepareTenantConnection(SqlConnection connection, String tenantId) {
+		return Future.succeededFuture( connection );
+	}
+
+	/**
+	 * Called when a connection has been obtained from the given {@link Pool}.
+	 *
+	 * @param pool the pool the connection belongs to
+	 * @param acquireTime the time spent waiting for the connection, in nanoseconds
+	 */
+	protected void onConnectionAcquired(Pool pool, long acquireTime) {
+	}
+
+	/**
+	 * Called when the given {@link Pool} failed to provide a connection.
+	 *
+	 * @param pool the pool the connection was requested from
+	 * @param acquireTime the time spent waiting before the failure, in nanoseconds
+	 */
+	protected void onConnectionAcquireFailed(Pool pool, long acquireTime) {
+	}
+
+	/**
+	 * Called when a connection obtained from the given {@link Pool} has
+	 * been closed, and returned to the pool. This is called even when
+	 * closing the connection failed, since the connection won't be used
+	 * again either way, and it's called only once for each connection.
+	 *
+	 * @param pool the pool the connection belongs to
+	 */
+	protected void onConnectionReleased(Pool pool) {
+	}
+
+	/**
+	 * Returns the connection to the pool it was obtained from,
+	 * and records its usage and statements in the {@link PoolMetrics}.
+	 */
+	private class PooledConnectionListener implements SqlClientConnection.Listener {
+		private final Pool pool;
+		private final PoolMetrics metrics;
+		private final long acquired;
+
+		private PooledConnectionListener(Pool pool, PoolMetrics metrics, long acquired) {
+			this.pool = pool;
+			this.metrics = metrics;
+			this.acquired = acquired;
+		}
+
+		@Override
+		public void firstStatement() {
+			if ( metrics != null ) {
+				metrics.firstStatementExecuted( System.nanoTime() - acquired );
+			}
+		}
+
+		@Override
+		public void closed() {
+			onConnectionReleased( pool );
+			if ( metrics != null ) {
+				metrics.connectionReleased( System.nanoTime() - acquired );
+			}
+		}
+
+		@Override
+		public boolean isTimingStatements() {
+			return metrics != null && metrics.isStatementMetricsEnabled();
+		}
+
+		@Override
+		public void statementExecuted(String sql, long executionTime, int rowCount, int batchSize) {
+			metrics.statementExecuted( sql, executionTime, rowCount, batchSize );
+		}
+	}
+
 	private static class ProxyConnection implements ReactiveConnection {
 
 		private static final Log LOG = LoggerFactory.make( Log.class, lookup() );
@@ -347,6 +459,35 @@ public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
 			return connection().thenCompose( conn -> conn.update( sql, paramValues ) );
 		}
 
+		@Override
+		public CompletionStage<List<ResultSet>> executeBatchAndSelectGeneratedValues(
+				String sql,
+				List<Object[]> paramValues,
+				List<Class<?>> idClass,
+				List<String> generatedColumnName) {
+			return connection().thenCompose( conn -> conn
+					.executeBatchAndSelectGeneratedValues( sql, paramValues, idClass, generatedColumnName ) );
+		}
+
+		@Override
+		public CompletionStage<int[]> updatePipelined(List<String> sql, List<Object[]> paramValues) {
+			return connection().thenCompose( conn -> conn.updatePipelined( sql, paramValues ) );
+		}
+
+		@Override
+		public CompletionStage<Void> updatePipelined(
+				List<String> sql,
+				List<Object[]> paramValues,
+				boolean allowBatching,
+				List<Expectation> expectations) {
+			return connection().thenCompose( conn -> conn.updatePipelined( sql, paramValues, allowBatching, expectations ) );
+		}
+
+		@Override
+		public CompletionStage<List<int[]>> updateBatchPipelined(List<String> sql, List<List<Object[]>> batchParamValues) {
+			return connection().thenCompose( conn -> conn.updateBatchPipelined( sql, batchParamValues ) );
+		}
+
 		@Override
 		public CompletionStage<Result> select(String sql) {
 			return connection().thenCompose( conn -> conn.select( sql ) );
@@ -387,6 +528,11 @@ public CompletionStage<ResultSet> selectJdbc(String sql) {
 			return connection().thenCompose( conn -> conn.selectJdbc( sql ) );
 		}
 
+		@Override
+		public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues) {
+			return connection().thenCompose( conn -> conn.selectJdbcCursor( sql, paramValues ) );
+		}
+
 		@Override
 		public CompletionStage<ResultSet> executeAndSelectGeneratedValues(
 				String sql,
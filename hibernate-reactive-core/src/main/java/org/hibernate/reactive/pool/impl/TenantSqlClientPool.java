@@ -0,0 +1,385 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.TenantPoolStatistics;
+import org.hibernate.reactive.pool.TenantUriResolver;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
+
+/**
+ * A {@link DefaultSqlClientPool} supporting multitenancy, with a separate
+ * Vert.x {@link Pool} for each tenant. The pool of a tenant is created the
+ * first time a connection is requested for the tenant, using the database
+ * URI returned by the {@link TenantUriResolver} specified by
+ * {@link Settings#TENANT_URI_RESOLVER}. By default, the tenant identifier
+ * is the name of the database of the tenant.
+ * <p>
+ * The number of pools open at the same time, and the total number of
+ * connections they may open, can be limited with
+ * {@link Settings#TENANT_POOL_MAX_COUNT} and
+ * {@link Settings#TENANT_POOL_MAX_TOTAL_SIZE}: when a limit is reached,
+ * the least recently used pool with no connection in use is closed. The
+ * pools which haven't been used for the time specified by
+ * {@link Settings#TENANT_POOL_IDLE_TIMEOUT} are closed as well. The
+ * connections obtained without a tenant come from the default pool,
+ * which doesn't count towards the limits.
+ * <p>
+ * This pool is selected by setting {@link Settings#SQL_CLIENT_POOL}.
+ *
+ * @see #getTenantPoolStatistics()
+ */
+public class TenantSqlClientPool extends DefaultSqlClientPool {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// In access order, so that the least recently used pool comes first.
+	// All the tenant pools, and their reservations, are guarded by this map.
+	private final LinkedHashMap<String, TenantPool> tenantPools = new LinkedHashMap<>( 16, 0.75f, true );
+	private final Map<Pool, TenantPool> tenantPoolsByPool = new ConcurrentHashMap<>();
+	private int allocatedSize;
+
+	private ServiceRegistryImplementor serviceRegistry;
+	private URI uri;
+	private TenantUriResolver uriResolver;
+	private int maxPools;
+	private int maxTotalSize;
+	private int idleTimeout;
+
+	private SqlClientPoolConfiguration configuration;
+	private PoolOptions poolOptions;
+	private Vertx vertx;
+	private long idleTimer = -1;
+
+	private volatile Future<Void> tenantsCloseFuture = Future.succeededFuture();
+
+	public TenantSqlClientPool() {
+	}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		super.injectServices( serviceRegistry );
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public void configure(Map<String, Object> configuration) {
+		super.configure( configuration );
+		uri = parse( ConfigurationHelper.getString( Settings.URL, configuration ) );
+		uriResolver = uriResolver( configuration.get( Settings.TENANT_URI_RESOLVER ) );
+		maxPools = ConfigurationHelper.getInt( Settings.TENANT_POOL_MAX_COUNT, configuration, 0 );
+		maxTotalSize = ConfigurationHelper.getInt( Settings.TENANT_POOL_MAX_TOTAL_SIZE, configuration, 0 );
+		idleTimeout = ConfigurationHelper.getInt( Settings.TENANT_POOL_IDLE_TIMEOUT, configuration, 0 );
+	}
+
+	private TenantUriResolver uriResolver(Object resolver) {
+		if ( resolver == null ) {
+			return null;
+		}
+		if ( resolver instanceof TenantUriResolver tenantUriResolver ) {
+			return tenantUriResolver;
+		}
+		final String resolverClassName = resolver.toString();
+		final ClassLoaderService classLoaderService = serviceRegistry.requireService( ClassLoaderService.class );
+		try {
+			return (TenantUriResolver) classLoaderService.classForName( resolverClassName )
+					.getDeclaredConstructor().newInstance();
+		}
+		catch (Exception e) {
+			throw LOG.couldNotInstantiateTenantUriResolver( resolverClassName, e );
+		}
+	}
+
+	@Override
+	public void start() {
+		super.start();
+		if ( vertx == null ) {
+			configuration = serviceRegistry.getService( SqlClientPoolConfiguration.class );
+			poolOptions = configuration.poolOptions();
+			vertx = serviceRegistry.getService( VertxInstance.class ).getVertx();
+			if ( idleTimeout > 0 ) {
+				idleTimer = vertx.setPeriodic( idleTimeout, id -> closeIdlePools() );
+			}
+		}
+	}
+
+	@Override
+	public void stop() {
+		super.stop();
+		if ( idleTimer != -1 ) {
+			vertx.cancelTimer( idleTimer );
+			idleTimer = -1;
+		}
+		final List<Future<Void>> closeFutures = new ArrayList<>();
+		synchronized ( tenantPools ) {
+			for ( TenantPool tenantPool : tenantPools.values() ) {
+				closeFutures.add( tenantPool.pool.close() );
+			}
+			tenantPools.clear();
+			tenantPoolsByPool.clear();
+			allocatedSize = 0;
+		}
+		tenantsCloseFuture = Future.all( closeFutures ).mapEmpty();
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		return super.getCloseFuture()
+				.thenCompose( v -> tenantsCloseFuture.toCompletionStage() );
+	}
+
+	/**
+	 * @return the metrics of the pools currently open, by tenant id
+	 */
+	public Map<String, TenantPoolStatistics> getTenantPoolStatistics() {
+		synchronized ( tenantPools ) {
+			return Map.copyOf( tenantPools );
+		}
+	}
+
+	/**
+	 * The pool of the tenant, created if needed. The pool is reserved
+	 * until the connection is released, or the request fails, so that
+	 * it cannot be closed in the meantime.
+	 */
+	@Override
+	protected Pool getTenantPool(String tenantId) {
+		final List<TenantPool> evicted = new ArrayList<>();
+		try {
+			synchronized ( tenantPools ) {
+				TenantPool tenantPool = tenantPools.get( tenantId );
+				if ( tenantPool == null ) {
+					tenantPool = createTenantPool( tenantId, evicted );
+					tenantPools.put( tenantId, tenantPool );
+					tenantPoolsByPool.put( tenantPool.pool, tenantPool );
+				}
+				tenantPool.reserved++;
+				tenantPool.lastUsed = System.nanoTime();
+				return tenantPool.pool;
+			}
+		}
+		finally {
+			closeAll( evicted );
+		}
+	}
+
+	private TenantPool createTenantPool(String tenantId, List<TenantPool> evicted) {
+		final int maxSize = availableSize( tenantId, evicted );
+		final URI tenantUri = uriResolver == null ? uri : uriResolver.resolve( tenantId, uri );
+		final SqlConnectOptions connectOptions = configuration.connectOptions( tenantUri );
+		if ( uriResolver == null ) {
+			connectOptions.setDatabase( tenantId );
+		}
+		final PoolOptions tenantOptions = new PoolOptions( poolOptions ).setMaxSize( maxSize );
+		if ( poolOptions.isShared() ) {
+			// Otherwise, all the tenants would share the same pool
+			tenantOptions.setName( poolOptions.getName() + "-" + tenantId );
+		}
+		final Pool pool = createPool( tenantUri, connectOptions, tenantOptions, vertx );
+		allocatedSize += maxSize;
+		return new TenantPool( tenantId, pool, maxSize );
+	}
+
+	/**
+	 * The maximum size of a new tenant pool. If a limit has been reached,
+	 * close the least recently used pools with no connection in use until
+	 * there's room for a pool of the configured size. If that's not
+	 * possible, a smaller pool is better than no pool.
+	 */
+	private int availableSize(String tenantId, List<TenantPool> evicted) {
+		final int poolSize = poolOptions.getMaxSize();
+		while ( true ) {
+			final boolean full = maxPools > 0 && tenantPools.size() >= maxPools;
+			final int available = maxTotalSize > 0
+					? Math.min( poolSize, maxTotalSize - allocatedSize )
+					: poolSize;
+			if ( !full && available == poolSize ) {
+				return poolSize;
+			}
+			final TenantPool leastRecentlyUsed = leastRecentlyUsedUnreservedPool();
+			if ( leastRecentlyUsed == null ) {
+				if ( !full && available > 0 ) {
+					return available;
+				}
+				throw LOG.tenantPoolLimitReached( tenantId, maxPools, maxTotalSize );
+			}
+			remove( leastRecentlyUsed );
+			evicted.add( leastRecentlyUsed );
+		}
+	}
+
+	private TenantPool leastRecentlyUsedUnreservedPool() {
+		for ( TenantPool tenantPool : tenantPools.values() ) {
+			if ( tenantPool.reserved == 0 ) {
+				return tenantPool;
+			}
+		}
+		return null;
+	}
+
+	private void closeIdlePools() {
+		final long idleSince = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos( idleTimeout );
+		final List<TenantPool> idle = new ArrayList<>();
+		synchronized ( tenantPools ) {
+			for ( TenantPool tenantPool : tenantPools.values() ) {
+				if ( tenantPool.reserved == 0 && tenantPool.lastUsed - idleSince < 0 ) {
+					idle.add( tenantPool );
+				}
+			}
+			for ( TenantPool tenantPool : idle ) {
+				remove( tenantPool );
+			}
+		}
+		closeAll( idle );
+	}
+
+	private void remove(TenantPool tenantPool) {
+		tenantPools.remove( tenantPool.tenantId );
+		tenantPoolsByPool.remove( tenantPool.pool );
+		allocatedSize -= tenantPool.maxSize;
+	}
+
+	private static void closeAll(List<TenantPool> tenantPools) {
+		for ( TenantPool tenantPool : tenantPools ) {
+			LOG.closingTenantPool( tenantPool.tenantId );
+			tenantPool.pool.close();
+		}
+	}
+
+	private void release(TenantPool tenantPool) {
+		synchronized ( tenantPools ) {
+			tenantPool.reserved--;
+			tenantPool.lastUsed = System.nanoTime();
+		}
+	}
+
+	@Override
+	protected void onConnectionAcquired(Pool pool, long acquireTime) {
+		super.onConnectionAcquired( pool, acquireTime );
+		final TenantPool tenantPool = tenantPoolsByPool.get( pool );
+		if ( tenantPool != null ) {
+			tenantPool.acquired( acquireTime );
+		}
+	}
+
+	@Override
+	protected void onConnectionAcquireFailed(Pool pool, long acquireTime) {
+		super.onConnectionAcquireFailed( pool, acquireTime );
+		final TenantPool tenantPool = tenantPoolsByPool.get( pool );
+		if ( tenantPool != null ) {
+			tenantPool.acquireFailureCount.increment();
+			release( tenantPool );
+		}
+	}
+
+	// Called whatever the outcome of the close, otherwise a connection
+	// which failed to close would keep the tenant pool reserved forever
+	@Override
+	protected void onConnectionReleased(Pool pool) {
+		super.onConnectionReleased( pool );
+		final TenantPool tenantPool = tenantPoolsByPool.get( pool );
+		if ( tenantPool != null ) {
+			tenantPool.activeConnectionCount.decrementAndGet();
+			release( tenantPool );
+		}
+	}
+
+	/**
+	 * The {@link Pool} of a tenant, with its metrics.
+	 */
+	private static final class TenantPool implements TenantPoolStatistics {
+		private final String tenantId;
+		private final Pool pool;
+		private final int maxSize;
+
+		// The connections requested and not yet released, guarded by tenantPools
+		private int reserved;
+		private long lastUsed;
+
+		private final LongAdder acquireCount = new LongAdder();
+		private final LongAdder acquireFailureCount = new LongAdder();
+		private final LongAdder acquireTimeTotal = new LongAdder();
+		private final AtomicLong acquireTimeMax = new AtomicLong();
+		private final AtomicInteger activeConnectionCount = new AtomicInteger();
+
+		private TenantPool(String tenantId, Pool pool, int maxSize) {
+			this.tenantId = tenantId;
+			this.pool = pool;
+			this.maxSize = maxSize;
+		}
+
+		void acquired(long acquireTime) {
+			activeConnectionCount.incrementAndGet();
+			acquireCount.increment();
+			final long micros = TimeUnit.NANOSECONDS.toMicros( acquireTime );
+			acquireTimeTotal.add( micros );
+			acquireTimeMax.accumulateAndGet( micros, Math::max );
+		}
+
+		@Override
+		public String getTenantId() {
+			return tenantId;
+		}
+
+		@Override
+		public int getMaxSize() {
+			return maxSize;
+		}
+
+		@Override
+		public long getConnectionAcquireCount() {
+			return acquireCount.sum();
+		}
+
+		@Override
+		public long getConnectionAcquireFailureCount() {
+			return acquireFailureCount.sum();
+		}
+
+		@Override
+		public long getConnectionAcquireTimeTotal() {
+			return acquireTimeTotal.sum();
+		}
+
+		@Override
+		public long getConnectionAcquireTimeMax() {
+			return acquireTimeMax.get();
+		}
+
+		@Override
+		public int getActiveConnectionCount() {
+			return activeConnectionCount.get();
+		}
+
+		@Override
+		public int getOpenConnectionCount() {
+			return pool.size();
+		}
+	}
+}
@@ -56,6 +56,51 @@ public interface Settings extends AvailableSettings {
 	 */
 	String POOL_CLEANER_PERIOD = "hibernate.vertx.pool.cleaner_period";
 
+	/**
+	 * The number of shards the Vert.x connection pool is split into. Each
+	 * event loop is assigned its own shard, holding a fraction of the
+	 * connections specified by {@code hibernate.connection.pool_size}, and
+	 * only borrows connections from other shards when its own are all in use.
+	 * A value of {@code 0} or {@code 1}, the default, disables sharding.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.DefaultSqlClientPool
+	 */
+	String POOL_SHARDS = "hibernate.vertx.pool.shards";
+
+	/**
+	 * Specifies a {@link org.hibernate.reactive.pool.TenantUriResolver} class,
+	 * or instance, determining the database URI of each tenant for the
+	 * {@link org.hibernate.reactive.pool.impl.TenantSqlClientPool}. By default,
+	 * the tenant identifier is the name of the database of the tenant.
+	 */
+	String TENANT_URI_RESOLVER = "hibernate.vertx.pool.tenant.uri_resolver";
+
+	/**
+	 * The maximum number of tenant pools the
+	 * {@link org.hibernate.reactive.pool.impl.TenantSqlClientPool} keeps open
+	 * at the same time. When the limit is reached, the least recently used
+	 * pool with no connection in use is closed. A value of {@code 0}, the
+	 * default, means no limit.
+	 */
+	String TENANT_POOL_MAX_COUNT = "hibernate.vertx.pool.tenant.max_pools";
+
+	/**
+	 * The maximum number of connections of all the tenant pools of the
+	 * {@link org.hibernate.reactive.pool.impl.TenantSqlClientPool} together.
+	 * Each tenant pool may open up to {@code hibernate.connection.pool_size}
+	 * connections, or fewer when the limit is close. A value of {@code 0},
+	 * the default, means no limit.
+	 */
+	String TENANT_POOL_MAX_TOTAL_SIZE = "hibernate.vertx.pool.tenant.max_total_size";
+
+	/**
+	 * The time, in milliseconds, after which the
+	 * {@link org.hibernate.reactive.pool.impl.TenantSqlClientPool} closes
+	 * the pool of a tenant which hasn't used a connection. A value of
+	 * {@code 0}, the default, keeps the pools open.
+	 */
+	String TENANT_POOL_IDLE_TIMEOUT = "hibernate.vertx.pool.tenant.idle_timeout";
+
 	/**
 	 * Specifies a {@link org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration} class.
 	 */
@@ -65,4 +110,95 @@ public interface Settings extends AvailableSettings {
 	 * Specifies a {@link org.hibernate.reactive.pool.ReactiveConnectionPool} class.
 	 */
 	String SQL_CLIENT_POOL = "hibernate.vertx.pool.class";
+
+	/**
+	 * Specifies a {@link org.hibernate.reactive.pool.PoolMetrics} class,
+	 * or instance, to be notified of the connections obtained from the pool.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.DefaultPoolMetrics
+	 */
+	String POOL_METRICS = "hibernate.vertx.pool.metrics_class";
+
+	/**
+	 * The maximum number of distinct SQL statements for which the default
+	 * {@link org.hibernate.reactive.pool.PoolMetrics} keep execution metrics.
+	 * When the limit is reached, the least executed statement is discarded.
+	 * A value of {@code 0}, the default, disables the collection.
+	 *
+	 * @see org.hibernate.reactive.pool.PoolStatistics#getStatementStatistics()
+	 */
+	String STATEMENT_STATISTICS_MAX_SIZE = "hibernate.vertx.statement_statistics.max_size";
+
+	/**
+	 * A threshold, in milliseconds, above which the default
+	 * {@link org.hibernate.reactive.pool.PoolMetrics} log the execution
+	 * of a statement, with the number of rows and the batch size.
+	 * A value of {@code 0}, the default, disables the logging.
+	 * <p>
+	 * Unlike {@code hibernate.log_slow_query}, this
+	 * applies to every statement sent to the database, not only queries.
+	 */
+	String LOG_SLOW_STATEMENT = "hibernate.vertx.log_slow_statement";
+
+	/**
+	 * When enabled, batches of identical insert statements are rewritten
+	 * into statements inserting multiple rows using a single {@code values}
+	 * list, for dialects supporting it. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.MultiRowInsertRewriter
+	 */
+	String REWRITE_BATCHED_INSERTS = "hibernate.vertx.rewrite_batched_inserts";
+
+	/**
+	 * Specifies a {@link org.hibernate.reactive.cache.ReactiveCacheAccess} class,
+	 * or instance, for non-blocking access to the second-level cache.
+	 *
+	 * @see org.hibernate.reactive.cache.impl.SynchronousCacheAccess
+	 */
+	String CACHE_ACCESS = "hibernate.vertx.cache.access_class";
+
+	/**
+	 * When enabled, a generator allocating blocks of identifiers from a
+	 * sequence or a table starts fetching the next block asynchronously,
+	 * using a separate connection, before the current block is exhausted.
+	 * When the prefetch starts depends on the rate at which identifiers are
+	 * allocated and on the time it takes to obtain a new block.
+	 * Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.id.impl.BlockingIdentifierGenerator
+	 */
+	String ID_BLOCK_PREFETCH = "hibernate.vertx.id_generator.prefetch";
+
+	/**
+	 * When enabled, each event loop owns a separate block of identifiers
+	 * allocated from a sequence or a table, so that identifiers generated
+	 * on different event loops don't contend for the same block.
+	 * Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.id.impl.BlockingIdentifierGenerator
+	 */
+	String ID_BLOCK_PER_EVENT_LOOP = "hibernate.vertx.id_generator.per_event_loop";
+
+	/**
+	 * When enabled, the uninitialized proxies created by a query for lazy
+	 * to-one associations with batch fetching are loaded by the session right
+	 * after the results of the query have been read, instead of waiting for
+	 * the application to fetch them. The batch loads of different entity
+	 * types are sent to the database together, so that their latencies
+	 * overlap. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.sql.results.internal.BatchFetchPrefetcher
+	 */
+	String BATCH_FETCH_PREFETCH = "hibernate.vertx.batch_fetch.prefetch";
+
+	/**
+	 * When enabled, the eager collections with different roles left
+	 * uninitialized by a query or a load are loaded together, so that their
+	 * latencies overlap, instead of one after the other. Only the collections
+	 * whose elements can be read without further database access are loaded
+	 * together. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.sql.results.internal.PipelinedLoads
+	 */
+	String EAGER_COLLECTION_PIPELINING = "hibernate.vertx.eager_collections.pipelined";
 }
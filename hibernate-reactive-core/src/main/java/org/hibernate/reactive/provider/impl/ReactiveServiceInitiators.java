@@ -24,9 +24,11 @@
 import org.hibernate.internal.util.cache.InternalCacheFactoryInitiator;
 import org.hibernate.persister.internal.PersisterFactoryInitiator;
 import org.hibernate.property.access.internal.PropertyAccessStrategyResolverInitiator;
+import org.hibernate.reactive.cache.impl.ReactiveCacheAccessInitiator;
 import org.hibernate.reactive.context.impl.VertxContextInitiator;
 import org.hibernate.reactive.engine.jdbc.mutation.internal.ReactiveMutationExecutorServiceInitiator;
 import org.hibernate.reactive.loader.ast.internal.ReactiveBatchLoaderFactoryInitiator;
+import org.hibernate.reactive.pool.impl.PoolMetricsInitiator;
 import org.hibernate.reactive.pool.impl.ReactiveConnectionPoolInitiator;
 import org.hibernate.reactive.pool.impl.SqlClientPoolConfigurationInitiator;
 import org.hibernate.reactive.provider.service.NativeParametersHandling;
@@ -184,6 +186,12 @@ private static List<StandardServiceInitiator<?>> buildInitialServiceInitiatorLis
 		// SqlClientPoolConfiguration - Exclusive to Hibernate Reactive:
 		serviceInitiators.add( SqlClientPoolConfigurationInitiator.INSTANCE );
 
+		// ReactiveCacheAccess - Exclusive to Hibernate Reactive:
+		serviceInitiators.add( ReactiveCacheAccessInitiator.INSTANCE );
+
+		// PoolMetrics - Exclusive to Hibernate Reactive:
+		serviceInitiators.add( PoolMetricsInitiator.INSTANCE );
+
 		// ReactiveConnectionPool - Exclusive to Hibernate Reactive:
 		serviceInitiators.add( ReactiveConnectionPoolInitiator.INSTANCE );
 
@@ -8,11 +8,15 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.boot.model.naming.DatabaseIdentifier;
 import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.tool.schema.extract.internal.AbstractInformationExtractorImpl;
@@ -21,6 +25,11 @@
 import org.hibernate.tool.schema.extract.spi.InformationExtractor;
 import org.hibernate.tool.schema.extract.spi.TableInformation;
 
+import io.vertx.sqlclient.Row;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
 /**
  * An implementation of {@link InformationExtractor} that obtains metadata
  * information from a database's information_schema.
@@ -31,6 +40,12 @@ public abstract class AbstractReactiveInformationSchemaBasedExtractorImpl extend
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	// The queries sent before their results are needed, by SQL and parameters
+	private final Map<List<Object>, CompletionStage<ResultSet>> startedQueries = new HashMap<>();
+
+	// The rows of the queries for all the tables of a namespace, by SQL and parameters
+	private final Map<List<Object>, TableRows> rowsByTable = new HashMap<>();
+
 	public AbstractReactiveInformationSchemaBasedExtractorImpl(ExtractionContext extractionContext) {
 		super( extractionContext );
 	}
@@ -212,7 +227,30 @@ protected <T> T processTableResultSet(
 			String[] types,
 			ExtractionContext.ResultSetProcessor<T> processor
 	) throws SQLException {
+		final List<Object> parameterValues = new ArrayList<>();
+		final String sql = tablesQuery( catalog, schemaPattern, tableNamePattern, types, parameterValues );
+		if ( isAllTables( tableNamePattern ) ) {
+			// The columns of all the tables are read next,
+			// so we can run the two queries at the same time
+			final List<Object> columnsParameterValues = new ArrayList<>();
+			final String columnsSql = columnsQuery( catalog, schemaPattern, null, columnsParameterValues );
+			startQuery( sql, parameterValues );
+			startQuery( columnsSql, columnsParameterValues );
+		}
+		return getQueryResults( sql, parameterValues, processor );
+	}
 
+	/**
+	 * The query for {@link #processTableResultSet(String, String, String, String[], ExtractionContext.ResultSetProcessor)}.
+	 *
+	 * @param parameterValues the list where the parameters of the query are added
+	 */
+	protected String tablesQuery(
+			String catalog,
+			String schemaPattern,
+			String tableNamePattern,
+			String[] types,
+			List<Object> parameterValues) {
 		final String catalogColumn = getDatabaseCatalogColumnName(
 				"table_catalog",
 				"table_schema"
@@ -231,7 +269,6 @@ protected <T> T processTableResultSet(
 				// Hibernate ORM does not currently do anything with remarks,
 				// so just return null for now.
 				.append( " from information_schema.tables where 1 = 1" );
-		List<Object> parameterValues = new ArrayList<>();
 		appendClauseAndParameterIfNotNullOrEmpty( " and " + catalogColumn + " = ", catalog, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and " + schemaColumn + " like ", schemaPattern, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and table_name like ", tableNamePattern, sb, parameterValues );
@@ -253,7 +290,7 @@ protected <T> T processTableResultSet(
 			}
 			sb.append( " ) " );
 		}
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return sb.toString();
 	}
 
 	@Override
@@ -263,6 +300,27 @@ protected <T> T processColumnsResultSet(
 			String tableNamePattern,
 			String columnNamePattern,
 			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+		final List<Object> parameterValues = new ArrayList<>();
+		final String sql = columnsQuery(
+				catalog,
+				schemaPattern,
+				// Same as no filter, and the query might have been started already without it
+				isAllTables( tableNamePattern ) ? null : tableNamePattern,
+				parameterValues
+		);
+		return getQueryResults( sql, parameterValues, processor );
+	}
+
+	/**
+	 * The query for {@link #processColumnsResultSet(String, String, String, String, ExtractionContext.ResultSetProcessor)}.
+	 *
+	 * @param parameterValues the list where the parameters of the query are added
+	 */
+	protected String columnsQuery(
+			String catalog,
+			String schemaPattern,
+			String tableNamePattern,
+			List<Object> parameterValues) {
 
 		final StringBuilder sb = new StringBuilder()
 				.append( "select table_name as " ).append( getResultSetTableNameLabel() )
@@ -293,7 +351,6 @@ protected <T> T processColumnsResultSet(
 				// optional. For now, just return null for the SQL type code.
 				.append( " from information_schema.columns where 1 = 1" );
 
-		final List<Object> parameterValues = new ArrayList<>();
 		final String catalogColumn = getDatabaseCatalogColumnName(
 				"table_catalog",
 				"table_schema"
@@ -308,7 +365,189 @@ protected <T> T processColumnsResultSet(
 
 		sb.append(  " order by table_catalog, table_schema, table_name, column_name, ordinal_position" );
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return sb.toString();
+	}
+
+	@Override
+	protected <T> T processIndexInfoResultSet(
+			String catalog,
+			String schema,
+			String table,
+			boolean unique,
+			boolean approximate,
+			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+		if ( table != null && isSingleNamespace( catalog, schema ) ) {
+			startNamespaceQueries( catalog, schema, unique );
+			final List<Object> parameterValues = new ArrayList<>();
+			final String sql = indexInfoQuery( catalog, schema, null, unique, parameterValues );
+			final TableRows tableRows = tableRows( sql, parameterValues );
+			if ( tableRows != null ) {
+				return tableRows.process( table, processor );
+			}
+		}
+		final List<Object> parameterValues = new ArrayList<>();
+		final String sql = indexInfoQuery( catalog, schema, table, unique, parameterValues );
+		return getExtractionContext().getQueryResults( sql, parameterValues.toArray(), processor );
+	}
+
+	/**
+	 * The query for {@link #processIndexInfoResultSet(String, String, String, boolean, boolean, ExtractionContext.ResultSetProcessor)}.
+	 * <p>
+	 * Besides the columns required by {@link AbstractInformationExtractorImpl}, the query
+	 * must return the name of the table with the label {@link #getResultSetTableNameLabel()},
+	 * so that the indexes of all the tables can be read at once.
+	 *
+	 * @param table the name of the table, or {@code null} for all the tables
+	 * @param parameterValues the list where the parameters of the query are added
+	 */
+	protected abstract String indexInfoQuery(
+			String catalog,
+			String schema,
+			String table,
+			boolean unique,
+			List<Object> parameterValues);
+
+	@Override
+	protected <T> T processImportedKeysResultSet(
+			String catalog,
+			String schema,
+			String table,
+			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+		if ( table != null && isSingleNamespace( catalog, schema ) ) {
+			// ORM doesn't ask for unique indexes only
+			startNamespaceQueries( catalog, schema, false );
+			final List<Object> parameterValues = new ArrayList<>();
+			final String sql = importedKeysQuery( catalog, schema, null, parameterValues );
+			final TableRows tableRows = tableRows( sql, parameterValues );
+			if ( tableRows != null ) {
+				return tableRows.process( table, processor );
+			}
+		}
+		final List<Object> parameterValues = new ArrayList<>();
+		final String sql = importedKeysQuery( catalog, schema, table, parameterValues );
+		return getExtractionContext().getQueryResults( sql, parameterValues.toArray(), processor );
+	}
+
+	/**
+	 * The query for {@link #processImportedKeysResultSet(String, String, String, ExtractionContext.ResultSetProcessor)}.
+	 * <p>
+	 * Besides the columns required by {@link AbstractInformationExtractorImpl}, the query
+	 * must return the name of the table with the label {@link #getResultSetTableNameLabel()},
+	 * so that the foreign keys of all the tables can be read at once.
+	 *
+	 * @param table the name of the table, or {@code null} for all the tables
+	 * @param parameterValues the list where the parameters of the query are added
+	 */
+	protected abstract String importedKeysQuery(
+			String catalog,
+			String schema,
+			String table,
+			List<Object> parameterValues);
+
+	/**
+	 * Whether the given catalog and schema select the tables of a single
+	 * namespace, so that the tables can be told apart by name alone.
+	 */
+	protected boolean isSingleNamespace(String catalog, String schema) {
+		return schema != null && !schema.isEmpty();
+	}
+
+	private static boolean isAllTables(String tableNamePattern) {
+		return tableNamePattern == null || "%".equals( tableNamePattern );
+	}
+
+	/**
+	 * The first time the indexes or the foreign keys of a table are needed,
+	 * read the indexes and the foreign keys of all the tables of the namespace,
+	 * with two queries running at the same time.
+	 */
+	private void startNamespaceQueries(String catalog, String schema, boolean unique) {
+		final List<Object> indexParameterValues = new ArrayList<>();
+		final String indexSql = indexInfoQuery( catalog, schema, null, unique, indexParameterValues );
+		final List<Object> keysParameterValues = new ArrayList<>();
+		final String keysSql = importedKeysQuery( catalog, schema, null, keysParameterValues );
+		if ( !rowsByTable.containsKey( queryKey( indexSql, indexParameterValues ) ) ) {
+			startQuery( indexSql, indexParameterValues );
+		}
+		if ( !rowsByTable.containsKey( queryKey( keysSql, keysParameterValues ) ) ) {
+			startQuery( keysSql, keysParameterValues );
+		}
+	}
+
+	private void startQuery(String sql, List<Object> parameterValues) {
+		if ( getExtractionContext() instanceof ReactiveImprovedExtractionContextImpl context ) {
+			startedQueries.computeIfAbsent(
+					queryKey( sql, parameterValues ),
+					key -> context.startQuery( sql, parameterValues.toArray() )
+			);
+		}
+	}
+
+	private <T> T getQueryResults(
+			String sql,
+			List<Object> parameterValues,
+			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+		final CompletionStage<ResultSet> started = startedQueries.remove( queryKey( sql, parameterValues ) );
+		return started == null
+				? getExtractionContext().getQueryResults( sql, parameterValues.toArray(), processor )
+				: ( (ReactiveImprovedExtractionContextImpl) getExtractionContext() ).getQueryResults( started, processor );
+	}
+
+	/**
+	 * The rows of a query for all the tables of a namespace, by table,
+	 * or {@code null} if they are not available.
+	 */
+	private TableRows tableRows(String sql, List<Object> parameterValues) {
+		final List<Object> key = queryKey( sql, parameterValues );
+		if ( rowsByTable.containsKey( key ) ) {
+			return rowsByTable.get( key );
+		}
+		final CompletionStage<ResultSet> started = startedQueries.remove( key );
+		final ResultSet resultSet = started == null ? null : started.toCompletableFuture().join();
+		final TableRows tableRows = resultSet instanceof ResultSetAdaptor adaptor
+				? new TableRows( (ReactiveImprovedExtractionContextImpl) getExtractionContext(), adaptor, getResultSetTableNameLabel() )
+				: null;
+		// Also remember when the query failed, so that we don't try again for every table
+		rowsByTable.put( key, tableRows );
+		return tableRows;
+	}
+
+	private static List<Object> queryKey(String sql, List<Object> parameterValues) {
+		final List<Object> key = new ArrayList<>( parameterValues.size() + 1 );
+		key.add( sql );
+		key.addAll( parameterValues );
+		return key;
+	}
+
+	private static class TableRows {
+		private final ReactiveImprovedExtractionContextImpl context;
+		private final ResultSetAdaptor resultSet;
+		private final Map<String, List<Row>> rowsByTable;
+
+		TableRows(ReactiveImprovedExtractionContextImpl context, ResultSetAdaptor resultSet, String tableNameLabel) {
+			this.context = context;
+			this.resultSet = resultSet;
+			this.rowsByTable = resultSet.remainingRowsBy( tableNameLabel );
+		}
+
+		<T> T process(String table, ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+			final ResultSet tableResultSet = resultSet.withRows( rows( table ) );
+			return context.getQueryResults( completedFuture( tableResultSet ), processor );
+		}
+
+		private List<Row> rows(String table) {
+			final List<Row> rows = rowsByTable.get( table );
+			if ( rows != null ) {
+				return rows;
+			}
+			// The name of the table might not have the same case in the database
+			for ( Map.Entry<String, List<Row>> entry : rowsByTable.entrySet() ) {
+				if ( table.equalsIgnoreCase( entry.getKey() ) ) {
+					return entry.getValue();
+				}
+			}
+			return emptyList();
+		}
 	}
 
 	/**
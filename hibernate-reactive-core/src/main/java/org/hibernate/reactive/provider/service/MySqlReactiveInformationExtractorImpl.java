@@ -91,13 +91,18 @@ protected <T> T processCatalogsResultSet(ExtractionContext.ResultSetProcessor<T>
 	}
 
 	@Override
-	protected <T> T processIndexInfoResultSet(
+	protected boolean isSingleNamespace(String catalog, String schema) {
+		// MySQL's schema is actually a catalog
+		return catalog != null && !catalog.isEmpty();
+	}
+
+	@Override
+	protected String indexInfoQuery(
 			String catalog,
 			String schema,
 			String table,
 			boolean unique,
-			boolean approximate,
-			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+			List<Object> parameters) {
 
 		// According to the MySQL 8.0 documentation about
 		// information_schema.statistics in the "Notes" section
@@ -137,9 +142,9 @@ protected <T> T processIndexInfoResultSet(
 				.append("select index_name as " ).append( getResultSetIndexNameLabel() )
 				.append( ", -1 as " ).append( getResultSetIndexTypeLabel() )
 				.append( ", column_name as " ).append( getResultSetColumnNameLabel() )
+				.append( ", table_name as " ).append( getResultSetTableNameLabel() )
 				.append( " from information_schema.statistics where true" );
 
-		final List<Object> parameters = new ArrayList<>();
 		// MySQL's information_schema.statistics stores the catalog name in
 		// the schema_name column. This is why the table_schema column is
 		// is constrained to be catalog value.
@@ -153,13 +158,11 @@ protected <T> T processIndexInfoResultSet(
 
 		sb.append( " order by index_name, seq_in_index" );
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameters.toArray(), processor );
+		return sb.toString();
 	}
 
 	@Override
-	protected <T> T processImportedKeysResultSet(
-			String catalog, String schema, String table, ExtractionContext.ResultSetProcessor<T> processor)
-			throws SQLException {
+	protected String importedKeysQuery(String catalog, String schema, String table, List<Object> parameters) {
 
 		// MySQL's information_schema.key_column_usage stores the catalog name in
 		// the schema_name column. This is why the referenced_table_schema column is
@@ -173,6 +176,7 @@ protected <T> T processImportedKeysResultSet(
 				.append( ", referenced_table_name as " ).append( getResultSetPrimaryKeyTableLabel() )
 				.append( ", referenced_column_name as ").append( getResultSetPrimaryKeyColumnNameLabel() )
 				.append( ", column_name as " ).append( getResultSetForeignKeyColumnNameLabel() )
+				.append( ", table_name as " ).append( getResultSetTableNameLabel() )
 				.append( " from information_schema.key_column_usage" )
 				// Exclude primary keys, which do not have a referenced table.
 				.append( " where referenced_table_name is not null" );
@@ -180,7 +184,6 @@ protected <T> T processImportedKeysResultSet(
 
 		// Now add constraints for the requested catalog/schema/table
 
-		final List<Object> parameters = new ArrayList<>();
 		final List<String> orderByList = new ArrayList<>();
 
 		// MySQL's information_schema.statistics stores the catalog name in
@@ -199,7 +202,7 @@ protected <T> T processImportedKeysResultSet(
 			sb.append( ", " ).append( orderByList.get( i ) );
 		}
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameters.toArray(), processor );
+		return sb.toString();
 	}
 
 }
@@ -35,29 +35,40 @@ protected <T> T processPrimaryKeysResultSet(
 	}
 
 	@Override
-	protected <T> T processIndexInfoResultSet(
+	protected boolean isSingleNamespace(String catalog, String schema) {
+		// The user_* views only contain the objects of the current user
+		return true;
+	}
+
+	@Override
+	protected String indexInfoQuery(
 			String catalog,
 			String schema,
 			String table,
 			boolean unique,
-			boolean approximate,
-			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+			List<Object> parameters) {
 
 		final StringBuilder sb = new StringBuilder()
 				.append("select uic.index_name as " ).append( getResultSetIndexNameLabel() )
 				.append( ", -1 as " ).append( getResultSetIndexTypeLabel() )
 				.append( ", uic.column_name as " ).append( getResultSetColumnNameLabel() )
-				.append( " from user_ind_columns uic join user_indexes ui on ui.table_name = uic.table_name" )
+				.append( ", uic.table_name as " ).append( getResultSetTableNameLabel() )
+				.append( " from user_ind_columns uic join user_indexes ui on ui.index_name = uic.index_name" )
 				.append( " where 1 = 1");
 
-		final List<Object> parameters = new ArrayList<>();
 		// Oracle's index TABLE_OWNER (schema) name and TABLE_NAME in USER_INDEXES
 		// column names for an index are in USE_IND_COLUMNS
 		assert catalog == null || catalog.isEmpty();
 		appendClauseAndParameterIfNotNullOrEmpty( " and ui.table_owner = ", schema, sb, parameters );
 		appendClauseAndParameterIfNotNullOrEmpty( " and ui.table_name = ", table, sb, parameters );
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameters.toArray(), processor );
+		if ( unique ) {
+			sb.append( " and ui.uniqueness = 'UNIQUE'" );
+		}
+
+		sb.append( " order by uic.index_name, uic.column_position" );
+
+		return sb.toString();
 	}
 
 	@Override
@@ -67,40 +78,46 @@ protected String parameterMarker(int pos) {
 
 
 	@Override
-	protected <T> T processImportedKeysResultSet(
+	protected String importedKeysQuery(
 			String catalog,
 			String schema,
 			String table,
-			ExtractionContext.ResultSetProcessor<T> processor
-	) throws SQLException {
-
-		String fkNameSubquery = "(select constraint_name from user_constraints where r_owner = '" + schema + "' and table_name = '" + table + "')";
-		String constraintSubquery =
-				"(SELECT R_CONSTRAINT_NAME FROM USER_CONSTRAINTS WHERE OWNER = '" + schema + "' and table_name = '" + table + "' and CONSTRAINT_TYPE = 'R')";
+			List<Object> parameters) {
 
+		// The columns of the foreign key and of the referenced key are
+		// matched by their position in the constraint
 		final StringBuilder sb = new StringBuilder()
-				.append( "select " ).append( fkNameSubquery ).append( " as " ).append( getResultSetForeignKeyLabel() )
+				.append( "select uc.constraint_name as " ).append( getResultSetForeignKeyLabel() )
 				.append( ", null as " ).append( getResultSetPrimaryKeyCatalogLabel() )
-				.append( ", uc.owner as " ).append( getResultSetPrimaryKeySchemaLabel() )
-				.append( ", ucc.table_name as " ).append( getResultSetPrimaryKeyTableLabel() )
-				.append( ", ucc.column_name as ").append( getResultSetPrimaryKeyColumnNameLabel() )
+				.append( ", rc.owner as " ).append( getResultSetPrimaryKeySchemaLabel() )
+				.append( ", rc.table_name as " ).append( getResultSetPrimaryKeyTableLabel() )
+				.append( ", rcc.column_name as ").append( getResultSetPrimaryKeyColumnNameLabel() )
 				.append( ", ucc.column_name as " ).append( getResultSetForeignKeyColumnNameLabel() )
-				.append( " from user_constraints uc join user_cons_columns ucc on uc.constraint_name = ucc.constraint_name ")
-				// Exclude primary keys, which do not have a referenced table.
-				.append( " where uc.constraint_name = " ).append( constraintSubquery )
-				.append( " order by uc.owner, ucc.table_name, ucc.position" );
+				.append( ", uc.table_name as " ).append( getResultSetTableNameLabel() )
+				.append( " from user_constraints uc" )
+				.append( " join user_cons_columns ucc on ucc.constraint_name = uc.constraint_name" )
+				.append( " join all_constraints rc on rc.owner = uc.r_owner and rc.constraint_name = uc.r_constraint_name" )
+				.append( " join all_cons_columns rcc on rcc.owner = rc.owner and rcc.constraint_name = rc.constraint_name" )
+				.append( " and rcc.position = ucc.position" )
+				// Only foreign keys
+				.append( " where uc.constraint_type = 'R'" );
 
-		return getExtractionContext().getQueryResults( sb.toString(), null, processor );
+		assert catalog == null || catalog.isEmpty();
+		appendClauseAndParameterIfNotNullOrEmpty( " and uc.owner = ", schema, sb, parameters );
+		appendClauseAndParameterIfNotNullOrEmpty( " and uc.table_name = ", table, sb, parameters );
+
+		sb.append( " order by uc.table_name, uc.constraint_name, ucc.position" );
+
+		return sb.toString();
 	}
 
 	@Override
-	protected <T> T processTableResultSet(
+	protected String tablesQuery(
 			String catalog,
 			String schemaPattern,
 			String tableNamePattern,
 			String[] types,
-			ExtractionContext.ResultSetProcessor<T> processor
-	) throws SQLException {
+			List<Object> parameterValues) {
 		final String catalogColumn = getDatabaseCatalogColumnName(
 				"table_catalog",
 				"table_schema"
@@ -118,20 +135,18 @@ protected <T> T processTableResultSet(
 				// Hibernate ORM does not currently do anything with remarks,
 				// so just return null for now.
 				.append( " from sys.all_tables sat join sys.all_tab_comments satc on sat.TABLE_NAME = satc.TABLE_NAME where 1 = 1" );
-		List<Object> parameterValues = new ArrayList<>();
 		appendClauseAndParameterIfNotNullOrEmpty( " and " + schemaColumn + " like ", schemaPattern, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and sat.table_name like ", tableNamePattern, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and satc.table_name like ", tableNamePattern, sb, parameterValues );
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return sb.toString();
 	}
 
 	@Override
-	protected <T> T processColumnsResultSet(
+	protected String columnsQuery(
 			String catalog,
 			String schemaPattern,
 			String tableNamePattern,
-			String columnNamePattern,
-			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+			List<Object> parameterValues) {
 		final StringBuilder sb = new StringBuilder()
 				.append( "select c.table_name as " ).append( getResultSetTableNameLabel() )
 				.append( ", c.column_name as " ).append( getResultSetColumnNameLabel() )
@@ -159,7 +174,6 @@ protected <T> T processColumnsResultSet(
 				// o.object_type = 'VIEW' is for a view
 				.append( " where 1 = 1" );
 
-		final List<Object> parameterValues = new ArrayList<>();
 		final String catalogColumn = getDatabaseCatalogColumnName(
 				"table_catalog",
 				"table_schema"
@@ -173,7 +187,7 @@ protected <T> T processColumnsResultSet(
 
 		sb.append(  " order by table_name, column_name, column_id" );
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return sb.toString();
 	}
 
 	protected String getDatabaseSchemaColumnName(String catalogColumnName, String schemaColumnName ) {
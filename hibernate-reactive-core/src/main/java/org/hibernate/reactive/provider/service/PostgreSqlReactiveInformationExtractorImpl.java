@@ -7,7 +7,6 @@
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.boot.model.naming.Identifier;
@@ -46,13 +45,12 @@ protected <T> T processPrimaryKeysResultSet(
 		throw new UnsupportedOperationException();
 	}
 	@Override
-	protected <T> T processIndexInfoResultSet(
+	protected String indexInfoQuery(
 			String catalog,
 			String schema,
 			String table,
 			boolean unique,
-			boolean approximate,
-			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+			List<Object> parameterValues) {
 
 		// This implementation is based on org.postgresql.jdbc.PgDatabaseMetaData#getIndexInfo.
 		// It excludes columns that are specified by DatabaseMetaData#getIndexInfo, but
@@ -71,6 +69,7 @@ protected <T> T processIndexInfoResultSet(
 				.append( " end as index_type" )
 				.append( " , (information_schema._pg_expandarray(i.indkey)).n as position" )
 				.append( " , ci.oid as ci_iod" )
+				.append( " , ct.relname as table_name" )
 				.append( " from pg_catalog.pg_class ct" )
 				.append( " join pg_catalog.pg_namespace n on (ct.relnamespace = n.oid)" )
 				.append( " join pg_catalog.pg_index i on (ct.oid = i.indrelid)" )
@@ -78,8 +77,6 @@ protected <T> T processIndexInfoResultSet(
 				.append( " join pg_catalog.pg_am am on (ci.relam = am.oid)" )
 				.append( " where true" );
 
-		final List<Object> parameterValues = new ArrayList<>();
-
 		appendClauseAndParameterIfNotNullOrEmpty( " and n.nspname = ", schema, innerQuery, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and ct.relname = ", table, innerQuery, parameterValues );
 
@@ -87,15 +84,12 @@ protected <T> T processIndexInfoResultSet(
 			innerQuery.append( " AND i.indisunique = true" );
 		}
 
-		return getExtractionContext().getQueryResults(
-				"select tmp.index_name as " + getResultSetIndexNameLabel() +
-						", tmp.index_type as " + getResultSetIndexTypeLabel() +
-						", trim(both '\"' from pg_catalog.pg_get_indexdef(tmp.ci_iod, tmp.position, false)) as " + getResultSetColumnNameLabel() +
-						" from ( " + innerQuery + " ) tmp" +
-						" order by " + getResultSetIndexNameLabel() + ", tmp.position",
-				parameterValues.toArray(),
-				processor
-		);
+		return "select tmp.index_name as " + getResultSetIndexNameLabel() +
+				", tmp.index_type as " + getResultSetIndexTypeLabel() +
+				", trim(both '\"' from pg_catalog.pg_get_indexdef(tmp.ci_iod, tmp.position, false)) as " + getResultSetColumnNameLabel() +
+				", tmp.table_name as " + getResultSetTableNameLabel() +
+				" from ( " + innerQuery + " ) tmp" +
+				" order by " + getResultSetIndexNameLabel() + ", tmp.position";
 	}
 
 	@Override
@@ -104,12 +98,11 @@ protected String parameterMarker(int pos) {
 	}
 
 	@Override
-	protected <T> T processImportedKeysResultSet(
+	protected String importedKeysQuery(
 			String catalog,
 			String schema,
 			String table,
-			ExtractionContext.ResultSetProcessor<T> processor
-	) throws SQLException {
+			List<Object> parameterValues) {
 
 		// This implementation is based on org.postgresql.jdbc.PgDatabaseMetaData#getImportedExportedKeys.
 		// It excludes columns that are specified by DatabaseMetaData#getImportedKeys, but
@@ -123,6 +116,7 @@ protected <T> T processImportedKeysResultSet(
 				.append( ", fka.attname as " ).append( getResultSetForeignKeyColumnNameLabel() )
 				.append( ", pos.n as " ).append( getResultSetColumnPositionColumn() )
 				.append( ", con.conname as " ).append( getResultSetForeignKeyLabel() )
+				.append( ", fkc.relname as " ).append( getResultSetTableNameLabel() )
 				.append( " from pg_catalog.pg_namespace pkn, pg_catalog.pg_class pkc, pg_catalog.pg_attribute pka" )
 				.append( ",  pg_catalog.pg_namespace fkn, pg_catalog.pg_class fkc, pg_catalog.pg_attribute fka" )
 				.append( ", pg_catalog.pg_constraint con" )
@@ -131,14 +125,12 @@ protected <T> T processImportedKeysResultSet(
 				.append( " and fkn.oid = fkc.relnamespace and fkc.oid = fka.attrelid and fka.attnum = con.conkey[pos.n] and con.conrelid = fkc.oid" )
 				.append( " and con.contype = 'f' " );
 
-		final List<Object> parameterValues = new ArrayList<>();
-
 		appendClauseAndParameterIfNotNullOrEmpty( " and fkn.nspname = ", schema, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and fkc.relname = ", table, sb, parameterValues );
 
 		// No need to order by catalog since it is always null.
 		sb.append( " order by pkn.nspname, pkc.relname, con.conname, pos.n" );
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return sb.toString();
 	}
 
 	@Override
@@ -8,19 +8,29 @@
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 
+import org.hibernate.dialect.DB2Dialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.tool.schema.spi.GenerationTarget;
 
-import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.supplyStage;
 
 /**
  * Adaptor that redirects DDL generated by the schema export
@@ -33,6 +43,7 @@ public class ReactiveGenerationTarget implements GenerationTarget {
 	private VertxInstance vertxSupplier;
 	private ReactiveConnectionPool service;
 	private Set<String> statements;
+	private boolean transactionalDdl;
 	private final List<String> commands = new ArrayList<>();
 
 	private volatile CountDownLatch done;
@@ -45,6 +56,7 @@ public ReactiveGenerationTarget(ServiceRegistry registry) {
 	public void prepare() {
 		service = registry.getService( ReactiveConnectionPool.class );
 		vertxSupplier = registry.getService( VertxInstance.class );
+		transactionalDdl = supportsTransactionalDdl( registry.getService( JdbcEnvironment.class ).getDialect() );
 		statements = new HashSet<>();
 		done = new CountDownLatch( 1 );
 	}
@@ -88,19 +100,140 @@ public void release() {
 	 * This method never fails.
 	 */
 	private CompletionStage<Void> executeCommands(ReactiveConnection reactiveConnection) {
-		CompletionStage<Void> result = voidFuture();
-		for ( String command : commands ) {
-			result = result.thenApply( v -> command )
-					.thenCompose( reactiveConnection::execute )
-					.handle( ReactiveGenerationTarget::logCommandFailure );
-		}
-		return result
-				.thenApply( v -> reactiveConnection )
+		return executeCommands( reactiveConnection, commands, transactionalDdl )
+				.thenApply( failures -> reactiveConnection )
 				.thenCompose( ReactiveConnection::close )
 				// In case there is a failure closing the connection
 				.handle( ReactiveGenerationTarget::logCommandFailure );
 	}
 
+	/**
+	 * Execute the commands in the order they were generated, which is
+	 * already the order of the dependencies between the database objects.
+	 * Consecutive commands of the same kind, for example all the
+	 * {@code create table} statements, form a group. The commands of a
+	 * group are sent to the database without waiting for the outcome of
+	 * the previous one, and, when the database supports transactional DDL,
+	 * they are executed in a single transaction.
+	 *
+	 * @return the number of commands that failed, each failure is logged
+	 */
+	static CompletionStage<Integer> executeCommands(ReactiveConnection reactiveConnection, List<String> commands, boolean transactionalDdl) {
+		final int[] failures = new int[1];
+		return loop( groups( commands ), group -> ( transactionalDdl && group.size() > 1
+						? executeInTransaction( reactiveConnection, group )
+						: executePipelined( reactiveConnection, group ) )
+						.thenAccept( failed -> failures[0] += failed ) )
+				.thenApply( v -> failures[0] );
+	}
+
+	/**
+	 * Send all the commands without waiting for the outcome of the previous
+	 * one. The database still executes them in order, and the failure of a
+	 * command doesn't prevent the execution of the following ones.
+	 *
+	 * @return the number of commands that failed
+	 */
+	private static CompletionStage<Integer> executePipelined(ReactiveConnection reactiveConnection, List<String> group) {
+		final List<CompletionStage<Void>> results = new ArrayList<>( group.size() );
+		for ( String command : group ) {
+			results.add( supplyStage( () -> reactiveConnection.execute( command ) ) );
+		}
+		final int[] failures = new int[1];
+		return loop( results, result -> result
+				.handle( (ignore, throwable) -> {
+					if ( throwable != null ) {
+						failures[0]++;
+					}
+					return logCommandFailure( ignore, throwable );
+				} ) )
+				.thenApply( v -> failures[0] );
+	}
+
+	/**
+	 * Send all the commands in one transaction. If any of them fails,
+	 * the transaction is rolled back, and the commands are executed again
+	 * without a transaction, so that each failure is logged as usual.
+	 *
+	 * @return the number of commands that failed
+	 */
+	private static CompletionStage<Integer> executeInTransaction(ReactiveConnection reactiveConnection, List<String> group) {
+		return reactiveConnection.beginTransaction()
+				.thenCompose( v -> {
+					final List<CompletionStage<Void>> results = new ArrayList<>( group.size() );
+					for ( String command : group ) {
+						results.add( supplyStage( () -> reactiveConnection.execute( command ) ) );
+					}
+					final Throwable[] failure = new Throwable[1];
+					return loop( results, result -> result
+							.handle( (ignore, throwable) -> {
+								if ( throwable != null && failure[0] == null ) {
+									failure[0] = throwable;
+								}
+								return null;
+							} ) )
+							.thenCompose( ignore -> failure[0] == null
+									? reactiveConnection.commitTransaction()
+									: failedFuture( failure[0] ) );
+				} )
+				.handle( CompletionStages::handle )
+				.thenCompose( handler -> {
+					if ( !handler.hasFailed() ) {
+						return completedFuture( 0 );
+					}
+					log.debugf( "Executing DDL commands one by one after transaction failure: %s", handler.getThrowable().getMessage() );
+					return reactiveConnection.rollbackTransaction()
+							.handle( CompletionStages::handle )
+							.thenCompose( ignore -> executePipelined( reactiveConnection, group ) );
+				} );
+	}
+
+	/**
+	 * Split the commands into groups of consecutive commands of the same kind.
+	 */
+	private static List<List<String>> groups(List<String> commands) {
+		final List<List<String>> groups = new ArrayList<>();
+		String currentKind = null;
+		for ( String command : commands ) {
+			final String kind = kind( command );
+			if ( !kind.equals( currentKind ) ) {
+				groups.add( new ArrayList<>() );
+				currentKind = kind;
+			}
+			groups.get( groups.size() - 1 ).add( command );
+		}
+		return groups;
+	}
+
+	/**
+	 * The first two words of the command, for example {@code create table}
+	 */
+	private static String kind(String command) {
+		final String[] words = command.trim().toLowerCase( Locale.ROOT ).split( "\\s+", 3 );
+		return words.length > 1 ? words[0] + ' ' + words[1] : words[0];
+	}
+
+	/**
+	 * Databases where DDL statements don't commit the current transaction,
+	 * so that a group of commands can be rolled back when one of them fails.
+	 * <p>
+	 * Hibernate ORM has no dialect capability for this. The other databases
+	 * are excluded on purpose:
+	 * <ul>
+	 * <li>MySQL, MariaDB and Oracle commit the transaction implicitly before
+	 * and after each DDL statement, so there is nothing to roll back;
+	 * <li>CockroachDB runs schema changes asynchronously, after the commit,
+	 * and restricts the schema changes allowed in the same transaction, so
+	 * that a group would often fail, only at commit, and be executed again
+	 * one command at a time.
+	 * </ul>
+	 */
+	private static boolean supportsTransactionalDdl(Dialect dialect) {
+		return dialect instanceof PostgreSQLDialect
+				|| dialect instanceof SQLServerDialect
+				|| dialect instanceof DB2Dialect;
+	}
+
 	private static <U> U logCommandFailure(Void ignore, Throwable throwable) {
 		if ( throwable != null ) {
 			log.ddlCommandFailed( throwable.getMessage() );
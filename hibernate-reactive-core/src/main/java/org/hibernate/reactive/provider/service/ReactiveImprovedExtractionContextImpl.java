@@ -33,6 +33,7 @@
 import java.util.Calendar;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
@@ -68,12 +69,29 @@ public <T> T getQueryResults(
 			String queryString,
 			Object[] positionalParameters,
 			ResultSetProcessor<T> resultSetProcessor) throws SQLException {
-		try (final ResultSet resultSet = getQueryResultSet( queryString, positionalParameters )) {
+		return getQueryResults( startQuery( queryString, positionalParameters ), resultSetProcessor );
+	}
+
+	/**
+	 * Wait for the results of a query sent with {@link #startQuery(String, Object[])},
+	 * and process them.
+	 */
+	public <T> T getQueryResults(
+			CompletionStage<ResultSet> queryResults,
+			ResultSetProcessor<T> resultSetProcessor) throws SQLException {
+		final ResultSet results = queryResults.toCompletableFuture().join();
+		try (final ResultSet resultSet = results == null ? null : new ResultSetWorkaround( results )) {
 			return resultSetProcessor.process( resultSet );
 		}
 	}
 
-	private ResultSet getQueryResultSet(
+	/**
+	 * Send a query to the database without waiting for the results,
+	 * so that other queries can run at the same time.
+	 *
+	 * @return the results of the query, or {@code null} if the query failed
+	 */
+	public CompletionStage<ResultSet> startQuery(
 			String queryString,
 			Object[] positionalParameters) {
 		final Object[] parametersToUse = positionalParameters != null ? positionalParameters : new Object[0];
@@ -84,11 +102,8 @@ private ResultSet getQueryResultSet(
 				// - not all databases support transactional DDL
 				.selectJdbcOutsideTransaction( queryToUse, parametersToUse )
 				.whenComplete( (resultSet, err) -> logSqlException( err, () -> "could not execute query ", queryToUse ) )
-				.thenApply( ResultSetWorkaround::new )
 				// During schema migration, errors are ignored
-				.handle( ReactiveImprovedExtractionContextImpl::ignoreException )
-				.toCompletableFuture()
-				.join();
+				.handle( ReactiveImprovedExtractionContextImpl::ignoreException );
 	}
 
 	private static <T> T ignoreException(T result, Throwable throwable) {
@@ -33,13 +33,12 @@ public SqlServerReactiveInformationExtractorImpl(ExtractionContext extractionCon
 	// (See https://docs.microsoft.com/en-us/sql/relational-databases/system-information-schema-views/schemata-transact-sql?view=sql-server-ver15&viewFallbackFrom=sql-server-ver19)
 
 	@Override
-	protected <T> T processTableResultSet(
+	protected String tablesQuery(
 			String catalog,
 			String schemaPattern,
 			String tableNamePattern,
 			String[] types,
-			ExtractionContext.ResultSetProcessor<T> processor
-	) throws SQLException {
+			List<Object> parameterValues) {
 
 		// Documentation for information_schema.tables says the following for
 		// table_schema:
@@ -66,8 +65,6 @@ protected <T> T processTableResultSet(
 				// o.type = 'V' is for a view
 				.append( " where 1 = 1" );
 
-		List<Object> parameterValues = new ArrayList<>();
-
 		appendClauseAndParameterIfNotNullOrEmpty( " and t.table_catalog = ", catalog, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_SCHEMA_NAME( o.object_id ) like ", schemaPattern, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and t.table_name like ", tableNamePattern, sb, parameterValues );
@@ -89,7 +86,7 @@ protected <T> T processTableResultSet(
 			}
 			sb.append( " ) " );
 		}
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return sb.toString();
 	}
 
 
@@ -99,12 +96,11 @@ protected String parameterMarker(int pos) {
 	}
 
 	@Override
-	protected <T> T processColumnsResultSet(
+	protected String columnsQuery(
 			String catalog,
 			String schemaPattern,
 			String tableNamePattern,
-			String columnNamePattern,
-			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+			List<Object> parameterValues) {
 
 		// Documentation for information_schema.columns says the following for
 		// table_schema:
@@ -142,14 +138,13 @@ protected <T> T processColumnsResultSet(
 				// o.type = 'V' is for a view
 				.append( " where 1 = 1" );
 
-		final List<Object> parameterValues = new ArrayList<>();
 		appendClauseAndParameterIfNotNullOrEmpty( " and c.table_catalog = " , catalog, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_SCHEMA_NAME( o.object_id ) like " , schemaPattern, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and c.table_name like " , tableNamePattern, sb, parameterValues );
 
 		sb.append(  " order by c.table_catalog, OBJECT_SCHEMA_NAME( o.object_id ), c.table_name, c.column_name, c.ordinal_position" );
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return sb.toString();
 	}
 
 	@Override
@@ -171,18 +166,18 @@ protected <T> T processPrimaryKeysResultSet(
 	}
 
 	@Override
-	protected <T> T processIndexInfoResultSet(
+	protected String indexInfoQuery(
 			String catalog,
 			String schema,
 			String table,
 			boolean unique,
-			boolean approximate,
-			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+			List<Object> parameterValues) {
 
 		StringBuilder sb = new StringBuilder()
 				.append( "select i.name as " ).append( getResultSetIndexNameLabel() )
 				.append( " , i.type as " ).append( getResultSetIndexTypeLabel() )
 				.append( " , COL_NAME(ic.object_id, ic.column_id) as " ).append( getResultSetColumnNameLabel() )
+				.append( " , OBJECT_NAME( i.object_id ) as " ).append( getResultSetTableNameLabel() )
 				.append( " from sys.indexes i inner join sys.index_columns ic" )
 				.append( " on ic.object_id = i.object_id and ic.index_id = i.index_id" )
 				.append( " where i.index_id > 0" )
@@ -190,8 +185,6 @@ protected <T> T processIndexInfoResultSet(
 				.append( " and i.is_primary_key = 0" );
 				// do not include PK indexes
 
-		final List<Object> parameterValues = new ArrayList<>();
-
 		appendClauseAndParameterIfNotNullOrEmpty( " and DB_NAME() = ", catalog, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_NAME( i.object_id ) = ", table, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_SCHEMA_NAME( i.object_id) = ", schema, sb, parameterValues );
@@ -202,16 +195,15 @@ protected <T> T processIndexInfoResultSet(
 
 		sb.append( " order by OBJECT_SCHEMA_NAME( i.object_id), OBJECT_NAME( i.object_id ), ic.key_ordinal" );
 
-		return getExtractionContext()
-				.getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return sb.toString();
 	}
 
 	@Override
-	protected <T> T processImportedKeysResultSet(
+	protected String importedKeysQuery(
 			String catalog,
 			String schema,
 			String table,
-			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+			List<Object> parameters) {
 
 		// Documentation for information_schema.key_column_usage says the following for
 		// table_schema and constraint_schema:
@@ -231,12 +223,12 @@ protected <T> T processImportedKeysResultSet(
 				.append( ", OBJECT_NAME( referenced_object_id ) as " ).append( getResultSetPrimaryKeyTableLabel() )
 				.append( ", COL_NAME( parent_object_id, parent_column_id ) as ").append( getResultSetForeignKeyColumnNameLabel() )
 				.append( ", COL_NAME( referenced_object_id, referenced_column_id) as ").append( getResultSetPrimaryKeyColumnNameLabel() )
+				.append( ", OBJECT_NAME( parent_object_id ) as " ).append( getResultSetTableNameLabel() )
 				.append( " from sys.foreign_key_columns" )
 				.append( " where 1 = 1" );
 
 		// Now add constraints for the requested catalog/schema/table
 
-		final List<Object> parameters = new ArrayList<>();
 		final List<String> orderByList = new ArrayList<>();
 
 		if ( appendClauseAndParameterIfNotNullOrEmpty( " and DB_NAME() = ", catalog, sb, parameters ) ) {
@@ -255,7 +247,7 @@ protected <T> T processImportedKeysResultSet(
 			sb.append( ", " ).append( orderByList.get( i ) );
 		}
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameters.toArray(), processor );
+		return sb.toString();
 	}
 
 	@Override
@@ -13,6 +13,7 @@
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.CommonQueryContract;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -42,6 +43,14 @@ default CompletionStage<List<R>> getReactiveResultList() {
 
 	CompletionStage<List<R>> reactiveList();
 
+	/**
+	 * Execute the query, reading the results through a database cursor,
+	 * {@link #getFetchSize() fetch size} rows at a time.
+	 *
+	 * @see ReactiveResultsStream
+	 */
+	CompletionStage<ReactiveResultsStream<R>> reactiveStream();
+
 	CompletionStage<R> getReactiveSingleResult();
 
 	CompletionStage<R> getReactiveSingleResultOrNull();
@@ -37,6 +37,7 @@
 import org.hibernate.reactive.query.sqm.internal.AggregatedSelectReactiveQueryPlan;
 import org.hibernate.reactive.query.sqm.internal.ConcreteSqmSelectReactiveQueryPlan;
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 import org.hibernate.reactive.sql.results.spi.ReactiveSingleResultConsumer;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.results.internal.TupleMetadata;
@@ -57,6 +58,14 @@
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * The number of rows read from the cursor at a time when the
+	 * fetch size of the query is not set.
+	 *
+	 * @see #reactiveStream(Function)
+	 */
+	public static final int DEFAULT_STREAM_FETCH_SIZE = 256;
+
 	private final Supplier<QueryOptions> queryOptionsSupplier;
 
 	private final SharedSessionContractImplementor session;
@@ -208,6 +217,67 @@ public CompletionStage<List<R>> reactiveList() {
 				} );
 	}
 
+	/**
+	 * Like {@link #reactiveList()}, but the results are read through a
+	 * database cursor, a {@link MutableQueryOptions#getFetchSize() fetch size}
+	 * rows at a time. The query is over, and the fetch profiles of the query
+	 * are unapplied, when the stream is closed.
+	 *
+	 * @param doStream opens the stream given the fetch size
+	 */
+	public CompletionStage<ReactiveResultsStream<R>> reactiveStream(
+			Function<Integer, CompletionStage<ReactiveResultsStream<R>>> doStream) {
+		final Integer fetchSize = getQueryOptions().getFetchSize();
+		final var profiles = applyProfiles();
+		return beforeQuery.get()
+				.thenCompose( v -> doStream.apply( fetchSize == null || fetchSize <= 0 ? DEFAULT_STREAM_FETCH_SIZE : fetchSize ) )
+				.handle( (stream, error) -> {
+					if ( error != null ) {
+						afterQuery.accept( false );
+						unapplyProfiles( profiles );
+						handleException( error );
+					}
+					return new QueryResultsStream( stream, profiles );
+				} );
+	}
+
+	/**
+	 * Ends the query when the underlying stream is closed.
+	 */
+	private class QueryResultsStream implements ReactiveResultsStream<R> {
+		private final ReactiveResultsStream<R> delegate;
+		private final HashSet<String> profiles;
+		private boolean failed;
+		private boolean closed;
+
+		private QueryResultsStream(ReactiveResultsStream<R> delegate, HashSet<String> profiles) {
+			this.delegate = delegate;
+			this.profiles = profiles;
+		}
+
+		@Override
+		public CompletionStage<List<R>> nextChunk() {
+			return delegate.nextChunk()
+					.whenComplete( (chunk, throwable) -> {
+						if ( throwable != null ) {
+							failed = true;
+						}
+					} );
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			return delegate.close()
+					.whenComplete( (v, throwable) -> {
+						if ( !closed ) {
+							closed = true;
+							afterQuery.accept( !failed && throwable == null );
+							unapplyProfiles( profiles );
+						}
+					} );
+		}
+	}
+
 	private void unapplyProfiles(HashSet<String> profiles) {
 		getSession().getLoadQueryInfluencers().setEnabledFetchProfileNames( profiles );
 	}
@@ -43,6 +43,7 @@
 import org.hibernate.reactive.query.sql.spi.ReactiveNonSelectQueryPlan;
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.type.BasicTypeReference;
 
@@ -171,6 +172,10 @@ private CompletionStage<List<R>> doReactiveList() {
 		return reactiveSelectPlan().reactivePerformList( this );
 	}
 
+	private CompletionStage<ReactiveResultsStream<R>> doReactiveStream(int fetchSize) {
+		return reactiveSelectPlan().reactivePerformStream( this, fetchSize );
+	}
+
 	private ReactiveSelectQueryPlan<R> reactiveSelectPlan() {
 		return (ReactiveSelectQueryPlan<R>) resolveSelectQueryPlan();
 	}
@@ -254,6 +259,11 @@ public CompletionStage<List<R>> reactiveList() {
 		return selectionQueryDelegate.reactiveList();
 	}
 
+	@Override
+	public CompletionStage<ReactiveResultsStream<R>> reactiveStream() {
+		return selectionQueryDelegate.reactiveStream( this::doReactiveStream );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return selectionQueryDelegate.uniqueResult();
@@ -14,7 +14,6 @@
 import org.hibernate.query.results.ResultSetMapping;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
-import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.sql.internal.NativeSelectQueryPlanImpl;
 import org.hibernate.query.sql.internal.ResultSetMappingProcessor;
 import org.hibernate.query.sql.internal.SQLQueryParser;
@@ -25,6 +24,7 @@
 import org.hibernate.reactive.query.spi.ReactiveNativeSelectQueryPlan;
 import org.hibernate.reactive.sql.exec.internal.StandardReactiveSelectExecutor;
 import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 import org.hibernate.sql.exec.internal.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
@@ -70,46 +70,68 @@ public CompletionStage<List<R>> reactivePerformList(DomainQueryExecutionContext
 			return completedFuture( emptyList() );
 		}
 
-		final List<JdbcParameterBinder> jdbcParameterBinders;
-		final JdbcParameterBindings jdbcParameterBindings;
-
-		final QueryParameterBindings queryParameterBindings = executionContext.getQueryParameterBindings();
-		if ( parameterList == null || parameterList.isEmpty() ) {
-			jdbcParameterBinders = emptyList();
-			jdbcParameterBindings = JdbcParameterBindings.NO_BINDINGS;
-		}
-		else {
-			jdbcParameterBinders = new ArrayList<>( parameterList.size() );
-			jdbcParameterBindings = new JdbcParameterBindingsImpl(
-					queryParameterBindings,
-					parameterList,
-					jdbcParameterBinders,
-					executionContext.getSession().getFactory()
-			);
-		}
+		final List<JdbcParameterBinder> jdbcParameterBinders = jdbcParameterBinders();
+		final JdbcParameterBindings jdbcParameterBindings = jdbcParameterBindings( executionContext, jdbcParameterBinders );
+		return ( (ReactiveSharedSessionContractImplementor) executionContext.getSession() )
+				.reactiveAutoFlushIfRequired( affectedTableNames )
+				.thenCompose( aBoolean -> StandardReactiveSelectExecutor.INSTANCE
+						.list(
+								jdbcSelect( jdbcParameterBinders ),
+								jdbcParameterBindings,
+								SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext ),
+								null,
+								queryOptions.getUniqueSemantic() == null
+										? ReactiveListResultsConsumer.UniqueSemantic.NEVER
+										: reactiveUniqueSemantic( queryOptions )
+						)
+				);
+	}
 
+	@Override
+	public CompletionStage<ReactiveResultsStream<R>> reactivePerformStream(DomainQueryExecutionContext executionContext, int fetchSize) {
+		final List<JdbcParameterBinder> jdbcParameterBinders = jdbcParameterBinders();
+		final JdbcParameterBindings jdbcParameterBindings = jdbcParameterBindings( executionContext, jdbcParameterBinders );
 		return ( (ReactiveSharedSessionContractImplementor) executionContext.getSession() )
 				.reactiveAutoFlushIfRequired( affectedTableNames )
-				.thenCompose( aBoolean -> {
-					final JdbcOperationQuerySelect jdbcSelect = new JdbcOperationQuerySelect(
-							sql,
-							jdbcParameterBinders,
-							resultSetMapping,
-							affectedTableNames
-					);
+				.thenCompose( aBoolean -> StandardReactiveSelectExecutor.INSTANCE
+						.stream(
+								jdbcSelect( jdbcParameterBinders ),
+								jdbcParameterBindings,
+								SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext ),
+								null,
+								null,
+								fetchSize
+						)
+				);
+	}
+
+	private List<JdbcParameterBinder> jdbcParameterBinders() {
+		return parameterList == null || parameterList.isEmpty()
+				? emptyList()
+				: new ArrayList<>( parameterList.size() );
+	}
 
-					return StandardReactiveSelectExecutor.INSTANCE
-							.list(
-									jdbcSelect,
-									jdbcParameterBindings,
-									SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext ),
-									null,
-									queryOptions.getUniqueSemantic() == null
-											? ReactiveListResultsConsumer.UniqueSemantic.NEVER
-											: reactiveUniqueSemantic( queryOptions )
-							);
+	private JdbcParameterBindings jdbcParameterBindings(
+			DomainQueryExecutionContext executionContext,
+			List<JdbcParameterBinder> jdbcParameterBinders) {
+		if ( parameterList == null || parameterList.isEmpty() ) {
+			return JdbcParameterBindings.NO_BINDINGS;
+		}
+		return new JdbcParameterBindingsImpl(
+				executionContext.getQueryParameterBindings(),
+				parameterList,
+				jdbcParameterBinders,
+				executionContext.getSession().getFactory()
+		);
+	}
 
-				} );
+	private JdbcOperationQuerySelect jdbcSelect(List<JdbcParameterBinder> jdbcParameterBinders) {
+		return new JdbcOperationQuerySelect(
+				sql,
+				jdbcParameterBinders,
+				resultSetMapping,
+				affectedTableNames
+		);
 	}
 
 	private static ReactiveListResultsConsumer.UniqueSemantic reactiveUniqueSemantic(QueryOptions queryOptions) {
@@ -12,9 +12,11 @@
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 
 import static java.util.Collections.emptyList;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
 
 /**
@@ -44,6 +46,85 @@ public CompletionStage<List<R>> reactivePerformList(DomainQueryExecutionContext
 		).thenApply( v -> overallResults );
 	}
 
+	/**
+	 * The results of the aggregated plans, streamed one plan after the other.
+	 */
+	@Override
+	public CompletionStage<ReactiveResultsStream<R>> reactivePerformStream(DomainQueryExecutionContext executionContext, int fetchSize) {
+		final Limit effectiveLimit = executionContext.getQueryOptions().getEffectiveLimit();
+		return completedFuture( new AggregatedResultsStream(
+				executionContext,
+				fetchSize,
+				effectiveLimit.getFirstRowJpa(),
+				effectiveLimit.getMaxRowsJpa()
+		) );
+	}
+
+	private class AggregatedResultsStream implements ReactiveResultsStream<R> {
+		private final DomainQueryExecutionContext executionContext;
+		private final int fetchSize;
+		private int elementsToSkip;
+		private int elementsToRead;
+		private int nextPlan;
+		// The stream of the current plan, null until it's opened
+		private ReactiveResultsStream<R> current;
+
+		private AggregatedResultsStream(DomainQueryExecutionContext executionContext, int fetchSize, int elementsToSkip, int maxRowsJpa) {
+			this.executionContext = executionContext;
+			this.fetchSize = fetchSize;
+			this.elementsToSkip = elementsToSkip;
+			this.elementsToRead = maxRowsJpa;
+		}
+
+		@Override
+		public CompletionStage<List<R>> nextChunk() {
+			if ( elementsToRead <= 0 ) {
+				return close().thenApply( v -> emptyList() );
+			}
+			if ( current == null ) {
+				if ( nextPlan == aggregatedQueryPlans.length ) {
+					return completedFuture( emptyList() );
+				}
+				return aggregatedQueryPlans[nextPlan++]
+						.reactivePerformStream( executionContext, fetchSize )
+						.thenCompose( stream -> {
+							current = stream;
+							return nextChunk();
+						} );
+			}
+			return current.nextChunk()
+					.thenCompose( chunk -> {
+						if ( chunk.isEmpty() ) {
+							// This plan is over, go on with the next one
+							final ReactiveResultsStream<R> finished = current;
+							current = null;
+							return finished.close().thenCompose( v -> nextChunk() );
+						}
+						final List<R> results = limit( chunk );
+						return results.isEmpty() ? nextChunk() : completedFuture( results );
+					} );
+		}
+
+		private List<R> limit(List<R> chunk) {
+			final int from = Math.min( elementsToSkip, chunk.size() );
+			elementsToSkip -= from;
+			final int to = from + Math.min( elementsToRead, chunk.size() - from );
+			elementsToRead -= to - from;
+			return from == 0 && to == chunk.size() ? chunk : new ArrayList<>( chunk.subList( from, to ) );
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			nextPlan = aggregatedQueryPlans.length;
+			if ( current == null ) {
+				return voidFuture();
+			}
+			final ReactiveResultsStream<R> stream = current;
+			current = null;
+			return stream.close();
+		}
+	}
+
 	private static <R> boolean updateResults(AtomicInteger elementsToSkipAtomic, int maxRowsJpa, List<R> overallResults, List<R> list) {
 		final int size = list.size();
 		if ( size <= elementsToSkipAtomic.get() ) {
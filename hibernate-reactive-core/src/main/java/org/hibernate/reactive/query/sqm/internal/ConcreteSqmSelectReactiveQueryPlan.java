@@ -4,6 +4,7 @@
  */
 package org.hibernate.reactive.query.sqm.internal;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
@@ -23,6 +24,7 @@
 import org.hibernate.reactive.sql.exec.internal.StandardReactiveSelectExecutor;
 import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
 import org.hibernate.reactive.sql.results.spi.ReactiveResultsConsumer;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
@@ -31,6 +33,7 @@
 import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static java.util.Collections.emptyList;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
@@ -47,12 +50,24 @@
 
 	private final SqmInterpreter<Object, ReactiveResultsConsumer<Object, R>> executeQueryInterpreter;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
+	private final SqmInterpreter<ReactiveResultsStream<R>, Integer> streamInterpreter;
 	private final RowTransformer<R> rowTransformer;
 
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 
-	private volatile CacheableSqmInterpretation<SelectStatement, JdbcSelect> cacheableSqmInterpretation;
+	/**
+	 * The maximum number of translations of the query kept by this plan,
+	 * one for each combination of query options, like limits or lock
+	 * options, or parameter bindings the translation depends on.
+	 */
+	private static final int MAX_CACHED_INTERPRETATIONS = 8;
+
+	// Copy-on-write: never modified after being published, the most recent first
+	@SuppressWarnings("unchecked")
+	private volatile CacheableSqmInterpretation<SelectStatement, JdbcSelect>[] cacheableSqmInterpretations =
+			new CacheableSqmInterpretation[0];
 
 	public ConcreteSqmSelectReactiveQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -63,10 +78,13 @@ public ConcreteSqmSelectReactiveQueryPlan(
 			QueryOptions queryOptions) {
 		super( sqm, hql, domainParameterXref, resultType, tupleMetadata, queryOptions );
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) ->
 				listInterpreter( hql, domainParameterXref, executionContext, sqmInterpretation, jdbcParameterBindings, rowTransformer );
+		this.streamInterpreter = (fetchSize, executionContext, sqmInterpretation, jdbcParameterBindings) ->
+				streamInterpreter( hql, domainParameterXref, executionContext, sqmInterpretation, jdbcParameterBindings, rowTransformer, fetchSize );
 		this.executeQueryInterpreter = (resultsConsumer, executionContext, sqmInterpretation, jdbcParameterBindings) ->
 				executeQueryInterpreter( hql, domainParameterXref, executionContext, sqmInterpretation, jdbcParameterBindings, rowTransformer, resultsConsumer );
 	}
@@ -118,6 +136,46 @@ private static <R> CompletionStage<List<R>> listInterpreter(
 				.whenComplete( (rs, t) -> domainParameterXref.clearExpansions() );
 	}
 
+	private static <R> CompletionStage<ReactiveResultsStream<R>> streamInterpreter(
+			String hql,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext,
+			CacheableSqmInterpretation<SelectStatement, JdbcSelect> sqmInterpretation,
+			JdbcParameterBindings jdbcParameterBindings,
+			RowTransformer<R> rowTransformer,
+			int fetchSize) {
+		final ReactiveSharedSessionContractImplementor session = (ReactiveSharedSessionContractImplementor) executionContext.getSession();
+		final JdbcSelect jdbcSelect = sqmInterpretation.jdbcOperation();
+		return CompletionStages
+				.supplyStage( () -> {
+					final var subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+							session.getPersistenceContext()
+									.getBatchFetchQueue(),
+							sqmInterpretation.statement(),
+							JdbcParametersList.empty(),
+							jdbcParameterBindings
+					);
+					return session
+							.reactiveAutoFlushIfRequired( jdbcSelect.getAffectedTableNames() )
+							.thenCompose( required -> StandardReactiveSelectExecutor.INSTANCE
+									.stream(
+											jdbcSelect,
+											jdbcParameterBindings,
+											ConcreteSqmSelectQueryPlan.listInterpreterExecutionContext(
+													hql,
+													executionContext,
+													jdbcSelect,
+													subSelectFetchKeyHandler
+											),
+											rowTransformer,
+											(Class<R>) executionContext.getResultType(),
+											fetchSize
+									)
+							);
+				} )
+				.whenComplete( (rs, t) -> domainParameterXref.clearExpansions() );
+	}
+
 	private static <R> CompletionStage<Object> executeQueryInterpreter(
 			String hql,
 			DomainParameterXref domainParameterXref,
@@ -182,6 +240,11 @@ public CompletionStage<List<R>> reactivePerformList(DomainQueryExecutionContext
 				: withCacheableSqmInterpretation( executionContext, null, listInterpreter );
 	}
 
+	@Override
+	public CompletionStage<ReactiveResultsStream<R>> reactivePerformStream(DomainQueryExecutionContext executionContext, int fetchSize) {
+		return withCacheableSqmInterpretation( executionContext, fetchSize, streamInterpreter );
+	}
+
 	@Override
 	public <T> CompletionStage<T> reactiveExecuteQuery(
 			DomainQueryExecutionContext executionContext,
@@ -193,47 +256,95 @@ public <T> CompletionStage<T> reactiveExecuteQuery(
 		);
 	}
 
+	@SuppressWarnings("unchecked")
 	private <T, X> CompletionStage<T> withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
 		//		to protect access.  However, synchronized is much simpler here.  We will verify
 		// 		during throughput testing whether this is an issue and consider changes then
 
-		CacheableSqmInterpretation<SelectStatement, JdbcSelect> localCopy = cacheableSqmInterpretation;
-		JdbcParameterBindings jdbcParameterBindings = null;
-
-		if ( localCopy == null ) {
+		CacheableSqmInterpretation<SelectStatement, JdbcSelect>[] localCopy = cacheableSqmInterpretations;
+		if ( localCopy.length == 0 ) {
 			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
+				localCopy = cacheableSqmInterpretations;
+				if ( localCopy.length == 0 ) {
 					final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
-					localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
-					jdbcParameterBindings = mutableValue.get();
-					cacheableSqmInterpretation = localCopy;
+					final CacheableSqmInterpretation<SelectStatement, JdbcSelect> interpretation =
+							buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
+					cacheableSqmInterpretations = new CacheableSqmInterpretation[] { interpretation };
+					translationMiss( executionContext );
+					return interpreter.interpret( context, executionContext, interpretation, mutableValue.get() );
 				}
 			}
 		}
-		else {
-			// If the translation depends on parameter bindings, or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcOperation().dependsOnParameterBindings() ) {
-				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcOperation().isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
-				localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
-				jdbcParameterBindings = mutableValue.get();
-				cacheableSqmInterpretation = localCopy;
+
+		// Look for a translation compatible with the current parameter bindings and query options:
+		// the same query might be executed with different limits or lock options, and we don't
+		// want to translate it again every time it switches from one to the other.
+		// The expansions of a list parameter are specific to the latest translation, though.
+		if ( !executionContext.getQueryParameterBindings().hasAnyMultiValuedBindings() ) {
+			for ( CacheableSqmInterpretation<SelectStatement, JdbcSelect> interpretation : localCopy ) {
+				// Each translation has its own JDBC parameters, the most recently used is checked first
+				final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+				if ( interpretation.jdbcOperation().isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+					translationHit( executionContext );
+					if ( interpretation != localCopy[0] ) {
+						cacheInterpretation( interpretation );
+					}
+					return interpreter.interpret( context, executionContext, interpretation, jdbcParameterBindings );
+				}
 			}
 		}
 
-		if ( jdbcParameterBindings == null ) {
-			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+		// Like ORM, translate the SQM to SQL AST again: the SQL AST itself might depend
+		// on the query options, or on the number of elements of a list parameter
+		final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
+		final CacheableSqmInterpretation<SelectStatement, JdbcSelect> interpretation =
+				buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
+		translationMiss( executionContext );
+		cacheInterpretation( interpretation );
+		return interpreter.interpret( context, executionContext, interpretation, mutableValue.get() );
+	}
+
+	/**
+	 * Report the reuse of a translation as a hit of the query plan cache
+	 *
+	 * @see org.hibernate.stat.Statistics#getQueryPlanCacheHitCount()
+	 */
+	private void translationHit(DomainQueryExecutionContext executionContext) {
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheHit( hql );
+		}
+	}
+
+	/**
+	 * Report a new translation as a miss of the query plan cache
+	 *
+	 * @see org.hibernate.stat.Statistics#getQueryPlanCacheMissCount()
+	 */
+	private void translationMiss(DomainQueryExecutionContext executionContext) {
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheMiss( hql );
 		}
+	}
 
-		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
+	/**
+	 * Add the interpretation as the first one, or move it there if it's already cached,
+	 * evicting the oldest if there are already {@link #MAX_CACHED_INTERPRETATIONS} interpretations
+	 */
+	@SuppressWarnings("unchecked")
+	private synchronized void cacheInterpretation(CacheableSqmInterpretation<SelectStatement, JdbcSelect> interpretation) {
+		final CacheableSqmInterpretation<SelectStatement, JdbcSelect>[] current = cacheableSqmInterpretations;
+		final List<CacheableSqmInterpretation<SelectStatement, JdbcSelect>> updated = new ArrayList<>( current.length + 1 );
+		updated.add( interpretation );
+		for ( CacheableSqmInterpretation<SelectStatement, JdbcSelect> cached : current ) {
+			if ( cached != interpretation && updated.size() < MAX_CACHED_INTERPRETATIONS ) {
+				updated.add( cached );
+			}
+		}
+		cacheableSqmInterpretations = updated.toArray( new CacheableSqmInterpretation[0] );
 	}
 
 	private interface SqmInterpreter<T, X> {
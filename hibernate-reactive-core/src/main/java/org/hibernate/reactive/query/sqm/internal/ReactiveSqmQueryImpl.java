@@ -61,6 +61,7 @@
 import org.hibernate.reactive.query.sqm.mutation.spi.ReactiveSqmMultiTableMutationStrategy;
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
 import org.hibernate.reactive.session.ReactiveSqmQueryImplementor;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.transform.ResultTransformer;
 
@@ -179,6 +180,11 @@ public CompletionStage<List<R>> reactiveList() {
 		return selectionQueryDelegate.reactiveList();
 	}
 
+	@Override
+	public CompletionStage<ReactiveResultsStream<R>> reactiveStream() {
+		return selectionQueryDelegate.reactiveStream( this::doReactiveStream );
+	}
+
 	@Override
 	public R getSingleResult() {
 		return selectionQueryDelegate.getSingleResult();
@@ -232,6 +238,16 @@ private CompletionStage<List<R>> doReactiveList() {
 				);
 	}
 
+	private CompletionStage<ReactiveResultsStream<R>> doReactiveStream(int fetchSize) {
+		verifySelect();
+		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+		if ( ( (SqmSelectStatement<?>) getSqmStatement() ).containsCollectionFetches() ) {
+			return failedFuture( LOG.streamWithCollectionFetch( getQueryString() ) );
+		}
+		return resolveSelectReactiveQueryPlan()
+				.reactivePerformStream( this, fetchSize );
+	}
+
 	private List<R> applyDistinct(SqmSelectStatement<?> sqmStatement, boolean hasLimit, List<R> list) {
 		final int first = !hasLimit || getQueryOptions().getLimit().getFirstRow() == null
 				? getIntegerLiteral( sqmStatement.getOffset(), 0 )
@@ -23,8 +23,11 @@
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.internal.SqmSelectionQueryImpl;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.query.spi.ReactiveAbstractSelectionQuery;
 import org.hibernate.reactive.query.sqm.ReactiveSqmSelectionQuery;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 import org.hibernate.sql.exec.spi.Callback;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -35,6 +38,7 @@
 import jakarta.persistence.TemporalType;
 import jakarta.persistence.metamodel.Type;
 
+import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -56,6 +60,8 @@
  */
 public class ReactiveSqmSelectionQueryImpl<R> extends SqmSelectionQueryImpl<R> implements ReactiveSqmSelectionQuery<R> {
 
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ReactiveAbstractSelectionQuery<R> selectionQueryDelegate;
 
 	public ReactiveSqmSelectionQueryImpl(
@@ -151,6 +157,15 @@ public QueryOptions getQueryOptions() {
 				);
 	}
 
+	private CompletionStage<ReactiveResultsStream<R>> doReactiveStream(int fetchSize) {
+		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+		if ( getSqmStatement().containsCollectionFetches() ) {
+			return failedFuture( LOG.streamWithCollectionFetch( getQueryString() ) );
+		}
+		return selectionQueryDelegate.resolveSelectReactiveQueryPlan()
+				.reactivePerformStream( this, fetchSize );
+	}
+
 	// I would expect this to be the same as the one in ReactiveSqmQueryImpl.
 	// But in ORM the code is not exactly the same, see SqmSelectionQueryImpl and SqmQueryImpl
 	private List<R> applyDistinct(SqmSelectStatement<?> sqmStatement, boolean hasLimit, List<R> list) {
@@ -197,6 +212,11 @@ public CompletionStage<List<R>> reactiveList() {
 		return selectionQueryDelegate.reactiveList();
 	}
 
+	@Override
+	public CompletionStage<ReactiveResultsStream<R>> reactiveStream() {
+		return selectionQueryDelegate.reactiveStream( this::doReactiveStream );
+	}
+
 	@Override
 	public CompletionStage<R> getReactiveSingleResultOrNull() {
 		return selectionQueryDelegate.getReactiveSingleResultOrNull();
@@ -14,6 +14,7 @@
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.sql.results.spi.ReactiveResultsConsumer;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 
 import static org.hibernate.reactive.logging.impl.LoggerFactory.make;
@@ -52,4 +53,12 @@ default <T> CompletionStage<T> reactiveExecuteQuery(DomainQueryExecutionContext
 	 * Perform (execute) the query returning a List
 	 */
 	CompletionStage<List<R>> reactivePerformList(DomainQueryExecutionContext executionContext);
+
+	/**
+	 * Perform (execute) the query, reading the results through a database cursor
+	 * {@code fetchSize} rows at a time
+	 */
+	default CompletionStage<ReactiveResultsStream<R>> reactivePerformStream(DomainQueryExecutionContext executionContext, int fetchSize) {
+		return failedFuture( new UnsupportedOperationException() );
+	}
 }
@@ -22,6 +22,9 @@
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.metamodel.Attribute;
+
+import java.util.Collection;
 import java.util.concurrent.CompletionStage;
 
 
@@ -42,6 +45,8 @@ public interface ReactiveQueryProducer extends ReactiveConnectionSupplier {
 
 	<T> CompletionStage<T> reactiveFetch(T association, boolean unproxy);
 
+	<E> CompletionStage<Void> reactiveFetchAll(Collection<E> entities, Attribute<E, ?> attribute);
+
 	CompletionStage<Object> reactiveInternalLoad(String entityName, Object id, boolean eager, boolean nullable);
 
 	<T> EntityGraph<T> createEntityGraph(Class<T> entity);
@@ -0,0 +1,209 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.session.ReactiveQueryProducer;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import jakarta.persistence.metamodel.Attribute;
+
+import static org.hibernate.loader.internal.CacheLoadHelper.initializeCollectionFromCache;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Initializes the same lazy association of many entities at once.
+ * <p>
+ * The uninitialized proxies are loaded with a multi-id load for each
+ * entity type, and the uninitialized collections with a batch loader
+ * for each collection role. This way, the number of round trips to the
+ * database depends on the number of batches, and not on the number of
+ * entities.
+ * <p>
+ * Other lazy values, for example entities enhanced as proxies, are
+ * fetched one at the time.
+ */
+abstract class BulkFetch {
+
+	private final SharedSessionContractImplementor session;
+
+	BulkFetch(SharedSessionContractImplementor session) {
+		this.session = session;
+	}
+
+	/**
+	 * Load the entities with the given ids, the list of results is in the same order as the ids
+	 */
+	abstract CompletionStage<? extends List<?>> multiLoad(ReactiveEntityPersister persister, Object[] ids);
+
+	/**
+	 * Fetch a lazy attribute of an entity enhanced for lazy loading
+	 */
+	abstract CompletionStage<?> fetchLazyAttribute(Object entity, Attribute<?, ?> attribute);
+
+	/**
+	 * Make sure that the collection is in the persistence context before it gets loaded
+	 *
+	 * @return the key of the collection, or {@code null} if the collection cannot be loaded with the others
+	 */
+	abstract Object registerCollection(ReactiveCollectionPersister persister, PersistentCollection<?> collection);
+
+	/**
+	 * Called after all the values have been fetched, even in case of failure
+	 */
+	void afterFetch(List<PersistentCollection<?>> collections) {
+	}
+
+	<E> CompletionStage<Void> fetchAll(Collection<E> entities, Attribute<E, ?> attribute) {
+		final Values owners = new Values();
+		for ( E entity : entities ) {
+			owners.add( entity );
+		}
+		// The owners themselves might be uninitialized proxies
+		return initializeProxies( owners.proxies )
+				.thenCompose( v -> {
+					final Values values = new Values();
+					final List<Object> lazyAttributeOwners = new ArrayList<>();
+					for ( E entity : entities ) {
+						final Object owner = unproxy( entity );
+						if ( owner != null ) {
+							if ( isLazyAttributeLoaded( owner, attribute.getName() ) ) {
+								values.add( persister( owner ).getPropertyValue( owner, attribute.getName() ) );
+							}
+							else {
+								lazyAttributeOwners.add( owner );
+							}
+						}
+					}
+					return loop( lazyAttributeOwners, owner -> fetchLazyAttribute( owner, attribute ) )
+							.thenCompose( vv -> initializeProxies( values.proxies ) )
+							.thenCompose( vv -> initializeCollections( values.collections ) )
+							.thenCompose( vv -> loop( values.others, this::fetch ) )
+							.whenComplete( (vv, e) -> afterFetch( values.registeredCollections ) );
+				} );
+	}
+
+	private CompletionStage<?> fetch(Object association) {
+		return ( (ReactiveQueryProducer) session ).reactiveFetch( association, false );
+	}
+
+	private CompletionStage<Void> initializeProxies(Map<String, Map<Object, List<LazyInitializer>>> proxies) {
+		return loop( proxies.entrySet(), entry -> {
+			final ReactiveEntityPersister persister = (ReactiveEntityPersister) session.getFactory()
+					.getMappingMetamodel().getEntityDescriptor( entry.getKey() );
+			final Map<Object, List<LazyInitializer>> initializersById = entry.getValue();
+			final Object[] ids = initializersById.keySet().toArray();
+			return multiLoad( persister, ids )
+					.thenAccept( entities -> {
+						for ( int i = 0; i < ids.length; i++ ) {
+							final Object entity = entities.get( i );
+							checkEntityFound( session, entry.getKey(), ids[i], entity );
+							for ( LazyInitializer initializer : initializersById.get( ids[i] ) ) {
+								if ( initializer.isUninitialized() ) {
+									initializer.setImplementation( entity );
+								}
+							}
+						}
+					} );
+		} );
+	}
+
+	private CompletionStage<Void> initializeCollections(Map<String, List<PersistentCollection<?>>> collectionsByRole) {
+		return loop( collectionsByRole.entrySet(), entry -> {
+			final ReactiveCollectionPersister persister = (ReactiveCollectionPersister) session.getFactory()
+					.getMappingMetamodel().getCollectionDescriptor( entry.getKey() );
+			final List<Object> keys = new ArrayList<>();
+			for ( PersistentCollection<?> collection : entry.getValue() ) {
+				final Object key = registerCollection( persister, collection );
+				if ( key == null ) {
+					return loop( entry.getValue(), this::fetch );
+				}
+				if ( !initializeCollectionFromCache( key, persister, collection, session ) ) {
+					keys.add( key );
+				}
+			}
+			if ( keys.isEmpty() ) {
+				return voidFuture();
+			}
+			return persister.reactiveInitializeAll( keys.toArray(), session )
+					.thenAccept( v -> {
+						final StatisticsImplementor statistics = session.getFactory().getStatistics();
+						if ( statistics.isStatisticsEnabled() ) {
+							for ( int i = 0; i < keys.size(); i++ ) {
+								statistics.fetchCollection( persister.getRole() );
+							}
+						}
+					} );
+		} );
+	}
+
+	private boolean isLazyAttributeLoaded(Object entity, String attributeName) {
+		final EntityPersister persister = persister( entity );
+		if ( persister.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading() ) {
+			final LazyAttributeLoadingInterceptor interceptor = persister.getBytecodeEnhancementMetadata()
+					.extractInterceptor( entity );
+			return interceptor == null || interceptor.isAttributeLoaded( attributeName );
+		}
+		return true;
+	}
+
+	private EntityPersister persister(Object entity) {
+		return session.getEntityPersister( null, entity );
+	}
+
+	private static Object unproxy(Object entity) {
+		final LazyInitializer initializer = extractLazyInitializer( entity );
+		return initializer == null ? entity : initializer.getImplementation();
+	}
+
+	/**
+	 * The values to fetch, grouped by entity name or collection role
+	 */
+	private static class Values {
+		final Map<String, Map<Object, List<LazyInitializer>>> proxies = new LinkedHashMap<>();
+		final Map<String, List<PersistentCollection<?>>> collections = new LinkedHashMap<>();
+		final List<PersistentCollection<?>> registeredCollections = new ArrayList<>();
+		final List<Object> others = new ArrayList<>();
+
+		void add(Object value) {
+			if ( value == null ) {
+				return;
+			}
+			final LazyInitializer initializer = extractLazyInitializer( value );
+			if ( initializer != null ) {
+				if ( initializer.isUninitialized() ) {
+					proxies.computeIfAbsent( initializer.getEntityName(), k -> new LinkedHashMap<>() )
+							.computeIfAbsent( initializer.getIdentifier(), k -> new ArrayList<>() )
+							.add( initializer );
+				}
+			}
+			else if ( value instanceof PersistentCollection<?> collection ) {
+				if ( !collection.wasInitialized() ) {
+					collections.computeIfAbsent( collection.getRole(), k -> new ArrayList<>() ).add( collection );
+					registeredCollections.add( collection );
+				}
+			}
+			else {
+				others.add( value );
+			}
+		}
+	}
+}
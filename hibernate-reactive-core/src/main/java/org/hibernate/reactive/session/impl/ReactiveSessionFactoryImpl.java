@@ -9,6 +9,7 @@
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.reactive.boot.spi.ReactiveMetadataImplementor;
+import org.hibernate.reactive.context.impl.BaseKey;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.impl.MutinySessionFactoryImpl;
 import org.hibernate.reactive.sql.exec.internal.ReactiveJdbcSelectWithActions;
@@ -23,10 +24,25 @@
  */
 public class ReactiveSessionFactoryImpl extends SessionFactoryImpl {
 
+	private volatile ReactiveSessionSettings reactiveSessionSettings;
+
 	public ReactiveSessionFactoryImpl(MetadataImplementor bootMetamodel, SessionFactoryOptions options, BootstrapContext bootstrapContext) {
 		super( new ReactiveMetadataImplementor( bootMetamodel ), options, bootstrapContext );
 	}
 
+	/**
+	 * @return the settings of the reactive sessions created by this factory
+	 */
+	public ReactiveSessionSettings getReactiveSessionSettings() {
+		ReactiveSessionSettings settings = reactiveSessionSettings;
+		if ( settings == null ) {
+			// The settings are immutable: if two threads get here, they'll read the same values
+			settings = new ReactiveSessionSettings( getServiceRegistry() );
+			reactiveSessionSettings = settings;
+		}
+		return settings;
+	}
+
 	@Override
 	public <T> T unwrap(Class<T> type) {
 		if ( type.isAssignableFrom( Stage.SessionFactory.class ) ) {
@@ -38,6 +54,17 @@ public <T> T unwrap(Class<T> type) {
 		return super.unwrap( type );
 	}
 
+	@Override
+	public void close() {
+		try {
+			super.close();
+		}
+		finally {
+			// The keys of the sessions of this factory won't be used anymore
+			BaseKey.releaseSlots( getUuid() );
+		}
+	}
+
 	@Override
 	public JdbcSelectWithActionsBuilder getJdbcSelectWithActionsBuilder(){
 		return new ReactiveJdbcSelectWithActions.Builder();
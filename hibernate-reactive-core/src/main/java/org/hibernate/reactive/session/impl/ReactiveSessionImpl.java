@@ -5,6 +5,7 @@
 package org.hibernate.reactive.session.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,9 +30,11 @@
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.creation.internal.SessionCreationOptions;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -109,6 +112,7 @@
 import org.hibernate.reactive.loader.ast.spi.ReactiveNaturalIdLoader;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
@@ -171,9 +175,14 @@ public ReactiveSessionImpl(SessionFactoryImpl delegate, SessionCreationOptions o
 		this.associatedWorkThread = Thread.currentThread();
 		//matches configuration property "hibernate.jdbc.batch_size" :
 		Integer batchSize = getConfiguredJdbcBatchSize();
+		final ReactiveSessionSettings settings = ReactiveSessionSettings.of( delegate );
 		reactiveConnection = batchSize == null || batchSize < 2
 				? connection
-				: new BatchingConnection( connection, batchSize );
+				: new BatchingConnection( connection, batchSize, settings.getMultiRowInsertRewriter() );
+		final ReactivePersistenceContextAdapter persistenceContext =
+				(ReactivePersistenceContextAdapter) getPersistenceContextInternal();
+		persistenceContext.setBatchFetchPrefetchEnabled( settings.isBatchFetchPrefetchEnabled() );
+		persistenceContext.setEagerCollectionPipeliningEnabled( settings.isEagerCollectionPipeliningEnabled() );
 	}
 
 	@Override
@@ -378,6 +387,29 @@ public <E, T> CompletionStage<T> reactiveFetch(E entity, Attribute<E, T> field)
 		}
 	}
 
+	@Override
+	public <E> CompletionStage<Void> reactiveFetchAll(Collection<E> entities, Attribute<E, ?> attribute) {
+		checkOpen();
+		return new BulkFetch( this ) {
+			@Override
+			CompletionStage<? extends List<?>> multiLoad(ReactiveEntityPersister persister, Object[] ids) {
+				return new ReactiveMultiIdentifierLoadAccessImpl<>( persister ).multiLoad( ids );
+			}
+
+			@Override
+			CompletionStage<?> fetchLazyAttribute(Object entity, Attribute<?, ?> field) {
+				return reactiveFetch( entity, (Attribute<Object, ?>) field );
+			}
+
+			@Override
+			Object registerCollection(ReactiveCollectionPersister persister, PersistentCollection<?> collection) {
+				// The collection is already in the persistence context, unless its owner is detached
+				final CollectionEntry entry = getPersistenceContextInternal().getCollectionEntry( collection );
+				return entry == null ? null : entry.getLoadedKey();
+			}
+		}.fetchAll( entities, attribute );
+	}
+
 	@Override
 	public <R> ReactiveQuery<R> createReactiveQuery(CriteriaQuery<R> criteriaQuery) {
 		checkOpen();
@@ -1616,6 +1648,13 @@ protected final CompletionStage<Object> resolveNaturalId(Object normalizedNatura
 			context.pulseTransactionCoordinator();
 
 			final SessionImplementor session = getSession();
+			return prefetchFromCache( normalizedNaturalIdValue, session )
+					.thenCompose( v -> resolveNaturalIdFromCacheOrDatasource( normalizedNaturalIdValue, session ) );
+		}
+
+		private CompletionStage<Object> resolveNaturalIdFromCacheOrDatasource(
+				Object normalizedNaturalIdValue,
+				SessionImplementor session) {
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 			final Object cachedResolution = persistenceContext.getNaturalIdResolutions()
 					.findCachedIdByNaturalId( normalizedNaturalIdValue, entityPersister() );
@@ -1637,6 +1676,25 @@ else if ( cachedResolution != null ) {
 			}
 		}
 
+		/**
+		 * Give the {@link org.hibernate.reactive.cache.ReactiveCacheAccess} a chance
+		 * to fetch the cached resolution without blocking, before we read it from
+		 * the region.
+		 */
+		private CompletionStage<Void> prefetchFromCache(Object normalizedNaturalIdValue, SessionImplementor session) {
+			final ReactiveEntityPersister persister = entityPersister();
+			if ( persister.hasNaturalIdCache() && session.getCacheMode().isGetEnabled() ) {
+				final NaturalIdDataAccess cache = persister.getNaturalIdCacheAccessStrategy();
+				final Object ck = cache.generateCacheKey(
+						normalizedNaturalIdValue,
+						persister.getRootEntityDescriptor().getEntityPersister(),
+						session
+				);
+				return ReactiveSessionSettings.cacheAccess( session.getFactory() ).prefetch( session, cache, ck );
+			}
+			return voidFuture();
+		}
+
 		protected void performAnyNeededCrossReferenceSynchronizations() {
 			if ( !synchronizationEnabled ) {
 				// synchronization (this process) was disabled
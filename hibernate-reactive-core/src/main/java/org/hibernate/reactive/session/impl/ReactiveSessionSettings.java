@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.pool.impl.MultiRowInsertRewriter;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.ServiceRegistry;
+
+/**
+ * The settings applied to every reactive session of a factory, and the
+ * services used by them, read from the configuration and the service
+ * registry once, instead of by each new session or operation.
+ *
+ * @see ReactiveSessionFactoryImpl#getReactiveSessionSettings()
+ */
+public final class ReactiveSessionSettings {
+
+	private final boolean batchFetchPrefetchEnabled;
+	private final boolean eagerCollectionPipeliningEnabled;
+	private final MultiRowInsertRewriter multiRowInsertRewriter;
+	private final ReactiveCacheAccess cacheAccess;
+
+	ReactiveSessionSettings(ServiceRegistry serviceRegistry) {
+		final ConfigurationService configurationService = serviceRegistry.requireService( ConfigurationService.class );
+		batchFetchPrefetchEnabled = configurationService
+				.getSetting( Settings.BATCH_FETCH_PREFETCH, StandardConverters.BOOLEAN, false );
+		eagerCollectionPipeliningEnabled = configurationService
+				.getSetting( Settings.EAGER_COLLECTION_PIPELINING, StandardConverters.BOOLEAN, false );
+		multiRowInsertRewriter = MultiRowInsertRewriter.create( serviceRegistry );
+		cacheAccess = serviceRegistry.requireService( ReactiveCacheAccess.class );
+	}
+
+	/**
+	 * @return the settings of the given factory, or the settings read
+	 * from its configuration when it isn't a {@link ReactiveSessionFactoryImpl}
+	 */
+	public static ReactiveSessionSettings of(SessionFactoryImplementor factory) {
+		if ( factory instanceof ReactiveSessionFactoryImpl reactiveFactory ) {
+			return reactiveFactory.getReactiveSessionSettings();
+		}
+		return new ReactiveSessionSettings( factory.getServiceRegistry() );
+	}
+
+	/**
+	 * @return the {@link ReactiveCacheAccess} of the given factory, without
+	 * reading the rest of its settings when it isn't a {@link ReactiveSessionFactoryImpl}
+	 */
+	public static ReactiveCacheAccess cacheAccess(SessionFactoryImplementor factory) {
+		if ( factory instanceof ReactiveSessionFactoryImpl reactiveFactory ) {
+			return reactiveFactory.getReactiveSessionSettings().getCacheAccess();
+		}
+		return factory.getServiceRegistry().requireService( ReactiveCacheAccess.class );
+	}
+
+	/**
+	 * @see Settings#BATCH_FETCH_PREFETCH
+	 */
+	public boolean isBatchFetchPrefetchEnabled() {
+		return batchFetchPrefetchEnabled;
+	}
+
+	/**
+	 * @see Settings#EAGER_COLLECTION_PIPELINING
+	 */
+	public boolean isEagerCollectionPipeliningEnabled() {
+		return eagerCollectionPipeliningEnabled;
+	}
+
+	/**
+	 * @return the rewriter of the batched inserts, or {@code null} if they aren't rewritten
+	 *
+	 * @see Settings#REWRITE_BATCHED_INSERTS
+	 */
+	public MultiRowInsertRewriter getMultiRowInsertRewriter() {
+		return multiRowInsertRewriter;
+	}
+
+	/**
+	 * @see Settings#CACHE_ACCESS
+	 */
+	public ReactiveCacheAccess getCacheAccess() {
+		return cacheAccess;
+	}
+}
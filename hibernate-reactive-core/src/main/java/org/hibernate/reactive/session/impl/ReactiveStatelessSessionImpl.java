@@ -4,7 +4,12 @@
  */
 package org.hibernate.reactive.session.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
@@ -16,6 +21,7 @@
 import org.hibernate.UnknownEntityTypeException;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
@@ -36,6 +42,7 @@
 import org.hibernate.internal.StatelessSessionImpl;
 import org.hibernate.jpa.spi.NativeQueryTupleTransformer;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
@@ -57,10 +64,12 @@
 import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
 import org.hibernate.reactive.common.AffectedEntities;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
+import org.hibernate.reactive.id.impl.BlockingIdentifierGenerator;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
@@ -80,6 +89,8 @@
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.reactive.util.impl.CompletionStages.Completable;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
 
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.Tuple;
@@ -88,6 +99,7 @@
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.metamodel.Attribute;
 
 import static java.lang.Boolean.TRUE;
 import static java.lang.invoke.MethodHandles.lookup;
@@ -113,10 +125,12 @@
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.supplyStage;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
 
 /**
  * An {@link ReactiveStatelessSession} implemented by extension of
@@ -134,6 +148,9 @@ public class ReactiveStatelessSessionImpl extends StatelessSessionImpl implement
 	private final PersistenceContext persistenceContext;
 	private final boolean connectionProvided;
 
+	// The identifiers reserved by insertAll() before the inserts, by entity
+	private Map<Object, Long> preallocatedIds;
+
 	public ReactiveStatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options, ReactiveConnection connection) {
 		super( factory, options );
 		connectionProvided = options.getConnection() != null;
@@ -159,7 +176,11 @@ private ReactiveStatelessSessionImpl(
 		// write-behind and be confusing. For this reason, the default batch size is always set to 0.
 		// When a user calls the CRUD operations for batching, we set the batch size to the same number of
 		// objects to process, therefore, there is no write-behind behavior.
-		reactiveConnection = new BatchingConnection( connection, 0 );
+		reactiveConnection = new BatchingConnection(
+				connection,
+				0,
+				ReactiveSessionSettings.of( factory ).getMultiRowInsertRewriter()
+		);
 		batchingHelperSession = this;
 		influencers = new LoadQueryInfluencers( factory );
 	}
@@ -265,22 +286,82 @@ public <T> CompletionStage<T> reactiveGet(String entityName, Object id, LockMode
 		}
 
 		ReactiveEntityPersister persister = getEntityPersister( entityName );
+		return prefetchFromCache( persister, id )
+				.thenCompose( v -> loadFromCacheOrDatasource( persister, id, lockMode ) )
+				.whenComplete( (v, e) -> {
+					if ( getPersistenceContext().isLoadFinished() ) {
+						getPersistenceContext().clear();
+					}
+					getLoadQueryInfluencers().getEffectiveEntityGraph().clear();
+				} )
+				.thenApply( entity -> (T) entity );
+	}
+
+	private CompletionStage<Object> loadFromCacheOrDatasource(ReactiveEntityPersister persister, Object id, LockMode lockMode) {
 		if ( persister.canReadFromCache() ) {
 			final Object cachedEntity = loadFromSecondLevelCache( persister, generateEntityKey( id, persister ), null, lockMode );
 			if ( cachedEntity != null ) {
 				getPersistenceContext().clear();
-				return completedFuture( (T) cachedEntity );
+				return completedFuture( cachedEntity );
 			}
 		}
 		return persister
 				.reactiveLoad( id, null, getNullSafeLockMode( lockMode ), this )
-				.whenComplete( (v, e) -> {
-					if ( getPersistenceContext().isLoadFinished() ) {
-						getPersistenceContext().clear();
-					}
-					getLoadQueryInfluencers().getEffectiveEntityGraph().clear();
-				} )
-				.thenApply( entity -> (T) entity );
+				.thenApply( entity -> entity );
+	}
+
+	/**
+	 * Give the {@link org.hibernate.reactive.cache.ReactiveCacheAccess} a chance
+	 * to fetch the cache entry without blocking, before we read it from the region.
+	 */
+	private CompletionStage<Void> prefetchFromCache(EntityPersister persister, Object id) {
+		if ( persister.canReadFromCache() ) {
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final Object ck = cache.generateCacheKey( id, persister, getFactory(), getTenantIdentifier() );
+			return cacheAccess().prefetch( this, cache, ck );
+		}
+		return voidFuture();
+	}
+
+	/**
+	 * @see #prefetchFromCache(EntityPersister, Object)
+	 */
+	private CompletionStage<Void> prefetchFromCache(CollectionPersister persister, Object key) {
+		if ( persister.hasCache() && getCacheMode().isGetEnabled() ) {
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			final Object ck = cache.generateCacheKey( key, persister, getFactory(), getTenantIdentifier() );
+			return cacheAccess().prefetch( this, cache, ck );
+		}
+		return voidFuture();
+	}
+
+	/**
+	 * A reactive version of {@code StatelessSessionImpl#lockCacheItem}
+	 *
+	 * @return the cache key of the entity, or null if the entity is not cached
+	 */
+	private CompletionStage<Object> reactiveLockCacheItem(Object id, Object previousVersion, EntityPersister persister) {
+		if ( persister.canWriteToCache() ) {
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final Object ck = cache.generateCacheKey( id, persister, getFactory(), getTenantIdentifier() );
+			return cacheAccess().lockItem( this, cache, ck, previousVersion )
+					.thenApply( lock -> ck );
+		}
+		return nullFuture();
+	}
+
+	/**
+	 * A reactive version of {@code StatelessSessionImpl#removeCacheItem}
+	 */
+	private CompletionStage<Void> reactiveRemoveCacheItem(Object ck, EntityPersister persister) {
+		if ( persister.canWriteToCache() ) {
+			return cacheAccess().remove( this, persister.getCacheAccessStrategy(), ck );
+		}
+		return voidFuture();
+	}
+
+	private ReactiveCacheAccess cacheAccess() {
+		return ReactiveSessionSettings.cacheAccess( getFactory() );
 	}
 
 	private ReactiveEntityPersister getEntityPersister(String entityName) {
@@ -442,6 +523,12 @@ private CompletionStage<?> generatedIdBeforeInsert(
 	}
 
 	private CompletionStage<?> generateIdForInsert(Object entity, Generator generator, ReactiveEntityPersister persister) {
+		if ( preallocatedIds != null ) {
+			final Long id = preallocatedIds.remove( entity );
+			if ( id != null ) {
+				return completedFuture( castToIdentifierType( id, persister ) );
+			}
+		}
 		if ( generator instanceof ReactiveIdentifierGenerator<?> reactiveGenerator ) {
 			return reactiveGenerator.generate( (ReactiveConnectionSupplier) this, entity )
 					.thenApply( id -> castToIdentifierType( id, persister ) );
@@ -463,8 +550,8 @@ public CompletionStage<Void> reactiveDelete(Object entity) {
 
 		getInterceptor().onDelete( entity, id, persister.getPropertyNames(), persister.getPropertyTypes() );
 		return removeCollections( entity, id, persister )
-				.thenCompose( v -> {
-					final Object ck = lockCacheItem( id, version, persister );
+				.thenCompose( v -> reactiveLockCacheItem( id, version, persister ) )
+				.thenCompose( ck -> {
 					final EventMonitor eventMonitor = getEventMonitor();
 					final DiagnosticEvent event = eventMonitor.beginEntityDeleteEvent();
 					// try-block
@@ -473,7 +560,7 @@ public CompletionStage<Void> reactiveDelete(Object entity) {
 							.whenComplete( (unused, throwable) -> eventMonitor
 									.completeEntityDeleteEvent( event, id, persister.getEntityName(), throwable != null, this )
 							)
-							.thenAccept( unused -> removeCacheItem( ck, persister ) );
+							.thenCompose( unused -> reactiveRemoveCacheItem( ck, persister ) );
 				} )
 				.thenAccept( v -> {
 					firePostDelete( entity, id, persister );
@@ -550,17 +637,19 @@ private CompletionStage<Void> executeReactiveUpdate(Object entity) {
 		}
 
 		getInterceptor().onUpdate( entity, id, state, persister.getPropertyNames(), persister.getPropertyTypes() );
-		final Object ck = lockCacheItem( id, oldVersion, persister );
-		final EventMonitor eventMonitor = getEventMonitor();
-		final DiagnosticEvent event = eventMonitor.beginEntityUpdateEvent();
-		// try-block
-		return supplyStage( () -> persister
-				.updateReactive( id, state, null, false, null, oldVersion, entity, null, this ) )
-				// finally-block
-				.whenComplete( (generatedValues, throwable) -> eventMonitor
-						.completeEntityUpdateEvent( event, id, persister.getEntityName(), throwable != null, this )
-				)
-				.thenAccept( generatedValues -> removeCacheItem( ck, persister ) )
+		return reactiveLockCacheItem( id, oldVersion, persister )
+				.thenCompose( ck -> {
+					final EventMonitor eventMonitor = getEventMonitor();
+					final DiagnosticEvent event = eventMonitor.beginEntityUpdateEvent();
+					// try-block
+					return supplyStage( () -> persister
+							.updateReactive( id, state, null, false, null, oldVersion, entity, null, this ) )
+							// finally-block
+							.whenComplete( (generatedValues, throwable) -> eventMonitor
+									.completeEntityUpdateEvent( event, id, persister.getEntityName(), throwable != null, this )
+							)
+							.thenCompose( generatedValues -> reactiveRemoveCacheItem( ck, persister ) );
+				} )
 				.thenCompose( v -> removeAndRecreateCollections( entity, id, persister ) )
 				.thenAccept( v -> {
 					firePostUpdate( entity, id, state, persister );
@@ -624,15 +713,8 @@ private CompletionStage<Void> reactiveRefresh(String entityName, Object entity,
 			LOG.tracev( "Refreshing transient {0}", infoString( persister, id, getFactory() ) );
 		}
 
-		if ( persister.canWriteToCache() ) {
-			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
-			if ( cacheAccess != null ) {
-				final Object ck = cacheAccess.generateCacheKey( id, persister, getFactory(), getTenantIdentifier() );
-				cacheAccess.evict( ck );
-			}
-		}
-
-		return fromInternalFetchProfile( REFRESH, () -> persister.reactiveLoad( id, entity, getNullSafeLockMode( lockMode ), this ) )
+		return evictFromCache( persister, id )
+				.thenCompose( v -> fromInternalFetchProfile( REFRESH, () -> persister.reactiveLoad( id, entity, getNullSafeLockMode( lockMode ), this ) ) )
 				.thenAccept( result -> {
 					UnresolvableObjectException.throwIfNull( result, id, persister.getEntityName() );
 					if ( getPersistenceContext().isLoadFinished() ) {
@@ -641,6 +723,17 @@ private CompletionStage<Void> reactiveRefresh(String entityName, Object entity,
 				} );
 	}
 
+	private CompletionStage<Void> evictFromCache(ReactiveEntityPersister persister, Object id) {
+		if ( persister.canWriteToCache() ) {
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			if ( cacheAccess != null ) {
+				final Object ck = cacheAccess.generateCacheKey( id, persister, getFactory(), getTenantIdentifier() );
+				return cacheAccess().evict( cacheAccess, ck );
+			}
+		}
+		return voidFuture();
+	}
+
 	private CompletionStage<?> fromInternalFetchProfile(CascadingFetchProfile cascadingFetchProfile, Supplier<CompletionStage<?>> supplier) {
 		CascadingFetchProfile previous = getLoadQueryInfluencers().getEnabledCascadingFetchProfile();
 		return supplyStage( () -> {
@@ -664,16 +757,18 @@ public CompletionStage<Void> reactiveUpsert(Object entity) {
 		}
 		getInterceptor().onUpsert( entity, id, state, persister.getPropertyNames(), persister.getPropertyTypes() );
 		final Object oldVersion = versionToUpsert( entity, persister, state );
-		final Object ck = lockCacheItem( id, oldVersion, persister );
-		final EventMonitor eventMonitor = getEventMonitor();
-		final DiagnosticEvent event = eventMonitor.beginEntityUpsertEvent();
-		return supplyStage( () -> persister
-				.mergeReactive( id, state, null, false, null, oldVersion, entity, null, this ) )
-				.whenComplete( (v, throwable) -> eventMonitor
-						.completeEntityUpsertEvent( event, id, persister.getEntityName(), throwable != null, this )
-				)
+		return reactiveLockCacheItem( id, oldVersion, persister )
+				.thenCompose( ck -> {
+					final EventMonitor eventMonitor = getEventMonitor();
+					final DiagnosticEvent event = eventMonitor.beginEntityUpsertEvent();
+					return supplyStage( () -> persister
+							.mergeReactive( id, state, null, false, null, oldVersion, entity, null, this ) )
+							.whenComplete( (v, throwable) -> eventMonitor
+									.completeEntityUpsertEvent( event, id, persister.getEntityName(), throwable != null, this )
+							)
+							.thenCompose( v -> reactiveRemoveCacheItem( ck, persister ) );
+				} )
 				.thenAccept( v -> {
-					removeCacheItem( ck, persister );
 					final StatisticsImplementor statistics = getFactory().getStatistics();
 					if ( statistics.isStatisticsEnabled() ) {
 						statistics.upsertEntity( persister.getEntityName() );
@@ -695,8 +790,10 @@ public CompletionStage<Void> reactiveUpsertAll(int batchSize, Object... entities
 
 	@Override
 	public CompletionStage<Void> reactiveInsertAll(Object... entities) {
-		return loop( entities, batchingHelperSession::reactiveInsert )
-				.thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
+		return batchingHelperSession.preallocateIds( entities )
+				.thenCompose( v -> loop( entities, batchingHelperSession::reactiveInsert ) )
+				.thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() )
+				.whenComplete( (v, throwable) -> batchingHelperSession.preallocatedIds = null );
 	}
 
 	@Override
@@ -704,9 +801,102 @@ public CompletionStage<Void> reactiveInsertAll(int batchSize, Object... entities
 		final Integer jdbcBatchSize = batchingHelperSession.getJdbcBatchSize();
 		batchingHelperSession.setJdbcBatchSize( batchSize );
 		final ReactiveConnection connection = batchingConnection( batchSize );
-		return loop( entities, batchingHelperSession::reactiveInsert )
+		return batchingHelperSession.preallocateIds( entities )
+				.thenCompose( v -> insertAll( connection, batchSize, entities ) )
 				.thenCompose( v -> connection.executeBatch() )
-				.whenComplete( (v, throwable) -> batchingHelperSession.setJdbcBatchSize( jdbcBatchSize ) );
+				.whenComplete( (v, throwable) -> {
+					batchingHelperSession.preallocatedIds = null;
+					batchingHelperSession.setJdbcBatchSize( jdbcBatchSize );
+				} );
+	}
+
+	/**
+	 * Reserve the identifiers of all the entities using the same sequence
+	 * or table generator with a single round trip, when possible, instead
+	 * of one round trip each time the generator runs out of identifiers.
+	 */
+	private CompletionStage<Void> preallocateIds(Object[] entities) {
+		final Map<BlockingIdentifierGenerator, List<Object>> entitiesByGenerator = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			final Generator generator = getEntityPersister( null, entity ).getGenerator();
+			if ( generator instanceof BlockingIdentifierGenerator blockingGenerator
+					&& generator.generatedBeforeExecution( entity, this ) ) {
+				entitiesByGenerator.computeIfAbsent( blockingGenerator, g -> new ArrayList<>() ).add( entity );
+			}
+		}
+		return loop( entitiesByGenerator.entrySet(), entry -> {
+			final BlockingIdentifierGenerator generator = entry.getKey();
+			final List<Object> generatorEntities = entry.getValue();
+			if ( !generator.supportsBulkAllocation( generatorEntities.size() ) ) {
+				return voidFuture();
+			}
+			return generator.generateAll( this, generatorEntities.size() )
+					.thenAccept( ids -> {
+						if ( preallocatedIds == null ) {
+							preallocatedIds = new IdentityHashMap<>();
+						}
+						for ( int i = 0; i < ids.length; i++ ) {
+							preallocatedIds.put( generatorEntities.get( i ), ids[i] );
+						}
+					} );
+		} );
+	}
+
+	/**
+	 * Insert the entities in order. If the dialect supports returning the
+	 * generated values from an insert, consecutive entities of the same type
+	 * with an identity column are inserted with a single batch.
+	 */
+	private CompletionStage<Void> insertAll(ReactiveConnection connection, int batchSize, Object[] entities) {
+		if ( !( connection instanceof BatchingConnection batchingConnection )
+				|| !getJdbcServices().getDialect().supportsInsertReturning() ) {
+			return loop( entities, batchingHelperSession::reactiveInsert );
+		}
+
+		final int[] next = { 0 };
+		return whileLoop( () -> {
+			if ( next[0] >= entities.length ) {
+				return falseFuture();
+			}
+			final int start = next[0];
+			final EntityPersister persister = getEntityPersister( null, entities[start] );
+			if ( !isIdentityInsertBatchable( persister, entities[start] ) ) {
+				next[0]++;
+				return batchingHelperSession.reactiveInsert( entities[start] )
+						.thenApply( v -> true );
+			}
+			int end = start + 1;
+			while ( end < entities.length && end - start < batchSize
+					&& getEntityPersister( null, entities[end] ) == persister ) {
+				end++;
+			}
+			next[0] = end;
+			return batchingConnection
+					.insertWithGeneratedValuesBatch( end - start, i -> batchingHelperSession.reactiveInsert( entities[start + i] ) )
+					.thenApply( v -> true );
+		} );
+	}
+
+	/**
+	 * The inserts of entities with an identity column can be batched only if
+	 * the entity is mapped to a single table and doesn't have associations:
+	 * otherwise, other statements depending on the generated identifier would
+	 * need to be executed after each insert.
+	 */
+	private boolean isIdentityInsertBatchable(EntityPersister persister, Object entity) {
+		return persister.getGenerator().generatedOnExecution( entity, this )
+				&& !persister.isMultiTable()
+				&& !hasAssociations( persister.getPropertyTypes() );
+	}
+
+	private static boolean hasAssociations(Type[] types) {
+		for ( Type type : types ) {
+			if ( type.isAssociationType()
+					|| type instanceof CompositeType compositeType && hasAssociations( compositeType.getSubtypes() ) ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -807,23 +997,25 @@ public CompletionStage<Void> reactiveInitializeCollection(PersistentCollection<?
                 LOG.trace( "Initializing collection "
                         + collectionInfoString( loadedPersister, collection, loadedKey, this ) );
             }
-            final boolean foundInCache =
-                    initializeCollectionFromCache( loadedKey, loadedPersister, collection, this );
-            if ( foundInCache ) {
-                LOG.trace( "Collection initialized from cache" );
-                return voidFuture();
-            }
-            else {
-                return loadedPersister.reactiveInitialize( loadedKey, this )
-                        .thenAccept( v -> {
-                            handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
-                            LOG.trace( "Collection initialized" );
-                            final StatisticsImplementor statistics = getFactory().getStatistics();
-                            if ( statistics.isStatisticsEnabled() ) {
-                                statistics.fetchCollection( loadedPersister.getRole() );
-                            }
-                        } );
-            }
+            return prefetchFromCache( loadedPersister, loadedKey ).thenCompose( vv -> {
+                final boolean foundInCache =
+                        initializeCollectionFromCache( loadedKey, loadedPersister, collection, this );
+                if ( foundInCache ) {
+                    LOG.trace( "Collection initialized from cache" );
+                    return voidFuture();
+                }
+                else {
+                    return loadedPersister.reactiveInitialize( loadedKey, this )
+                            .thenAccept( v -> {
+                                handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
+                                LOG.trace( "Collection initialized" );
+                                final StatisticsImplementor statistics = getFactory().getStatistics();
+                                if ( statistics.isStatisticsEnabled() ) {
+                                    statistics.fetchCollection( loadedPersister.getRole() );
+                                }
+                            } );
+                }
+            } );
         }
     }
 
@@ -862,7 +1054,7 @@ else if ( association instanceof PersistentCollection<?> collection && !collecti
 			final Object key = collection.getKey();
 			persistenceContext.addUninitializedCollection( collectionDescriptor, collection, key );
 			collection.setCurrentSession( this );
-			return supplyStage( () -> {
+			return supplyStage( () -> prefetchFromCache( collectionDescriptor, key ) ).thenCompose( vv -> {
 				if ( initializeCollectionFromCache( key, collectionDescriptor, collection, this ) ) {
 					LOG.trace( "Collection fetched from cache" );
 					return completedFuture( association );
@@ -892,6 +1084,43 @@ else if ( association instanceof PersistentCollection<?> collection && !collecti
 		return completedFuture( association );
 	}
 
+	@Override
+	public <E> CompletionStage<Void> reactiveFetchAll(Collection<E> entities, Attribute<E, ?> attribute) {
+		checkOpen();
+		final PersistenceContext persistenceContext = getPersistenceContext();
+		return new BulkFetch( this ) {
+			@Override
+			CompletionStage<? extends List<?>> multiLoad(ReactiveEntityPersister persister, Object[] ids) {
+				return persister.reactiveMultiLoad( ids, ReactiveStatelessSessionImpl.this, StatelessSessionImpl.MULTI_ID_LOAD_OPTIONS );
+			}
+
+			@Override
+			CompletionStage<?> fetchLazyAttribute(Object entity, Attribute<?, ?> field) {
+				final String entityName = getEntityPersister( null, entity ).getEntityName();
+				return failedFuture( LOG.lazyFieldInitializationException( field.getName(), entityName ) );
+			}
+
+			@Override
+			Object registerCollection(ReactiveCollectionPersister persister, PersistentCollection<?> collection) {
+				final Object key = collection.getKey();
+				persistenceContext.addUninitializedCollection( persister, collection, key );
+				collection.setCurrentSession( ReactiveStatelessSessionImpl.this );
+				return key;
+			}
+
+			@Override
+			void afterFetch(List<PersistentCollection<?>> collections) {
+				for ( PersistentCollection<?> collection : collections ) {
+					collection.$$_hibernate_setInstanceId( 0 );
+					collection.unsetSession( ReactiveStatelessSessionImpl.this );
+				}
+				if ( persistenceContext.isLoadFinished() ) {
+					persistenceContext.clear();
+				}
+			}
+		}.fetchAll( entities, attribute );
+	}
+
 	private <T> CompletionStage<T> fetchUninitialized(
 			T association,
 			boolean unproxy,
@@ -23,22 +23,30 @@
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.session.impl.ReactiveSessionSettings;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.reactive.sql.exec.spi.ReactiveJdbcSelect;
 import org.hibernate.reactive.sql.exec.spi.ReactiveRowProcessingState;
 import org.hibernate.reactive.sql.exec.spi.ReactiveSelectExecutor;
 import org.hibernate.reactive.sql.exec.spi.ReactiveValuesResultSet;
+import org.hibernate.reactive.sql.results.internal.ReactiveCursorResultSetAccess;
 import org.hibernate.reactive.sql.results.internal.ReactiveDeferredResultSetAccess;
 import org.hibernate.reactive.sql.results.internal.ReactiveResultSetAccess;
 import org.hibernate.reactive.sql.results.internal.ReactiveResultsHelper;
+import org.hibernate.reactive.sql.results.internal.ReactiveStandardValuesMappingProducer;
+import org.hibernate.reactive.sql.results.internal.RowValuesExtractionPlan;
 import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
 import org.hibernate.reactive.sql.results.spi.ReactiveResultsConsumer;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 import org.hibernate.reactive.sql.results.spi.ReactiveRowReader;
+import org.hibernate.reactive.sql.results.spi.ReactiveStreamingResultsConsumer;
 import org.hibernate.reactive.sql.results.spi.ReactiveValuesMappingProducer;
 import org.hibernate.sql.exec.internal.StandardStatementCreator;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.exec.spi.LoadedValuesCollector;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
@@ -53,8 +61,11 @@
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.spi.TypeConfiguration;
 
+import static java.util.Collections.emptyList;
 import static org.hibernate.internal.util.NullnessHelper.coalesceSuppliedValues;
 import static org.hibernate.internal.util.collections.ArrayHelper.indexOf;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 import static org.hibernate.sql.exec.SqlExecLogger.SQL_EXEC_LOGGER;
 
 /**
@@ -196,30 +207,7 @@ private <T, R> CompletionStage<T> doExecuteQuery(
 					final RowTransformer<R> rowTransformer = rowTransformer( executionContext, transformer, jdbcValues );
 					final Statistics statistics = new Statistics( executionContext, jdbcValues );
 
-					/*
-					 * Processing options effectively are only used for entity loading.  Here we don't need these values.
-					 */
-					final JdbcValuesSourceProcessingOptions processingOptions = new JdbcValuesSourceProcessingOptions() {
-						@Override
-						public Object getEffectiveOptionalObject() {
-							return executionContext.getEntityInstance();
-						}
-
-						@Override
-						public String getEffectiveOptionalEntityName() {
-							return null;
-						}
-
-						@Override
-						public Object getEffectiveOptionalId() {
-							return executionContext.getEntityId();
-						}
-
-						@Override
-						public boolean shouldReturnProxies() {
-							return true;
-						}
-					};
+					final JdbcValuesSourceProcessingOptions processingOptions = processingOptions( executionContext );
 
 					final var loadedValuesCollector = jdbcSelect.getLoadedValuesCollectorFactory() == null
 							? null
@@ -277,6 +265,102 @@ public boolean shouldReturnProxies() {
 		});
 	}
 
+	/*
+	 * Processing options effectively are only used for entity loading.  Here we don't need these values.
+	 */
+	private static JdbcValuesSourceProcessingOptions processingOptions(ExecutionContext executionContext) {
+		return new JdbcValuesSourceProcessingOptions() {
+			@Override
+			public Object getEffectiveOptionalObject() {
+				return executionContext.getEntityInstance();
+			}
+
+			@Override
+			public String getEffectiveOptionalEntityName() {
+				return null;
+			}
+
+			@Override
+			public Object getEffectiveOptionalId() {
+				return executionContext.getEntityId();
+			}
+
+			@Override
+			public boolean shouldReturnProxies() {
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Execute the query and read the results through a database cursor,
+	 * {@code fetchSize} rows at a time.
+	 * <p>
+	 * The results are never de-duplicated and never cached.
+	 *
+	 * @see ReactiveResultsStream
+	 */
+	public <R> CompletionStage<ReactiveResultsStream<R>> stream(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> transformer,
+			Class<R> domainResultType,
+			int fetchSize) {
+		final ReactiveCursorResultSetAccess cursorResultSetAccess = new ReactiveCursorResultSetAccess(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				StandardStatementCreator.getStatementCreator( null ),
+				fetchSize
+		);
+		final ReactiveStreamingResultsConsumer<R> resultsConsumer = new ReactiveStreamingResultsConsumer<>( fetchSize );
+		return resolveJdbcValuesSource(
+				executionContext.getQueryIdentifier( cursorResultSetAccess.getFinalSql() ),
+				jdbcSelect,
+				resultsConsumer.canResultsBeCached(),
+				executionContext,
+				cursorResultSetAccess )
+				.thenApply( jdbcValues -> {
+					final RowTransformer<R> rowTransformer = rowTransformer( executionContext, transformer, jdbcValues );
+					final JdbcValuesSourceProcessingOptions processingOptions = processingOptions( executionContext );
+					final var loadedValuesCollector = jdbcSelect.getLoadedValuesCollectorFactory() == null
+							? null
+							: jdbcSelect.getLoadedValuesCollectorFactory().build();
+					final JdbcValuesSourceProcessingStateStandardImpl valuesProcessingState =
+							new JdbcValuesSourceProcessingStateStandardImpl(
+									loadedValuesCollector,
+									processingOptions,
+									executionContext
+							);
+					final ReactiveRowReader<R> rowReader = ReactiveResultsHelper.createRowReader(
+							executionContext.getSession().getSessionFactory(),
+							rowTransformer,
+							domainResultType,
+							jdbcValues
+					);
+					final ReactiveRowProcessingState rowProcessingState = new ReactiveRowProcessingState(
+							valuesProcessingState,
+							executionContext,
+							rowReader,
+							jdbcValues
+					);
+					rowReader.startLoading( rowProcessingState );
+					return new ChunkedResultsStream<>(
+							jdbcSelect,
+							executionContext,
+							jdbcValues,
+							processingOptions,
+							valuesProcessingState,
+							loadedValuesCollector,
+							rowProcessingState,
+							rowReader,
+							resultsConsumer,
+							new Statistics( executionContext, jdbcValues )
+					);
+				} );
+	}
+
 	private static <R> RowTransformer<R> rowTransformer(
 			ExecutionContext executionContext,
 			RowTransformer<R> transformer,
@@ -318,8 +402,6 @@ public CompletionStage<ReactiveValuesResultSet> resolveJdbcValuesSource(
 				&& canBeCached
 				&& queryOptions.isResultCachingEnabled() == Boolean.TRUE;
 
-		final QueryKey queryResultsCacheKey;
-		final List<?> cachedResults;
 		if ( cacheable && cacheMode.isGetEnabled() ) {
 			SQL_EXEC_LOGGER.readingQueryResultCacheData( cacheMode.name() );
 			final Set<String> querySpaces = jdbcSelect.getAffectedTableNames();
@@ -333,52 +415,69 @@ public CompletionStage<ReactiveValuesResultSet> resolveJdbcValuesSource(
 			final QueryResultsCache queryCache = factory.getCache()
 					.getQueryResultsCache( queryOptions.getResultCacheRegionName() );
 
-			queryResultsCacheKey = QueryKey
+			final QueryKey queryResultsCacheKey = QueryKey
 					.from( jdbcSelect.getSqlString(), queryOptions.getLimit(), executionContext.getQueryParameterBindings(), session );
 
-			cachedResults = queryCache.get(
-					// todo (6.0) : QueryCache#get takes the `queryResultsCacheKey` see tat discussion above
-					queryResultsCacheKey,
-					// todo (6.0) : `querySpaces` and `session` make perfect sense as args, but its odd passing those into this method just to pass along
-					//		atm we do not even collect querySpaces, but we need to
-					querySpaces,
-					session
-			);
-
 			// todo (6.0) : `querySpaces` and `session` are used in QueryCache#get to verify "up-to-dateness" via UpdateTimestampsCache
 			//		better imo to move UpdateTimestampsCache handling here and have QueryCache be a simple access to
 			//		the underlying query result cache region.
 			//
 			// todo (6.0) : if we go this route (^^), still beneficial to have an abstraction over different UpdateTimestampsCache-based
 			//		invalidation strategies - QueryCacheInvalidationStrategy
-
-			final StatisticsImplementor statistics = factory.getStatistics();
-			if ( statistics.isStatisticsEnabled() ) {
-				if ( cachedResults == null ) {
-					statistics.queryCacheMiss( queryIdentifier, queryCache.getRegion().getName() );
-				}
-				else {
-					statistics.queryCacheHit( queryIdentifier, queryCache.getRegion().getName() );
-				}
-			}
+			return ReactiveSessionSettings.cacheAccess( factory )
+					.getQueryResults( session, queryCache, queryResultsCacheKey, querySpaces )
+					.thenCompose( cachedResults -> {
+						final StatisticsImplementor statistics = factory.getStatistics();
+						if ( statistics.isStatisticsEnabled() ) {
+							if ( cachedResults == null ) {
+								statistics.queryCacheMiss( queryIdentifier, queryCache.getRegion().getName() );
+							}
+							else {
+								statistics.queryCacheHit( queryIdentifier, queryCache.getRegion().getName() );
+							}
+						}
+						return resolveJdbcValuesSource(
+								queryIdentifier,
+								jdbcSelect,
+								executionContext,
+								resultSetAccess,
+								queryResultsCacheKey,
+								cachedResults
+						);
+					} );
 		}
 		else {
 			SQL_EXEC_LOGGER
 					.skippingReadingQueryResultCacheData( queryCacheEnabled ? "enabled" : "disabled", cacheMode.name() );
-			cachedResults = null;
-			if ( cacheable && cacheMode.isPutEnabled() ) {
-				queryResultsCacheKey = QueryKey.from(
-						jdbcSelect.getSqlString(),
-						queryOptions.getLimit(),
-						executionContext.getQueryParameterBindings(),
-						session
-				);
-			}
-			else {
-				queryResultsCacheKey = null;
-			}
+			final QueryKey queryResultsCacheKey = cacheable && cacheMode.isPutEnabled()
+					? QueryKey.from(
+							jdbcSelect.getSqlString(),
+							queryOptions.getLimit(),
+							executionContext.getQueryParameterBindings(),
+							session
+					)
+					: null;
+			return resolveJdbcValuesSource(
+					queryIdentifier,
+					jdbcSelect,
+					executionContext,
+					resultSetAccess,
+					queryResultsCacheKey,
+					null
+			);
 		}
+	}
 
+	private CompletionStage<ReactiveValuesResultSet> resolveJdbcValuesSource(
+			String queryIdentifier,
+			JdbcSelect jdbcSelect,
+			ExecutionContext executionContext,
+			ReactiveDeferredResultSetAccess resultSetAccess,
+			QueryKey queryResultsCacheKey,
+			List<?> cachedResults) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
 		final LoadQueryInfluencers loadQueryInfluencers = session.getLoadQueryInfluencers();
 
 		final ReactiveValuesMappingProducer mappingProducer = (ReactiveValuesMappingProducer) jdbcSelect.getJdbcValuesMappingProducer();
@@ -394,7 +493,8 @@ public CompletionStage<ReactiveValuesResultSet> resolveJdbcValuesSource(
 								false,
 								jdbcValuesMapping,
 								null,
-								executionContext
+								executionContext,
+								rowValuesExtractionPlan( mappingProducer, jdbcValuesMapping )
 						) );
 			}
 			else {
@@ -410,7 +510,8 @@ public CompletionStage<ReactiveValuesResultSet> resolveJdbcValuesSource(
 								false,
 								jdbcValuesMapping,
 								capturingMetadata.resolveMetadataForCache( jdbcValuesMapping ),
-								executionContext
+								executionContext,
+								rowValuesExtractionPlan( mappingProducer, jdbcValuesMapping )
 						) );
 			}
 		}
@@ -431,11 +532,25 @@ public CompletionStage<ReactiveValuesResultSet> resolveJdbcValuesSource(
 					false,
 					jdbcValuesMapping,
 					capturingMetadata.resolveMetadataForCache( jdbcValuesMapping ),
-					executionContext
+					executionContext,
+					rowValuesExtractionPlan( mappingProducer, jdbcValuesMapping )
 			) );
         }
 	}
 
+	/**
+	 * The plan cached by the producer of the standard mappings, which resolves
+	 * the same mapping for every execution, or {@code null} to resolve it for
+	 * the mapping of this execution
+	 */
+	private static RowValuesExtractionPlan rowValuesExtractionPlan(
+			ReactiveValuesMappingProducer mappingProducer,
+			JdbcValuesMapping jdbcValuesMapping) {
+		return mappingProducer instanceof ReactiveStandardValuesMappingProducer standardProducer
+				? standardProducer.getRowValuesExtractionPlan( jdbcValuesMapping )
+				: null;
+	}
+
 	/**
 	 * Copied from Hibernate ORM
 	 */
@@ -569,13 +684,17 @@ public Statistics(ExecutionContext executionContext, ReactiveValuesResultSet jdb
 		}
 
 		public <T> void end(JdbcSelect jdbcSelect, T result) {
+			end( jdbcSelect, getResultSize( result ) );
+		}
+
+		public void end(JdbcSelect jdbcSelect, int resultSize) {
 			if ( enabled ) {
 				final long endTime = System.nanoTime();
 				final long milliseconds = TimeUnit.MILLISECONDS
 						.convert( endTime - startTime, TimeUnit.NANOSECONDS );
 				statistics.queryExecuted(
 						executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
-						getResultSize( result ),
+						resultSize,
 						milliseconds
 				);
 			}
@@ -585,4 +704,136 @@ private <T> int getResultSize(T result) {
 			return result instanceof Collection<?> collection ? collection.size() : -1;
 		}
 	}
+
+	/**
+	 * A {@link ReactiveResultsStream} reading a chunk of results every time
+	 * {@link #nextChunk()} is called, using a {@link ReactiveStreamingResultsConsumer}.
+	 */
+	private static class ChunkedResultsStream<R> implements ReactiveResultsStream<R> {
+		private final JdbcSelect jdbcSelect;
+		private final ExecutionContext executionContext;
+		private final ReactiveValuesResultSet jdbcValues;
+		private final JdbcValuesSourceProcessingOptions processingOptions;
+		private final JdbcValuesSourceProcessingStateStandardImpl valuesProcessingState;
+		private final LoadedValuesCollector loadedValuesCollector;
+		private final ReactiveRowProcessingState rowProcessingState;
+		private final ReactiveRowReader<R> rowReader;
+		private final ReactiveStreamingResultsConsumer<R> resultsConsumer;
+		private final Statistics statistics;
+
+		private CompletionStage<List<R>> currentChunk;
+		private boolean released;
+		private int resultSize;
+
+		ChunkedResultsStream(
+				JdbcSelect jdbcSelect,
+				ExecutionContext executionContext,
+				ReactiveValuesResultSet jdbcValues,
+				JdbcValuesSourceProcessingOptions processingOptions,
+				JdbcValuesSourceProcessingStateStandardImpl valuesProcessingState,
+				LoadedValuesCollector loadedValuesCollector,
+				ReactiveRowProcessingState rowProcessingState,
+				ReactiveRowReader<R> rowReader,
+				ReactiveStreamingResultsConsumer<R> resultsConsumer,
+				Statistics statistics) {
+			this.jdbcSelect = jdbcSelect;
+			this.executionContext = executionContext;
+			this.jdbcValues = jdbcValues;
+			this.processingOptions = processingOptions;
+			this.valuesProcessingState = valuesProcessingState;
+			this.loadedValuesCollector = loadedValuesCollector;
+			this.rowProcessingState = rowProcessingState;
+			this.rowReader = rowReader;
+			this.resultsConsumer = resultsConsumer;
+			this.statistics = statistics;
+		}
+
+		@Override
+		public CompletionStage<List<R>> nextChunk() {
+			if ( released ) {
+				return completedFuture( emptyList() );
+			}
+			final CompletionStage<Void> preActions = currentChunk == null
+					? performPreActions()
+					: voidFuture();
+			currentChunk = preActions
+					.thenCompose( v -> readChunk() )
+					.thenCompose( this::afterChunk )
+					.handle( CompletionStages::handle )
+					.thenCompose( handler -> {
+						if ( handler.hasFailed() ) {
+							release();
+						}
+						return handler.getResultAsCompletionStage();
+					} );
+			return currentChunk;
+		}
+
+		private CompletionStage<List<R>> afterChunk(List<R> chunk) {
+			resultSize += chunk.size();
+			if ( resultsConsumer.isExhausted() ) {
+				return performPostActions()
+						.thenApply( v -> {
+							release();
+							statistics.end( jdbcSelect, resultSize );
+							return chunk;
+						} );
+			}
+			return completedFuture( chunk );
+		}
+
+		private CompletionStage<List<R>> readChunk() {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			final PersistenceContext persistenceContext = session.getPersistenceContext();
+			final boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
+			final Boolean readOnly = executionContext.getQueryOptions().isReadOnly();
+			if ( readOnly != null ) {
+				persistenceContext.setDefaultReadOnly( readOnly );
+			}
+			return resultsConsumer
+					.consume( jdbcValues, session, processingOptions, valuesProcessingState, rowProcessingState, rowReader )
+					.thenCompose( chunk -> ( (ReactivePersistenceContextAdapter) persistenceContext )
+							.reactiveInitializeNonLazyCollections()
+							.thenApply( v -> chunk )
+					)
+					.whenComplete( (o, throwable) -> {
+						if ( readOnly != null ) {
+							persistenceContext.setDefaultReadOnly( defaultReadOnlyOrig );
+						}
+					} );
+		}
+
+		private CompletionStage<Void> performPreActions() {
+			return jdbcSelect instanceof ReactiveJdbcSelect reactiveJdbcSelect
+					? reactiveJdbcSelect.reactivePerformPreActions( connection(), executionContext )
+					: voidFuture();
+		}
+
+		private CompletionStage<Void> performPostActions() {
+			return jdbcSelect instanceof ReactiveJdbcSelect reactiveJdbcSelect
+					? reactiveJdbcSelect.reactivePerformPostActions( true, connection(), executionContext, loadedValuesCollector )
+					: voidFuture();
+		}
+
+		private ReactiveConnection connection() {
+			return ( (ReactiveConnectionSupplier) executionContext.getSession() ).getReactiveConnection();
+		}
+
+		private void release() {
+			if ( !released ) {
+				released = true;
+				rowReader.finishUp( rowProcessingState );
+				jdbcValues.finishUp( executionContext.getSession() );
+			}
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			final CompletionStage<?> stage = currentChunk == null ? voidFuture() : currentChunk;
+			// Wait for the chunk being read, if any, before releasing the cursor
+			return stage
+					.handle( (r, t) -> null )
+					.thenAccept( v -> release() );
+		}
+	}
 }
@@ -7,7 +7,10 @@
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.LockMode;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.sql.results.internal.BatchFetchPrefetcher;
 import org.hibernate.reactive.sql.results.spi.ReactiveRowReader;
 import org.hibernate.sql.exec.internal.BaseExecutionContext;
 import org.hibernate.sql.exec.spi.ExecutionContext;
@@ -18,6 +21,7 @@
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.sql.results.spi.RowReader;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * @see org.hibernate.sql.results.internal.RowProcessingStateStandardImpl
@@ -33,6 +37,9 @@ public class ReactiveRowProcessingState extends BaseExecutionContext implements
 
 	private final InitializerData[] initializerData;
 
+	private final boolean batchFetchPrefetchEnabled;
+	private BatchFetchPrefetcher batchFetchPrefetcher;
+
 	public ReactiveRowProcessingState(
 			JdbcValuesSourceProcessingStateStandardImpl resultSetProcessingState,
 			ExecutionContext executionContext,
@@ -46,12 +53,29 @@ public ReactiveRowProcessingState(
 		this.needsResolveState = !isQueryCacheHit()
 				&& getQueryOptions().isResultCachingEnabled() == Boolean.TRUE;
 		this.initializerData = new InitializerData[rowReader.getInitializerCount()];
+		this.batchFetchPrefetchEnabled = getSession().getPersistenceContextInternal()
+				instanceof ReactivePersistenceContextAdapter persistenceContext
+				&& persistenceContext.isBatchFetchPrefetchEnabled();
 	}
 
 	public CompletionStage<Boolean> next() {
 		return jdbcValues.next();
 	}
 
+	/**
+	 * @see ReactiveValuesResultSet#isBuffered()
+	 */
+	public boolean isBuffered() {
+		return jdbcValues.isBuffered();
+	}
+
+	/**
+	 * @see ReactiveValuesResultSet#nextBuffered()
+	 */
+	public boolean nextBuffered() {
+		return jdbcValues.nextBuffered();
+	}
+
 	@Override
 	public JdbcValuesSourceProcessingState getJdbcValuesSourceProcessingState() {
 		return resultSetProcessingState;
@@ -122,4 +146,28 @@ public void finishRowProcessing(boolean wasAdded) {
 	public QueryOptions getQueryOptions() {
 		return this.executionContext.getQueryOptions();
 	}
+
+	/**
+	 * Register an uninitialized proxy, whose key is in the batch fetch queue,
+	 * so that it gets loaded once all the rows have been read.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#BATCH_FETCH_PREFETCH
+	 */
+	public void registerProxyToPrefetch(EntityPersister persister, Object proxy) {
+		if ( batchFetchPrefetchEnabled ) {
+			if ( batchFetchPrefetcher == null ) {
+				batchFetchPrefetcher = new BatchFetchPrefetcher();
+			}
+			batchFetchPrefetcher.add( persister, proxy );
+		}
+	}
+
+	/**
+	 * Load the proxies registered with {@link #registerProxyToPrefetch(EntityPersister, Object)}
+	 */
+	public CompletionStage<Void> prefetchProxies() {
+		return batchFetchPrefetcher == null
+				? voidFuture()
+				: batchFetchPrefetcher.prefetch( getSession() );
+	}
 }
@@ -21,17 +21,21 @@
 import org.hibernate.exception.LockTimeoutException;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.sql.results.internal.ReactiveQueryCachePutManager;
 import org.hibernate.reactive.sql.results.internal.ReactiveResultSetAccess;
+import org.hibernate.reactive.sql.results.internal.RowValuesExtractionPlan;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.ExecutionException;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
-import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
+import io.vertx.sqlclient.Row;
+
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
@@ -51,6 +55,7 @@ public class ReactiveValuesResultSet {
 	private final SqlSelection[] sqlSelections;
 	private final BitSet initializedIndexes;
 	private final Object[] currentRowJdbcValues;
+	private final RowValuesExtractionPlan rowValuesExtractionPlan;
 	private final int[] valueIndexesToCacheIndexes;
 	// Is only meaningful if valueIndexesToCacheIndexes is not null
 	// Contains the size of the row to cache, or if the value is negative,
@@ -67,6 +72,33 @@ public ReactiveValuesResultSet(
 			JdbcValuesMapping valuesMapping,
 			CachedJdbcValuesMetadata metadataForCache,
 			ExecutionContext executionContext) {
+		this(
+				resultSetAccess,
+				queryCacheKey,
+				queryIdentifier,
+				queryOptions,
+				usesFollowOnLocking,
+				valuesMapping,
+				metadataForCache,
+				executionContext,
+				null
+		);
+	}
+
+	/**
+	 * @param rowValuesExtractionPlan the plan resolved for the given {@link JdbcValuesMapping},
+	 * or {@code null} to resolve it
+	 */
+	public ReactiveValuesResultSet(
+			ReactiveResultSetAccess resultSetAccess,
+			QueryKey queryCacheKey,
+			String queryIdentifier,
+			QueryOptions queryOptions,
+			boolean usesFollowOnLocking,
+			JdbcValuesMapping valuesMapping,
+			CachedJdbcValuesMetadata metadataForCache,
+			ExecutionContext executionContext,
+			RowValuesExtractionPlan rowValuesExtractionPlan) {
 		this.queryCachePutManager = resolveQueryCachePutManager(
 				executionContext,
 				queryOptions,
@@ -88,6 +120,9 @@ public ReactiveValuesResultSet(
 		}
 		this.initializedIndexes = new BitSet( rowSize );
 		this.currentRowJdbcValues = new Object[rowSize];
+		this.rowValuesExtractionPlan = rowValuesExtractionPlan == null
+				? RowValuesExtractionPlan.resolve( sqlSelections )
+				: rowValuesExtractionPlan;
 		if ( queryCachePutManager == null ) {
 			this.valueIndexesToCacheIndexes = null;
 			this.rowToCacheSize = -1;
@@ -153,7 +188,7 @@ private static QueryCachePutManager resolveQueryCachePutManager(
 			final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 			final QueryResultsCache queryCache = factory.getCache()
 					.getQueryResultsCache( queryOptions.getResultCacheRegionName() );
-			return new QueryCachePutManagerEnabledImpl(
+			return new ReactiveQueryCachePutManager(
 					queryCache,
 					factory.getStatistics(),
 					queryCacheKey,
@@ -168,6 +203,31 @@ public final CompletionStage<Boolean> next() {
 		return processNext();
 	}
 
+	/**
+	 * Whether all the rows are already in memory, and it's possible to use {@link #nextBuffered()}
+	 */
+	public boolean isBuffered() {
+		return resultSetAccess.isFullyBuffered();
+	}
+
+	/**
+	 * Synchronous version of {@link #next()}, only supported if the rows
+	 * {@link #isBuffered() are in memory}.
+	 */
+	public final boolean nextBuffered() {
+		final ResultSet resultSet = resultSetAccess.getResultSet();
+		try {
+			if ( resultSet.next() ) {
+				readCurrentRowValues( resultSet );
+				return true;
+			}
+			return false;
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error advancing (next) ResultSet position", e );
+		}
+	}
+
 	protected final CompletionStage<Boolean> processNext() {
 		return advance( () -> resultSetAccess
 				.getReactiveResultSet()
@@ -178,7 +238,14 @@ protected final CompletionStage<Boolean> processNext() {
 	private CompletionStage<Boolean> doNext(ResultSet resultSet) {
 		try {
 			boolean next = resultSet.next();
-			return completedFuture( next );
+			if ( !next ) {
+				// When reading from a cursor, the current chunk might be over but there could be more rows
+				return resultSetAccess.reactiveFetchNextChunk()
+						.thenCompose( fetched -> fetched
+								? resultSetAccess.getReactiveResultSet().thenCompose( this::doNext )
+								: falseFuture() );
+			}
+			return completedFuture( true );
 		}
 		catch (SQLException e) {
 			return failedFuture( makeExecutionException( "Error advancing (next) ResultSet position", e ) );
@@ -266,21 +333,38 @@ private CompletionStage<Boolean> readCurrentRowValues(boolean hasResults) {
 
 		return resultSetAccess.getReactiveResultSet()
 				.thenApply( resultSet -> {
-					final SharedSessionContractImplementor session = executionContext.getSession();
-					for ( final SqlSelection sqlSelection : sqlSelections ) {
-						try {
-							currentRowJdbcValues[sqlSelection.getValuesArrayPosition()] = sqlSelection
-									.getJdbcValueExtractor()
-									.extract( resultSet, sqlSelection.getJdbcResultSetIndex(), session );
-						}
-						catch (Exception e) {
-							throw new HibernateException( "Unable to extract JDBC value for position `" + sqlSelection.getJdbcResultSetIndex() + "`", e );
-						}
-					}
+					readCurrentRowValues( resultSet );
 					return true;
 				} );
 	}
 
+	private void readCurrentRowValues(ResultSet resultSet) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final Row row = currentRow( resultSet );
+		for ( final SqlSelection sqlSelection : sqlSelections ) {
+			final int valuesArrayPosition = sqlSelection.getValuesArrayPosition();
+			try {
+				currentRowJdbcValues[valuesArrayPosition] = row != null && rowValuesExtractionPlan.isDirect( valuesArrayPosition )
+						? rowValuesExtractionPlan.extract( valuesArrayPosition, row, sqlSelection.getJdbcResultSetIndex(), session )
+						: sqlSelection.getJdbcValueExtractor().extract( resultSet, sqlSelection.getJdbcResultSetIndex(), session );
+			}
+			catch (Exception e) {
+				throw new HibernateException( "Unable to extract JDBC value for position `" + sqlSelection.getJdbcResultSetIndex() + "`", e );
+			}
+		}
+	}
+
+	/**
+	 * The Vert.x row, if the values can be read directly from it
+	 *
+	 * @see RowValuesExtractionPlan
+	 */
+	private Row currentRow(ResultSet resultSet) {
+		return !rowValuesExtractionPlan.isEmpty() && resultSet instanceof ResultSetAdaptor adaptor
+				? adaptor.getCurrentRow()
+				: null;
+	}
+
 	public int getResultCountEstimate() {
 		return resultCountEstimate;
 	}
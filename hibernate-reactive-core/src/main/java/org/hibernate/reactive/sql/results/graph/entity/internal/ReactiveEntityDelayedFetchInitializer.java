@@ -20,6 +20,7 @@
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.impl.ReactiveQueryExecutorLookup;
+import org.hibernate.reactive.sql.exec.spi.ReactiveRowProcessingState;
 import org.hibernate.reactive.sql.results.graph.ReactiveInitializer;
 import org.hibernate.reactive.sql.results.graph.embeddable.internal.ReactiveEmbeddableForeignKeyResultImpl;
 import org.hibernate.spi.NavigablePath;
@@ -197,6 +198,11 @@ else if ( referencedModelPart.isOptional() && referencedModelPart.isLazy() ) {
 							final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( data.getInstance() );
 							if ( lazyInitializer != null ) {
 								lazyInitializer.setUnwrap( referencedModelPart.isUnwrapProxy() && concreteDescriptor.isInstrumented() );
+								if ( lazyInitializer.isUninitialized()
+										&& entityKey.isBatchLoadable( session.getLoadQueryInfluencers() )
+										&& rowProcessingState instanceof ReactiveRowProcessingState reactiveRowProcessingState ) {
+									reactiveRowProcessingState.registerProxyToPrefetch( concreteDescriptor, data.getInstance() );
+								}
 							}
 						} );
 			}
@@ -9,6 +9,7 @@
 
 import org.hibernate.Hibernate;
 import org.hibernate.LockMode;
+import org.hibernate.StatelessSession;
 import org.hibernate.annotations.NotFoundAction;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.engine.spi.EntityEntry;
@@ -471,7 +472,14 @@ protected CompletionStage<Void> reactiveInitializeEntityInstance(ReactiveEntityI
 
 					registerNaturalIdResolution( data, persistenceContext, resolvedEntityState );
 
-					takeSnapshot( data, session, persistenceContext, entityEntry, previousEntityEntry, resolvedEntityState );
+					if ( previousEntityEntry == null && isLoadedReadOnly( data, session, persistenceContext ) ) {
+						// The entity is never checked for changes, so there's no need for
+						// a deep copy of the loaded state, and the entry doesn't keep it
+						persistenceContext.setEntryStatus( entityEntry, Status.READ_ONLY );
+					}
+					else {
+						takeSnapshot( data, session, persistenceContext, entityEntry, previousEntityEntry, resolvedEntityState );
+					}
 
 					data.getConcreteDescriptor().afterInitialize( data.getEntityInstanceForNotify(), session );
 
@@ -482,6 +490,34 @@ protected CompletionStage<Void> reactiveInitializeEntityInstance(ReactiveEntityI
 				} );
 	}
 
+	/**
+	 * Whether the entity is loaded by a stateless session, or by a read-only query
+	 * of a stateful session, such as a {@code SelectionQuery} with
+	 * {@code setReadOnly(true)}. The results of such a query only keep a read-only
+	 * {@link EntityEntry}, without loaded state or snapshot, which is what most of
+	 * the heap of a large page of results would otherwise be spent on.
+	 * <p>
+	 * This is only a partial step towards read-only results: the entities are
+	 * still fully initialized and registered in the persistence context, which
+	 * keeps their identity and lets their lazy associations be fetched.
+	 * When there's already a proxy for the entity, its read-only flag decides,
+	 * as in {@link #takeSnapshot}.
+	 */
+	private static boolean isLoadedReadOnly(
+			ReactiveEntityInitializerData data,
+			SharedSessionContractImplementor session,
+			PersistenceContext persistenceContext) {
+		if ( session instanceof StatelessSession ) {
+			// A stateless session never checks its entities for changes
+			return true;
+		}
+		if ( data.getEntityHolder().getProxy() != null ) {
+			return false;
+		}
+		final Boolean readOnly = data.getRowProcessingState().getQueryOptions().isReadOnly();
+		return readOnly == null ? persistenceContext.isDefaultReadOnly() : readOnly;
+	}
+
 	private void injectInterceptorIfNeeded(
 			ReactiveEntityInitializerData data,
 			Object entityIdentifier,
@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.engine.spi.ReactiveSharedSessionContractImplementor;
+
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+import static org.hibernate.reactive.sql.results.internal.PipelinedLoads.isLoadedWithoutFurtherAccess;
+import static org.hibernate.reactive.sql.results.internal.PipelinedLoads.startAll;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Loads the uninitialized proxies created for lazy to-one associations
+ * while reading the rows of a query, as soon as all the rows have been read.
+ * <p>
+ * The keys of the proxies are already in the
+ * {@link org.hibernate.engine.spi.BatchFetchQueue}, so a batch load
+ * initializes many proxies of the same entity type at once. The batch
+ * loads of different entity types are independent: they are all started
+ * before waiting for any of them, see {@link PipelinedLoads}. The entity
+ * types which might need another round trip to process the results (for
+ * example, entities with associations fetched eagerly, with a {@code @NotFound}
+ * action, or on the non-owning side of a one-to-one) are loaded one at the
+ * time, after the others.
+ *
+ * @see org.hibernate.reactive.provider.Settings#BATCH_FETCH_PREFETCH
+ */
+public class BatchFetchPrefetcher {
+
+	private final Map<EntityPersister, List<Object>> proxiesByPersister = new LinkedHashMap<>();
+
+	public void add(EntityPersister persister, Object proxy) {
+		proxiesByPersister.computeIfAbsent( persister, p -> new ArrayList<>() ).add( proxy );
+	}
+
+	public CompletionStage<Void> prefetch(SharedSessionContractImplementor session) {
+		if ( proxiesByPersister.isEmpty() ) {
+			return voidFuture();
+		}
+
+		final List<EntityPersister> pipelined = new ArrayList<>();
+		final List<EntityPersister> sequential = new ArrayList<>();
+		for ( EntityPersister persister : proxiesByPersister.keySet() ) {
+			if ( isLoadedWithoutFurtherAccess( persister ) ) {
+				pipelined.add( persister );
+			}
+			else {
+				sequential.add( persister );
+			}
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		// The loads started from here are not the outermost ones,
+		// so they won't prefetch the proxies they create
+		persistenceContext.beforeLoad();
+		return startAll( pipelined, persister -> fetchAll( persister, session ) )
+				.thenCompose( v -> loop( sequential, persister -> fetchAll( persister, session ) ) )
+				.whenComplete( (v, throwable) -> {
+					persistenceContext.afterLoad();
+					proxiesByPersister.clear();
+				} );
+	}
+
+	/**
+	 * Initialize all the proxies of the given entity type. The first load
+	 * includes as many keys from the batch fetch queue as the batch size
+	 * allows, so the following proxies are often already loaded.
+	 */
+	private CompletionStage<Void> fetchAll(EntityPersister persister, SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		return loop( proxiesByPersister.get( persister ), proxy -> {
+			final LazyInitializer initializer = extractLazyInitializer( proxy );
+			if ( !initializer.isUninitialized() ) {
+				return voidFuture();
+			}
+			final Object identifier = initializer.getIdentifier();
+			final Object loaded = persistenceContext.getEntity( new EntityKey( identifier, persister ) );
+			final CompletionStage<Object> entity = loaded != null
+					? completedFuture( loaded )
+					: ( (ReactiveSharedSessionContractImplementor) session )
+							.reactiveImmediateLoad( initializer.getEntityName(), identifier );
+			return entity.thenAccept( implementation -> {
+				// An entity that doesn't exist is reported when the application fetches the proxy
+				if ( implementation != null ) {
+					initializer.setImplementation( implementation );
+				}
+			} );
+		} );
+	}
+}
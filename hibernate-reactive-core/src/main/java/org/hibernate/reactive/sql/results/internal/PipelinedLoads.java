@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.engine.FetchTiming;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.ManagedMappingType;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Helpers for running independent loads in the same session without
+ * waiting for one load to complete before starting the next one.
+ * The Vert.x client pipelines the queries on the session's connection.
+ * <p>
+ * Two loads must never process their results at the same time, because
+ * the {@link org.hibernate.sql.results.spi.LoadContexts} of the
+ * persistence context is a stack. The results of pipelined queries
+ * arrive one after the other on the event loop, so this cannot happen
+ * when a load processes its results without accessing the database
+ * again. The {@code isLoadedWithoutFurtherAccess} methods check this
+ * from the mapping. They are conservative: a type that might need
+ * another round trip is excluded.
+ */
+public final class PipelinedLoads {
+
+	private PipelinedLoads() {
+	}
+
+	/**
+	 * Start all the loads, then wait for all of them to complete.
+	 * If any of them fails, the returned stage completes with the first
+	 * failure, in the order of the list, after all of them have completed.
+	 */
+	public static <T> CompletionStage<Void> startAll(List<T> list, Function<T, CompletionStage<Void>> load) {
+		if ( list.isEmpty() ) {
+			return voidFuture();
+		}
+		final List<CompletionStage<Void>> pending = new ArrayList<>( list.size() );
+		for ( T element : list ) {
+			pending.add( load.apply( element ) );
+		}
+		final Throwable[] failure = new Throwable[1];
+		return loop( pending, stage -> stage
+				.handle( (v, throwable) -> {
+					if ( throwable != null && failure[0] == null ) {
+						failure[0] = throwable;
+					}
+					return null;
+				} ) )
+				.thenCompose( v -> failure[0] == null ? voidFuture() : failedFuture( failure[0] ) );
+	}
+
+	/**
+	 * Whether loading an entity of the given type never requires another
+	 * round trip to process the results.
+	 */
+	public static boolean isLoadedWithoutFurtherAccess(EntityPersister persister) {
+		return isLoadedWithoutFurtherAccess( persister, null );
+	}
+
+	/**
+	 * Whether initializing a collection with the given role never requires
+	 * another round trip to process the results.
+	 */
+	public static boolean isLoadedWithoutFurtherAccess(CollectionPersister persister) {
+		if ( persister.hasCache() || ( persister.hasIndex() && persister.getIndexType().isEntityType() ) ) {
+			return false;
+		}
+		if ( persister.getElementType().isEntityType() ) {
+			// The owner of the collection is already in the persistence context,
+			// so the association mapping the collection is never fetched
+			return isLoadedWithoutFurtherAccess( persister.getElementPersister(), persister.getMappedByProperty() );
+		}
+		return !( persister.getAttributeMapping().getElementDescriptor() instanceof EmbeddableValuedModelPart embeddable )
+				|| !hasEagerAssociations( embeddable.getEmbeddableTypeDescriptor(), null );
+	}
+
+	private static boolean isLoadedWithoutFurtherAccess(EntityPersister persister, String mappedBy) {
+		return !persister.hasSubclasses()
+				&& !persister.canReadFromCache()
+				&& !hasEagerAssociations( persister, mappedBy );
+	}
+
+	private static boolean hasEagerAssociations(ManagedMappingType type, String ignoredAttribute) {
+		for ( int i = 0; i < type.getNumberOfAttributeMappings(); i++ ) {
+			final AttributeMapping attribute = type.getAttributeMapping( i );
+			if ( attribute instanceof EmbeddableValuedModelPart embeddable ) {
+				if ( hasEagerAssociations( embeddable.getEmbeddableTypeDescriptor(), null ) ) {
+					return true;
+				}
+			}
+			else if ( attribute instanceof ToOneAttributeMapping toOne ) {
+				if ( isLoadedWithOwner( toOne ) && !attribute.getAttributeName().equals( ignoredAttribute ) ) {
+					return true;
+				}
+			}
+			else if ( attribute instanceof PluralAttributeMapping ) {
+				if ( attribute.getMappedFetchOptions().getTiming() == FetchTiming.IMMEDIATE
+						&& !attribute.getAttributeName().equals( ignoredAttribute ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Whether the target of the association might be loaded while the
+	 * owner is: when it's eager, when it has a {@code @NotFound} action,
+	 * because the target must be checked, or when it's the non-owning side
+	 * of a one-to-one, because there's no foreign key to create a proxy from.
+	 */
+	private static boolean isLoadedWithOwner(ToOneAttributeMapping toOne) {
+		return toOne.getMappedFetchOptions().getTiming() == FetchTiming.IMMEDIATE
+				|| toOne.hasNotFoundAction()
+				|| toOne.getSideNature() == ForeignKeyDescriptor.Nature.TARGET;
+	}
+}
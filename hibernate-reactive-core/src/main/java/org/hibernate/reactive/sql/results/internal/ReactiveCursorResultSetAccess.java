@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.ResultSet;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
+
+/**
+ * A {@link ReactiveDeferredResultSetAccess} that reads the results of the
+ * query through a database cursor, {@code fetchSize} rows at a time.
+ *
+ * @see ReactiveConnection#selectJdbcCursor(String, Object[])
+ */
+public class ReactiveCursorResultSetAccess extends ReactiveDeferredResultSetAccess {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final int fetchSize;
+
+	private ReactiveConnection.Cursor cursor;
+
+	public ReactiveCursorResultSetAccess(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			JdbcSelectExecutor.StatementCreator statementCreator,
+			int fetchSize) {
+		super( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator, -1 );
+		this.fetchSize = fetchSize;
+	}
+
+	@Override
+	protected CompletionStage<ResultSet> selectJdbc(ReactiveConnection connection, String sql, Object[] parameters) {
+		return connection.selectJdbcCursor( sql, parameters )
+				.thenCompose( cursor -> {
+					this.cursor = cursor;
+					return cursor.read( fetchSize );
+				} );
+	}
+
+	@Override
+	public boolean isFullyBuffered() {
+		return false;
+	}
+
+	@Override
+	public CompletionStage<Boolean> reactiveFetchNextChunk() {
+		if ( cursor == null || !cursor.hasMore() ) {
+			return falseFuture();
+		}
+		LOG.tracef( "Fetching the next %s rows for query: %s", fetchSize, getFinalSql() );
+		return cursor.read( fetchSize )
+				.thenApply( resultSet -> {
+					resetResultSet( resultSet );
+					return true;
+				} );
+	}
+
+	@Override
+	public void release() {
+		if ( cursor != null ) {
+			final ReactiveConnection.Cursor toClose = cursor;
+			cursor = null;
+			toClose.close()
+					.whenComplete( (v, throwable) -> {
+						if ( throwable != null ) {
+							LOG.errorClosingCursor( throwable );
+						}
+					} );
+		}
+		super.release();
+	}
+}
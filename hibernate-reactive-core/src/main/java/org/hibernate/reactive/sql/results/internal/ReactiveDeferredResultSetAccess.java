@@ -98,6 +98,12 @@ public ResultSet getResultSet() {
 		return resultSet;
 	}
 
+	@Override
+	public boolean isFullyBuffered() {
+		// The Vert.x client reads all the rows before completing the query
+		return resultSet != null;
+	}
+
 	@Override
 	public CompletionStage<ResultSet> getReactiveResultSet() {
 		if ( resultSetStage == null ) {
@@ -177,8 +183,7 @@ private CompletionStage<ResultSet> executeQuery() {
 					final long executeStartNanos = executionStartNanos();
 
 					eventListenerManager.jdbcExecuteStatementStart();
-					return connection()
-							.selectJdbc( getFinalSql(), parameters )
+					return selectJdbc( connection(), getFinalSql(), parameters )
 							.thenCompose( this::validateResultSet )
 							.whenComplete( (resultSet, throwable) -> {
 								// FIXME: I don't know if this event makes sense for Vert.x
@@ -196,6 +201,22 @@ private CompletionStage<ResultSet> executeQuery() {
 				.whenComplete( (o, throwable) -> logicalConnection.afterStatement() );
 	}
 
+	/**
+	 * Run the query and return the first (and, by default, only) {@link ResultSet}.
+	 */
+	protected CompletionStage<ResultSet> selectJdbc(ReactiveConnection connection, String sql, Object[] parameters) {
+		return connection.selectJdbc( sql, parameters );
+	}
+
+	/**
+	 * Replace the current {@link ResultSet}, for example when the next chunk of
+	 * rows has been read from a cursor.
+	 */
+	protected void resetResultSet(ResultSet resultSet) {
+		this.resultSet = resultSet;
+		this.resultSetStage = completedFuture( resultSet );
+	}
+
 	private CompletionStage<ResultSet> validateResultSet(ResultSet resultSet) {
 		try {
 			return resultSet.getMetaData().getColumnCount() == 0
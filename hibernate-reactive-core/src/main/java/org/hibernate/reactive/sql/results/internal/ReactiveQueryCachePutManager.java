@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.session.impl.ReactiveSessionSettings;
+import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Collects the rows to cache, like {@link org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl},
+ * but puts them in the cache via the {@link org.hibernate.reactive.cache.ReactiveCacheAccess}.
+ */
+public class ReactiveQueryCachePutManager implements QueryCachePutManager {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final QueryResultsCache queryCache;
+	private final StatisticsImplementor statistics;
+	private final QueryKey queryKey;
+	private final String queryIdentifier;
+	private final List<Object> dataToCache = new ArrayList<>();
+
+	public ReactiveQueryCachePutManager(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			JdbcValuesMetadata metadataForCache) {
+		this.queryCache = queryCache;
+		this.statistics = statistics;
+		this.queryKey = queryKey;
+		this.queryIdentifier = queryIdentifier;
+		if ( metadataForCache != null ) {
+			// The first element is read back when the results are in the cache
+			dataToCache.add( metadataForCache );
+		}
+	}
+
+	@Override
+	public void registerJdbcRow(Object values) {
+		dataToCache.add( values );
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		finishUp( -1, session );
+	}
+
+	@Override
+	public void finishUp(int resultCount, SharedSessionContractImplementor session) {
+		// The query doesn't wait for the results to be written to the cache
+		ReactiveSessionSettings.cacheAccess( session.getFactory() )
+				.putQueryResults( session, queryCache, queryKey, dataToCache )
+				.whenComplete( (put, throwable) -> {
+					if ( throwable != null ) {
+						LOG.unableToPutQueryResults( queryIdentifier, throwable );
+					}
+					else if ( put && statistics.isStatisticsEnabled() ) {
+						statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
+					}
+				} );
+	}
+}
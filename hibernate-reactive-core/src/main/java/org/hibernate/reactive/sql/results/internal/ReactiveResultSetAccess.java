@@ -21,6 +21,8 @@
 
 import jakarta.persistence.EnumType;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
+
 /**
  * @see org.hibernate.sql.results.jdbc.internal.ResultSetAccess
  */
@@ -36,6 +38,24 @@ public interface ReactiveResultSetAccess extends JdbcValuesMetadata {
 
 	void release();
 
+	/**
+	 * Read the next chunk of rows, replacing the current {@link ResultSet}.
+	 *
+	 * @return {@code true} if a new chunk was read, {@code false} if
+	 * there are no more rows
+	 */
+	default CompletionStage<Boolean> reactiveFetchNextChunk() {
+		return falseFuture();
+	}
+
+	/**
+	 * Whether all the rows have already been read from the database,
+	 * so that {@link #getResultSet()} can be iterated without blocking.
+	 */
+	default boolean isFullyBuffered() {
+		return false;
+	}
+
 	/**
 	 * The estimate for the amount of results that can be expected for pre-sizing collections.
 	 * May return zero or negative values if the count can not be reasonably estimated.
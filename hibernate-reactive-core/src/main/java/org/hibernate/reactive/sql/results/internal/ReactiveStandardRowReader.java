@@ -53,6 +53,7 @@
 	private final Class<?> resultElementClass;
 
 	private final int assemblerCount;
+	private final boolean synchronous;
 
 	public ReactiveStandardRowReader(
 			JdbcValuesMappingResolution jdbcValuesMappingResolution,
@@ -101,6 +102,25 @@ public ReactiveStandardRowReader(
 			this.resultElementClass = domainResultJavaType.getComponentType();
 			this.componentType = ComponentType.determineComponentType( domainResultJavaType );
 		}
+		this.synchronous = componentType == ComponentType.OBJECT
+				&& !containsReactive( resultInitializers )
+				&& !containsReactive( initializers )
+				&& !containsReactive( sortedForResolveInitializers )
+				&& !containsReactive( resultAssemblers );
+	}
+
+	private static boolean containsReactive(Object[] initializersOrAssemblers) {
+		for ( Object object : initializersOrAssemblers ) {
+			if ( object instanceof ReactiveInitializer || object instanceof ReactiveDomainResultsAssembler ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean isSynchronous() {
+		return synchronous;
 	}
 
 	@Override
@@ -113,9 +133,34 @@ public boolean hasCollectionInitializers() {
 		return hasCollectionInitializers;
 	}
 
+	/**
+	 * Only supported when the reader {@link #isSynchronous() is synchronous}
+	 */
 	@Override
 	public R readRow(RowProcessingState processingState) {
-		throw LOG.nonReactiveMethodCall( "reactiveReadRow" );
+		if ( !synchronous ) {
+			throw LOG.nonReactiveMethodCall( "reactiveReadRow" );
+		}
+		LOADING_LOGGER.trace( "ReactiveStandardRowReader#readRow" );
+		for ( int i = 0; i < resultInitializers.length; i++ ) {
+			resultInitializers[i].resolveKey( resultInitializersData[i] );
+		}
+		for ( int i = 0; i < sortedForResolveInstance.length; i++ ) {
+			if ( sortedForResolveInstanceData[i].getState() == Initializer.State.KEY_RESOLVED ) {
+				sortedForResolveInstance[i].resolveInstance( sortedForResolveInstanceData[i] );
+			}
+		}
+		for ( int i = 0; i < initializers.length; i++ ) {
+			if ( initializersData[i].getState() == Initializer.State.RESOLVED ) {
+				initializers[i].initializeInstance( initializersData[i] );
+			}
+		}
+		final Object[] resultRow = (Object[]) Array.newInstance( resultElementClass, assemblerCount );
+		for ( int i = 0; i < assemblerCount; i++ ) {
+			resultRow[i] = resultAssemblers[i].assemble( processingState );
+		}
+		afterRow( processingState );
+		return rowTransformer.transformRow( resultRow );
 	}
 
 	@Override
@@ -22,6 +22,9 @@
 
 public class ReactiveStandardValuesMappingProducer extends JdbcValuesMappingProducerStandard implements JdbcValuesMappingProducer, ReactiveValuesMappingProducer {
 
+	// The mapping resolved by the superclass is the same for every execution
+	private volatile ResolvedPlan resolvedPlan;
+
 	public ReactiveStandardValuesMappingProducer(List<SqlSelection> sqlSelections, List<DomainResult<?>> domainResults) {
 		super( sqlSelections, domainResults );
 	}
@@ -42,4 +45,28 @@ public CompletionStage<JdbcValuesMapping> reactiveResolve(
 				SessionFactoryImplementor sessionFactory) {
 		return completedFuture( super.resolve( jdbcResultsMetadata, loadQueryInfluencers, sessionFactory ) );
 	}
+
+	/**
+	 * @return the plan for reading the values of the given mapping from the rows,
+	 * resolved only once if the mapping is the one this producer always resolves
+	 */
+	public RowValuesExtractionPlan getRowValuesExtractionPlan(JdbcValuesMapping valuesMapping) {
+		final ResolvedPlan resolved = resolvedPlan;
+		if ( resolved != null && resolved.valuesMapping == valuesMapping ) {
+			return resolved.plan;
+		}
+		final RowValuesExtractionPlan plan = RowValuesExtractionPlan.resolve( valuesMapping );
+		resolvedPlan = new ResolvedPlan( valuesMapping, plan );
+		return plan;
+	}
+
+	private static final class ResolvedPlan {
+		private final JdbcValuesMapping valuesMapping;
+		private final RowValuesExtractionPlan plan;
+
+		private ResolvedPlan(JdbcValuesMapping valuesMapping, RowValuesExtractionPlan plan) {
+			this.valuesMapping = valuesMapping;
+			this.plan = plan;
+		}
+	}
 }
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.internal;
+
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.BooleanJdbcType;
+import org.hibernate.type.descriptor.jdbc.CharJdbcType;
+import org.hibernate.type.descriptor.jdbc.DecimalJdbcType;
+import org.hibernate.type.descriptor.jdbc.DoubleJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.NumericJdbcType;
+import org.hibernate.type.descriptor.jdbc.SmallIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+
+import io.vertx.sqlclient.Row;
+
+/**
+ * Reads the values of the most common basic types straight from a Vert.x {@link Row},
+ * skipping the {@link org.hibernate.reactive.adaptor.impl.ResultSetAdaptor} and the
+ * {@link org.hibernate.type.descriptor.ValueExtractor} of the selection.
+ * <p>
+ * The plan is resolved once for the {@link SqlSelection}s of a {@link JdbcValuesMapping},
+ * and cached with it by the {@link ReactiveStandardValuesMappingProducer}. A selection is only
+ * extracted directly when it uses the standard extractor of one of the supported
+ * {@link JdbcType}s: in this case, reading the value from the row gives the same
+ * result of going through the adaptor, because the adaptor calls the same method
+ * on the row. For everything else, the plan returns {@code false} from
+ * {@link #isDirect(int)} and the selection must be extracted as usual.
+ */
+public final class RowValuesExtractionPlan {
+
+	@FunctionalInterface
+	private interface RowValueExtractor {
+		Object extract(Row row, int index, WrapperOptions options);
+	}
+
+	private final RowValueExtractor[] extractors;
+	private final boolean empty;
+
+	private RowValuesExtractionPlan(RowValueExtractor[] extractors, boolean empty) {
+		this.extractors = extractors;
+		this.empty = empty;
+	}
+
+	public static RowValuesExtractionPlan resolve(JdbcValuesMapping valuesMapping) {
+		final SqlSelection[] sqlSelections = new SqlSelection[valuesMapping.getRowSize()];
+		for ( SqlSelection selection : valuesMapping.getSqlSelections() ) {
+			sqlSelections[selection.getValuesArrayPosition()] = selection;
+		}
+		return resolve( sqlSelections );
+	}
+
+	/**
+	 * @param sqlSelections the selections, indexed by {@link SqlSelection#getValuesArrayPosition()}
+	 */
+	public static RowValuesExtractionPlan resolve(SqlSelection[] sqlSelections) {
+		final RowValueExtractor[] extractors = new RowValueExtractor[sqlSelections.length];
+		boolean empty = true;
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			final SqlSelection sqlSelection = sqlSelections[i];
+			if ( sqlSelection != null ) {
+				extractors[i] = extractor( sqlSelection );
+				empty = empty && extractors[i] == null;
+			}
+		}
+		return new RowValuesExtractionPlan( extractors, empty );
+	}
+
+	/**
+	 * @return {@code true} if none of the values can be read directly from the row
+	 */
+	public boolean isEmpty() {
+		return empty;
+	}
+
+	/**
+	 * @return {@code true} if the value at the given position can be read directly from the row
+	 */
+	public boolean isDirect(int valuesArrayPosition) {
+		return extractors[valuesArrayPosition] != null;
+	}
+
+	/**
+	 * @param valuesArrayPosition see {@link SqlSelection#getValuesArrayPosition()}
+	 * @param jdbcPosition see {@link SqlSelection#getJdbcResultSetIndex()} (1-based, like JDBC)
+	 */
+	public Object extract(int valuesArrayPosition, Row row, int jdbcPosition, WrapperOptions options) {
+		return extractors[valuesArrayPosition].extract( row, jdbcPosition - 1, options );
+	}
+
+	private static RowValueExtractor extractor(SqlSelection sqlSelection) {
+		final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+		if ( expressionType == null || expressionType.getJdbcTypeCount() != 1 ) {
+			return null;
+		}
+		final JdbcMapping jdbcMapping = expressionType.getSingleJdbcMapping();
+		if ( sqlSelection.getJdbcValueExtractor() != jdbcMapping.getJdbcValueExtractor() ) {
+			// Something changed the default extractor, we don't know what it does
+			return null;
+		}
+		final JavaType<?> javaType = jdbcMapping.getJdbcJavaType();
+		// We check the exact class, because subclasses might extract the value differently
+		final Class<? extends JdbcType> jdbcTypeClass = jdbcMapping.getJdbcType().getClass();
+		if ( jdbcTypeClass == VarcharJdbcType.class || jdbcTypeClass == CharJdbcType.class ) {
+			return (row, index, options) -> wrap( javaType, row.getString( index ), options );
+		}
+		if ( jdbcTypeClass == IntegerJdbcType.class ) {
+			return (row, index, options) -> wrap( javaType, row.getInteger( index ), options );
+		}
+		if ( jdbcTypeClass == BigIntJdbcType.class ) {
+			return (row, index, options) -> wrap( javaType, row.getLong( index ), options );
+		}
+		if ( jdbcTypeClass == SmallIntJdbcType.class ) {
+			return (row, index, options) -> wrap( javaType, row.getShort( index ), options );
+		}
+		if ( jdbcTypeClass == DoubleJdbcType.class ) {
+			return (row, index, options) -> wrap( javaType, row.getDouble( index ), options );
+		}
+		if ( jdbcTypeClass == DecimalJdbcType.class || jdbcTypeClass == NumericJdbcType.class ) {
+			return (row, index, options) -> wrap( javaType, row.getBigDecimal( index ), options );
+		}
+		if ( jdbcTypeClass == BooleanJdbcType.class ) {
+			return (row, index, options) -> wrap( javaType, getBoolean( row, index ), options );
+		}
+		return null;
+	}
+
+	/**
+	 * Same as {@link org.hibernate.reactive.adaptor.impl.ResultSetAdaptor#getBoolean(int)}
+	 */
+	private static Boolean getBoolean(Row row, int index) {
+		try {
+			return row.getBoolean( index );
+		}
+		catch (ClassCastException cce) {
+			// Oracle doesn't support an actual boolean/Boolean datatype,
+			// the value is stored as a number( 1, 0 )
+			try {
+				final Integer integer = row.getInteger( index );
+				return integer == null ? null : integer != 0;
+			}
+			catch (Exception e) {
+				// ignore second exception and throw first cce
+				throw cce;
+			}
+		}
+	}
+
+	private static Object wrap(JavaType<?> javaType, Object value, WrapperOptions options) {
+		return value == null ? null : javaType.wrap( value, options );
+	}
+}
@@ -31,6 +31,7 @@
 import static org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer.UniqueSemantic.ASSERT;
 import static org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer.UniqueSemantic.FILTER;
 import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
 
 /**
@@ -97,6 +98,13 @@ public CompletionStage<List<R>> consume(
 								.thenApply( added -> {
 									rowProcessingState.finishRowProcessing( added );
 									readRows[0]++;
+									if ( rowReader.isSynchronous() && rowProcessingState.isBuffered() ) {
+										// All the remaining rows are already in memory and reading them
+										// doesn't require a database round trip: avoid creating a
+										// CompletionStage for each row
+										readRows[0] += consumeBuffered( results, rowReader, rowProcessingState, isEntityResultType );
+										return false;
+									}
 									return true;
 								} );
 
@@ -108,7 +116,21 @@ public CompletionStage<List<R>> consume(
 				.thenCompose( handler -> {
 					end( jdbcValues, session, jdbcValuesSourceProcessingState, persistenceContext, handler.getThrowable() );
 					return handler.getResultAsCompletionStage();
-				} );
+				} )
+				.thenCompose( list -> prefetchProxies( rowProcessingState, persistenceContext ).thenApply( v -> list ) );
+	}
+
+	/**
+	 * Load the proxies of lazy associations created while reading the rows, if
+	 * {@link org.hibernate.reactive.provider.Settings#BATCH_FETCH_PREFETCH enabled}.
+	 * A load nested in another one leaves them uninitialized.
+	 */
+	private static CompletionStage<Void> prefetchProxies(
+			ReactiveRowProcessingState rowProcessingState,
+			PersistenceContext persistenceContext) {
+		return persistenceContext.isLoadFinished()
+				? rowProcessingState.prefetchProxies()
+				: voidFuture();
 	}
 
 	private CompletionStage<List<R>> finishUp(
@@ -173,6 +195,48 @@ private Supplier<CompletionStage<Boolean>> addToResultsSupplier(
 	}
 
 
+	/**
+	 * Synchronous equivalent of the loop in {@link #consume}, for when the rows are
+	 * {@link ReactiveRowProcessingState#isBuffered() buffered} and the row reader
+	 * {@link ReactiveRowReader#isSynchronous() is synchronous}.
+	 *
+	 * @return the number of rows read
+	 */
+	private int consumeBuffered(
+			Results<R> results,
+			ReactiveRowReader<R> rowReader,
+			ReactiveRowProcessingState rowProcessingState,
+			boolean isEntityResultType) {
+		int readRows = 0;
+		while ( rowProcessingState.nextBuffered() ) {
+			final boolean added = addToResults( results, rowReader.readRow( rowProcessingState ), rowReader, isEntityResultType );
+			rowProcessingState.finishRowProcessing( added );
+			readRows++;
+		}
+		return readRows;
+	}
+
+	/**
+	 * Same semantic as {@link #addToResultsSupplier}
+	 */
+	private boolean addToResults(
+			Results<R> results,
+			R row,
+			ReactiveRowReader<R> rowReader,
+			boolean isEntityResultType) {
+		if ( this.uniqueSemantic == FILTER
+				|| this.uniqueSemantic == ASSERT && rowReader.hasCollectionInitializers()
+				|| this.uniqueSemantic == ALLOW && isEntityResultType ) {
+			return results.addUnique( row );
+		}
+
+		if ( this.uniqueSemantic == ASSERT ) {
+			return validateUniqueResult( results.addUnique( row ) );
+		}
+
+		return results.add( row );
+	}
+
 	private void end(
 			ReactiveValuesResultSet jdbcValues,
 			SharedSessionContractImplementor session,
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.spi;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.Incubating;
+
+/**
+ * The results of a query, read from the database a chunk at a time.
+ * <p>
+ * Like {@link org.hibernate.reactive.pool.ReactiveConnection}, a stream
+ * is not thread-safe: a call to {@link #nextChunk()} must be chained on
+ * completion of the previous one.
+ *
+ * @see org.hibernate.reactive.query.ReactiveSelectionQuery#reactiveStream()
+ */
+@Incubating
+public interface ReactiveResultsStream<R> {
+
+	/**
+	 * Read the next chunk of results.
+	 *
+	 * @return the next results, or an empty list if there are no more results
+	 */
+	CompletionStage<List<R>> nextChunk();
+
+	/**
+	 * Release the underlying database cursor. It's safe to call this method
+	 * more than once, and after all the results have been read.
+	 */
+	CompletionStage<Void> close();
+}
@@ -8,9 +8,19 @@
 
 import org.hibernate.reactive.sql.exec.spi.ReactiveRowProcessingState;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.sql.results.spi.RowReader;
 
 public interface ReactiveRowReader<R> extends RowReader<R> {
 
 	CompletionStage<R> reactiveReadRow(ReactiveRowProcessingState processingState, JdbcValuesSourceProcessingOptions options);
+
+	/**
+	 * Whether none of the initializers and assemblers of this reader need
+	 * to access the database. In this case, {@link #readRow(RowProcessingState)}
+	 * can be used instead of {@link #reactiveReadRow}.
+	 */
+	default boolean isSynchronous() {
+		return false;
+	}
 }
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.sql.exec.spi.ReactiveRowProcessingState;
+import org.hibernate.reactive.sql.exec.spi.ReactiveValuesResultSet;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
+
+/**
+ * Reads at most {@code chunkSize} rows every time {@link #consume} is called.
+ * <p>
+ * Unlike {@link ReactiveListResultsConsumer}, it doesn't release the
+ * {@link ReactiveValuesResultSet} at the end of each call: the caller
+ * must do it once the consumer {@link #isExhausted() is exhausted}.
+ * Results are never de-duplicated, because it would require to keep
+ * all the results in memory.
+ *
+ * @see ReactiveResultsStream
+ */
+public class ReactiveStreamingResultsConsumer<R> implements ReactiveResultsConsumer<List<R>, R> {
+
+	private final int chunkSize;
+
+	private boolean exhausted;
+
+	public ReactiveStreamingResultsConsumer(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * @return {@code true} if all the rows have been read
+	 */
+	public boolean isExhausted() {
+		return exhausted;
+	}
+
+	@Override
+	public CompletionStage<List<R>> consume(
+			ReactiveValuesResultSet jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			ReactiveRowProcessingState rowProcessingState,
+			ReactiveRowReader<R> rowReader) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		persistenceContext.beforeLoad();
+		persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
+
+		final List<R> chunk = new ArrayList<>( chunkSize );
+		return whileLoop( () -> chunk.size() < chunkSize
+				? rowProcessingState.next()
+						.thenCompose( hasNext -> {
+							if ( hasNext ) {
+								return rowReader.reactiveReadRow( rowProcessingState, processingOptions )
+										.thenApply( row -> {
+											chunk.add( row );
+											rowProcessingState.finishRowProcessing( true );
+											return true;
+										} );
+							}
+							exhausted = true;
+							return falseFuture();
+						} )
+				: falseFuture() )
+				.thenCompose( v -> {
+					jdbcValuesSourceProcessingState.finishLoadingCollections();
+					return ( (ReactivePersistenceContextAdapter) session.getPersistenceContextInternal() )
+							.reactivePostLoad(
+									jdbcValuesSourceProcessingState,
+									chunk.size() > 1
+											? jdbcValuesSourceProcessingState.getExecutionContext()::registerLoadingEntityHolder
+											: null
+							);
+				} )
+				.handle( CompletionStages::handle )
+				.thenCompose( handler -> {
+					persistenceContext.afterLoad();
+					persistenceContext.getLoadContexts().deregister( jdbcValuesSourceProcessingState );
+					if ( handler.hasFailed() ) {
+						exhausted = true;
+						return failedFuture( handler.getThrowable() );
+					}
+					return completedFuture( chunk );
+				} );
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+}
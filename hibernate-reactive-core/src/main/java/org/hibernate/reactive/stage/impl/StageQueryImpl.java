@@ -6,6 +6,7 @@
 
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -46,6 +47,17 @@ public CompletionStage<List<R>> getResultList() {
 		return delegate.getReactiveResultList();
 	}
 
+	@Override
+	public Flow.Publisher<R> getResultStream() {
+		return StageSelectionQueryImpl.publisher( delegate::reactiveStream );
+	}
+
+	@Override
+	public Query<R> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return delegate.getHibernateFlushMode();
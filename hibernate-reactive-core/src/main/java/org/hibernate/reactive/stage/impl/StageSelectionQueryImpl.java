@@ -6,6 +6,8 @@
 
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -14,8 +16,12 @@
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.Page;
 import org.hibernate.reactive.query.ReactiveSelectionQuery;
+import org.hibernate.reactive.sql.results.spi.ReactiveResultsStream;
 import org.hibernate.reactive.stage.Stage.SelectionQuery;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.EntityGraph;
@@ -45,6 +51,31 @@ public CompletionStage<List<T>> getResultList() {
 		return delegate.getReactiveResultList();
 	}
 
+	@Override
+	public Flow.Publisher<T> getResultStream() {
+		return publisher( delegate::reactiveStream );
+	}
+
+	@Override
+	public SelectionQuery<T> setFetchSize(int fetchSize) {
+		delegate.setFetchSize( fetchSize );
+		return this;
+	}
+
+	/**
+	 * Emit the results of a {@link ReactiveResultsStream}, reading the next
+	 * chunk only when the previous one has been requested by the subscriber.
+	 */
+	static <T> Flow.Publisher<T> publisher(Supplier<CompletionStage<ReactiveResultsStream<T>>> streamSupplier) {
+		return Uni.createFrom().completionStage( streamSupplier )
+				.onItem().transformToMulti( stream -> Multi.createBy().repeating()
+						.completionStage( stream::nextChunk )
+						.until( List::isEmpty )
+						.onTermination().call( () -> Uni.createFrom().completionStage( stream::close ) )
+				)
+				.onItem().transformToIterable( chunk -> chunk );
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return delegate.getHibernateFlushMode();
@@ -24,6 +24,8 @@
 import org.hibernate.reactive.context.impl.MultitenantKey;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.PoolMetrics;
+import org.hibernate.reactive.pool.PoolStatistics;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
@@ -317,6 +319,11 @@ public Statistics getStatistics() {
 		return delegate.getStatistics();
 	}
 
+	@Override
+	public PoolStatistics getPoolStatistics() {
+		return delegate.getServiceRegistry().requireService( PoolMetrics.class ).getStatistics();
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
@@ -42,6 +42,7 @@
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.metamodel.Attribute;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -78,6 +79,11 @@ public <E,T> CompletionStage<T> fetch(E entity, Attribute<E,T> field) {
 		return delegate.reactiveFetch( entity, field );
 	}
 
+	@Override
+	public <E> CompletionStage<Void> fetchAll(Collection<E> entities, Attribute<E, ?> attribute) {
+		return delegate.reactiveFetchAll( entities, attribute );
+	}
+
 	@Override
 	public <T> CompletionStage<T> unproxy(T association) {
 		return delegate.reactiveFetch( association, true );
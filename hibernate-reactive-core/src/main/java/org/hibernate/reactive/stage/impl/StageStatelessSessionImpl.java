@@ -25,6 +25,8 @@
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.metamodel.Attribute;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -185,6 +187,11 @@ public <T> CompletionStage<T> fetch(T association) {
 		return delegate.reactiveFetch( association, false );
 	}
 
+	@Override
+	public <E> CompletionStage<Void> fetchAll(Collection<E> entities, Attribute<E, ?> attribute) {
+		return delegate.reactiveFetchAll( entities, attribute );
+	}
+
 	@Override
 	public Object getIdentifier(Object entity) {
 		return delegate.getIdentifier(entity);
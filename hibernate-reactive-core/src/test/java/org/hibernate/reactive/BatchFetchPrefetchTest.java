@@ -0,0 +1,267 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.NotFound;
+import org.hibernate.annotations.NotFoundAction;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.sql.results.internal.PipelinedLoads.isLoadedWithoutFurtherAccess;
+
+/**
+ * Test the loading of lazy to-one associations right after the query,
+ * see {@link Settings#BATCH_FETCH_PREFETCH}.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class BatchFetchPrefetchTest extends BaseReactiveTest {
+
+	private SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Book.class, Author.class, Publisher.class, Imprint.class, Editor.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.BATCH_FETCH_PREFETCH, "true" );
+		sqlTracker = new SqlStatementTracker( BatchFetchPrefetchTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	private static boolean isSelect(String s) {
+		return s.toLowerCase().startsWith( "select" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	@Test
+	public void testAssociationsLoadedAfterQuery(VertxTestContext context) {
+		final Publisher publisher1 = new Publisher( 1, "Manning" );
+		final Publisher publisher2 = new Publisher( 2, "O'Reilly" );
+		final Author author1 = new Author( 1, "Ursula K. Le Guin" );
+		final Author author2 = new Author( 2, "Iain M. Banks" );
+		final Author author3 = new Author( 3, "Octavia E. Butler" );
+		final Book[] books = {
+				new Book( 1, "The Dispossessed", author1, publisher1 ),
+				new Book( 2, "The Left Hand of Darkness", author1, publisher2 ),
+				new Book( 3, "Excession", author2, publisher1 ),
+				new Book( 4, "Kindred", author3, publisher2 )
+		};
+
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( publisher1, publisher2, author1, author2, author3 )
+						.thenCompose( v -> s.persist( (Object[]) books ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> {
+					sqlTracker.clear();
+					return s.createSelectionQuery( "from Book order by id", Book.class )
+							.getResultList()
+							.thenAccept( list -> {
+								// One query for the books, and one batch load for each association
+								assertThat( sqlTracker.getLoggedQueries() ).hasSize( 3 );
+								assertThat( list ).hasSize( 4 );
+								for ( Book book : list ) {
+									assertThat( Hibernate.isInitialized( book.author ) ).isTrue();
+									assertThat( Hibernate.isInitialized( book.publisher ) ).isTrue();
+								}
+								assertThat( Hibernate.unproxy( list.get( 0 ).author, Author.class ).name ).isEqualTo( author1.name );
+								assertThat( Hibernate.unproxy( list.get( 3 ).publisher, Publisher.class ).name ).isEqualTo( publisher2.name );
+							} );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testTypesLoadedWithOtherQueriesNotPipelined() {
+		assertThat( isLoadedWithoutFurtherAccess( persister( Author.class ) ) ).isTrue();
+		assertThat( isLoadedWithoutFurtherAccess( persister( Publisher.class ) ) ).isTrue();
+		// @NotFound association
+		assertThat( isLoadedWithoutFurtherAccess( persister( Imprint.class ) ) ).isFalse();
+		// Non-owning side of a lazy one-to-one
+		assertThat( isLoadedWithoutFurtherAccess( persister( Editor.class ) ) ).isFalse();
+	}
+
+	private static EntityPersister persister(Class<?> entityClass) {
+		return ( (SessionFactoryImplementor) factoryManager
+				.getHibernateSessionFactory() )
+				.getMappingMetamodel()
+				.findEntityDescriptor( entityClass );
+	}
+
+	@Test
+	public void testAssociationsLoadedWithOtherQueries(VertxTestContext context) {
+		final Publisher publisher = new Publisher( 1, "Gollancz" );
+		final Author author = new Author( 1, "Iain M. Banks" );
+		final Imprint imprint = new Imprint( 1, "SF Masterworks", publisher );
+		final Editor editor1 = new Editor( 1, "Malcolm Edwards" );
+		final Editor editor2 = new Editor( 2, "Simon Spanton" );
+		final Book book1 = new Book( 1, "Consider Phlebas", author, publisher );
+		book1.imprint = imprint;
+		book1.editor = editor1;
+		final Book book2 = new Book( 2, "Use of Weapons", author, publisher );
+		book2.imprint = imprint;
+		book2.editor = editor2;
+
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( publisher, author, imprint, editor1, editor2 )
+						.thenCompose( v -> s.persist( book1, book2 ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createSelectionQuery( "from Book order by id", Book.class )
+						.getResultList()
+						.thenAccept( list -> {
+							assertThat( list ).hasSize( 2 );
+							for ( Book book : list ) {
+								assertThat( Hibernate.isInitialized( book.imprint ) ).isTrue();
+								assertThat( Hibernate.isInitialized( book.editor ) ).isTrue();
+							}
+							final Imprint loadedImprint = Hibernate.unproxy( list.get( 0 ).imprint, Imprint.class );
+							assertThat( loadedImprint.name ).isEqualTo( imprint.name );
+							assertThat( loadedImprint.publisher.name ).isEqualTo( publisher.name );
+							final Editor loadedEditor = Hibernate.unproxy( list.get( 1 ).editor, Editor.class );
+							assertThat( loadedEditor.name ).isEqualTo( editor2.name );
+							assertThat( loadedEditor.book ).isSameAs( list.get( 1 ) );
+						} )
+				) )
+		);
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "PrefetchBook")
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY, optional = false)
+		Author author;
+
+		@ManyToOne(fetch = FetchType.LAZY, optional = false)
+		Publisher publisher;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Imprint imprint;
+
+		@OneToOne(fetch = FetchType.LAZY)
+		Editor editor;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "PrefetchAuthor")
+	@BatchSize(size = 10)
+	public static class Author {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	@Table(name = "PrefetchPublisher")
+	@BatchSize(size = 10)
+	public static class Publisher {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Imprint")
+	@Table(name = "PrefetchImprint")
+	@BatchSize(size = 10)
+	public static class Imprint {
+		@Id
+		Integer id;
+
+		String name;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@NotFound(action = NotFoundAction.IGNORE)
+		Publisher publisher;
+
+		public Imprint() {
+		}
+
+		public Imprint(Integer id, String name, Publisher publisher) {
+			this.id = id;
+			this.name = name;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity(name = "Editor")
+	@Table(name = "PrefetchEditor")
+	@BatchSize(size = 10)
+	public static class Editor {
+		@Id
+		Integer id;
+
+		String name;
+
+		@OneToOne(mappedBy = "editor", fetch = FetchType.LAZY)
+		Book book;
+
+		public Editor() {
+		}
+
+		public Editor(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -216,6 +216,34 @@ public void testBatching(VertxTestContext context) {
 		);
 	}
 
+	@Test
+	public void testBatchingWithDifferentStatementsInTransaction(VertxTestContext context) {
+		GuineaPig one = new GuineaPig( 11, "One" );
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( one, new GuineaPig( 22, "Two" ) ) )
+				.thenAccept( v -> sqlTracker.clear() )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s
+						.find( GuineaPig.class, one.getId() )
+						.thenAccept( pig -> pig.setName( "Uno" ) )
+						.thenCompose( v1 -> s.persist( new GuineaPig( 33, "Three" ), new GuineaPig( 44, "Four" ) ) )
+						.thenCompose( v1 -> s.find( GuineaPig.class, 22 ) )
+						.thenCompose( s::remove )
+				) )
+				.thenAccept( v -> {
+					// Changing the SQL doesn't execute the pending batch, and the order of the statements is preserved.
+					// See SqlClientConnectionPipelineTest for the check that the batches are sent together.
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 3 );
+					assertThat( sqlTracker.getLoggedQueries().get( 0 ) ).startsWith( "insert into pig " );
+					assertThat( sqlTracker.getLoggedQueries().get( 1 ) ).startsWith( "update pig " );
+					assertThat( sqlTracker.getLoggedQueries().get( 2 ) ).startsWith( "delete from pig " );
+				} )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s
+						.createSelectionQuery( "select name from GuineaPig", String.class )
+						.getResultList() ) )
+				.thenAccept( names -> assertThat( names ).containsExactlyInAnyOrder( "Uno", "Three", "Four" ) )
+		);
+	}
+
 	@Test
 	public void testBatchingWithStateless(VertxTestContext context) {
 		final GuineaPig[] pigs = {
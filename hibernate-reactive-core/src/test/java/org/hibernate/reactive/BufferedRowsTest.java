@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Converter;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check that the rows of a query are read synchronously, without a
+ * {@link java.util.concurrent.CompletionStage} for each row, when they
+ * are all in memory and the row reader doesn't need to run reactive
+ * operations, and that the results are the same.
+ *
+ * @see org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class BufferedRowsTest extends BaseReactiveTest {
+
+	private static final List<String> NAMES = List.of( "Apple", "Banana", "Cherry", "Damson", "Elderberry" );
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Fruit.class );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		final Fruit[] fruits = new Fruit[NAMES.size()];
+		for ( int i = 0; i < fruits.length; i++ ) {
+			fruits[i] = new Fruit( i + 1, NAMES.get( i ) );
+		}
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( (Object[]) fruits ) )
+				.invoke( RecordingConverter.READ_BUFFERED::clear )
+		);
+	}
+
+	@Test
+	public void testScalarResultsReadSynchronously(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s
+						.createSelectionQuery( "select name from Fruit order by id", String.class )
+						.getResultList() )
+				.thenAccept( names -> {
+					assertThat( names ).containsExactlyElementsOf( NAMES );
+					// Only the first row goes through the reactive loop
+					assertThat( RecordingConverter.READ_BUFFERED ).containsExactly( false, true, true, true, true );
+				} )
+		);
+	}
+
+	@Test
+	public void testTupleResultsReadSynchronously(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s
+						.createSelectionQuery( "select id, name from Fruit order by id", Object[].class )
+						.getResultList() )
+				.thenAccept( rows -> {
+					assertThat( rows ).hasSize( NAMES.size() );
+					for ( int i = 0; i < rows.size(); i++ ) {
+						assertThat( rows.get( i ) ).containsExactly( i + 1, NAMES.get( i ) );
+					}
+					assertThat( RecordingConverter.READ_BUFFERED ).containsExactly( false, true, true, true, true );
+				} )
+		);
+	}
+
+	@Test
+	public void testEntitiesReadReactively(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s
+						.createSelectionQuery( "from Fruit order by id", Fruit.class )
+						.getResultList() )
+				.thenAccept( fruits -> {
+					assertThat( fruits ).extracting( fruit -> fruit.name ).containsExactlyElementsOf( NAMES );
+					// The initializers of the entities are reactive
+					assertThat( RecordingConverter.READ_BUFFERED )
+							.hasSize( NAMES.size() )
+							.containsOnly( false );
+				} )
+		);
+	}
+
+	/**
+	 * Records, for each value read, if the row was read by the synchronous loop
+	 */
+	@Converter
+	public static class RecordingConverter implements AttributeConverter<String, String> {
+		static final List<Boolean> READ_BUFFERED = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String convertToDatabaseColumn(String attribute) {
+			return attribute;
+		}
+
+		@Override
+		public String convertToEntityAttribute(String dbData) {
+			READ_BUFFERED.add( StackWalker.getInstance()
+					.walk( frames -> frames.anyMatch( frame -> "consumeBuffered".equals( frame.getMethodName() ) ) ) );
+			return dbData;
+		}
+	}
+
+	@Entity(name = "Fruit")
+	@Table(name = "BufferedFruit")
+	public static class Fruit {
+		@Id
+		Integer id;
+
+		@Convert(converter = RecordingConverter.class)
+		String name;
+
+		public Fruit() {
+		}
+
+		public Fruit(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
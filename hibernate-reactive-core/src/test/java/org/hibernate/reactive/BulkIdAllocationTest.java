@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.annotations.EnabledFor;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Test that {@code insertAll()} reserves the identifiers of all the entities
+ * using the same generator with a single round trip.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class BulkIdAllocationTest extends BaseReactiveTest {
+
+	private static final int ENTITIES = 20;
+
+	private SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( SequenceEntity.class, TableEntity.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( BulkIdAllocationTest::isNotInsert, configuration.getProperties() );
+		return configuration;
+	}
+
+	private static boolean isNotInsert(String s) {
+		return !s.toLowerCase().startsWith( "insert" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	@Test
+	@EnabledFor(POSTGRESQL)
+	public void testSequenceWithInsertAll(VertxTestContext context) {
+		final SequenceEntity[] entities = IntStream.range( 0, ENTITIES )
+				.mapToObj( i -> new SequenceEntity( "Entity " + i ) )
+				.toArray( SequenceEntity[]::new );
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> {
+					sqlTracker.clear();
+					return s.insertAll( entities );
+				} )
+				.invoke( () -> {
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+					assertThat( entities ).extracting( e -> e.id ).doesNotContainNull().doesNotHaveDuplicates();
+				} )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.createSelectionQuery( "select count(*) from SequenceEntity", Long.class )
+						.getSingleResult() ) )
+				.invoke( count -> assertThat( count ).isEqualTo( ENTITIES ) )
+		);
+	}
+
+	@Test
+	public void testTableWithInsertMultiple(VertxTestContext context) {
+		final List<TableEntity> entities = IntStream.range( 0, ENTITIES )
+				.mapToObj( i -> new TableEntity( "Entity " + i ) )
+				.toList();
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> {
+					sqlTracker.clear();
+					return s.insertMultiple( entities );
+				} )
+				.invoke( () -> {
+					// A select and an update of the table, instead of one for each block
+					assertThat( sqlTracker.getLoggedQueries() ).hasSizeLessThan( ENTITIES / 2 );
+					assertThat( entities ).extracting( e -> e.id ).doesNotContainNull().doesNotHaveDuplicates();
+				} )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.createSelectionQuery( "select count(*) from TableEntity", Long.class )
+						.getSingleResult() ) )
+				.invoke( count -> assertThat( count ).isEqualTo( ENTITIES ) )
+		);
+	}
+
+	@Entity(name = "SequenceEntity")
+	@Table(name = "BulkIdSequenceEntity")
+	@SequenceGenerator(name = "bulk_seq", sequenceName = "bulk_id_seq", allocationSize = 1)
+	public static class SequenceEntity {
+		@Id
+		@GeneratedValue(generator = "bulk_seq")
+		Long id;
+
+		String name;
+
+		public SequenceEntity() {
+		}
+
+		public SequenceEntity(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "TableEntity")
+	@Table(name = "BulkIdTableEntity")
+	@TableGenerator(name = "bulk_table", table = "bulk_id_table", allocationSize = 2)
+	public static class TableEntity {
+		@Id
+		@GeneratedValue(generator = "bulk_table")
+		Long id;
+
+		String name;
+
+		public TableEntity() {
+		}
+
+		public TableEntity(String name) {
+			this.name = name;
+		}
+	}
+}
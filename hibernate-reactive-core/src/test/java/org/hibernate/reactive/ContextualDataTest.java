@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import org.hibernate.reactive.context.Context;
+import org.hibernate.reactive.context.impl.BaseKey;
+import org.hibernate.reactive.context.impl.ContextualData;
+import org.hibernate.reactive.context.impl.MultitenantKey;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the storage of the values of the different kinds of keys in {@link ContextualData}
+ */
+public class ContextualDataTest {
+
+	private static final BaseKey<String> KEY = new BaseKey<>( String.class, "one" );
+	private static final BaseKey<String> OTHER_KEY = new BaseKey<>( String.class, "two" );
+
+	@Test
+	public void testBaseKeys() {
+		ContextualData data = new ContextualData();
+		data.put( KEY, "first" );
+
+		assertThat( data.get( KEY ) ).isEqualTo( "first" );
+		// An equal key has the same slot
+		assertThat( data.get( new BaseKey<>( String.class, "one" ) ) ).isEqualTo( "first" );
+		assertThat( data.get( OTHER_KEY ) ).isNull();
+
+		assertThat( data.remove( KEY ) ).isTrue();
+		assertThat( data.remove( KEY ) ).isFalse();
+		assertThat( data.get( KEY ) ).isNull();
+	}
+
+	@Test
+	public void testReleasedSlots() {
+		ContextualData data = new ContextualData();
+		BaseKey<String> closedKey = new BaseKey<>( String.class, "closed" );
+		data.put( closedKey, "closed" );
+		data.put( new MultitenantKey<>( closedKey, "tenant" ), "closed tenant" );
+		BaseKey.releaseSlots( "closed" );
+
+		// The new key might reuse the slot, but not the value
+		BaseKey<String> newKey = new BaseKey<>( String.class, "new" );
+		assertThat( data.get( newKey ) ).isNull();
+		assertThat( data.get( new MultitenantKey<>( newKey, "tenant" ) ) ).isNull();
+		assertThat( data.remove( newKey ) ).isFalse();
+
+		data.put( newKey, "new" );
+		assertThat( data.get( newKey ) ).isEqualTo( "new" );
+		BaseKey.releaseSlots( "new" );
+	}
+
+	@Test
+	public void testMultitenantKeys() {
+		ContextualData data = new ContextualData();
+		// Enough tenants to resize the table a few times
+		for ( int i = 0; i < 100; i++ ) {
+			data.put( new MultitenantKey<>( KEY, "tenant" + i ), "one" + i );
+			data.put( new MultitenantKey<>( OTHER_KEY, "tenant" + i ), "two" + i );
+		}
+		// Remove every other tenant, so that entries have to be moved back
+		for ( int i = 0; i < 100; i += 2 ) {
+			assertThat( data.remove( new MultitenantKey<>( KEY, "tenant" + i ) ) ).isTrue();
+		}
+
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( data.get( new MultitenantKey<>( KEY, "tenant" + i ) ) )
+					.isEqualTo( i % 2 == 0 ? null : "one" + i );
+			assertThat( data.get( new MultitenantKey<>( OTHER_KEY, "tenant" + i ) ) ).isEqualTo( "two" + i );
+		}
+		assertThat( data.get( KEY ) ).isNull();
+	}
+
+	@Test
+	public void testCopy() {
+		Context.Key<String> otherKindOfKey = new Context.Key<>() {};
+		ContextualData data = new ContextualData();
+		data.put( KEY, "base" );
+		data.put( new MultitenantKey<>( KEY, "tenant" ), "tenant" );
+		data.put( otherKindOfKey, "other" );
+
+		ContextualData copy = new ContextualData( data );
+		data.remove( KEY );
+
+		assertThat( copy.get( KEY ) ).isEqualTo( "base" );
+		assertThat( copy.get( new MultitenantKey<>( KEY, "tenant" ) ) ).isEqualTo( "tenant" );
+		assertThat( copy.get( otherKindOfKey ) ).isEqualTo( "other" );
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the initialization of eager collections with different roles,
+ * which are loaded without waiting for each other when
+ * {@link Settings#EAGER_COLLECTION_PIPELINING} is enabled.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class EagerCollectionsPipeliningTest extends BaseReactiveTest {
+
+	// The selects sent to the database, and the entities loaded, in order
+	private static final List<String> EVENTS = new ArrayList<>();
+
+	private SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Book.class, Magazine.class, Atlas.class, Shelf.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.EAGER_COLLECTION_PIPELINING, "true" );
+		sqlTracker = new SqlStatementTracker( EagerCollectionsPipeliningTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	private static boolean isSelect(String s) {
+		if ( s.toLowerCase().startsWith( "select" ) ) {
+			EVENTS.add( s );
+			return true;
+		}
+		return false;
+	}
+
+	private static void loaded(Object entity) {
+		EVENTS.add( "loaded " + entity.getClass().getSimpleName() );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	@Test
+	public void testQueryWithEagerCollections(VertxTestContext context) {
+		final Shelf shelf1 = new Shelf( 1 );
+		shelf1.add( new Book( 1, "The Dispossessed" ) );
+		shelf1.add( new Book( 2, "Excession" ) );
+		shelf1.add( new Magazine( 3, "Analog" ) );
+		shelf1.add( new Atlas( 4, "Earthsea" ) );
+		final Shelf shelf2 = new Shelf( 2 );
+		shelf2.add( new Book( 5, "Kindred" ) );
+		shelf2.add( new Atlas( 6, "Culture" ) );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( shelf1, shelf2 ) )
+				.invoke( () -> {
+					sqlTracker.clear();
+					EVENTS.clear();
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createSelectionQuery( "from Shelf order by id", Shelf.class )
+						.getResultList() ) )
+				.invoke( shelves -> {
+					assertThat( shelves ).hasSize( 2 );
+					for ( Shelf shelf : shelves ) {
+						assertThat( Hibernate.isInitialized( shelf.books ) ).isTrue();
+						assertThat( Hibernate.isInitialized( shelf.magazines ) ).isTrue();
+						assertThat( Hibernate.isInitialized( shelf.atlases ) ).isTrue();
+					}
+					assertThat( shelves.get( 0 ).books ).extracting( b -> b.title )
+							.containsExactlyInAnyOrder( "The Dispossessed", "Excession" );
+					assertThat( shelves.get( 0 ).magazines ).extracting( m -> m.title ).containsExactly( "Analog" );
+					assertThat( shelves.get( 1 ).magazines ).isEmpty();
+					assertThat( shelves.get( 1 ).atlases ).extracting( m -> m.title ).containsExactly( "Culture" );
+					// The query for the shelves, plus one query for each collection
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 7 );
+					// The first load of each role is sent before the results of any
+					// of them have been read: they're in flight at the same time
+					assertThat( EVENTS.subList( 0, 4 ) ).allMatch( event -> event.toLowerCase().startsWith( "select" ) );
+					assertThat( EVENTS.get( 4 ) ).startsWith( "loaded " );
+				} )
+		);
+	}
+
+	@Entity(name = "Shelf")
+	@Table(name = "PipelinedShelf")
+	public static class Shelf {
+		@Id
+		Integer id;
+
+		@OneToMany(mappedBy = "shelf", fetch = FetchType.EAGER, cascade = CascadeType.PERSIST)
+		@Fetch(FetchMode.SELECT)
+		Set<Book> books = new HashSet<>();
+
+		@OneToMany(mappedBy = "shelf", fetch = FetchType.EAGER, cascade = CascadeType.PERSIST)
+		@Fetch(FetchMode.SELECT)
+		Set<Magazine> magazines = new HashSet<>();
+
+		@OneToMany(mappedBy = "shelf", fetch = FetchType.EAGER, cascade = CascadeType.PERSIST)
+		@Fetch(FetchMode.SELECT)
+		Set<Atlas> atlases = new HashSet<>();
+
+		public Shelf() {
+		}
+
+		public Shelf(Integer id) {
+			this.id = id;
+		}
+
+		void add(Book book) {
+			book.shelf = this;
+			books.add( book );
+		}
+
+		void add(Magazine magazine) {
+			magazine.shelf = this;
+			magazines.add( magazine );
+		}
+
+		void add(Atlas atlas) {
+			atlas.shelf = this;
+			atlases.add( atlas );
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "PipelinedBook")
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne
+		Shelf shelf;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		@PostLoad
+		void postLoad() {
+			loaded( this );
+		}
+	}
+
+	@Entity(name = "Magazine")
+	@Table(name = "PipelinedMagazine")
+	public static class Magazine {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne
+		Shelf shelf;
+
+		public Magazine() {
+		}
+
+		public Magazine(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		@PostLoad
+		void postLoad() {
+			loaded( this );
+		}
+	}
+
+	@Entity(name = "Atlas")
+	@Table(name = "PipelinedAtlas")
+	public static class Atlas {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne
+		Shelf shelf;
+
+		public Atlas() {
+		}
+
+		public Atlas(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		@PostLoad
+		void postLoad() {
+			loaded( this );
+		}
+	}
+}
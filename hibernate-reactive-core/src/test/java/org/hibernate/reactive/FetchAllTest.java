@@ -0,0 +1,212 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.Attribute;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test {@code fetchAll()} initializes the association of many entities with a single query
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class FetchAllTest extends BaseReactiveTest {
+
+	private SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Author.class, Book.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( FetchAllTest::isSelectQuery, configuration.getProperties() );
+		return configuration;
+	}
+
+	private static boolean isSelectQuery(String s) {
+		return s.toLowerCase().startsWith( "select" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 1; i <= 3; i++ ) {
+			Author author = new Author( i, "Author " + i );
+			entities.add( author );
+			for ( int j = 1; j <= 2; j++ ) {
+				Book book = new Book( i * 10 + j, "Book " + i + "." + j, author );
+				author.getBooks().add( book );
+				entities.add( book );
+			}
+		}
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll( entities.toArray() ) ) );
+	}
+
+	private Attribute<Author, ?> booksAttribute() {
+		return getMutinySessionFactory().getMetamodel().entity( Author.class ).getDeclaredList( "books", Book.class );
+	}
+
+	private Attribute<Book, ?> authorAttribute() {
+		return getMutinySessionFactory().getMetamodel().entity( Book.class ).getDeclaredSingularAttribute( "author", Author.class );
+	}
+
+	@Test
+	public void testFetchAllCollectionsWithMutiny(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createSelectionQuery( "from Author order by id", Author.class )
+				.getResultList()
+				.invoke( sqlTracker::clear )
+				.call( authors -> s.fetchAll( authors, booksAttribute() ) )
+				.invoke( authors -> {
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+					assertThat( authors ).allSatisfy( author -> {
+						assertThat( Hibernate.isInitialized( author.getBooks() ) ).isTrue();
+						assertThat( author.getBooks() ).hasSize( 2 );
+					} );
+				} )
+		) );
+	}
+
+	@Test
+	public void testFetchAllProxiesWithStage(VertxTestContext context) {
+		test( context, getSessionFactory().withSession( s -> s
+				.createSelectionQuery( "from Book order by id", Book.class )
+				.getResultList()
+				.thenCompose( books -> {
+					sqlTracker.clear();
+					return s.fetchAll( books, authorAttribute() )
+							.thenAccept( v -> {
+								assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+								assertThat( books ).allSatisfy( book -> {
+									assertThat( Hibernate.isInitialized( book.getAuthor() ) ).isTrue();
+									assertThat( book.getAuthor().getName() ).isEqualTo( "Author " + book.getId() / 10 );
+								} );
+							} );
+				} )
+		) );
+	}
+
+	@Test
+	public void testFetchAllCollectionsWithStatelessSession(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withStatelessSession( s -> s
+				.createSelectionQuery( "from Author order by id", Author.class )
+				.getResultList()
+				.invoke( sqlTracker::clear )
+				.call( authors -> s.fetchAll( authors, booksAttribute() ) )
+				.invoke( authors -> {
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+					assertThat( authors ).allSatisfy( author -> {
+						assertThat( Hibernate.isInitialized( author.getBooks() ) ).isTrue();
+						assertThat( author.getBooks() ).hasSize( 2 );
+					} );
+				} )
+		) );
+	}
+
+	@Test
+	public void testFetchAllWithInitializedAssociations(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createSelectionQuery( "from Author a join fetch a.books order by a.id", Author.class )
+				.getResultList()
+				.invoke( sqlTracker::clear )
+				.call( authors -> s.fetchAll( authors, booksAttribute() ) )
+				.invoke( authors -> assertThat( sqlTracker.getLoggedQueries() ).isEmpty() )
+		) );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "FetchAllAuthor")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "author")
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "FetchAllBook")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
@@ -8,8 +8,11 @@
 import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.testing.SqlStatementTracker;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +28,8 @@
 
 public class IdentityGenerationWithBatchingTest extends BaseReactiveTest {
 
+	private SqlStatementTracker sqlTracker;
+
 	@Override
 	protected Collection<Class<?>> annotatedEntities() {
 		return List.of( Book.class );
@@ -34,9 +39,19 @@ protected Collection<Class<?>> annotatedEntities() {
 	protected Configuration constructConfiguration() {
 		Configuration configuration = super.constructConfiguration();
 		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		sqlTracker = new SqlStatementTracker( IdentityGenerationWithBatchingTest::isInsert, configuration.getProperties() );
 		return configuration;
 	}
 
+	private static boolean isInsert(String s) {
+		return s.toLowerCase().startsWith( "insert" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
 	@Test
 	public void test(VertxTestContext context) {
 		String[] titles = {
@@ -61,6 +76,45 @@ public void test(VertxTestContext context) {
 		);
 	}
 
+	@Test
+	public void testStatelessInsertAll(VertxTestContext context) {
+		String[] titles = {
+				"Around the World in Eighty Days",
+				"The Book of M: A Novel",
+				"The Poppy War",
+				"The poetry home repair manual",
+				"Relish",
+				"The Left Hand of Darkness",
+				"Kindred"
+		};
+		Book[] books = asBooks( titles );
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> {
+					sqlTracker.clear();
+					return s.insertAll( 3, (Object[]) books );
+				} )
+				.invoke( () -> {
+					// The generated identifiers are assigned to the right entities
+					assertThat( books ).extracting( Book::getId ).doesNotContainNull().doesNotHaveDuplicates();
+					// With insert ... returning, the inserts are executed in batches of 3
+					assertThat( sqlTracker.getLoggedQueries() )
+							.hasSize( supportsInsertReturning() ? 3 : titles.length );
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.createSelectionQuery( "from Book order by id ASC", Book.class ).getResultList() ) )
+				.invoke( results -> {
+					assertThat( results ).extracting( Book::getTitle ).containsExactly( titles );
+					for ( int i = 0; i < books.length; i++ ) {
+						assertThat( results.get( i ).getId() ).isEqualTo( books[i].getId() );
+					}
+				} )
+		);
+	}
+
+	private static boolean supportsInsertReturning() {
+		return ( (SessionFactoryImplementor) factoryManager.getHibernateSessionFactory() )
+				.getJdbcServices().getDialect().supportsInsertReturning();
+	}
+
 	private Book[] asBooks(String[] titles) {
 		return Arrays.stream( titles ).map( Book::new ).toArray( Book[]::new );
 	}
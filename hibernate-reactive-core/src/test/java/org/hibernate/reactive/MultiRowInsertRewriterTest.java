@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.List;
+
+import org.hibernate.reactive.pool.impl.MultiRowInsertRewriter;
+import org.hibernate.reactive.pool.impl.MultiRowInsertRewriter.Chunk;
+import org.hibernate.sql.ast.internal.ParameterMarkerStrategyStandard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the rewriting of batched inserts in {@link MultiRowInsertRewriter}
+ */
+public class MultiRowInsertRewriterTest {
+
+	private static final List<Object[]> ROWS = List.of(
+			new Object[] { "One", 1 },
+			new Object[] { "Two", 2 },
+			new Object[] { "Three", 3 }
+	);
+
+	@Test
+	public void testRewriteWithStandardMarkers() {
+		MultiRowInsertRewriter rewriter = new MultiRowInsertRewriter( ParameterMarkerStrategyStandard.INSTANCE, 0 );
+		List<Chunk> chunks = rewriter.rewrite( "insert into pig (name,id) values (?,?)", ROWS );
+
+		assertThat( chunks ).hasSize( 1 );
+		assertThat( chunks.get( 0 ).sql() ).isEqualTo( "insert into pig (name,id) values (?,?),(?,?),(?,?)" );
+		assertThat( chunks.get( 0 ).paramValues() ).containsExactly( "One", 1, "Two", 2, "Three", 3 );
+		assertThat( chunks.get( 0 ).rowCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testRewriteWithNumberedMarkersAndLiterals() {
+		MultiRowInsertRewriter rewriter = new MultiRowInsertRewriter( (position, jdbcType) -> "$" + position, 0 );
+		List<Chunk> chunks = rewriter.rewrite( "insert into pig (type,name,id) values ('P, I',$1,$2)", ROWS );
+
+		assertThat( chunks ).hasSize( 1 );
+		assertThat( chunks.get( 0 ).sql() )
+				.isEqualTo( "insert into pig (type,name,id) values ('P, I',$1,$2),('P, I',$3,$4),('P, I',$5,$6)" );
+	}
+
+	@Test
+	public void testParameterCountLimit() {
+		// At most 2 rows for each statement
+		MultiRowInsertRewriter rewriter = new MultiRowInsertRewriter( (position, jdbcType) -> "@P" + position, 5 );
+		List<Chunk> chunks = rewriter.rewrite( "insert into pig (name,id) values (@P1,@P2)", ROWS );
+
+		assertThat( chunks ).hasSize( 2 );
+		assertThat( chunks.get( 0 ).sql() ).isEqualTo( "insert into pig (name,id) values (@P1,@P2),(@P3,@P4)" );
+		assertThat( chunks.get( 0 ).paramValues() ).containsExactly( "One", 1, "Two", 2 );
+		assertThat( chunks.get( 1 ).sql() ).isEqualTo( "insert into pig (name,id) values (@P1,@P2)" );
+		assertThat( chunks.get( 1 ).paramValues() ).containsExactly( "Three", 3 );
+
+		int[] rowCounts = new int[ROWS.size()];
+		chunks.get( 0 ).splitRowCount( 2, rowCounts, 0 );
+		chunks.get( 1 ).splitRowCount( 0, rowCounts, 2 );
+		assertThat( rowCounts ).containsExactly( 1, 1, 0 );
+	}
+
+	@Test
+	public void testRowCountLimit() {
+		// Plenty of parameters, but at most 2 rows for each statement
+		MultiRowInsertRewriter rewriter = new MultiRowInsertRewriter( (position, jdbcType) -> "@P" + position, 0, 2 );
+		List<Chunk> chunks = rewriter.rewrite( "insert into pig (name,id) values (@P1,@P2)", ROWS );
+
+		assertThat( chunks ).extracting( Chunk::rowCount ).containsExactly( 2, 1 );
+		assertThat( chunks.get( 1 ).paramValues() ).containsExactly( "Three", 3 );
+	}
+
+	@Test
+	public void testStatementsThatCannotBeRewritten() {
+		MultiRowInsertRewriter rewriter = new MultiRowInsertRewriter( ParameterMarkerStrategyStandard.INSTANCE, 0 );
+
+		assertThat( rewriter.rewrite( "update pig set name=? where id=?", ROWS ) ).isNull();
+		assertThat( rewriter.rewrite( "insert into pig (name,id) values (?,?) returning id", ROWS ) ).isNull();
+		assertThat( rewriter.rewrite( "insert into pig (name,id) select ?,?", ROWS ) ).isNull();
+		assertThat( rewriter.rewrite( "insert into pig (name,id) values (?,?)", ROWS.subList( 0, 1 ) ) ).isNull();
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.stage.impl.StageSessionImpl;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.reactive.vertx.VertxInstance;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.BaseReactiveTest.setDefaultProperties;
+
+/**
+ * Test the generation of identifiers when each event loop owns a block,
+ * see {@link Settings#ID_BLOCK_PER_EVENT_LOOP}.
+ *
+ * @see MultithreadedIdentityGenerationTest
+ */
+@ExtendWith(VertxExtension.class)
+@Timeout(value = 10, timeUnit = MINUTES)
+public class PerEventLoopIdentityGenerationTest {
+
+	private static final int N_EVENT_LOOPS = 8;
+	private static final int IDS_GENERATED_PER_VERTICLE = 1000;
+	private static final int BLOCK_SIZE = 10;
+
+	private static Vertx vertx;
+	private static SessionFactory sessionFactory;
+
+	@BeforeAll
+	public static void setupSessionFactory() {
+		vertx = Vertx.vertx( new VertxOptions().setEventLoopPoolSize( N_EVENT_LOOPS ) );
+		Configuration configuration = new Configuration();
+		setDefaultProperties( configuration );
+		configuration.addAnnotatedClass( LoopEntity.class );
+		configuration.setProperty( Settings.ID_BLOCK_PER_EVENT_LOOP, "true" );
+		StandardServiceRegistryBuilder builder = new ReactiveServiceRegistryBuilder()
+				.applySettings( configuration.getProperties() )
+				.addService( VertxInstance.class, () -> vertx );
+		sessionFactory = configuration.buildSessionFactory( builder.build() );
+	}
+
+	@AfterAll
+	public static void closeSessionFactory() {
+		sessionFactory.close();
+		vertx.close();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ReactiveIdentifierGenerator<Object> getIdGenerator() {
+		return (ReactiveIdentifierGenerator<Object>) sessionFactory
+				.unwrap( SessionFactoryImplementor.class )
+				.getMappingMetamodel()
+				.getEntityDescriptor( LoopEntity.class )
+				.getGenerator();
+	}
+
+	@Test
+	public void testUniqueIdsAcrossEventLoops(VertxTestContext context) {
+		final Set<Long> ids = ConcurrentHashMap.newKeySet();
+		final List<List<Long>> idsByVerticle = Collections.synchronizedList( new ArrayList<>() );
+		final Stage.SessionFactory stageSessionFactory = sessionFactory.unwrap( Stage.SessionFactory.class );
+		vertx
+				.deployVerticle(
+						() -> new IdGenVerticle( stageSessionFactory, getIdGenerator(), ids, idsByVerticle ),
+						new DeploymentOptions().setInstances( N_EVENT_LOOPS )
+				)
+				.onSuccess( deploymentId -> context.verify( () -> {
+					assertThat( ids ).hasSize( N_EVENT_LOOPS * IDS_GENERATED_PER_VERTICLE );
+					assertThat( idsByVerticle ).hasSize( N_EVENT_LOOPS );
+					for ( List<Long> verticleIds : idsByVerticle ) {
+						assertBlocksOwned( verticleIds );
+					}
+					context.completeNow();
+				} ) )
+				.onFailure( context::failNow );
+	}
+
+	/**
+	 * Each verticle runs on its own event loop, and uses a whole number of blocks:
+	 * when the event loop owns its blocks, none of them is shared with the
+	 * other verticles, and the sorted ids are runs of consecutive values.
+	 */
+	private static void assertBlocksOwned(List<Long> verticleIds) {
+		final List<Long> sorted = verticleIds.stream().sorted().toList();
+		for ( int i = 0; i < sorted.size(); i += BLOCK_SIZE ) {
+			assertThat( sorted.get( i + BLOCK_SIZE - 1 ) - sorted.get( i ) )
+					.as( "Block starting at %s", sorted.get( i ) )
+					.isEqualTo( BLOCK_SIZE - 1 );
+		}
+	}
+
+	private static class IdGenVerticle extends AbstractVerticle {
+
+		private final Stage.SessionFactory stageSessionFactory;
+		private final ReactiveIdentifierGenerator<Object> idGenerator;
+		private final Set<Long> ids;
+		private final List<List<Long>> idsByVerticle;
+
+		IdGenVerticle(
+				Stage.SessionFactory stageSessionFactory,
+				ReactiveIdentifierGenerator<Object> idGenerator,
+				Set<Long> ids,
+				List<List<Long>> idsByVerticle) {
+			this.stageSessionFactory = stageSessionFactory;
+			this.idGenerator = idGenerator;
+			this.ids = ids;
+			this.idsByVerticle = idsByVerticle;
+		}
+
+		@Override
+		public void start(Promise<Void> startPromise) {
+			final List<Long> generatedIds = new ArrayList<>( IDS_GENERATED_PER_VERTICLE );
+			stageSessionFactory
+					.withSession( s -> CompletionStages
+							.loop( 0, IDS_GENERATED_PER_VERTICLE, index -> generateId( s, generatedIds ) ) )
+					.whenComplete( (v, throwable) -> {
+						if ( throwable != null ) {
+							startPromise.fail( throwable );
+						}
+						else {
+							ids.addAll( generatedIds );
+							idsByVerticle.add( generatedIds );
+							startPromise.complete();
+						}
+					} );
+		}
+
+		private CompletionStage<Void> generateId(Stage.Session s, List<Long> generatedIds) {
+			return idGenerator
+					.generate( ( (StageSessionImpl) s ).unwrap( ReactiveConnectionSupplier.class ), new LoopEntity() )
+					.thenAccept( id -> generatedIds.add( (Long) id ) );
+		}
+	}
+
+	@Entity(name = "LoopEntity")
+	@Table(name = "LoopEntity")
+	@SequenceGenerator(name = "loop_seq", sequenceName = "loop_entity_seq", allocationSize = BLOCK_SIZE)
+	public static class LoopEntity {
+		@Id
+		@GeneratedValue(generator = "loop_seq")
+		Long id;
+
+		String name;
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Check that, with write-behind batching, the statements of a flush are sent
+ * together, and that a stale update still fails the flush once all of them
+ * have completed, leaving the database unchanged.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class PipelinedFlushTest extends BaseReactiveTest {
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Ticket.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		sqlTracker = new SqlStatementTracker( PipelinedFlushTest::isUpdate, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isUpdate(String sql) {
+		return sql.toLowerCase().startsWith( "update " );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( new Ticket( 1, "Open", 1 ), new Ticket( 2, "Open", 1 ) ) )
+				.invoke( sqlTracker::clear )
+		);
+	}
+
+	@Test
+	public void testStaleUpdateFailsFlush(VertxTestContext context) {
+		test( context, assertThrown( PersistenceException.class, getMutinySessionFactory()
+				.withTransaction( s -> s
+						.find( Ticket.class, 1, 2 )
+						// Another transaction updates the first ticket in the meantime
+						.call( tickets -> getMutinySessionFactory().withTransaction( other -> other
+								.find( Ticket.class, 1 )
+								.invoke( ticket -> ticket.status = "Closed" ) ) )
+						.invoke( tickets -> {
+							// With @DynamicUpdate, the two updates have a different SQL
+							tickets.get( 0 ).status = "Fixed";
+							tickets.get( 1 ).priority = 2;
+						} ) ) )
+				.invoke( e -> {
+					assertThat( e ).isInstanceOfAny( StaleStateException.class, OptimisticLockException.class );
+					// The concurrent update, and both the updates of the flush
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 3 );
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Ticket.class, 1, 2 ) ) )
+				.invoke( tickets -> {
+					assertThat( tickets.get( 0 ).status ).isEqualTo( "Closed" );
+					// The update of the second ticket has been rolled back
+					assertThat( tickets.get( 1 ).priority ).isEqualTo( 1 );
+					assertThat( tickets.get( 1 ).version ).isEqualTo( 0 );
+				} )
+		);
+	}
+
+	@Test
+	public void testDeferredUpdatesApplied(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s
+						.find( Ticket.class, 1, 2 )
+						.invoke( tickets -> {
+							tickets.get( 0 ).status = "Fixed";
+							tickets.get( 1 ).priority = 2;
+						} ) )
+				.invoke( () -> assertThat( sqlTracker.getLoggedQueries() ).hasSize( 2 ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Ticket.class, 1, 2 ) ) )
+				.invoke( tickets -> {
+					assertThat( tickets.get( 0 ).status ).isEqualTo( "Fixed" );
+					assertThat( tickets.get( 0 ).version ).isEqualTo( 1 );
+					assertThat( tickets.get( 1 ).priority ).isEqualTo( 2 );
+					assertThat( tickets.get( 1 ).version ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	@Entity(name = "Ticket")
+	@Table(name = "PipelinedTicket")
+	@DynamicUpdate
+	public static class Ticket {
+		@Id
+		Integer id;
+
+		String status;
+
+		int priority;
+
+		@Version
+		int version;
+
+		public Ticket() {
+		}
+
+		public Ticket(Integer id, String status, int priority) {
+			this.id = id;
+			this.status = status;
+			this.priority = priority;
+		}
+	}
+}
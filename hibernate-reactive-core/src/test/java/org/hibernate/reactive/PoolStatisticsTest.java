@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.PoolStatistics;
+import org.hibernate.reactive.pool.StatementStatistics;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Timeout(value = 10, timeUnit = MINUTES)
+public class PoolStatisticsTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Counter.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.STATEMENT_STATISTICS_MAX_SIZE, "100" );
+		return configuration;
+	}
+
+	@Test
+	public void testStatisticsWithStage(VertxTestContext context) {
+		final PoolStatistics statistics = getSessionFactory().getPoolStatistics();
+		final long acquired = statistics.getConnectionAcquireCount();
+		final long released = statistics.getConnectionReleaseCount();
+		final long firstStatements = statistics.getFirstStatementCount();
+		test( context, getSessionFactory()
+				.withTransaction( session -> session.persist( new Counter( 1, "one" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( session -> session.find( Counter.class, 1 ) ) )
+				.thenAccept( counter -> {
+					assertThat( counter.name ).isEqualTo( "one" );
+					assertThat( statistics.getConnectionAcquireCount() ).isEqualTo( acquired + 2 );
+					assertThat( statistics.getConnectionReleaseCount() ).isEqualTo( released + 2 );
+					assertThat( statistics.getFirstStatementCount() ).isEqualTo( firstStatements + 2 );
+					assertThat( statistics.getActiveConnectionCount() ).isZero();
+					assertThat( statistics.getPendingAcquireCount() ).isZero();
+					assertThat( statistics.getIdleConnectionCount() ).isPositive();
+					assertThat( statistics.getConnectionAcquireTimeHistogram() )
+							.hasSize( PoolStatistics.HISTOGRAM_BOUNDS.length + 1 );
+					assertThat( sum( statistics.getConnectionAcquireTimeHistogram() ) )
+							.isEqualTo( statistics.getConnectionAcquireCount() );
+				} )
+		);
+	}
+
+	@Test
+	public void testStatisticsWithMutiny(VertxTestContext context) {
+		final PoolStatistics statistics = getMutinySessionFactory().getPoolStatistics();
+		final long acquired = statistics.getConnectionAcquireCount();
+		test( context, getMutinySessionFactory()
+				.withSession( session -> session.find( Counter.class, 2 ) )
+				.invoke( counter -> {
+					assertThat( counter ).isNull();
+					assertThat( statistics.getConnectionAcquireCount() ).isEqualTo( acquired + 1 );
+					assertThat( statistics.getConnectionAcquireTimeMax() )
+							.isGreaterThanOrEqualTo( 0 );
+					assertThat( statistics.getActiveConnectionCount() ).isZero();
+				} )
+		);
+	}
+
+	@Test
+	public void testStatementStatistics(VertxTestContext context) {
+		final PoolStatistics statistics = getSessionFactory().getPoolStatistics();
+		test( context, getSessionFactory()
+				.withTransaction( session -> session.persist( new Counter( 3, "three" ), new Counter( 4, "four" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( session -> session
+						.createSelectionQuery( "from Counter", Counter.class ).getResultList() ) )
+				.thenAccept( counters -> {
+					assertThat( counters ).hasSize( 2 );
+					final Map<String, StatementStatistics> statements = statistics.getStatementStatistics();
+					assertThat( statements.values() )
+							.filteredOn( statement -> statement.getSql().toLowerCase( Locale.ROOT ).startsWith( "insert" ) )
+							.singleElement()
+							.satisfies( insert -> {
+								assertThat( insert.getSql() ).containsIgnoringCase( "PoolStatisticsCounter" );
+								assertThat( insert.getExecutionCount() ).isPositive();
+								assertThat( insert.getRowCount() ).isGreaterThanOrEqualTo( 2 );
+								assertThat( insert.getExecutionTimeP95() ).isLessThanOrEqualTo( insert.getExecutionTimeMax() );
+							} );
+					assertThat( statements.values() )
+							.filteredOn( statement -> statement.getSql().toLowerCase( Locale.ROOT ).startsWith( "select" ) )
+							.isNotEmpty();
+				} )
+		);
+	}
+
+	private static long sum(long[] values) {
+		long sum = 0;
+		for ( long value : values ) {
+			sum += value;
+		}
+		return sum;
+	}
+
+	@Entity(name = "Counter")
+	@Table(name = "PoolStatisticsCounter")
+	public static class Counter {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Counter() {
+		}
+
+		public Counter(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
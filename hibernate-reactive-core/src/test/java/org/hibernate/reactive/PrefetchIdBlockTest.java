@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.id.impl.BlockingIdentifierGenerator;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Test the prefetch of the next block of ids, enabled with {@link Settings#ID_BLOCK_PREFETCH}
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class PrefetchIdBlockTest extends BaseReactiveTest {
+
+	private static final int ENTITIES = 50;
+	private static final int BLOCK_SIZE = 5;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Ticket.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.ID_BLOCK_PREFETCH, "true" );
+		return configuration;
+	}
+
+	private static BlockingIdentifierGenerator generator() {
+		return (BlockingIdentifierGenerator) factoryManager.getHibernateSessionFactory()
+				.unwrap( SessionFactoryImplementor.class )
+				.getMappingMetamodel()
+				.getEntityDescriptor( Ticket.class )
+				.getGenerator();
+	}
+
+	/**
+	 * Wait for the prefetch in progress, if any, and resume on the context of the session
+	 */
+	private static CompletionStage<Void> prefetchCompletion() {
+		final Context context = Vertx.currentContext();
+		final CompletableFuture<Void> result = new CompletableFuture<>();
+		generator().prefetchCompletion()
+				.whenComplete( (v, throwable) -> context.runOnContext( ignored -> result.complete( null ) ) );
+		return result;
+	}
+
+	@Test
+	public void testPrefetch(VertxTestContext context) {
+		final Set<Integer> ids = ConcurrentHashMap.newKeySet();
+		test( context, getSessionFactory()
+				.withTransaction( s -> loop( 0, ENTITIES, i -> {
+					final Ticket ticket = new Ticket( "Ticket " + i );
+					// The next block is always available before it's needed
+					return s.persist( ticket )
+							.thenAccept( v -> ids.add( ticket.id ) )
+							.thenCompose( v -> prefetchCompletion() );
+				} ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createSelectionQuery( "select count(*) from Ticket", Long.class )
+						.getSingleResult() ) )
+				.thenAccept( count -> {
+					assertThat( count ).isEqualTo( ENTITIES );
+					assertThat( ids ).hasSize( ENTITIES );
+					// Only the first block must be waited for, the others are prefetched
+					assertThat( generator().getPrefetchMissCount() ).isEqualTo( 1 );
+					assertThat( generator().getPrefetchHitCount() ).isEqualTo( ENTITIES / BLOCK_SIZE - 1 );
+				} )
+		);
+	}
+
+	@Entity(name = "Ticket")
+	@Table(name = "PrefetchedTicket")
+	@SequenceGenerator(name = "ticket_seq", sequenceName = "ticket_id_seq", allocationSize = BLOCK_SIZE)
+	public static class Ticket {
+		@Id
+		@GeneratedValue(generator = "ticket_seq")
+		Integer id;
+
+		String name;
+
+		public Ticket() {
+		}
+
+		public Ticket(String name) {
+			this.name = name;
+		}
+	}
+}
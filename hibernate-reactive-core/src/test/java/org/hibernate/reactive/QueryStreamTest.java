@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test {@code getResultStream()} reading the results with a cursor
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class QueryStreamTest extends BaseReactiveTest {
+
+	private static final int ROWS = 25;
+	private static final int SEEDS = 10;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Grain.class, Seed.class );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		final Grain[] grains = IntStream.range( 0, ROWS )
+				.mapToObj( i -> new Grain( i, "Grain " + i ) )
+				.toArray( Grain[]::new );
+		final Seed[] seeds = IntStream.range( 0, SEEDS )
+				.mapToObj( i -> new Seed( i, "Seed " + i ) )
+				.toArray( Seed[]::new );
+		test( context, getMutinySessionFactory().withTransaction( session -> session
+				.persistAll( (Object[]) grains )
+				.chain( () -> session.persistAll( (Object[]) seeds ) ) ) );
+	}
+
+	@Test
+	public void testMutinyStreamWithFetchSize(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( session -> session
+				.createSelectionQuery( "from Grain order by id", Grain.class )
+				.setFetchSize( 4 )
+				.getResultStream()
+				.collect().asList()
+				.invoke( results -> {
+					assertThat( results ).hasSize( ROWS );
+					assertThat( results ).extracting( Grain::getId )
+							.containsExactlyElementsOf( IntStream.range( 0, ROWS ).boxed().toList() );
+					// The entities are managed by the session
+					assertThat( results ).allMatch( session::contains );
+				} )
+		) );
+	}
+
+	@Test
+	public void testMutinyStreamWithoutResults(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( session -> session
+				.createSelectionQuery( "from Grain where id < 0", Grain.class )
+				.setFetchSize( 4 )
+				.getResultStream()
+				.collect().asList()
+				.invoke( results -> assertThat( results ).isEmpty() )
+		) );
+	}
+
+	@Test
+	public void testMutinyStreamCancellation(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( session -> session
+				.createSelectionQuery( "from Grain order by id", Grain.class )
+				.setFetchSize( 4 )
+				.getResultStream()
+				.select().first( 6 )
+				.collect().asList()
+				.invoke( results -> assertThat( results ).extracting( Grain::getId )
+						.containsExactly( 0, 1, 2, 3, 4, 5 ) )
+				// The connection must still be usable after cancelling the stream
+				.chain( () -> session.createSelectionQuery( "select count(*) from Grain", Long.class ).getSingleResult() )
+				.invoke( count -> assertThat( count ).isEqualTo( ROWS ) )
+		) );
+	}
+
+	@Test
+	public void testMutinyStreamOfPolymorphicQuery(VertxTestContext context) {
+		// The query is split in a query for each entity implementing the interface
+		test( context, getMutinySessionFactory().withTransaction( session -> session
+				.createSelectionQuery( "from " + Named.class.getName(), Named.class )
+				.setFetchSize( 4 )
+				.getResultStream()
+				.collect().asList()
+				.invoke( results -> {
+					assertThat( results ).hasSize( ROWS + SEEDS );
+					assertThat( results ).filteredOn( Grain.class::isInstance ).hasSize( ROWS );
+					assertThat( results ).filteredOn( Seed.class::isInstance ).hasSize( SEEDS );
+				} )
+				// The results are limited across the queries
+				.chain( () -> session
+						.createSelectionQuery( "from " + Named.class.getName(), Named.class )
+						.setFetchSize( 4 )
+						.setMaxResults( ROWS + 2 )
+						.getResultStream()
+						.collect().asList() )
+				.invoke( results -> assertThat( results ).hasSize( ROWS + 2 ) )
+		) );
+	}
+
+	@Test
+	public void testStageStream(VertxTestContext context) {
+		final List<String> names = new ArrayList<>();
+		test( context, getSessionFactory().withTransaction( session -> Multi.createFrom()
+				.publisher( session
+						.createSelectionQuery( "select name from Grain order by id", String.class )
+						.setFetchSize( 7 )
+						.getResultStream() )
+				.invoke( names::add )
+				.collect().asList()
+				.subscribeAsCompletionStage()
+				.thenAccept( results -> {
+					assertThat( results ).hasSize( ROWS );
+					assertThat( names ).containsExactlyElementsOf( results );
+				} )
+		) );
+	}
+
+	public interface Named {
+		String getName();
+	}
+
+	@Entity(name = "Grain")
+	@Table(name = "StreamedGrain")
+	public static class Grain implements Named {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Grain() {
+		}
+
+		public Grain(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return id + ":" + name;
+		}
+	}
+
+	@Entity(name = "Seed")
+	@Table(name = "StreamedSeed")
+	public static class Seed implements Named {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Seed() {
+		}
+
+		public Seed(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -16,12 +16,14 @@
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.mutiny.Multi;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxTestContext;
 import jakarta.persistence.ColumnResult;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.NamedNativeQuery;
 import jakarta.persistence.NamedQuery;
@@ -783,6 +785,33 @@ public void testQueryPlanCacheableWithMutiny(VertxTestContext context) {
 		);
 	}
 
+	@Test
+	public void testSameQueryWithDifferentOptionsWithMutiny(VertxTestContext context) {
+		// The query plan keeps a translation for each combination of options
+		final String hql = "from Author order by name";
+		Author author1 = new Author( "Iain M. Banks" );
+		Author author2 = new Author( "Neal Stephenson" );
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( author1, author2 ) )
+				.chain( () -> Multi.createFrom().range( 0, 3 )
+						.onItem().transformToUniAndConcatenate( i -> getMutinySessionFactory().withTransaction( s -> s
+								.createSelectionQuery( hql, Author.class )
+								.getResultList()
+								.invoke( authors -> assertThat( authors ).hasSize( 2 ) )
+								.chain( () -> s.createSelectionQuery( hql, Author.class )
+										.setLockMode( LockModeType.PESSIMISTIC_WRITE )
+										.getResultList() )
+								.invoke( authors -> assertThat( authors ).hasSize( 2 ) )
+								.chain( () -> s.createSelectionQuery( hql, Author.class )
+										.setMaxResults( 1 )
+										.getResultList() )
+								.invoke( authors -> assertThat( authors ).containsExactly( author1 ) )
+						) )
+						.collect().last()
+				)
+		);
+	}
+
 	@NamedNativeQuery(
 			name = SQL_NAMED_QUERY,
 			resultClass = Object[].class,
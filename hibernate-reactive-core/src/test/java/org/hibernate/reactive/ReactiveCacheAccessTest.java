@@ -0,0 +1,361 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.LockMode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.cache.impl.SynchronousCacheAccess;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.NONSTRICT_READ_WRITE;
+import static org.hibernate.reactive.common.Identifier.id;
+
+/**
+ * Check that a custom {@link org.hibernate.reactive.cache.ReactiveCacheAccess}
+ * gets called when reading, locking, removing and evicting cached entities,
+ * collections, natural ids and queries.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class ReactiveCacheAccessTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Planet.class, Star.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.getProperties().put( Settings.USE_SECOND_LEVEL_CACHE, Boolean.TRUE );
+		configuration.getProperties().put( Settings.USE_QUERY_CACHE, Boolean.TRUE );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.JCacheRegionFactory" );
+		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
+		configuration.setProperty( "hibernate.javax.cache.uri", "/ehcache.xml" );
+		configuration.setProperty( Settings.CACHE_ACCESS, CountingCacheAccess.class.getName() );
+		return configuration;
+	}
+
+	@BeforeEach
+	public void resetCounters() {
+		CountingCacheAccess.PREFETCHES.set( 0 );
+		CountingCacheAccess.COLLECTION_PREFETCHES.set( 0 );
+		CountingCacheAccess.NATURAL_ID_PREFETCHES.set( 0 );
+		CountingCacheAccess.LOCKS.set( 0 );
+		CountingCacheAccess.UNLOCKS.set( 0 );
+		CountingCacheAccess.QUERY_READS.set( 0 );
+		CountingCacheAccess.QUERY_PUTS.set( 0 );
+		CountingCacheAccess.EVICTS.set( 0 );
+		CountingCacheAccess.REMOVES.set( 0 );
+	}
+
+	@Test
+	public void testPrefetchOnFind(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 1, "Mercury" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Planet.class, 1 ) ) )
+				.thenAccept( planet -> {
+					assertThat( planet.getName() ).isEqualTo( "Mercury" );
+					assertThat( CountingCacheAccess.PREFETCHES.get() ).isPositive();
+				} )
+		);
+	}
+
+	@Test
+	public void testSoftLockReleasedAfterLock(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 2, "Venus" ) ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s
+						.find( Planet.class, 2 )
+						.thenCompose( planet -> s.lock( planet, LockMode.PESSIMISTIC_WRITE ) ) ) )
+				.thenAccept( v -> {
+					assertThat( CountingCacheAccess.LOCKS.get() ).isPositive();
+					assertThat( CountingCacheAccess.UNLOCKS.get() ).isEqualTo( CountingCacheAccess.LOCKS.get() );
+				} )
+		);
+	}
+
+	@Test
+	public void testCacheableQuery(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 3, "Earth" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createSelectionQuery( "from Planet where name = :name", Planet.class )
+						.setParameter( "name", "Earth" )
+						.setCacheable( true )
+						.getSingleResult() ) )
+				.thenAccept( planet -> {
+					assertThat( planet.getId() ).isEqualTo( 3 );
+					assertThat( CountingCacheAccess.QUERY_READS.get() ).isPositive();
+					// The results weren't in the cache
+					assertThat( CountingCacheAccess.QUERY_PUTS.get() ).isPositive();
+				} )
+		);
+	}
+
+	@Test
+	public void testEvictOnStatelessRefresh(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 4, "Mars" ) ) )
+				.thenCompose( v -> getSessionFactory().withStatelessTransaction( s -> s
+						.get( Planet.class, 4 )
+						.thenCompose( planet -> s.refresh( planet ).thenApply( r -> planet ) ) ) )
+				.thenAccept( planet -> {
+					assertThat( planet.getName() ).isEqualTo( "Mars" );
+					assertThat( CountingCacheAccess.EVICTS.get() ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testSoftLockAndRemoveOnStatelessUpdate(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 5, "Jupiter" ) ) )
+				.thenCompose( v -> getSessionFactory().withStatelessTransaction( s -> s
+						.get( Planet.class, 5 )
+						.thenCompose( planet -> {
+							planet.setName( "Saturn" );
+							return s.update( planet );
+						} ) ) )
+				.thenAccept( v -> {
+					assertThat( CountingCacheAccess.LOCKS.get() ).isEqualTo( 1 );
+					assertThat( CountingCacheAccess.REMOVES.get() ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testSoftLockAndRemoveOnStatelessDelete(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 6, "Uranus" ) ) )
+				.thenCompose( v -> getSessionFactory().withStatelessTransaction( s -> s
+						.get( Planet.class, 6 )
+						.thenCompose( planet -> s.delete( planet ) ) ) )
+				.thenAccept( v -> {
+					assertThat( CountingCacheAccess.LOCKS.get() ).isEqualTo( 1 );
+					assertThat( CountingCacheAccess.REMOVES.get() ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testPrefetchOnCollectionFetch(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Star( 1, "Sol", List.of( "Sun", "Helios" ) ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.find( Star.class, 1 )
+						.thenCompose( star -> Stage.fetch( star.getAliases() ) ) ) )
+				.thenAccept( aliases -> {
+					assertThat( aliases ).containsExactlyInAnyOrder( "Sun", "Helios" );
+					assertThat( CountingCacheAccess.COLLECTION_PREFETCHES.get() ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testPrefetchOnStatelessCollectionFetch(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Star( 2, "Sirius", List.of( "Dog Star" ) ) ) )
+				.thenCompose( v -> getSessionFactory().withStatelessSession( s -> s
+						.get( Star.class, 2 )
+						.thenCompose( star -> s.fetch( star.getAliases() ) ) ) )
+				.thenAccept( aliases -> {
+					assertThat( aliases ).containsExactly( "Dog Star" );
+					assertThat( CountingCacheAccess.COLLECTION_PREFETCHES.get() ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testPrefetchOnFindByNaturalId(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Star( 3, "Vega", List.of() ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.find( Star.class, id( Star.class, "name", "Vega" ) ) ) )
+				.thenAccept( star -> {
+					assertThat( star.getId() ).isEqualTo( 3 );
+					assertThat( CountingCacheAccess.NATURAL_ID_PREFETCHES.get() ).isEqualTo( 1 );
+				} )
+		);
+	}
+
+	public static class CountingCacheAccess extends SynchronousCacheAccess {
+		static final AtomicInteger PREFETCHES = new AtomicInteger();
+		static final AtomicInteger COLLECTION_PREFETCHES = new AtomicInteger();
+		static final AtomicInteger NATURAL_ID_PREFETCHES = new AtomicInteger();
+		static final AtomicInteger LOCKS = new AtomicInteger();
+		static final AtomicInteger UNLOCKS = new AtomicInteger();
+		static final AtomicInteger QUERY_READS = new AtomicInteger();
+		static final AtomicInteger QUERY_PUTS = new AtomicInteger();
+		static final AtomicInteger EVICTS = new AtomicInteger();
+		static final AtomicInteger REMOVES = new AtomicInteger();
+
+		@Override
+		public CompletionStage<Void> prefetch(SharedSessionContractImplementor session, CachedDomainDataAccess access, Object key) {
+			PREFETCHES.incrementAndGet();
+			if ( access instanceof CollectionDataAccess ) {
+				COLLECTION_PREFETCHES.incrementAndGet();
+			}
+			else if ( access instanceof NaturalIdDataAccess ) {
+				NATURAL_ID_PREFETCHES.incrementAndGet();
+			}
+			return super.prefetch( session, access, key );
+		}
+
+		@Override
+		public CompletionStage<SoftLock> lockItem(SharedSessionContractImplementor session, CachedDomainDataAccess access, Object key, Object version) {
+			LOCKS.incrementAndGet();
+			return super.lockItem( session, access, key, version );
+		}
+
+		@Override
+		public CompletionStage<Void> unlockItem(SharedSessionContractImplementor session, CachedDomainDataAccess access, Object key, SoftLock lock) {
+			UNLOCKS.incrementAndGet();
+			return super.unlockItem( session, access, key, lock );
+		}
+
+		@Override
+		public CompletionStage<Void> evict(CachedDomainDataAccess access, Object key) {
+			EVICTS.incrementAndGet();
+			return super.evict( access, key );
+		}
+
+		@Override
+		public CompletionStage<Void> remove(SharedSessionContractImplementor session, CachedDomainDataAccess access, Object key) {
+			REMOVES.incrementAndGet();
+			return super.remove( session, access, key );
+		}
+
+		@Override
+		public CompletionStage<List<?>> getQueryResults(SharedSessionContractImplementor session, QueryResultsCache cache, QueryKey key, Set<String> querySpaces) {
+			QUERY_READS.incrementAndGet();
+			return super.getQueryResults( session, cache, key, querySpaces );
+		}
+
+		@Override
+		public CompletionStage<Boolean> putQueryResults(SharedSessionContractImplementor session, QueryResultsCache cache, QueryKey key, List<?> results) {
+			QUERY_PUTS.incrementAndGet();
+			return super.putQueryResults( session, cache, key, results );
+		}
+	}
+
+	@Entity(name = "Planet")
+	@Table(name = "CacheAccessPlanet")
+	@Cacheable
+	@Cache(usage = NONSTRICT_READ_WRITE)
+	static class Planet {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		Planet() {
+		}
+
+		Planet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Planet planet = (Planet) o;
+			return Objects.equals( name, planet.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode( name );
+		}
+	}
+
+	@Entity(name = "Star")
+	@Table(name = "CacheAccessStar")
+	@Cacheable
+	@Cache(usage = NONSTRICT_READ_WRITE)
+	@NaturalIdCache
+	static class Star {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		private String name;
+
+		@ElementCollection
+		@Cache(usage = NONSTRICT_READ_WRITE)
+		private List<String> aliases = new ArrayList<>();
+
+		Star() {
+		}
+
+		Star(Integer id, String name, List<String> aliases) {
+			this.id = id;
+			this.name = name;
+			this.aliases.addAll( aliases );
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<String> getAliases() {
+			return aliases;
+		}
+	}
+}
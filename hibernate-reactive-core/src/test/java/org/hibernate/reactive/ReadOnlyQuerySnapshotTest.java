@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check that the results of a read-only query of a stateful session are
+ * registered as read-only, without a snapshot of their state.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class ReadOnlyQuerySnapshotTest extends BaseReactiveTest {
+
+	private static final int PAGE_SIZE = 20;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Reading.class );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		final Reading[] readings = new Reading[PAGE_SIZE];
+		for ( int i = 0; i < readings.length; i++ ) {
+			readings[i] = new Reading( i, new Date( 1000L * i ) );
+		}
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( (Object[]) readings ) )
+				.thenAccept( v -> CountingMutabilityPlan.COPIES.set( 0 ) )
+		);
+	}
+
+	@Test
+	public void testNoSnapshotWithReadOnlyQuery(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s
+						.createSelectionQuery( "from Reading order by id", Reading.class )
+						.setReadOnly( true )
+						.getResultList()
+						.thenAccept( readings -> {
+							assertThat( readings ).hasSize( PAGE_SIZE );
+							assertThat( readings ).allMatch( s::isReadOnly );
+							assertThat( readings.get( 1 ).takenOn.getTime() ).isEqualTo( 1000L );
+							assertThat( CountingMutabilityPlan.COPIES.get() ).isZero();
+						} ) )
+				// Without read-only, each entity has a snapshot of its mutable values
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createSelectionQuery( "from Reading order by id", Reading.class )
+						.getResultList()
+						.thenAccept( readings -> {
+							assertThat( readings ).noneMatch( s::isReadOnly );
+							assertThat( CountingMutabilityPlan.COPIES.get() ).isEqualTo( PAGE_SIZE );
+						} ) ) )
+		);
+	}
+
+	@Test
+	public void testReadOnlyQueryResultsNotUpdated(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s
+						.createSelectionQuery( "from Reading where id = 1", Reading.class )
+						.setReadOnly( true )
+						.getSingleResult()
+						.thenAccept( reading -> reading.takenOn = new Date( 5000L ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Reading.class, 1 ) ) )
+				.thenAccept( reading -> assertThat( reading.takenOn.getTime() ).isEqualTo( 1000L ) )
+		);
+	}
+
+	public static class CountingMutabilityPlan extends MutableMutabilityPlan<Date> {
+		static final AtomicInteger COPIES = new AtomicInteger();
+
+		@Override
+		protected Date deepCopyNotNull(Date value) {
+			COPIES.incrementAndGet();
+			return new Date( value.getTime() );
+		}
+	}
+
+	@Entity(name = "Reading")
+	@Table(name = "ReadOnlyReading")
+	public static class Reading {
+		@Id
+		Integer id;
+
+		@Mutability(CountingMutabilityPlan.class)
+		Date takenOn;
+
+		public Reading() {
+		}
+
+		public Reading(Integer id, Date takenOn) {
+			this.id = id;
+			this.takenOn = takenOn;
+		}
+	}
+}
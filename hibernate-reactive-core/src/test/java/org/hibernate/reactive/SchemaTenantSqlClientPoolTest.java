@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.annotations.EnabledFor;
+import org.hibernate.reactive.pool.impl.SchemaTenantSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Test the {@link SchemaTenantSqlClientPool}: the tenants share the same
+ * connections, and the schema is only switched when it changes.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+@EnabledFor(value = POSTGRESQL, reason = "Native queries for this test are targeted for PostgreSQL")
+public class SchemaTenantSqlClientPoolTest extends BaseReactiveTest {
+
+	private SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, "anything" );
+		// Contains the SQL scripts for the creation of the schemas of the tenants
+		configuration.setProperty( Settings.HBM2DDL_IMPORT_FILES, "/schema-multitenancy-test.sql" );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, SchemaTenantSqlClientPool.class.getName() );
+		// A single connection, so that it's the same for all the sessions
+		configuration.setProperty( Settings.POOL_SIZE, "1" );
+		sqlTracker = new SqlStatementTracker( SchemaTenantSqlClientPoolTest::isSchemaSwitch, configuration.getProperties() );
+		return configuration;
+	}
+
+	private static boolean isSchemaSwitch(String s) {
+		return s.toLowerCase().startsWith( "set search_path" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static CompletionStage<Object> currentSchema(String tenantId) {
+		return getSessionFactory().withSession( tenantId, session -> session
+				.createNativeQuery( "select current_schema()" )
+				.getSingleResult() );
+	}
+
+	@Test
+	public void testSchemaSwitchedWhenTenantChanges(VertxTestContext context) {
+		test( context, currentSchema( "tenant_a" )
+				.thenAccept( schema -> assertThat( schema ).isEqualTo( "tenant_a" ) )
+				.thenCompose( v -> currentSchema( "tenant_b" ) )
+				.thenAccept( schema -> assertThat( schema ).isEqualTo( "tenant_b" ) )
+				.thenCompose( v -> currentSchema( "tenant_b" ) )
+				.thenAccept( schema -> assertThat( schema ).isEqualTo( "tenant_b" ) )
+				.thenCompose( v -> currentSchema( "tenant_a" ) )
+				.thenAccept( schema -> {
+					assertThat( schema ).isEqualTo( "tenant_a" );
+					// The second session for tenant_b didn't need to switch
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 3 );
+				} )
+		);
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
+
+/**
+ * Check that a select query executed with different limits or lock options
+ * reuses the translations for each of them, and that the translations
+ * are reported in the query plan cache statistics.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class SelectQueryPlanTranslationTest extends BaseReactiveTest {
+
+	private static final String HQL = "from Planet where name is not null order by name";
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Planet.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( new Planet( 1, "Earth" ), new Planet( 2, "Mars" ), new Planet( 3, "Venus" ) ) )
+		);
+	}
+
+	@Test
+	public void testOnlyLimitDiffers(VertxTestContext context) {
+		test( context, assertNoTranslationAfterFirstRound( () -> getMutinySessionFactory().withSession( s -> s
+				.createSelectionQuery( HQL, Planet.class )
+				.getResultList()
+				.invoke( planets -> assertThat( planets ).hasSize( 3 ) )
+				.chain( () -> s.createSelectionQuery( HQL, Planet.class )
+						.setMaxResults( 1 )
+						.getResultList() )
+				.invoke( planets -> assertThat( planets ).extracting( planet -> planet.name ).containsExactly( "Earth" ) )
+				.replaceWithVoid()
+		) ) );
+	}
+
+	@Test
+	public void testOnlyOffsetDiffers(VertxTestContext context) {
+		test( context, assertNoTranslationAfterFirstRound( () -> getMutinySessionFactory().withSession( s -> s
+				.createSelectionQuery( HQL, Planet.class )
+				.getResultList()
+				.invoke( planets -> assertThat( planets ).hasSize( 3 ) )
+				.chain( () -> s.createSelectionQuery( HQL, Planet.class )
+						.setFirstResult( 2 )
+						.getResultList() )
+				.invoke( planets -> assertThat( planets ).extracting( planet -> planet.name ).containsExactly( "Venus" ) )
+				.replaceWithVoid()
+		) ) );
+	}
+
+	@Test
+	public void testOnlyLockOptionsDiffer(VertxTestContext context) {
+		test( context, assertNoTranslationAfterFirstRound( () -> getMutinySessionFactory().withTransaction( s -> s
+				.createSelectionQuery( HQL, Planet.class )
+				.getResultList()
+				.invoke( planets -> assertThat( planets ).hasSize( 3 ) )
+				.chain( () -> s.createSelectionQuery( HQL, Planet.class )
+						.setLockMode( LockMode.PESSIMISTIC_WRITE )
+						.getResultList() )
+				.invoke( planets -> assertThat( planets ).hasSize( 3 ) )
+				.replaceWithVoid()
+		) ) );
+	}
+
+	@Test
+	public void testOnlyNumberOfListElementsDiffers(VertxTestContext context) {
+		final String hql = "from Planet where name in :names order by name";
+		test( context, getMutinySessionFactory().withSession( s -> Multi.createFrom().items(
+								List.of( "Earth", "Mars" ),
+								List.of( "Earth", "Mars", "Venus" ),
+								List.of( "Earth", "Mars" ),
+								List.of( "Venus" ),
+								List.of( "Earth", "Mars", "Venus" )
+						)
+						// Each expansion of the list parameter has a different SQL
+						.onItem().transformToUniAndConcatenate( names -> s
+								.createSelectionQuery( hql, Planet.class )
+								.setParameter( "names", names )
+								.getResultList()
+								.invoke( planets -> assertThat( planets )
+										.extracting( planet -> planet.name )
+										.containsExactlyElementsOf( names ) ) )
+						.collect().last()
+				)
+		);
+	}
+
+	/**
+	 * Run the queries once for each combination of options, then check that
+	 * running them again doesn't translate them anymore
+	 */
+	private static Uni<Void> assertNoTranslationAfterFirstRound(Supplier<Uni<Void>> queries) {
+		final Statistics statistics = getMutinySessionFactory().getStatistics();
+		final long[] misses = new long[1];
+		return queries.get()
+				.invoke( () -> {
+					assertThat( statistics.getQueryPlanCacheMissCount() ).isPositive();
+					misses[0] = statistics.getQueryPlanCacheMissCount();
+				} )
+				.chain( () -> Multi.createFrom().range( 0, 3 )
+						.onItem().transformToUniAndConcatenate( i -> queries.get() )
+						.collect().last() )
+				.invoke( () -> assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses[0] ) )
+				.replaceWithVoid();
+	}
+
+	@Entity(name = "Planet")
+	@Table(name = "TranslatedPlanet")
+	public static class Planet {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Planet() {
+		}
+
+		public Planet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
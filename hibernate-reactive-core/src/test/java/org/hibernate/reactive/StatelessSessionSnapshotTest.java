@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check that the entities loaded by a stateless session are registered
+ * as read-only, without a snapshot of their state, and that they can
+ * still be updated.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class StatelessSessionSnapshotTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Harvest.class );
+	}
+
+	@BeforeEach
+	public void resetCopies() {
+		CountingMutabilityPlan.COPIES.set( 0 );
+	}
+
+	@Test
+	public void testNoSnapshotWithStatelessSession(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Harvest( 1, new Date( 1000 ) ) ) )
+				.thenAccept( v -> CountingMutabilityPlan.COPIES.set( 0 ) )
+				.thenCompose( v -> getSessionFactory().withStatelessSession( s -> s.get( Harvest.class, 1 ) ) )
+				.thenAccept( harvest -> {
+					assertThat( harvest.pickedOn.getTime() ).isEqualTo( 1000L );
+					assertThat( CountingMutabilityPlan.COPIES.get() ).isZero();
+				} )
+				// A stateful session copies the mutable values in the snapshot
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Harvest.class, 1 ) ) )
+				.thenAccept( harvest -> assertThat( CountingMutabilityPlan.COPIES.get() ).isPositive() )
+		);
+	}
+
+	@Test
+	public void testUpdateWithStatelessSession(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Harvest( 2, new Date( 1000 ) ) ) )
+				.thenCompose( v -> getSessionFactory().withStatelessTransaction( s -> s
+						.get( Harvest.class, 2 )
+						.thenCompose( harvest -> {
+							harvest.pickedOn = new Date( 2000 );
+							return s.update( harvest );
+						} ) ) )
+				.thenCompose( v -> getSessionFactory().withStatelessSession( s -> s.get( Harvest.class, 2 ) ) )
+				.thenAccept( harvest -> assertThat( harvest.pickedOn.getTime() ).isEqualTo( 2000L ) )
+		);
+	}
+
+	public static class CountingMutabilityPlan extends MutableMutabilityPlan<Date> {
+		static final AtomicInteger COPIES = new AtomicInteger();
+
+		@Override
+		protected Date deepCopyNotNull(Date value) {
+			COPIES.incrementAndGet();
+			return new Date( value.getTime() );
+		}
+	}
+
+	@Entity(name = "Harvest")
+	@Table(name = "StatelessHarvest")
+	public static class Harvest {
+		@Id
+		Integer id;
+
+		@Mutability(CountingMutabilityPlan.class)
+		Date pickedOn;
+
+		public Harvest() {
+		}
+
+		public Harvest(Integer id, Date pickedOn) {
+			this.id = id;
+			this.pickedOn = pickedOn;
+		}
+	}
+}
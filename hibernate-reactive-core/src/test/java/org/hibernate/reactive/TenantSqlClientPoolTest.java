@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.net.URI;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant;
+import org.hibernate.reactive.annotations.EnabledFor;
+import org.hibernate.reactive.pool.TenantPoolStatistics;
+import org.hibernate.reactive.pool.TenantUriResolver;
+import org.hibernate.reactive.pool.impl.TenantSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant.TENANT_1;
+import static org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant.TENANT_2;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Test the {@link TenantSqlClientPool}, with a limit of one tenant pool
+ * open at the same time.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+@EnabledFor(value = POSTGRESQL, reason = "Native queries for this test are targeted for PostgreSQL")
+public class TenantSqlClientPoolTest extends BaseReactiveTest {
+
+	private static final TenantUriResolver URI_RESOLVER = (tenantId, uri) -> URI.create( uri.toString()
+			.replaceAll( "/[\\w\\d]+\\?", "/" + Tenant.valueOf( tenantId ).getDbName() + "?" ) );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, "anything" );
+		// Contains the SQL scripts for the creation of the additional databases
+		configuration.setProperty( Settings.HBM2DDL_IMPORT_FILES, "/multitenancy-test.sql" );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, TenantSqlClientPool.class.getName() );
+		configuration.getProperties().put( Settings.TENANT_URI_RESOLVER, URI_RESOLVER );
+		configuration.setProperty( Settings.TENANT_POOL_MAX_COUNT, "1" );
+		return configuration;
+	}
+
+	private static Map<String, TenantPoolStatistics> tenantPoolStatistics() {
+		return ( (TenantSqlClientPool) factoryManager.getReactiveConnectionPool() ).getTenantPoolStatistics();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedPoolClosed(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withSession( TENANT_1.name(), session -> session
+						.createNativeQuery( "select current_database()" )
+						.getSingleResult() )
+				.thenAccept( result -> {
+					assertThat( result ).isEqualTo( TENANT_1.getDbName() );
+					assertThat( tenantPoolStatistics() ).containsOnlyKeys( TENANT_1.name() );
+				} )
+				.thenCompose( v -> getSessionFactory()
+						.withSession( TENANT_2.name(), session -> session
+								.createNativeQuery( "select current_database()" )
+								.getSingleResult() ) )
+				.thenAccept( result -> {
+					assertThat( result ).isEqualTo( TENANT_2.getDbName() );
+					final Map<String, TenantPoolStatistics> statistics = tenantPoolStatistics();
+					// The pool of the first tenant had no connection in use, so it has been closed
+					assertThat( statistics ).containsOnlyKeys( TENANT_2.name() );
+					final TenantPoolStatistics tenant2 = statistics.get( TENANT_2.name() );
+					assertThat( tenant2.getConnectionAcquireCount() ).isEqualTo( 1 );
+					assertThat( tenant2.getConnectionAcquireFailureCount() ).isZero();
+					assertThat( tenant2.getActiveConnectionCount() ).isZero();
+				} )
+		);
+	}
+}
@@ -20,6 +20,7 @@
 import org.hibernate.reactive.pool.impl.DefaultSqlClientPool;
 import org.hibernate.reactive.pool.impl.DefaultSqlClientPoolConfiguration;
 import org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.testing.TestingRegistryExtension;
 
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.cfg.AvailableSettings.PASS;
+import static org.hibernate.cfg.AvailableSettings.POOL_SIZE;
 import static org.hibernate.cfg.AvailableSettings.URL;
 import static org.hibernate.cfg.AvailableSettings.USER;
 import static org.hibernate.reactive.BaseReactiveTest.test;
@@ -86,6 +88,39 @@ public void configureWithJdbcUrl(VertxTestContext context) {
 		test( context, verifyConnectivity( reactivePool ) );
 	}
 
+	@Test
+	public void configureWithShards(VertxTestContext context) {
+		Map<String, Object> config = new HashMap<>();
+		config.put( URL, getJdbcUrl() );
+		config.put( POOL_SIZE, 4 );
+		config.put( Settings.POOL_SHARDS, 2 );
+		DefaultSqlClientPool reactivePool = (DefaultSqlClientPool) configureAndStartPool( config );
+		test( context, reactivePool.getConnection()
+				.thenCompose( c1 -> reactivePool.getConnection()
+						.thenCompose( c2 -> {
+							// Both connections come from the shard of the current event loop
+							assertThat( reactivePool.getShardConnectionsInUse() ).containsExactlyInAnyOrder( 2, 0 );
+							return reactivePool.getConnection()
+									.thenCompose( c3 -> {
+										// The local shard is full, the third one comes from the other shard
+										assertThat( reactivePool.getShardConnectionsInUse() ).containsExactlyInAnyOrder( 2, 1 );
+										return c3.close();
+									} )
+									.thenCompose( v -> {
+										assertThat( reactivePool.getShardConnectionsInUse() ).containsExactlyInAnyOrder( 2, 0 );
+										return c2.close();
+									} );
+						} )
+						.thenCompose( v -> {
+							assertThat( reactivePool.getShardConnectionsInUse() ).containsExactlyInAnyOrder( 1, 0 );
+							return c1.close();
+						} ) )
+				// All the connections have been returned to their shard
+				.thenAccept( v -> assertThat( reactivePool.getShardConnectionsInUse() )
+						.containsExactlyInAnyOrder( 0, 0 ) )
+		);
+	}
+
 	@Test
 	public void configureWithCredentials(VertxTestContext context) {
 		// Set up URL with invalid credentials, so we can ensure that
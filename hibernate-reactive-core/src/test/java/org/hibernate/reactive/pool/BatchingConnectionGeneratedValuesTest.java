@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Check that {@link BatchingConnection#insertWithGeneratedValuesBatch} executes
+ * the inserts of all the rows with a single batch, even when some of them
+ * start asynchronously.
+ */
+public class BatchingConnectionGeneratedValuesTest {
+
+	private static final String INSERT = "insert into Book (title) values (?) returning id";
+	private static final List<Class<?>> ID_CLASSES = List.of( Long.class );
+	private static final List<String> ID_COLUMNS = List.of( "id" );
+
+	@Test
+	public void testInsertsBatched() {
+		final FakeConnection fake = new FakeConnection();
+		final BatchingConnection connection = new BatchingConnection( fake.connection, 5 );
+
+		final CompletableFuture<Void> inserted = connection
+				.insertWithGeneratedValuesBatch( 3, row -> insert( connection, "Book " + row ) )
+				.toCompletableFuture();
+
+		assertThat( inserted ).isCompleted();
+		assertThat( fake.batches ).containsExactly( List.of( "Book 0", "Book 1", "Book 2" ) );
+	}
+
+	@Test
+	public void testAsynchronousInsertBatched() {
+		final FakeConnection fake = new FakeConnection();
+		final BatchingConnection connection = new BatchingConnection( fake.connection, 5 );
+		// For example, the value of a column generated by a reactive generator
+		final CompletableFuture<Void> generation = new CompletableFuture<>();
+
+		final CompletableFuture<Void> inserted = connection
+				.insertWithGeneratedValuesBatch( 3, row -> row == 1
+						? generation.thenCompose( v -> insert( connection, "Book " + row ) )
+						: insert( connection, "Book " + row ) )
+				.toCompletableFuture();
+
+		// The batch waits for the insert of the second row
+		assertThat( fake.batches ).isEmpty();
+		assertThat( inserted ).isNotDone();
+		generation.complete( null );
+		assertThat( inserted ).isCompleted();
+		assertThat( fake.batches ).containsExactly( List.of( "Book 0", "Book 2", "Book 1" ) );
+	}
+
+	@Test
+	public void testInsertWithoutStatement() {
+		final FakeConnection fake = new FakeConnection();
+		final BatchingConnection connection = new BatchingConnection( fake.connection, 5 );
+
+		final CompletableFuture<Void> inserted = connection
+				// For example, an event listener vetoed the insert of the second row
+				.insertWithGeneratedValuesBatch( 3, row -> row == 1 ? voidFuture() : insert( connection, "Book " + row ) )
+				.toCompletableFuture();
+
+		assertThat( inserted ).isCompleted();
+		assertThat( fake.batches ).containsExactly( List.of( "Book 0", "Book 2" ) );
+	}
+
+	@Test
+	public void testConcurrentBatchesDontInterleave() {
+		final FakeConnection fake = new FakeConnection();
+		final BatchingConnection connection = new BatchingConnection( fake.connection, 5 );
+		final CompletableFuture<Void> generation = new CompletableFuture<>();
+
+		final CompletableFuture<Void> first = connection
+				.insertWithGeneratedValuesBatch( 2, row -> row == 1
+						? generation.thenCompose( v -> insert( connection, "First " + row ) )
+						: insert( connection, "First " + row ) )
+				.toCompletableFuture();
+		final CompletableFuture<Void> second = connection
+				.insertWithGeneratedValuesBatch( 2, row -> insert( connection, "Second " + row ) )
+				.toCompletableFuture();
+
+		// The second batch waits for the first one
+		assertThat( fake.batches ).isEmpty();
+		generation.complete( null );
+		assertThat( first ).isCompleted();
+		assertThat( second ).isCompleted();
+		assertThat( fake.batches ).containsExactly(
+				List.of( "First 0", "First 1" ),
+				List.of( "Second 0", "Second 1" )
+		);
+	}
+
+	@Test
+	public void testFailureReportedToEachInsert() {
+		final FakeConnection fake = new FakeConnection();
+		fake.failure = new IllegalStateException( "Duplicate title" );
+		final BatchingConnection connection = new BatchingConnection( fake.connection, 5 );
+		final List<CompletableFuture<?>> inserts = new ArrayList<>();
+
+		final CompletableFuture<Void> inserted = connection
+				.insertWithGeneratedValuesBatch( 2, row -> {
+					final CompletableFuture<?> insert = insert( connection, "Book" ).toCompletableFuture();
+					inserts.add( insert );
+					return insert;
+				} )
+				.toCompletableFuture();
+
+		assertThat( inserted ).isCompletedExceptionally();
+		assertThat( inserts ).allMatch( CompletableFuture::isCompletedExceptionally );
+	}
+
+	private static CompletionStage<Void> insert(BatchingConnection connection, String title) {
+		return connection
+				.executeAndSelectGeneratedValues( INSERT, new Object[] { title }, ID_CLASSES, ID_COLUMNS )
+				.thenAccept( resultSet -> assertThat( resultSet ).isNotNull() );
+	}
+
+	/**
+	 * A connection recording the titles of the rows inserted by each statement
+	 */
+	private static class FakeConnection {
+		final List<List<String>> batches = new ArrayList<>();
+		final ReactiveConnection connection;
+		RuntimeException failure;
+
+		@SuppressWarnings("unchecked")
+		FakeConnection() {
+			connection = (ReactiveConnection) Proxy.newProxyInstance(
+					BatchingConnectionGeneratedValuesTest.class.getClassLoader(),
+					new Class<?>[] { ReactiveConnection.class },
+					(proxy, method, args) -> switch ( method.getName() ) {
+						case "executeAndSelectGeneratedValues" -> execute( List.<Object[]>of( (Object[]) args[1] ) )
+								.thenApply( resultSets -> resultSets.get( 0 ) );
+						case "executeBatchAndSelectGeneratedValues" -> execute( (List<Object[]>) args[1] );
+						default -> throw new UnsupportedOperationException( method.getName() );
+					}
+			);
+		}
+
+		private CompletableFuture<List<ResultSet>> execute(List<Object[]> paramValues) {
+			if ( failure != null ) {
+				return CompletableFuture.failedFuture( failure );
+			}
+			final List<String> titles = new ArrayList<>();
+			final ResultSet[] resultSets = new ResultSet[paramValues.size()];
+			for ( int i = 0; i < resultSets.length; i++ ) {
+				titles.add( (String) paramValues.get( i )[0] );
+				resultSets[i] = (ResultSet) Proxy.newProxyInstance(
+						BatchingConnectionGeneratedValuesTest.class.getClassLoader(),
+						new Class<?>[] { ResultSet.class },
+						(proxy, method, args) -> {
+							throw new UnsupportedOperationException( method.getName() );
+						}
+				);
+			}
+			batches.add( titles );
+			return CompletableFuture.completedFuture( Arrays.asList( resultSets ) );
+		}
+	}
+}
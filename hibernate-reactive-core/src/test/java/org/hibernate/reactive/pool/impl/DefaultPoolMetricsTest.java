@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check the bound on the number of statements {@link DefaultPoolMetrics}
+ * keeps metrics for, and the threshold above which a statement is logged.
+ */
+public class DefaultPoolMetricsTest {
+
+	private static final long ONE_MILLI = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+	@Test
+	public void testLeastExecutedStatementEvicted() {
+		final DefaultPoolMetrics metrics = new DefaultPoolMetrics( 2, 0 );
+		metrics.statementExecuted( "select 1", ONE_MILLI, 1, 1 );
+		metrics.statementExecuted( "select 1", ONE_MILLI, 1, 1 );
+		metrics.statementExecuted( "select 2", ONE_MILLI, 1, 1 );
+
+		// The map is full: the statement executed only once makes room for the new one
+		metrics.statementExecuted( "select 3", ONE_MILLI, 1, 1 );
+
+		assertThat( metrics.getStatementStatistics() ).containsOnlyKeys( "select 1", "select 3" );
+		assertThat( metrics.getStatementStatistics().get( "select 1" ).getExecutionCount() ).isEqualTo( 2 );
+		assertThat( metrics.getStatementStatistics().get( "select 3" ).getExecutionCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testNumberOfStatementsBounded() {
+		final DefaultPoolMetrics metrics = new DefaultPoolMetrics( 3, 0 );
+		for ( int i = 0; i < 10; i++ ) {
+			metrics.statementExecuted( "select " + i, ONE_MILLI, 1, 1 );
+			assertThat( metrics.getStatementStatistics().size() ).isLessThanOrEqualTo( 3 );
+		}
+		// The latest statement is always kept
+		assertThat( metrics.getStatementStatistics() ).hasSize( 3 ).containsKey( "select 9" );
+	}
+
+	@Test
+	public void testStatementStatisticsDisabled() {
+		final DefaultPoolMetrics metrics = new DefaultPoolMetrics();
+		assertThat( metrics.isStatementMetricsEnabled() ).isFalse();
+		metrics.statementExecuted( "select 1", ONE_MILLI, 1, 1 );
+		assertThat( metrics.getStatementStatistics() ).isEmpty();
+	}
+
+	@Test
+	public void testSlowStatementLogged() {
+		final List<String> logged = new ArrayList<>();
+		final DefaultPoolMetrics metrics = new DefaultPoolMetrics( 0, 100 ) {
+			@Override
+			void slowStatementExecuted(long milliseconds, int rowCount, int batchSize, String sql) {
+				logged.add( sql + " " + milliseconds + " " + rowCount + " " + batchSize );
+			}
+		};
+		assertThat( metrics.isStatementMetricsEnabled() ).isTrue();
+
+		metrics.statementExecuted( "select fast", 50 * ONE_MILLI, 1, 1 );
+		// The threshold itself isn't slow
+		metrics.statementExecuted( "select threshold", 100 * ONE_MILLI, 1, 1 );
+		metrics.statementExecuted( "update slow", 250 * ONE_MILLI, 6, 3 );
+
+		assertThat( logged ).containsExactly( "update slow 250 6 3" );
+		// Logging slow statements doesn't keep their metrics
+		assertThat( metrics.getStatementStatistics() ).isEmpty();
+	}
+}
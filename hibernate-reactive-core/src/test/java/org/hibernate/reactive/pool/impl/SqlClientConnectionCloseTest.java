@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.SqlConnection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check that the connection is released, and the metrics updated,
+ * even when the Vert.x connection fails to close.
+ */
+public class SqlClientConnectionCloseTest {
+
+	@Test
+	public void testConnectionReleasedWhenCloseFails() {
+		final DefaultPoolMetrics metrics = new DefaultPoolMetrics();
+		metrics.connectionAcquireStarted();
+		metrics.connectionAcquired( 0 );
+		assertThat( metrics.getActiveConnectionCount() ).isEqualTo( 1 );
+
+		final int[] released = new int[1];
+		final SqlClientConnection connection = new SqlClientConnection(
+				failingToCloseConnection(),
+				null,
+				new SqlStatementLogger(),
+				new SqlExceptionHelper( true ),
+				null,
+				new SqlClientConnection.Listener() {
+					@Override
+					public void firstStatement() {
+					}
+
+					@Override
+					public void closed() {
+						released[0]++;
+						metrics.connectionReleased( 0 );
+					}
+
+					@Override
+					public boolean isTimingStatements() {
+						return false;
+					}
+
+					@Override
+					public void statementExecuted(String sql, long executionTime, int rowCount, int batchSize) {
+					}
+				}
+		);
+
+		final Throwable failure = connection.close()
+				.handle( (v, throwable) -> throwable )
+				.toCompletableFuture()
+				.join();
+		assertThat( failure ).hasMessageContaining( "Close failed" );
+		assertThat( released[0] ).isEqualTo( 1 );
+		assertThat( metrics.getActiveConnectionCount() ).isZero();
+
+		// Closing it again doesn't release it twice
+		connection.close().handle( (v, throwable) -> null ).toCompletableFuture().join();
+		assertThat( released[0] ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testTenantPoolReleasedWhenCloseFails() {
+		final Pool tenantPool = pool( failingToCloseConnection() );
+		final List<Pool> acquired = new ArrayList<>();
+		final List<Pool> released = new ArrayList<>();
+		final SqlClientPool pool = new SqlClientPool() {
+			@Override
+			protected Pool getPool() {
+				throw new AssertionError( "The default pool shouldn't be used" );
+			}
+
+			@Override
+			protected Pool getTenantPool(String tenantId) {
+				return tenantPool;
+			}
+
+			@Override
+			protected SqlStatementLogger getSqlStatementLogger() {
+				return new SqlStatementLogger();
+			}
+
+			@Override
+			protected SqlExceptionHelper getSqlExceptionHelper() {
+				return new SqlExceptionHelper( true );
+			}
+
+			@Override
+			protected void onConnectionAcquired(Pool pool, long acquireTime) {
+				acquired.add( pool );
+			}
+
+			@Override
+			protected void onConnectionReleased(Pool pool) {
+				released.add( pool );
+			}
+
+			@Override
+			public CompletionStage<Void> getCloseFuture() {
+				return null;
+			}
+		};
+
+		final ReactiveConnection connection = pool.getConnection( "tenant" ).toCompletableFuture().join();
+		assertThat( acquired ).containsExactly( tenantPool );
+		assertThat( released ).isEmpty();
+
+		final Throwable failure = connection.close()
+				.handle( (v, throwable) -> throwable )
+				.toCompletableFuture()
+				.join();
+		assertThat( failure ).hasMessageContaining( "Close failed" );
+		// Otherwise, the tenant pool would stay reserved, and never be evicted
+		assertThat( released ).containsExactly( tenantPool );
+	}
+
+	private static Pool pool(SqlConnection connection) {
+		return (Pool) Proxy.newProxyInstance(
+				Pool.class.getClassLoader(),
+				new Class<?>[] { Pool.class },
+				(proxy, method, args) -> switch ( method.getName() ) {
+					case "getConnection" -> Future.succeededFuture( connection );
+					case "toString" -> "TenantPool";
+					case "hashCode" -> System.identityHashCode( proxy );
+					case "equals" -> proxy == args[0];
+					default -> null;
+				}
+		);
+	}
+
+	private static SqlConnection failingToCloseConnection() {
+		return (SqlConnection) Proxy.newProxyInstance(
+				SqlConnection.class.getClassLoader(),
+				new Class<?>[] { SqlConnection.class },
+				(proxy, method, args) -> switch ( method.getName() ) {
+					case "close" -> Future.failedFuture( new IllegalStateException( "Close failed" ) );
+					case "exceptionHandler" -> proxy;
+					case "toString" -> "FailingToCloseConnection";
+					case "hashCode" -> System.identityHashCode( proxy );
+					case "equals" -> proxy == args[0];
+					default -> null;
+				}
+		);
+	}
+}
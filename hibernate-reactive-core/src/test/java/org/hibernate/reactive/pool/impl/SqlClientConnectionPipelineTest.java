@@ -0,0 +1,267 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Promise;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check that {@link SqlClientConnection#updatePipelined(List, List)} sends
+ * the statements without waiting for the result of the previous one, but
+ * only when a transaction is in progress, and that the batches queued by a
+ * {@link BatchingConnection} are sent in the same way.
+ */
+public class SqlClientConnectionPipelineTest {
+
+	private static final List<String> SQL = List.of(
+			"update Person set name = ? where id = ?",
+			"update Employee set salary = ? where id = ?",
+			"update Manager set bonus = ? where id = ?"
+	);
+
+	@Test
+	public void testUpdatesPipelinedInTransaction() {
+		final FakeConnection fake = new FakeConnection( true );
+		final SqlClientConnection connection = connection( fake );
+
+		final CompletableFuture<int[]> rowCounts = connection
+				.updatePipelined( SQL, parameters() )
+				.toCompletableFuture();
+
+		// All the statements are sent before the database replies
+		assertThat( fake.sent ).containsExactlyElementsOf( SQL );
+		fake.reply( 0, 1 );
+		fake.reply( 1, 1 );
+		assertThat( rowCounts ).isNotDone();
+		fake.reply( 2, 0 );
+		assertThat( rowCounts ).isCompleted();
+		assertThat( rowCounts.join() ).containsExactly( 1, 1, 0 );
+	}
+
+	@Test
+	public void testUpdatesExecutedOneAtATimeWithoutTransaction() {
+		final FakeConnection fake = new FakeConnection( false );
+		final SqlClientConnection connection = connection( fake );
+
+		final CompletableFuture<int[]> rowCounts = connection
+				.updatePipelined( SQL, parameters() )
+				.toCompletableFuture();
+
+		// A failure wouldn't stop the following statements
+		assertThat( fake.sent ).containsExactly( SQL.get( 0 ) );
+		fake.reply( 0, 1 );
+		assertThat( fake.sent ).containsExactly( SQL.get( 0 ), SQL.get( 1 ) );
+		fake.reply( 1, 1 );
+		fake.reply( 2, 1 );
+		assertThat( rowCounts.join() ).containsExactly( 1, 1, 1 );
+	}
+
+	@Test
+	public void testFailureReportedWhenAllStatementsComplete() {
+		final FakeConnection fake = new FakeConnection( true );
+		final SqlClientConnection connection = connection( fake );
+
+		final CompletableFuture<int[]> rowCounts = connection
+				.updatePipelined( SQL, parameters() )
+				.toCompletableFuture();
+
+		assertThat( fake.sent ).containsExactlyElementsOf( SQL );
+		fake.reply( 0, 1 );
+		fake.fail( 1, new IllegalStateException( "Salary too high" ) );
+		// Don't leave a statement running on the connection
+		assertThat( rowCounts ).isNotDone();
+		fake.reply( 2, 1 );
+		final Throwable failure = rowCounts
+				.handle( (v, throwable) -> throwable )
+				.join();
+		assertThat( failure ).hasMessageContaining( "Salary too high" );
+	}
+
+	@Test
+	public void testExpectationsVerifiedWhenAllStatementsComplete() {
+		final FakeConnection fake = new FakeConnection( true );
+		final SqlClientConnection connection = connection( fake );
+		final List<ReactiveConnection.Expectation> expectations = List.of(
+				(rowCount, batchPosition, sql) -> {
+					if ( rowCount == 0 ) {
+						throw new IllegalStateException( "Stale row" );
+					}
+				},
+				(rowCount, batchPosition, sql) -> {},
+				(rowCount, batchPosition, sql) -> {}
+		);
+
+		final CompletableFuture<Void> updated = connection
+				.updatePipelined( SQL, parameters(), false, expectations )
+				.toCompletableFuture();
+
+		// A stale row doesn't prevent the execution of the following statements
+		assertThat( fake.sent ).containsExactlyElementsOf( SQL );
+		fake.reply( 0, 0 );
+		fake.reply( 1, 1 );
+		assertThat( updated ).isNotDone();
+		fake.reply( 2, 1 );
+		final Throwable failure = updated
+				.handle( (v, throwable) -> throwable )
+				.join();
+		assertThat( failure ).hasMessageContaining( "Stale row" );
+	}
+
+	@Test
+	public void testBatchesWithDifferentStatementsPipelined() {
+		final FakeConnection fake = new FakeConnection( true );
+		final BatchingConnection connection = new BatchingConnection( connection( fake ), 5 );
+		final ReactiveConnection.Expectation expectation = (rowCount, batchPosition, sql) -> {
+			if ( rowCount != 1 ) {
+				throw new IllegalStateException( "Unexpected row count" );
+			}
+		};
+		final String insert = "insert into Person (name, id) values (?, ?)";
+
+		// The statements of a flush: changing the SQL queues a new batch
+		assertThat( connection.update( insert, new Object[] { "One", 1 }, true, expectation ) ).isCompleted();
+		assertThat( connection.update( insert, new Object[] { "Two", 2 }, true, expectation ) ).isCompleted();
+		assertThat( connection.update( SQL.get( 0 ), new Object[] { "Uno", 1 }, true, expectation ) ).isCompleted();
+		assertThat( connection.update( SQL.get( 1 ), new Object[] { 100, 2 }, true, expectation ) ).isCompleted();
+		assertThat( fake.sent ).isEmpty();
+
+		final CompletableFuture<Void> flushed = connection.executeBatch().toCompletableFuture();
+
+		// All the batches are sent before the database replies to the first one
+		assertThat( fake.sent ).containsExactly( insert, SQL.get( 0 ), SQL.get( 1 ) );
+		fake.replyBatch( 0, 1, 1 );
+		assertThat( flushed ).isNotDone();
+		fake.reply( 1, 1 );
+		assertThat( flushed ).isNotDone();
+		fake.reply( 2, 1 );
+		assertThat( flushed ).isCompleted();
+	}
+
+	private static List<Object[]> parameters() {
+		final List<Object[]> parameters = new ArrayList<>();
+		for ( int i = 0; i < SQL.size(); i++ ) {
+			parameters.add( new Object[] { "value" + i, i } );
+		}
+		return parameters;
+	}
+
+	private static SqlClientConnection connection(FakeConnection fake) {
+		return new SqlClientConnection(
+				fake.connection,
+				null,
+				new SqlStatementLogger(),
+				new SqlExceptionHelper( true ),
+				null,
+				new SqlClientConnection.Listener() {
+					@Override
+					public void firstStatement() {
+					}
+
+					@Override
+					public void closed() {
+					}
+
+					@Override
+					public boolean isTimingStatements() {
+						return false;
+					}
+
+					@Override
+					public void statementExecuted(String sql, long executionTime, int rowCount, int batchSize) {
+					}
+				}
+		);
+	}
+
+	/**
+	 * A Vert.x connection recording the statements sent, and replying only when asked to
+	 */
+	private static class FakeConnection {
+		final List<String> sent = new ArrayList<>();
+		final List<Promise<RowSet<?>>> replies = new ArrayList<>();
+		final SqlConnection connection;
+
+		FakeConnection(boolean inTransaction) {
+			final Transaction transaction = inTransaction ? proxy( Transaction.class, (proxy, method, args) -> null ) : null;
+			connection = proxy( SqlConnection.class, (proxy, method, args) -> switch ( method.getName() ) {
+				case "exceptionHandler" -> proxy;
+				case "transaction" -> transaction;
+				case "preparedQuery" -> preparedQuery( (String) args[0] );
+				case "toString" -> "FakeConnection";
+				case "hashCode" -> System.identityHashCode( proxy );
+				case "equals" -> proxy == args[0];
+				default -> throw new UnsupportedOperationException( method.getName() );
+			} );
+		}
+
+		private PreparedQuery<?> preparedQuery(String sql) {
+			return proxy( PreparedQuery.class, (proxy, method, args) -> {
+				if ( !"execute".equals( method.getName() ) && !"executeBatch".equals( method.getName() ) ) {
+					throw new UnsupportedOperationException( method.getName() );
+				}
+				final Promise<RowSet<?>> reply = Promise.promise();
+				sent.add( sql );
+				replies.add( reply );
+				return reply.future();
+			} );
+		}
+
+		void reply(int statement, int rowCount) {
+			replies.get( statement ).complete( proxy( RowSet.class, (proxy, method, args) -> switch ( method.getName() ) {
+				case "rowCount" -> rowCount;
+				default -> throw new UnsupportedOperationException( method.getName() );
+			} ) );
+		}
+
+		/**
+		 * Reply to a batch with one result for each set of parameters
+		 */
+		void replyBatch(int statement, int... rowCounts) {
+			RowSet<?> result = null;
+			for ( int i = rowCounts.length - 1; i >= 0; i-- ) {
+				final RowSet<?> next = result;
+				final int rowCount = rowCounts[i];
+				result = proxy( RowSet.class, (proxy, method, args) -> switch ( method.getName() ) {
+					case "rowCount" -> rowCount;
+					case "next" -> next;
+					case "iterator" -> proxy( RowIterator.class, (iterator, m, a) -> switch ( m.getName() ) {
+						case "hasNext" -> false;
+						default -> throw new UnsupportedOperationException( m.getName() );
+					} );
+					default -> throw new UnsupportedOperationException( method.getName() );
+				} );
+			}
+			replies.get( statement ).complete( result );
+		}
+
+		void fail(int statement, Throwable failure) {
+			replies.get( statement ).fail( failure );
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T proxy(Class<?> type, InvocationHandler handler) {
+			return (T) Proxy.newProxyInstance( type.getClassLoader(), new Class<?>[] { type }, handler );
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.provider.service;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check how the schema export commands are grouped, pipelined, and
+ * executed again one at a time when the transaction of a group fails.
+ */
+public class ReactiveGenerationTargetTest {
+
+	private static final List<String> COMMANDS = List.of(
+			"create table Author (id integer not null, primary key (id))",
+			"create table Book (id integer not null, author_id integer, primary key (id))",
+			"alter table if exists Book add constraint FK_author foreign key (author_id) references Author"
+	);
+
+	@Test
+	public void testGroupsPipelined() {
+		final List<String> calls = new ArrayList<>();
+		final List<CompletableFuture<Void>> pending = new ArrayList<>();
+		final ReactiveConnection connection = connection( calls, sql -> {
+			final CompletableFuture<Void> result = new CompletableFuture<>();
+			pending.add( result );
+			return result;
+		} );
+
+		final CompletableFuture<Integer> failures = ReactiveGenerationTarget
+				.executeCommands( connection, COMMANDS, false )
+				.toCompletableFuture();
+
+		// Both create table commands are sent before the database replies
+		assertThat( calls ).containsExactly( COMMANDS.get( 0 ), COMMANDS.get( 1 ) );
+		completeAll( pending );
+		// The next group is sent only when the previous one is done
+		assertThat( calls ).containsExactly( COMMANDS.get( 0 ), COMMANDS.get( 1 ), COMMANDS.get( 2 ) );
+		completeAll( pending );
+		assertThat( failures ).isCompletedWithValue( 0 );
+	}
+
+	@Test
+	public void testGroupInTransaction() {
+		final List<String> calls = new ArrayList<>();
+		final ReactiveConnection connection = connection( calls, sql -> CompletableFuture.completedFuture( null ) );
+
+		final CompletableFuture<Integer> failures = ReactiveGenerationTarget
+				.executeCommands( connection, COMMANDS, true )
+				.toCompletableFuture();
+
+		assertThat( failures ).isCompletedWithValue( 0 );
+		// A group of a single command doesn't need a transaction
+		assertThat( calls ).containsExactly(
+				"begin",
+				COMMANDS.get( 0 ),
+				COMMANDS.get( 1 ),
+				"commit",
+				COMMANDS.get( 2 )
+		);
+	}
+
+	@Test
+	public void testCommandsExecutedOneAtATimeAfterRollback() {
+		final List<String> calls = new ArrayList<>();
+		final ReactiveConnection connection = connection( calls, sql -> sql.contains( "Book" )
+				? CompletableFuture.failedFuture( new RuntimeException( "Table Book already exists" ) )
+				: CompletableFuture.completedFuture( null )
+		);
+
+		final CompletableFuture<Integer> failures = ReactiveGenerationTarget
+				.executeCommands( connection, COMMANDS.subList( 0, 2 ), true )
+				.toCompletableFuture();
+
+		// The failure is logged once, when the command is executed on its own
+		assertThat( failures ).isCompletedWithValue( 1 );
+		assertThat( calls ).containsExactly(
+				"begin",
+				COMMANDS.get( 0 ),
+				COMMANDS.get( 1 ),
+				"rollback",
+				COMMANDS.get( 0 ),
+				COMMANDS.get( 1 )
+		);
+	}
+
+	private static void completeAll(List<CompletableFuture<Void>> pending) {
+		final List<CompletableFuture<Void>> results = new ArrayList<>( pending );
+		pending.clear();
+		results.forEach( result -> result.complete( null ) );
+	}
+
+	private interface Executor {
+		CompletionStage<Void> execute(String sql);
+	}
+
+	/**
+	 * A connection recording the commands and the transaction boundaries
+	 */
+	private static ReactiveConnection connection(List<String> calls, Executor executor) {
+		return (ReactiveConnection) Proxy.newProxyInstance(
+				ReactiveGenerationTargetTest.class.getClassLoader(),
+				new Class<?>[] { ReactiveConnection.class },
+				(proxy, method, args) -> switch ( method.getName() ) {
+					case "execute" -> {
+						calls.add( (String) args[0] );
+						yield executor.execute( (String) args[0] );
+					}
+					case "beginTransaction" -> {
+						calls.add( "begin" );
+						yield CompletableFuture.completedFuture( null );
+					}
+					case "commitTransaction" -> {
+						calls.add( "commit" );
+						yield CompletableFuture.completedFuture( null );
+					}
+					case "rollbackTransaction" -> {
+						calls.add( "rollback" );
+						yield CompletableFuture.completedFuture( null );
+					}
+					default -> throw new UnsupportedOperationException( method.getName() );
+				}
+		);
+	}
+}
@@ -5,11 +5,14 @@
 package org.hibernate.reactive.schema;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Objects;
 
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.reactive.BaseReactiveTest;
 import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.SqlStatementTracker;
 import org.hibernate.reactive.annotations.EnabledFor;
 
 import org.junit.jupiter.api.AfterEach;
@@ -32,6 +35,7 @@
 import jakarta.persistence.UniqueConstraint;
 
 import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
 import static org.hibernate.tool.schema.JdbcMetadataAccessStrategy.GROUPED;
 import static org.hibernate.tool.schema.JdbcMetadataAccessStrategy.INDIVIDUALLY;
@@ -42,6 +46,9 @@
 @EnabledFor(POSTGRESQL)
 public abstract class SchemaUpdatePostgreSqlTestBase extends BaseReactiveTest {
 
+	// Only set by the tests checking the queries of the schema update
+	private SqlStatementTracker sqlTracker;
+
 	@Timeout(value = 10, timeUnit = MINUTES)
 	public static class IndividuallySchemaUpdatePostgreSqlTest extends SchemaUpdatePostgreSqlTestBase {
 
@@ -71,6 +78,13 @@ protected Configuration constructConfiguration(String hbm2DdlOption) {
 		return configuration;
 	}
 
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		if ( sqlTracker != null ) {
+			sqlTracker.registerService( builder );
+		}
+	}
+
 	@BeforeEach
 	@Override
 	public void before(VertxTestContext context) {
@@ -89,6 +103,7 @@ public void after(VertxTestContext context) {
 		dropHbm2ddlConf.addAnnotatedClass( ASimpleNext.class );
 		dropHbm2ddlConf.addAnnotatedClass( AOther.class );
 		dropHbm2ddlConf.addAnnotatedClass( AAnother.class );
+		dropHbm2ddlConf.addAnnotatedClass( AMixedCase.class );
 
 		test( context, factoryManager.stop()
 				.thenCompose( v -> setupSessionFactory( dropHbm2ddlConf ) )
@@ -230,6 +245,54 @@ public void testUpdate(VertxTestContext context) {
 		);
 	}
 
+	@Test
+	public void testUpdateReadsIndexesAndForeignKeysOnce(VertxTestContext context) {
+		final Configuration updateHbm2ddlConf = updateConfiguration( "update" );
+		test(
+				context,
+				setupSessionFactory( updateHbm2ddlConf )
+						.thenCompose( v -> factoryManager.stop() )
+						// The schema is up to date now, the second update must not change it
+						.thenCompose( v -> {
+							final Configuration secondUpdateConf = updateConfiguration( "update" );
+							sqlTracker = new SqlStatementTracker( s -> true, secondUpdateConf.getProperties() );
+							return setupSessionFactory( secondUpdateConf );
+						} )
+						.thenAccept( v -> {
+							final List<String> queries = sqlTracker.getLoggedQueries();
+							// The indexes and the foreign keys of the mixed-case table and of the table
+							// with two foreign keys have been found
+							assertThat( queries )
+									.noneMatch( SchemaUpdatePostgreSQLTestBase::isDdl );
+							// One query for the indexes and one for the foreign keys of all the tables
+							assertThat( queries )
+									.filteredOn( query -> query.contains( "from pg_catalog.pg_class ct" ) )
+									.hasSize( 1 );
+							assertThat( queries )
+									.filteredOn( query -> query.contains( "pg_catalog.pg_constraint con" ) )
+									.hasSize( 1 );
+							assertThat( queries )
+									.noneMatch( query -> query.contains( " and ct.relname = " ) || query.contains( " and fkc.relname = " ) );
+						} )
+						.thenCompose( v -> factoryManager.stop() )
+						.thenCompose( v -> setupSessionFactory( updateConfiguration( "validate" ) ) )
+		);
+	}
+
+	private Configuration updateConfiguration(String hbm2DdlOption) {
+		final Configuration configuration = constructConfiguration( hbm2DdlOption );
+		configuration.addAnnotatedClass( ASimpleNext.class );
+		configuration.addAnnotatedClass( AOther.class );
+		configuration.addAnnotatedClass( AAnother.class );
+		configuration.addAnnotatedClass( AMixedCase.class );
+		return configuration;
+	}
+
+	private static boolean isDdl(String sql) {
+		final String statement = sql.strip().toLowerCase();
+		return statement.startsWith( "create " ) || statement.startsWith( "alter " ) || statement.startsWith( "drop " );
+	}
+
 	@Entity(name = "ASimple")
 	@Table(name = "ASimple", indexes = @Index(
 			name = "i_asimple_avalue_astringValue",
@@ -321,4 +384,18 @@ public static class AAnother {
 
 		private String description;
 	}
+
+	@Entity(name = "AMixedCase")
+	@Table(name = "`AMixedCase`", indexes = @Index(name = "i_amixedcase_name", columnList = "name"))
+	public static class AMixedCase {
+		@Id
+		@GeneratedValue
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne
+		@JoinColumn(foreignKey = @ForeignKey(name = "fk_amixedcase_aanother"))
+		private AAnother aAnother;
+	}
 }
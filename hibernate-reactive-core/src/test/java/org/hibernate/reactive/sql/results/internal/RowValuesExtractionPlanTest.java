@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.internal;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.java.BigDecimalJavaType;
+import org.hibernate.type.descriptor.java.BooleanJavaType;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.StringJavaType;
+import org.hibernate.type.descriptor.jdbc.BooleanJdbcType;
+import org.hibernate.type.descriptor.jdbc.ClobJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
+import org.hibernate.type.descriptor.jdbc.NumericJdbcType;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+import org.hibernate.type.internal.BasicTypeImpl;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.sqlclient.Row;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Check which selections are read directly from the row, and that
+ * the values are the same we would get going through the adaptor.
+ */
+public class RowValuesExtractionPlanTest {
+
+	private static final BasicType<String> STRING = new BasicTypeImpl<>( StringJavaType.INSTANCE, VarcharJdbcType.INSTANCE );
+	private static final BasicType<Integer> INTEGER = new BasicTypeImpl<>( IntegerJavaType.INSTANCE, IntegerJdbcType.INSTANCE );
+	private static final BasicType<Boolean> BOOLEAN = new BasicTypeImpl<>( BooleanJavaType.INSTANCE, BooleanJdbcType.INSTANCE );
+	private static final BasicType<String> CLOB_STRING = new BasicTypeImpl<>( StringJavaType.INSTANCE, ClobJdbcType.DEFAULT );
+
+	@Test
+	public void testDirectExtraction() {
+		final BasicType<BigDecimal> decimal = new BasicTypeImpl<>( BigDecimalJavaType.INSTANCE, NumericJdbcType.INSTANCE );
+		final RowValuesExtractionPlan plan = RowValuesExtractionPlan.resolve( new SqlSelection[] {
+				selection( STRING ),
+				// A position without selection
+				null,
+				selection( INTEGER ),
+				selection( decimal )
+		} );
+		final Row row = row( "Hibernate", 7, new BigDecimal( "1.5" ) );
+
+		assertThat( plan.isEmpty() ).isFalse();
+		assertThat( plan.isDirect( 0 ) ).isTrue();
+		assertThat( plan.isDirect( 1 ) ).isFalse();
+		assertThat( plan.isDirect( 2 ) ).isTrue();
+		assertThat( plan.isDirect( 3 ) ).isTrue();
+		// The position in the row starts from 1, like with JDBC
+		assertThat( plan.extract( 0, row, 1, null ) ).isEqualTo( "Hibernate" );
+		assertThat( plan.extract( 2, row, 2, null ) ).isEqualTo( 7 );
+		assertThat( plan.extract( 3, row, 3, null ) ).isEqualTo( new BigDecimal( "1.5" ) );
+	}
+
+	@Test
+	public void testNullValue() {
+		final RowValuesExtractionPlan plan = RowValuesExtractionPlan.resolve( new SqlSelection[] { selection( INTEGER ) } );
+
+		assertThat( plan.extract( 0, row( (Object) null ), 1, null ) ).isNull();
+	}
+
+	@Test
+	public void testValueWrappedInJavaType() {
+		// An integer column mapped to a Long
+		final BasicType<Long> integerAsLong = new BasicTypeImpl<>( LongJavaType.INSTANCE, IntegerJdbcType.INSTANCE );
+		final RowValuesExtractionPlan plan = RowValuesExtractionPlan.resolve( new SqlSelection[] { selection( integerAsLong ) } );
+
+		assertThat( plan.extract( 0, row( 42 ), 1, null ) ).isEqualTo( 42L );
+	}
+
+	@Test
+	public void testBooleanStoredAsNumber() {
+		final RowValuesExtractionPlan plan = RowValuesExtractionPlan.resolve( new SqlSelection[] { selection( BOOLEAN ) } );
+
+		// Like on Oracle, where getBoolean() fails on a number column
+		assertThat( plan.extract( 0, row( 1 ), 1, null ) ).isEqualTo( true );
+		assertThat( plan.extract( 0, row( 0 ), 1, null ) ).isEqualTo( false );
+		assertThat( plan.extract( 0, row( true ), 1, null ) ).isEqualTo( true );
+		assertThatThrownBy( () -> plan.extract( 0, row( "yes" ), 1, null ) )
+				.isInstanceOf( ClassCastException.class );
+	}
+
+	@Test
+	public void testUnsupportedJdbcType() {
+		final BasicType<String> clob = new BasicTypeImpl<>( StringJavaType.INSTANCE, ClobJdbcType.DEFAULT );
+		final RowValuesExtractionPlan plan = RowValuesExtractionPlan.resolve( new SqlSelection[] { selection( clob ) } );
+
+		assertThat( plan.isDirect( 0 ) ).isFalse();
+		assertThat( plan.isEmpty() ).isTrue();
+	}
+
+	@Test
+	public void testSubclassOfSupportedJdbcType() {
+		// A subclass might read the value differently
+		final BasicType<String> custom = new BasicTypeImpl<>( StringJavaType.INSTANCE, new VarcharJdbcType() {
+		} );
+		final RowValuesExtractionPlan plan = RowValuesExtractionPlan.resolve( new SqlSelection[] { selection( custom ) } );
+
+		assertThat( plan.isDirect( 0 ) ).isFalse();
+		assertThat( plan.isEmpty() ).isTrue();
+	}
+
+	@Test
+	public void testDifferentExtractor() {
+		final ValueExtractor<?> extractor = VarcharJdbcType.INSTANCE.getExtractor( StringJavaType.INSTANCE );
+		final RowValuesExtractionPlan plan = RowValuesExtractionPlan.resolve( new SqlSelection[] {
+				selection( STRING, extractor ),
+				selection( INTEGER )
+		} );
+
+		assertThat( plan.isDirect( 0 ) ).isFalse();
+		assertThat( plan.isDirect( 1 ) ).isTrue();
+		assertThat( plan.isEmpty() ).isFalse();
+	}
+
+	@Test
+	public void testNoSelections() {
+		assertThat( RowValuesExtractionPlan.resolve( new SqlSelection[0] ).isEmpty() ).isTrue();
+		assertThat( RowValuesExtractionPlan.resolve( new SqlSelection[] { null } ).isEmpty() ).isTrue();
+	}
+
+	@Test
+	public void testResolvedFromMapping() {
+		final JdbcValuesMapping mapping = mapping( 3, selection( STRING, 2 ), selection( INTEGER, 0 ) );
+		final RowValuesExtractionPlan plan = RowValuesExtractionPlan.resolve( mapping );
+
+		assertThat( plan.isDirect( 0 ) ).isTrue();
+		assertThat( plan.isDirect( 1 ) ).isFalse();
+		assertThat( plan.isDirect( 2 ) ).isTrue();
+		assertThat( plan.extract( 2, row( "Hibernate" ), 1, null ) ).isEqualTo( "Hibernate" );
+	}
+
+	@Test
+	public void testPlanCachedWithMapping() {
+		final ReactiveStandardValuesMappingProducer producer = new ReactiveStandardValuesMappingProducer( List.of(), List.of() );
+		final JdbcValuesMapping mapping = mapping( 1, selection( STRING, 0 ) );
+
+		final RowValuesExtractionPlan plan = producer.getRowValuesExtractionPlan( mapping );
+		// The same mapping is resolved for every execution, and so is the plan
+		assertThat( producer.getRowValuesExtractionPlan( mapping ) ).isSameAs( plan );
+
+		// A different mapping, for example of a native query, needs its own plan
+		final JdbcValuesMapping other = mapping( 1, selection( CLOB_STRING, 0 ) );
+		final RowValuesExtractionPlan otherPlan = producer.getRowValuesExtractionPlan( other );
+		assertThat( otherPlan ).isNotSameAs( plan );
+		assertThat( otherPlan.isDirect( 0 ) ).isFalse();
+		assertThat( plan.isDirect( 0 ) ).isTrue();
+	}
+
+	private static JdbcValuesMapping mapping(int rowSize, SqlSelection... selections) {
+		return (JdbcValuesMapping) Proxy.newProxyInstance(
+				RowValuesExtractionPlanTest.class.getClassLoader(),
+				new Class<?>[] { JdbcValuesMapping.class },
+				(proxy, method, args) -> switch ( method.getName() ) {
+					case "getRowSize" -> rowSize;
+					case "getSqlSelections" -> List.of( selections );
+					case "hashCode" -> System.identityHashCode( proxy );
+					case "equals" -> proxy == args[0];
+					default -> throw new UnsupportedOperationException( method.getName() );
+				}
+		);
+	}
+
+	private static SqlSelection selection(BasicType<?> type, int valuesArrayPosition) {
+		return (SqlSelection) Proxy.newProxyInstance(
+				RowValuesExtractionPlanTest.class.getClassLoader(),
+				new Class<?>[] { SqlSelection.class },
+				(proxy, method, args) -> switch ( method.getName() ) {
+					case "getExpressionType" -> type;
+					case "getJdbcValueExtractor" -> type.getJdbcValueExtractor();
+					case "getValuesArrayPosition" -> valuesArrayPosition;
+					default -> throw new UnsupportedOperationException( method.getName() );
+				}
+		);
+	}
+
+	private static SqlSelection selection(BasicType<?> type) {
+		return selection( type, type.getJdbcValueExtractor() );
+	}
+
+	private static SqlSelection selection(BasicType<?> type, ValueExtractor<?> extractor) {
+		return (SqlSelection) Proxy.newProxyInstance(
+				RowValuesExtractionPlanTest.class.getClassLoader(),
+				new Class<?>[] { SqlSelection.class },
+				(proxy, method, args) -> switch ( method.getName() ) {
+					case "getExpressionType" -> type;
+					case "getJdbcValueExtractor" -> extractor;
+					default -> throw new UnsupportedOperationException( method.getName() );
+				}
+		);
+	}
+
+	/**
+	 * A row with the given values, where the getters cast the value like Vert.x does
+	 */
+	private static Row row(Object... values) {
+		final List<Object> columns = Arrays.asList( values );
+		return (Row) Proxy.newProxyInstance(
+				RowValuesExtractionPlanTest.class.getClassLoader(),
+				new Class<?>[] { Row.class },
+				(proxy, method, args) -> {
+					final Object value = columns.get( (Integer) args[0] );
+					return switch ( method.getName() ) {
+						case "getString" -> (String) value;
+						case "getInteger" -> (Integer) value;
+						case "getBigDecimal" -> (BigDecimal) value;
+						case "getBoolean" -> (Boolean) value;
+						default -> throw new UnsupportedOperationException( method.getName() );
+					};
+				}
+		);
+	}
+}
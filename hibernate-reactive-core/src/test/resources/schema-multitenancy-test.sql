@@ -0,0 +1,6 @@
+-- For PostgreSQL. We use these additional schemas to test schema-based multitenancy.
+DROP SCHEMA IF EXISTS tenant_a CASCADE;
+DROP SCHEMA IF EXISTS tenant_b CASCADE;
+
+CREATE SCHEMA tenant_a;
+CREATE SCHEMA tenant_b;